@@ -28,11 +28,13 @@ import software.amazon.awssdk.codegen.model.service.ClientContextParam;
 import software.amazon.awssdk.codegen.poet.rules.ClientContextParamsClassSpec;
 import software.amazon.awssdk.codegen.poet.rules.DefaultPartitionDataProviderSpec;
 import software.amazon.awssdk.codegen.poet.rules.EndpointParametersClassSpec;
+import software.amazon.awssdk.codegen.poet.rules.EndpointProviderDifferentialTestSpec;
 import software.amazon.awssdk.codegen.poet.rules.EndpointProviderInterfaceSpec;
 import software.amazon.awssdk.codegen.poet.rules.EndpointProviderSpec;
 import software.amazon.awssdk.codegen.poet.rules.EndpointProviderTestSpec;
 import software.amazon.awssdk.codegen.poet.rules.EndpointResolverInterceptorSpec;
 import software.amazon.awssdk.codegen.poet.rules.EndpointRulesClientTestSpec;
+import software.amazon.awssdk.codegen.poet.rules.EndpointRulesSpecUtils;
 import software.amazon.awssdk.codegen.poet.rules.RequestEndpointInterceptorSpec;
 import software.amazon.awssdk.codegen.poet.rules2.EndpointProviderSpec2;
 
@@ -60,6 +62,9 @@ public final class EndpointProviderTasks extends BaseGeneratorTasks {
         tasks.addAll(generateInterceptors());
         if (shouldGenerateEndpointTests()) {
             tasks.add(generateProviderTests());
+            if (shouldGenerateCompiledEndpointRules()) {
+                tasks.addAll(generateProviderDifferentialTests());
+            }
         }
         if (shouldGenerateEndpointTests() && shouldGenerateClientEndpointTests()) {
             tasks.add(generateClientTests());
@@ -111,6 +116,14 @@ public final class EndpointProviderTasks extends BaseGeneratorTasks {
         return new PoetGeneratorTask(endpointTestsDir(), model.getFileHeader(), new EndpointProviderTestSpec(model));
     }
 
+    private Collection<GeneratorTask> generateProviderDifferentialTests() {
+        EndpointRulesSpecUtils endpointRulesSpecUtils = new EndpointRulesSpecUtils(model);
+        return Arrays.asList(
+            new PoetGeneratorTask(endpointTestsDir(), model.getFileHeader(),
+                                  new EndpointProviderSpec(model, endpointRulesSpecUtils.interpretedProviderTestImplName())),
+            new PoetGeneratorTask(endpointTestsDir(), model.getFileHeader(), new EndpointProviderDifferentialTestSpec(model)));
+    }
+
     private GeneratorTask generateClientContextParams() {
         return new PoetGeneratorTask(endpointRulesInternalDir(), model.getFileHeader(), new ClientContextParamsClassSpec(model));
     }
@@ -296,9 +296,10 @@ public class CustomizationConfig {
     private boolean s3ExpressAuthSupport;
 
     /**
-     * Set to true to enable compiled endpoint rules. Currently defaults to false.
+     * Whether the default endpoint provider is generated from the ruleset compiled into Java code, instead of interpreting the
+     * ruleset at runtime. Defaults to true; set to false to generate the interpreting provider.
      */
-    private boolean enableGenerateCompiledEndpointRules = false;
+    private boolean enableGenerateCompiledEndpointRules = true;
 
     /**
      * Customization related to auth scheme derived from endpoints.
@@ -22,6 +22,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import java.util.Map;
+import java.util.Objects;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
@@ -59,6 +60,8 @@ public class EndpointParametersClassSpec implements ClassSpec {
         });
 
         b.addMethod(toBuilderMethod());
+        b.addMethod(equalsMethod());
+        b.addMethod(hashCodeMethod());
 
         return b.build();
     }
@@ -152,6 +155,48 @@ public class EndpointParametersClassSpec implements ClassSpec {
                          .build();
     }
 
+    private MethodSpec equalsMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("equals")
+                                         .addAnnotation(Override.class)
+                                         .addModifiers(Modifier.PUBLIC)
+                                         .returns(boolean.class)
+                                         .addParameter(Object.class, "o");
+
+        b.beginControlFlow("if (this == o)");
+        b.addStatement("return true");
+        b.endControlFlow();
+        b.beginControlFlow("if (o == null || getClass() != o.getClass())");
+        b.addStatement("return false");
+        b.endControlFlow();
+
+        if (parameters().isEmpty()) {
+            b.addStatement("return true");
+            return b.build();
+        }
+
+        b.addStatement("$1T that = ($1T) o", className());
+        CodeBlock fieldsEqual = parameters().keySet().stream()
+                                            .map(name -> CodeBlock.of("$1T.equals($2N, that.$2N)", Objects.class,
+                                                                      variableName(name)))
+                                            .collect(PoetCollectors.toDelimitedCodeBlock(" && "));
+        b.addStatement("return $L", fieldsEqual);
+        return b.build();
+    }
+
+    private MethodSpec hashCodeMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("hashCode")
+                                         .addAnnotation(Override.class)
+                                         .addModifiers(Modifier.PUBLIC)
+                                         .returns(int.class);
+
+        b.addStatement("int result = 1");
+        parameters().keySet().forEach(name -> {
+            b.addStatement("result = 31 * result + $T.hashCode($N)", Objects.class, variableName(name));
+        });
+        b.addStatement("return result");
+        return b.build();
+    }
+
     private String variableName(String name) {
         return intermediateModel.getNamingStrategy().getVariableName(name);
     }
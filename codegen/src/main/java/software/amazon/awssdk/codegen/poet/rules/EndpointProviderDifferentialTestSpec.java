@@ -0,0 +1,168 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.rules;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.lang.model.element.Modifier;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.rules.endpoints.BuiltInParameter;
+import software.amazon.awssdk.codegen.model.rules.endpoints.EndpointTestModel;
+import software.amazon.awssdk.codegen.model.rules.endpoints.ParameterModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.core.rules.testing.BaseEndpointProviderDifferentialTest;
+import software.amazon.awssdk.core.rules.testing.EndpointProviderDifferentialTestCase;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Generates a test that resolves the parameters of every case in the service's endpoint test suite with both the compiled
+ * endpoint provider and the provider that interprets the ruleset, and verifies that they agree.
+ */
+public class EndpointProviderDifferentialTestSpec implements ClassSpec {
+    private static final String COMPILED_PROVIDER_NAME = "COMPILED";
+    private static final String INTERPRETED_PROVIDER_NAME = "INTERPRETED";
+    private final IntermediateModel model;
+    private final EndpointRulesSpecUtils endpointRulesSpecUtils;
+
+    public EndpointProviderDifferentialTestSpec(IntermediateModel model) {
+        this.model = model;
+        this.endpointRulesSpecUtils = new EndpointRulesSpecUtils(model);
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        TypeSpec.Builder b = PoetUtils.createClassBuilder(className())
+                                      .superclass(BaseEndpointProviderDifferentialTest.class)
+                                      .addField(compiledProvider())
+                                      .addField(interpretedProvider())
+                                      .addModifiers(Modifier.PUBLIC);
+
+        b.addMethod(testMethod());
+        b.addMethod(testsCasesMethod());
+        b.addMethod(testCaseMethod());
+
+        return b.build();
+    }
+
+    @Override
+    public ClassName className() {
+        return endpointRulesSpecUtils.endpointProviderDifferentialTestsName();
+    }
+
+    private FieldSpec compiledProvider() {
+        return FieldSpec.builder(endpointRulesSpecUtils.providerInterfaceName(), COMPILED_PROVIDER_NAME)
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$T.defaultProvider()", endpointRulesSpecUtils.providerInterfaceName())
+                        .build();
+    }
+
+    private FieldSpec interpretedProvider() {
+        return FieldSpec.builder(endpointRulesSpecUtils.providerInterfaceName(), INTERPRETED_PROVIDER_NAME)
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("new $T()", endpointRulesSpecUtils.interpretedProviderTestImplName())
+                        .build();
+    }
+
+    private MethodSpec testMethod() {
+        AnnotationSpec methodSourceSpec = AnnotationSpec.builder(MethodSource.class)
+                                                        .addMember("value", "$S", "testCases")
+                                                        .build();
+
+        return MethodSpec.methodBuilder("compiledProviderMatchesInterpretedProvider")
+                         .addModifiers(Modifier.PUBLIC)
+                         .addParameter(EndpointProviderDifferentialTestCase.class, "tc")
+                         .addAnnotation(methodSourceSpec)
+                         .addAnnotation(ParameterizedTest.class)
+                         .returns(void.class)
+                         .addStatement("verify(tc)")
+                         .build();
+    }
+
+    private MethodSpec testsCasesMethod() {
+        TypeName returnType = ParameterizedTypeName.get(List.class, EndpointProviderDifferentialTestCase.class);
+
+        MethodSpec.Builder b = MethodSpec.methodBuilder("testCases")
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(returnType);
+
+        b.addStatement("$T testCases = new $T<>()", returnType, ArrayList.class);
+        model.getEndpointTestSuiteModel().getTestCases().forEach(test -> {
+            b.addStatement("testCases.add(testCase($S, $L))", test.getDocumentation(), createParams(test));
+        });
+        b.addStatement("return testCases");
+        return b.build();
+    }
+
+    private MethodSpec testCaseMethod() {
+        ClassName parametersClass = endpointRulesSpecUtils.parametersClassName();
+        return MethodSpec.methodBuilder("testCase")
+                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                         .returns(EndpointProviderDifferentialTestCase.class)
+                         .addParameter(String.class, "documentation")
+                         .addParameter(ParameterizedTypeName.get(ClassName.get(Supplier.class), parametersClass), "params")
+                         .addStatement("return new $T(documentation, () -> $N.resolveEndpoint(params.get()).join(), "
+                                       + "() -> $N.resolveEndpoint(params.get()).join())",
+                                       EndpointProviderDifferentialTestCase.class, COMPILED_PROVIDER_NAME,
+                                       INTERPRETED_PROVIDER_NAME)
+                         .build();
+    }
+
+    private CodeBlock createParams(EndpointTestModel test) {
+        CodeBlock.Builder b = CodeBlock.builder();
+
+        b.beginControlFlow("() ->");
+        ClassName parametersClass = endpointRulesSpecUtils.parametersClassName();
+        b.add("$T builder = $T.builder();", parametersClass.nestedClass("Builder"), parametersClass);
+
+        if (test.getParams() != null) {
+            test.getParams().forEach((n, v) -> {
+                if (!endpointRulesSpecUtils.isDeclaredParam(n)) {
+                    return;
+                }
+
+                String setterName = endpointRulesSpecUtils.paramMethodName(n);
+                CodeBlock valueLiteral = endpointRulesSpecUtils.treeNodeToLiteral(v);
+                if (isRegionBuiltIn(n)) {
+                    b.add("builder.$N($T.of($L));", setterName, Region.class, valueLiteral);
+                } else {
+                    b.add("builder.$N($L);", setterName, valueLiteral);
+                }
+            });
+        }
+        b.add("return builder.build();");
+        b.endControlFlow();
+        return b.build();
+    }
+
+    private boolean isRegionBuiltIn(String paramName) {
+        Map<String, ParameterModel> parameters = model.getEndpointRuleSetModel().getParameters();
+        ParameterModel param = parameters.get(paramName);
+        return param.getBuiltInEnum() == BuiltInParameter.AWS_REGION;
+    }
+}
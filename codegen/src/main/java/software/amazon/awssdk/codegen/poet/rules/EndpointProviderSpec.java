@@ -35,7 +35,6 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.endpoints.AwsEndpointAttribute;
 import software.amazon.awssdk.codegen.model.config.customization.EndpointAuthSchemeConfig;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
-import software.amazon.awssdk.codegen.model.intermediate.Metadata;
 import software.amazon.awssdk.codegen.model.rules.endpoints.BuiltInParameter;
 import software.amazon.awssdk.codegen.model.rules.endpoints.ParameterModel;
 import software.amazon.awssdk.codegen.poet.ClassSpec;
@@ -52,10 +51,20 @@ public class EndpointProviderSpec implements ClassSpec {
 
     private final IntermediateModel intermediateModel;
     private final EndpointRulesSpecUtils endpointRulesSpecUtils;
+    private final ClassName className;
 
     public EndpointProviderSpec(IntermediateModel intermediateModel) {
+        this(intermediateModel, new EndpointRulesSpecUtils(intermediateModel).providerDefaultImplName());
+    }
+
+    /**
+     * Generates the interpreting endpoint provider with the provided class name. This is used to generate the interpreting
+     * provider alongside the compiled one, so that the two can be tested against each other.
+     */
+    public EndpointProviderSpec(IntermediateModel intermediateModel, ClassName className) {
         this.intermediateModel = intermediateModel;
         this.endpointRulesSpecUtils = new EndpointRulesSpecUtils(intermediateModel);
+        this.className = className;
     }
 
     @Override
@@ -275,9 +284,7 @@ public class EndpointProviderSpec implements ClassSpec {
 
     @Override
     public ClassName className() {
-        Metadata md = intermediateModel.getMetadata();
-        return ClassName.get(md.getFullInternalEndpointRulesPackageName(),
-                             "Default" + endpointRulesSpecUtils.providerInterfaceName().simpleName());
+        return className;
     }
 
     private FieldSpec logger() {
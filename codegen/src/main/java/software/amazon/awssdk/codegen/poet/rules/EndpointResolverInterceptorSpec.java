@@ -61,6 +61,7 @@ import software.amazon.awssdk.codegen.poet.auth.scheme.AuthSchemeSpecUtils;
 import software.amazon.awssdk.codegen.poet.auth.scheme.ModelAuthSchemeClassesKnowledgeIndex;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SelectedAuthScheme;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
@@ -175,12 +176,22 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                        endpointRulesSpecUtils.providerInterfaceName(), providerVar, SdkInternalExecutionAttribute.class);
         b.beginControlFlow("try");
         b.addStatement("long resolveEndpointStart = $T.nanoTime()", System.class);
-        b.addStatement("$T endpoint = $N.resolveEndpoint(ruleParams(result, executionAttributes)).join()",
-                       Endpoint.class, providerVar);
-        b.addStatement("$1T resolveEndpointDuration = $1T.ofNanos($2T.nanoTime() - resolveEndpointStart)", Duration.class,
-                       System.class);
+        b.addStatement("$T endpointParams = ruleParams(result, executionAttributes)",
+                       endpointRulesSpecUtils.parametersClassName());
         b.addStatement("$T metricCollector = executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR)",
                        ParameterizedTypeName.get(Optional.class, MetricCollector.class), SdkExecutionAttribute.class);
+        // Reuse a previously resolved endpoint for the same parameters if the client caches endpoints
+        b.addStatement("$T endpointCache = executionAttributes.getAttribute($T.ENDPOINT_RESOLUTION_CACHE)",
+                       EndpointResolutionCache.class, SdkInternalExecutionAttribute.class);
+        b.addStatement("$T endpoint", Endpoint.class);
+        b.beginControlFlow("if (endpointCache != null)");
+        b.addStatement("endpoint = endpointCache.resolveEndpoint($1N, endpointParams, $1N::resolveEndpoint, "
+                       + "metricCollector.orElse(null))", providerVar);
+        b.nextControlFlow("else");
+        b.addStatement("endpoint = $N.resolveEndpoint(endpointParams).join()", providerVar);
+        b.endControlFlow();
+        b.addStatement("$1T resolveEndpointDuration = $1T.ofNanos($2T.nanoTime() - resolveEndpointStart)", Duration.class,
+                       System.class);
         b.addStatement("metricCollector.ifPresent(mc -> mc.reportMetric($T.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration))",
                        CoreMetric.class);
         b.beginControlFlow("if (!$T.disableHostPrefixInjection(executionAttributes))",
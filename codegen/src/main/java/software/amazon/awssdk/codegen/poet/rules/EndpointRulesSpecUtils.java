@@ -100,6 +100,18 @@ public class EndpointRulesSpecUtils {
                              md.getServiceName() + "EndpointProviderTests");
     }
 
+    public ClassName endpointProviderDifferentialTestsName() {
+        Metadata md = intermediateModel.getMetadata();
+        return ClassName.get(md.getFullEndpointRulesPackageName(),
+                             md.getServiceName() + "EndpointProviderDifferentialTests");
+    }
+
+    public ClassName interpretedProviderTestImplName() {
+        Metadata md = intermediateModel.getMetadata();
+        return ClassName.get(md.getFullEndpointRulesPackageName(),
+                             "Interpreted" + providerInterfaceName().simpleName());
+    }
+
     public ClassName clientContextParamsName() {
         Metadata md = intermediateModel.getMetadata();
         return ClassName.get(md.getFullEndpointRulesPackageName(),
@@ -1,5 +1,6 @@
 package software.amazon.awssdk.services.query.endpoints;
 
+import java.util.Objects;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.regions.Region;
@@ -94,6 +95,41 @@ public final class QueryEndpointParams implements ToCopyableBuilder<QueryEndpoin
         return new BuilderImpl(this);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QueryEndpointParams that = (QueryEndpointParams) o;
+        return Objects.equals(region, that.region) && Objects.equals(useDualStackEndpoint, that.useDualStackEndpoint)
+               && Objects.equals(useFIPSEndpoint, that.useFIPSEndpoint) && Objects.equals(endpointId, that.endpointId)
+               && Objects.equals(defaultTrueParam, that.defaultTrueParam)
+               && Objects.equals(defaultStringParam, that.defaultStringParam)
+               && Objects.equals(deprecatedParam, that.deprecatedParam)
+               && Objects.equals(booleanContextParam, that.booleanContextParam)
+               && Objects.equals(stringContextParam, that.stringContextParam)
+               && Objects.equals(operationContextParam, that.operationContextParam);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(region);
+        result = 31 * result + Objects.hashCode(useDualStackEndpoint);
+        result = 31 * result + Objects.hashCode(useFIPSEndpoint);
+        result = 31 * result + Objects.hashCode(endpointId);
+        result = 31 * result + Objects.hashCode(defaultTrueParam);
+        result = 31 * result + Objects.hashCode(defaultStringParam);
+        result = 31 * result + Objects.hashCode(deprecatedParam);
+        result = 31 * result + Objects.hashCode(booleanContextParam);
+        result = 31 * result + Objects.hashCode(stringContextParam);
+        result = 31 * result + Objects.hashCode(operationContextParam);
+        return result;
+    }
+
     public interface Builder extends CopyableBuilder<Builder, QueryEndpointParams> {
         Builder region(Region region);
 
@@ -17,6 +17,7 @@ import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4aAuthScheme;
 import software.amazon.awssdk.awscore.util.SignerOverrideUtils;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SelectedAuthScheme;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
@@ -59,10 +60,19 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
             .getAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER);
         try {
             long resolveEndpointStart = System.nanoTime();
-            Endpoint endpoint = provider.resolveEndpoint(ruleParams(result, executionAttributes)).join();
-            Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
+            QueryEndpointParams endpointParams = ruleParams(result, executionAttributes);
             Optional<MetricCollector> metricCollector = executionAttributes
                 .getOptionalAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+            EndpointResolutionCache endpointCache = executionAttributes
+                .getAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE);
+            Endpoint endpoint;
+            if (endpointCache != null) {
+                endpoint = endpointCache.resolveEndpoint(provider, endpointParams, provider::resolveEndpoint,
+                                                         metricCollector.orElse(null));
+            } else {
+                endpoint = provider.resolveEndpoint(endpointParams).join();
+            }
+            Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             metricCollector.ifPresent(mc -> mc.reportMetric(CoreMetric.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration));
             if (!AwsEndpointProviderUtils.disableHostPrefixInjection(executionAttributes)) {
                 Optional<String> hostPrefix = hostPrefix(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.auth.credentials.internal.ContainerCredentialsRetryPolicy;
@@ -40,14 +41,19 @@ import software.amazon.awssdk.auth.credentials.internal.HttpCredentialsLoader.Lo
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.util.SdkUserAgent;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 import software.amazon.awssdk.regions.util.ResourcesEndpointRetryPolicy;
 import software.amazon.awssdk.utils.ComparableUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+import software.amazon.awssdk.utils.cache.AsyncCachedSupplier;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
@@ -65,6 +71,9 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
  * "AWS_CONTAINER_CREDENTIALS_FULL_URI" in the container's environment. If the environment variable is not set, this credentials
  * provider will throw an exception.</p>
  *
+ * <p>If an {@link SdkAsyncHttpClient} is configured with {@link Builder#asyncHttpClient(SdkAsyncHttpClient)}, credentials are
+ * loaded with it without blocking the thread that resolves them.</p>
+ *
  * @see <a href="http://docs.aws.amazon.com/AmazonECS/latest/developerguide/task-iam-roles.html">Amazon Elastic Container
  * Service (ECS)</a>
  */
@@ -86,6 +95,8 @@ public final class ContainerCredentialsProvider
     private final String endpoint;
     private final HttpCredentialsLoader httpCredentialsLoader;
     private final CachedSupplier<AwsCredentials> credentialsCache;
+    private final SdkAsyncHttpClient asyncHttpClient;
+    private final AsyncCachedSupplier<AwsCredentials> asyncCredentialsCache;
 
     private final Boolean asyncCredentialUpdateEnabled;
 
@@ -99,14 +110,22 @@ public final class ContainerCredentialsProvider
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
         this.asyncThreadName = builder.asyncThreadName;
         this.httpCredentialsLoader = HttpCredentialsLoader.create(PROVIDER_NAME);
-
-        if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
+        this.asyncHttpClient = builder.asyncHttpClient;
+
+        if (asyncHttpClient != null) {
+            this.credentialsCache = null;
+            this.asyncCredentialsCache = AsyncCachedSupplier.builder(this::refreshCredentialsAsync)
+                                                            .cachedValueName(toString())
+                                                            .build();
+        } else if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
             Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
+            this.asyncCredentialsCache = null;
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
                                                   .prefetchStrategy(new NonBlocking(builder.asyncThreadName))
                                                   .build();
         } else {
+            this.asyncCredentialsCache = null;
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
                                                   .build();
@@ -126,8 +145,15 @@ public final class ContainerCredentialsProvider
     }
 
     private RefreshResult<AwsCredentials> refreshCredentials() {
-        LoadedCredentials loadedCredentials =
-            httpCredentialsLoader.loadCredentials(new ContainerCredentialsEndpointProvider(endpoint));
+        return toRefreshResult(httpCredentialsLoader.loadCredentials(new ContainerCredentialsEndpointProvider(endpoint)));
+    }
+
+    private CompletableFuture<RefreshResult<AwsCredentials>> refreshCredentialsAsync() {
+        return httpCredentialsLoader.loadCredentialsAsync(asyncHttpClient, new ContainerCredentialsEndpointProvider(endpoint))
+                                    .thenApply(this::toRefreshResult);
+    }
+
+    private RefreshResult<AwsCredentials> toRefreshResult(LoadedCredentials loadedCredentials) {
         Instant expiration = loadedCredentials.getExpiration().orElse(null);
 
         return RefreshResult.builder(loadedCredentials.getAwsCredentials())
@@ -158,12 +184,25 @@ public final class ContainerCredentialsProvider
 
     @Override
     public AwsCredentials resolveCredentials() {
+        if (asyncCredentialsCache != null) {
+            return CompletableFutureUtils.joinLikeSync(asyncCredentialsCache.get());
+        }
         return credentialsCache.get();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        if (asyncCredentialsCache == null) {
+            return HttpCredentialsProvider.super.resolveIdentity(request);
+        }
+        return asyncCredentialsCache.get().thenApply(credentials -> credentials);
+    }
+
     @Override
     public void close() {
-        credentialsCache.close();
+        if (credentialsCache != null) {
+            credentialsCache.close();
+        }
     }
 
     @Override
@@ -308,12 +347,24 @@ public final class ContainerCredentialsProvider
      */
     public interface Builder extends HttpCredentialsProvider.Builder<ContainerCredentialsProvider, Builder>,
                                      CopyableBuilder<Builder, ContainerCredentialsProvider> {
+        /**
+         * Configure the {@link SdkAsyncHttpClient} used to load credentials, so that resolving credentials with
+         * {@link ContainerCredentialsProvider#resolveIdentity(ResolveIdentityRequest)} does not block the calling thread.
+         * <p>
+         * When configured, the credentials are refreshed in the background before they expire, and concurrent callers wait for
+         * the same refresh. As with blocking calls, resolving expired credentials fails while the container endpoint is
+         * unavailable. {@link #asyncCredentialUpdateEnabled(Boolean)} is not used.
+         * <p>
+         * The provider does not close the client. By default, credentials are loaded with blocking calls.
+         */
+        Builder asyncHttpClient(SdkAsyncHttpClient asyncHttpClient);
     }
 
     private static final class BuilderImpl implements Builder {
         private String endpoint;
         private Boolean asyncCredentialUpdateEnabled;
         private String asyncThreadName;
+        private SdkAsyncHttpClient asyncHttpClient;
 
         private BuilderImpl() {
             asyncThreadName("container-credentials-provider");
@@ -323,6 +374,7 @@ public final class ContainerCredentialsProvider
             this.endpoint = credentialsProvider.endpoint;
             this.asyncCredentialUpdateEnabled = credentialsProvider.asyncCredentialUpdateEnabled;
             this.asyncThreadName = credentialsProvider.asyncThreadName;
+            this.asyncHttpClient = credentialsProvider.asyncHttpClient;
         }
 
         @Override
@@ -355,6 +407,16 @@ public final class ContainerCredentialsProvider
             asyncThreadName(asyncThreadName);
         }
 
+        @Override
+        public Builder asyncHttpClient(SdkAsyncHttpClient asyncHttpClient) {
+            this.asyncHttpClient = asyncHttpClient;
+            return this;
+        }
+
+        public void setAsyncHttpClient(SdkAsyncHttpClient asyncHttpClient) {
+            asyncHttpClient(asyncHttpClient);
+        }
+
         @Override
         public ContainerCredentialsProvider build() {
             return new ContainerCredentialsProvider(this);
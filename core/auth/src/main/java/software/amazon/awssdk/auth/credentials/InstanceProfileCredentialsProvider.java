@@ -27,9 +27,12 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.auth.credentials.internal.AsyncHttpResourcesUtils;
 import software.amazon.awssdk.auth.credentials.internal.Ec2MetadataConfigProvider;
 import software.amazon.awssdk.auth.credentials.internal.Ec2MetadataDisableV1Resolver;
 import software.amazon.awssdk.auth.credentials.internal.HttpCredentialsLoader;
@@ -38,17 +41,23 @@ import software.amazon.awssdk.auth.credentials.internal.StaticResourcesEndpointP
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
 import software.amazon.awssdk.profiles.ProfileProperty;
 import software.amazon.awssdk.regions.util.HttpResourcesUtils;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+import software.amazon.awssdk.utils.cache.AsyncCachedSupplier;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
@@ -62,6 +71,9 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
  * If {@link SdkSystemSetting#AWS_EC2_METADATA_V1_DISABLED} or {@link ProfileProperty#EC2_METADATA_V1_DISABLED}
  * is set to true, credentials will only be loaded from EC2 metadata service if a token is successfully retrieved -
  * fallback to load credentials without a token will be disabled.
+ * <p>
+ * If an {@link SdkAsyncHttpClient} is configured with {@link Builder#asyncHttpClient(SdkAsyncHttpClient)}, credentials are
+ * loaded with it without blocking the thread that resolves them.
  */
 @SdkPublicApi
 public final class InstanceProfileCredentialsProvider
@@ -81,6 +93,8 @@ public final class InstanceProfileCredentialsProvider
     private final Ec2MetadataDisableV1Resolver ec2MetadataDisableV1Resolver;
     private final HttpCredentialsLoader httpCredentialsLoader;
     private final CachedSupplier<AwsCredentials> credentialsCache;
+    private final SdkAsyncHttpClient asyncHttpClient;
+    private final AsyncCachedSupplier<AwsCredentials> asyncCredentialsCache;
 
     private final Boolean asyncCredentialUpdateEnabled;
 
@@ -110,8 +124,17 @@ public final class InstanceProfileCredentialsProvider
                                      .profileName(profileName)
                                      .build();
         this.ec2MetadataDisableV1Resolver = Ec2MetadataDisableV1Resolver.create(profileFile, profileName);
-
-        if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
+        this.asyncHttpClient = builder.asyncHttpClient;
+
+        if (asyncHttpClient != null) {
+            this.credentialsCache = null;
+            this.asyncCredentialsCache = AsyncCachedSupplier.builder(this::refreshCredentialsAsync)
+                                                            .cachedValueName(toString())
+                                                            .staleValueBehavior(ALLOW)
+                                                            .clock(clock)
+                                                            .build();
+        } else if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
+            this.asyncCredentialsCache = null;
             Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
@@ -120,6 +143,7 @@ public final class InstanceProfileCredentialsProvider
                                                   .clock(clock)
                                                   .build();
         } else {
+            this.asyncCredentialsCache = null;
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
                                                   .staleValueBehavior(ALLOW)
@@ -146,28 +170,77 @@ public final class InstanceProfileCredentialsProvider
 
     @Override
     public AwsCredentials resolveCredentials() {
+        if (asyncCredentialsCache != null) {
+            return CompletableFutureUtils.joinLikeSync(asyncCredentialsCache.get());
+        }
         return credentialsCache.get();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        if (asyncCredentialsCache == null) {
+            return HttpCredentialsProvider.super.resolveIdentity(request);
+        }
+        return asyncCredentialsCache.get().thenApply(credentials -> credentials);
+    }
+
     private RefreshResult<AwsCredentials> refreshCredentials() {
         if (isLocalCredentialLoadingDisabled()) {
             throw SdkClientException.create("IMDS credentials have been disabled by environment variable or system property.");
         }
 
         try {
-            LoadedCredentials credentials = httpCredentialsLoader.loadCredentials(createEndpointProvider());
-            Instant expiration = credentials.getExpiration().orElse(null);
-            log.debug(() -> "Loaded credentials from IMDS with expiration time of " + expiration);
-
-            return RefreshResult.builder(credentials.getAwsCredentials())
-                                .staleTime(staleTime(expiration))
-                                .prefetchTime(prefetchTime(expiration))
-                                .build();
+            return toRefreshResult(httpCredentialsLoader.loadCredentials(createEndpointProvider()));
         } catch (RuntimeException e) {
             throw SdkClientException.create("Failed to load credentials from IMDS.", e);
         }
     }
 
+    /**
+     * Loads the credentials like {@link #refreshCredentials()}, making the same requests with the {@link #asyncHttpClient}.
+     */
+    private CompletableFuture<RefreshResult<AwsCredentials>> refreshCredentialsAsync() {
+        if (isLocalCredentialLoadingDisabled()) {
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.create("IMDS credentials have been disabled by environment variable or system property."));
+        }
+
+        CompletableFuture<LoadedCredentials> credentialsFuture;
+        try {
+            String imdsHostname = getImdsEndpoint();
+            credentialsFuture = getTokenAsync(imdsHostname).thenCompose(token -> loadCredentialsAsync(imdsHostname, token));
+        } catch (RuntimeException e) {
+            credentialsFuture = CompletableFutureUtils.failedFuture(e);
+        }
+
+        return credentialsFuture.handle((credentials, error) -> {
+            if (error != null) {
+                throw SdkClientException.create("Failed to load credentials from IMDS.", unwrap(error));
+            }
+            return toRefreshResult(credentials);
+        });
+    }
+
+    private CompletableFuture<LoadedCredentials> loadCredentialsAsync(String imdsHostname, String token) {
+        return getSecurityCredentialsAsync(imdsHostname, token).thenCompose(securityCredentials -> {
+            ResourcesEndpointProvider credentialsEndpoint =
+                new StaticResourcesEndpointProvider(URI.create(imdsHostname + SECURITY_CREDENTIALS_RESOURCE +
+                                                               securityCredentials[0]),
+                                                    getTokenHeaders(token));
+            return httpCredentialsLoader.loadCredentialsAsync(asyncHttpClient, credentialsEndpoint);
+        });
+    }
+
+    private RefreshResult<AwsCredentials> toRefreshResult(LoadedCredentials credentials) {
+        Instant expiration = credentials.getExpiration().orElse(null);
+        log.debug(() -> "Loaded credentials from IMDS with expiration time of " + expiration);
+
+        return RefreshResult.builder(credentials.getAwsCredentials())
+                            .staleTime(staleTime(expiration))
+                            .prefetchTime(prefetchTime(expiration))
+                            .build();
+    }
+
     private boolean isLocalCredentialLoadingDisabled() {
         return SdkSystemSetting.AWS_EC2_METADATA_DISABLED.getBooleanValueOrThrow();
     }
@@ -198,7 +271,9 @@ public final class InstanceProfileCredentialsProvider
 
     @Override
     public void close() {
-        credentialsCache.close();
+        if (credentialsCache != null) {
+            credentialsCache.close();
+        }
     }
 
     @Override
@@ -225,12 +300,8 @@ public final class InstanceProfileCredentialsProvider
     }
 
     private String getToken(String imdsHostname) {
-        Map<String, String> tokenTtlHeaders = Collections.singletonMap(EC2_METADATA_TOKEN_TTL_HEADER, DEFAULT_TOKEN_TTL);
-        ResourcesEndpointProvider tokenEndpoint = new StaticResourcesEndpointProvider(getTokenEndpoint(imdsHostname),
-                                                                                      tokenTtlHeaders);
-
         try {
-            return HttpResourcesUtils.instance().readResource(tokenEndpoint, "PUT");
+            return HttpResourcesUtils.instance().readResource(getTokenEndpointProvider(imdsHostname), "PUT");
         } catch (SdkServiceException e) {
             if (e.statusCode() == 400) {
 
@@ -245,6 +316,29 @@ public final class InstanceProfileCredentialsProvider
         }
     }
 
+    private CompletableFuture<String> getTokenAsync(String imdsHostname) {
+        return AsyncHttpResourcesUtils.readResource(asyncHttpClient, getTokenEndpointProvider(imdsHostname), SdkHttpMethod.PUT)
+                                      .handle((token, error) -> {
+                                          if (error == null) {
+                                              return token;
+                                          }
+                                          Throwable cause = unwrap(error);
+                                          if (cause instanceof SdkServiceException
+                                              && ((SdkServiceException) cause).statusCode() == 400) {
+                                              throw SdkClientException.builder()
+                                                                      .message("Unable to fetch metadata token.")
+                                                                      .cause(cause)
+                                                                      .build();
+                                          }
+                                          return handleTokenErrorResponse(cause);
+                                      });
+    }
+
+    private ResourcesEndpointProvider getTokenEndpointProvider(String imdsHostname) {
+        Map<String, String> tokenTtlHeaders = Collections.singletonMap(EC2_METADATA_TOKEN_TTL_HEADER, DEFAULT_TOKEN_TTL);
+        return new StaticResourcesEndpointProvider(getTokenEndpoint(imdsHostname), tokenTtlHeaders);
+    }
+
     private URI getTokenEndpoint(String imdsHostname) {
         String finalHost = imdsHostname;
         if (finalHost.endsWith("/")) {
@@ -253,7 +347,7 @@ public final class InstanceProfileCredentialsProvider
         return URI.create(finalHost + TOKEN_RESOURCE);
     }
 
-    private String handleTokenErrorResponse(Exception e) {
+    private String handleTokenErrorResponse(Throwable e) {
         if (isInsecureFallbackDisabled()) {
             String message = String.format("Failed to retrieve IMDS token, and fallback to IMDS v1 is disabled via the "
                                            + "%s system property, %s environment variable, or %s configuration file profile"
@@ -281,6 +375,19 @@ public final class InstanceProfileCredentialsProvider
 
         String securityCredentialsList =
             invokeSafely(() -> HttpResourcesUtils.instance().readResource(securityCredentialsEndpoint));
+        return parseSecurityCredentials(securityCredentialsList);
+    }
+
+    private CompletableFuture<String[]> getSecurityCredentialsAsync(String imdsHostname, String metadataToken) {
+        ResourcesEndpointProvider securityCredentialsEndpoint =
+            new StaticResourcesEndpointProvider(URI.create(imdsHostname + SECURITY_CREDENTIALS_RESOURCE),
+                                                getTokenHeaders(metadataToken));
+
+        return AsyncHttpResourcesUtils.readResource(asyncHttpClient, securityCredentialsEndpoint)
+                                      .thenApply(this::parseSecurityCredentials);
+    }
+
+    private String[] parseSecurityCredentials(String securityCredentialsList) {
         String[] securityCredentials = securityCredentialsList.trim().split("\n");
 
         if (securityCredentials.length == 0) {
@@ -289,6 +396,13 @@ public final class InstanceProfileCredentialsProvider
         return securityCredentials;
     }
 
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
     private Map<String, String> getTokenHeaders(String metadataToken) {
         if (metadataToken == null) {
             return Collections.emptyMap();
@@ -331,6 +445,18 @@ public final class InstanceProfileCredentialsProvider
          */
         Builder profileName(String profileName);
 
+        /**
+         * Configure the {@link SdkAsyncHttpClient} used to load credentials, so that resolving credentials with
+         * {@link InstanceProfileCredentialsProvider#resolveIdentity(ResolveIdentityRequest)} does not block the calling thread.
+         * <p>
+         * When configured, the credentials are refreshed in the background before they expire, concurrent callers wait for the
+         * same refresh, and the cached credentials continue to be returned when IMDS fails to refresh them. The requests are
+         * the same as with blocking calls. {@link #asyncCredentialUpdateEnabled(Boolean)} is not used.
+         * <p>
+         * The provider does not close the client. By default, credentials are loaded with blocking calls.
+         */
+        Builder asyncHttpClient(SdkAsyncHttpClient asyncHttpClient);
+
         /**
          * Build a {@link InstanceProfileCredentialsProvider} from the provided configuration.
          */
@@ -346,6 +472,7 @@ public final class InstanceProfileCredentialsProvider
         private String asyncThreadName;
         private Supplier<ProfileFile> profileFile;
         private String profileName;
+        private SdkAsyncHttpClient asyncHttpClient;
 
         private BuilderImpl() {
             asyncThreadName("instance-profile-credentials-provider");
@@ -358,6 +485,7 @@ public final class InstanceProfileCredentialsProvider
             this.asyncThreadName = provider.asyncThreadName;
             this.profileFile = provider.profileFile;
             this.profileName = provider.profileName;
+            this.asyncHttpClient = provider.asyncHttpClient;
         }
 
         Builder clock(Clock clock) {
@@ -426,6 +554,16 @@ public final class InstanceProfileCredentialsProvider
             profileName(profileName);
         }
 
+        @Override
+        public Builder asyncHttpClient(SdkAsyncHttpClient asyncHttpClient) {
+            this.asyncHttpClient = asyncHttpClient;
+            return this;
+        }
+
+        public void setAsyncHttpClient(SdkAsyncHttpClient asyncHttpClient) {
+            asyncHttpClient(asyncHttpClient);
+        }
+
         @Override
         public InstanceProfileCredentialsProvider build() {
             return new InstanceProfileCredentialsProvider(this);
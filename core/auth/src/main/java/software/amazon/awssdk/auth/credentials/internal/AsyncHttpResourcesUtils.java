@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
+import software.amazon.awssdk.core.internal.http.async.AsyncResponseHandler;
+import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.regions.util.HttpResourcesUtils;
+import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
+import software.amazon.awssdk.regions.util.ResourcesEndpointRetryParameters;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * The non-blocking counterpart of {@link HttpResourcesUtils}: reads resources from a local endpoint with an
+ * {@link SdkAsyncHttpClient}, with the same status code handling and retries.
+ */
+@SdkInternalApi
+public final class AsyncHttpResourcesUtils {
+    private static final Logger log = Logger.loggerFor(AsyncHttpResourcesUtils.class);
+
+    private static final JsonNodeParser JSON_PARSER = JsonNode.parser();
+
+    private AsyncHttpResourcesUtils() {
+    }
+
+    /**
+     * Reads the resource at the endpoint of the given provider with a GET request, retrying according to the
+     * {@link ResourcesEndpointProvider#retryPolicy()} of the provider.
+     *
+     * @return A future that completes with the text contents of the resource.
+     */
+    public static CompletableFuture<String> readResource(SdkAsyncHttpClient httpClient,
+                                                         ResourcesEndpointProvider endpointProvider) {
+        return readResource(httpClient, endpointProvider, SdkHttpMethod.GET);
+    }
+
+    /**
+     * Reads the resource at the endpoint of the given provider with a request of the given method, retrying according to the
+     * {@link ResourcesEndpointProvider#retryPolicy()} of the provider.
+     *
+     * @return A future that completes with the text contents of the resource.
+     */
+    public static CompletableFuture<String> readResource(SdkAsyncHttpClient httpClient,
+                                                         ResourcesEndpointProvider endpointProvider,
+                                                         SdkHttpMethod method) {
+        return readResource(httpClient, endpointProvider, method, 0);
+    }
+
+    private static CompletableFuture<String> readResource(SdkAsyncHttpClient httpClient,
+                                                          ResourcesEndpointProvider endpointProvider,
+                                                          SdkHttpMethod method,
+                                                          int retriesAttempted) {
+        SdkHttpFullRequest request;
+        try {
+            request = createRequest(endpointProvider, method);
+        } catch (IOException | RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+
+        return send(httpClient, request).handle((response, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (cause instanceof IOException &&
+                    shouldRetry(endpointProvider, retriesAttempted,
+                                ResourcesEndpointRetryParameters.builder().withException((IOException) cause).build())) {
+                    log.debug(() -> "An IOException occurred when connecting to endpoint: " + request.getUri()
+                                    + "\n Retrying to connect again");
+                    return readResource(httpClient, endpointProvider, method, retriesAttempted + 1);
+                }
+                return CompletableFutureUtils.<String>failedFuture(cause);
+            }
+
+            if (response.statusCode == 200) {
+                return CompletableFuture.completedFuture(response.content);
+            }
+
+            if (response.statusCode == 404) {
+                // This is to preserve existing behavior of EC2 Instance metadata service.
+                return CompletableFutureUtils.<String>failedFuture(
+                    SdkClientException.builder()
+                                      .message("The requested metadata is not found at " + request.getUri())
+                                      .build());
+            }
+
+            if (shouldRetry(endpointProvider, retriesAttempted,
+                            ResourcesEndpointRetryParameters.builder().withStatusCode(response.statusCode).build())) {
+                return readResource(httpClient, endpointProvider, method, retriesAttempted + 1);
+            }
+            return CompletableFutureUtils.<String>failedFuture(errorResponse(response));
+        }).thenCompose(Function.identity());
+    }
+
+    private static boolean shouldRetry(ResourcesEndpointProvider endpointProvider,
+                                       int retriesAttempted,
+                                       ResourcesEndpointRetryParameters retryParameters) {
+        return endpointProvider.retryPolicy().shouldRetry(retriesAttempted, retryParameters);
+    }
+
+    private static SdkHttpFullRequest createRequest(ResourcesEndpointProvider endpointProvider,
+                                                    SdkHttpMethod method) throws IOException {
+        URI endpoint = endpointProvider.endpoint();
+        SdkHttpFullRequest.Builder request = SdkHttpFullRequest.builder()
+                                                               .method(method)
+                                                               .uri(endpoint)
+                                                               .putHeader("Accept", "*/*");
+        endpointProvider.headers().forEach(request::putHeader);
+        return request.build();
+    }
+
+    private static CompletableFuture<ResourceResponse> send(SdkAsyncHttpClient httpClient, SdkHttpFullRequest request) {
+        TransformingAsyncResponseHandler<ResourceResponse> responseHandler =
+            new AsyncResponseHandler<>(AsyncHttpResourcesUtils::toResourceResponse, Function.identity(),
+                                       new ExecutionAttributes());
+        CompletableFuture<ResourceResponse> responseFuture = responseHandler.prepare();
+        CompletableFuture<Void> executeFuture =
+            httpClient.execute(AsyncExecuteRequest.builder()
+                                                  .request(request)
+                                                  .requestContentPublisher(new SimpleHttpContentPublisher(request))
+                                                  .responseHandler(responseHandler)
+                                                  .build());
+        CompletableFutureUtils.forwardExceptionTo(executeFuture, responseFuture);
+        return responseFuture;
+    }
+
+    private static ResourceResponse toResourceResponse(SdkHttpFullResponse response, ExecutionAttributes executionAttributes) {
+        String content = response.content().map(stream -> {
+            try {
+                return IoUtils.toUtf8String(stream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).orElse(null);
+        return new ResourceResponse(response.statusCode(), response.statusText().orElse(null), content);
+    }
+
+    private static SdkServiceException errorResponse(ResourceResponse response) {
+        String message = response.statusText;
+        if (response.content != null) {
+            try {
+                Optional<JsonNode> errorMessage = JSON_PARSER.parse(response.content).field("message");
+                if (errorMessage.isPresent()) {
+                    message = errorMessage.get().text();
+                }
+            } catch (RuntimeException e) {
+                log.debug(() -> "Unable to parse error stream", e);
+            }
+        }
+
+        return SdkServiceException.builder()
+                                  .message(message)
+                                  .statusCode(response.statusCode)
+                                  .build();
+    }
+
+    private static final class ResourceResponse {
+        private final int statusCode;
+        private final String statusText;
+        private final String content;
+
+        private ResourceResponse(int statusCode, String statusText, String content) {
+            this.statusCode = statusCode;
+            this.statusText = statusText;
+            this.content = content;
+        }
+    }
+}
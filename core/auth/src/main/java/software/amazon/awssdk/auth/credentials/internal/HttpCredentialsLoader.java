@@ -19,12 +19,15 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Pattern;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
 import software.amazon.awssdk.regions.util.HttpResourcesUtils;
@@ -57,8 +60,36 @@ public final class HttpCredentialsLoader {
 
     public LoadedCredentials loadCredentials(ResourcesEndpointProvider endpoint) {
         try {
-            String credentialsResponse = HttpResourcesUtils.instance().readResource(endpoint);
+            return parseCredentials(HttpResourcesUtils.instance().readResource(endpoint));
+        } catch (SdkClientException e) {
+            throw e;
+        } catch (RuntimeException | IOException e) {
+            throw SdkClientException.builder()
+                                    .message("Failed to load credentials from metadata service.")
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
+    /**
+     * Loads the credentials like {@link #loadCredentials(ResourcesEndpointProvider)}, without blocking the calling thread.
+     */
+    public CompletableFuture<LoadedCredentials> loadCredentialsAsync(SdkAsyncHttpClient httpClient,
+                                                                     ResourcesEndpointProvider endpoint) {
+        return AsyncHttpResourcesUtils.readResource(httpClient, endpoint)
+                                      .handle((credentialsResponse, error) -> {
+                                          if (error != null) {
+                                              throw toLoadFailure(error);
+                                          }
+                                          return parseCredentials(credentialsResponse);
+                                      });
+    }
 
+    /**
+     * Parses the credentials returned by a metadata service.
+     */
+    public LoadedCredentials parseCredentials(String credentialsResponse) {
+        try {
             Map<String, JsonNode> node = SENSITIVE_PARSER.parse(credentialsResponse).asObject();
             JsonNode accessKey = node.get("AccessKeyId");
             JsonNode secretKey = node.get("SecretAccessKey");
@@ -75,7 +106,7 @@ public final class HttpCredentialsLoader {
                                          providerName);
         } catch (SdkClientException e) {
             throw e;
-        } catch (RuntimeException | IOException e) {
+        } catch (RuntimeException e) {
             throw SdkClientException.builder()
                                     .message("Failed to load credentials from metadata service.")
                                     .cause(e)
@@ -83,6 +114,17 @@ public final class HttpCredentialsLoader {
         }
     }
 
+    private static SdkClientException toLoadFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof SdkClientException) {
+            return (SdkClientException) cause;
+        }
+        return SdkClientException.builder()
+                                 .message("Failed to load credentials from metadata service.")
+                                 .cause(cause)
+                                 .build();
+    }
+
     public static final class LoadedCredentials {
         private final String accessKeyId;
         private final String secretKey;
@@ -45,6 +45,11 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterAll;
@@ -54,11 +59,19 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.util.SdkUserAgent;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileProperty;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.DateUtils;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringInputStream;
@@ -544,6 +557,64 @@ public class InstanceProfileCredentialsProviderTest {
         }
     }
 
+    @Test
+    public void resolveIdentity_withAsyncHttpClient_loadsCredentialsOnceWithoutBlocking() {
+        StubAsyncHttpClient httpClient = new StubAsyncHttpClient();
+        CompletableFuture<String> tokenFuture = new CompletableFuture<>();
+        httpClient.respond(TOKEN_RESOURCE_PATH, tokenFuture);
+        httpClient.respond(CREDENTIALS_RESOURCE_PATH, CompletableFuture.completedFuture(PROFILE_NAME));
+        httpClient.respond(CREDENTIALS_RESOURCE_PATH + PROFILE_NAME, CompletableFuture.completedFuture(STUB_CREDENTIALS));
+        InstanceProfileCredentialsProvider provider = InstanceProfileCredentialsProvider.builder()
+                                                                                        .asyncHttpClient(httpClient)
+                                                                                        .build();
+
+        CompletableFuture<? extends AwsCredentialsIdentity> first = provider.resolveIdentity();
+        CompletableFuture<? extends AwsCredentialsIdentity> second = provider.resolveIdentity();
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+
+        tokenFuture.complete(TOKEN_STUB);
+
+        assertThat(first.join().accessKeyId()).isEqualTo("ACCESS_KEY_ID");
+        assertThat(second.join().secretAccessKey()).isEqualTo("SECRET_ACCESS_KEY");
+        assertThat(provider.resolveCredentials().accessKeyId()).isEqualTo("ACCESS_KEY_ID");
+        assertThat(httpClient.requests(TOKEN_RESOURCE_PATH)).hasSize(1);
+        assertThat(httpClient.requests(CREDENTIALS_RESOURCE_PATH + PROFILE_NAME))
+            .allSatisfy(request -> assertThat(request.firstMatchingHeader(TOKEN_HEADER)).hasValue(TOKEN_STUB));
+    }
+
+    @Test
+    public void resolveIdentity_withAsyncHttpClient_usesCacheIfImdsFailsOnSecondCall() {
+        AdjustableClock clock = new AdjustableClock();
+        StubAsyncHttpClient httpClient = new StubAsyncHttpClient();
+        InstanceProfileCredentialsProvider.BuilderImpl builder =
+            (InstanceProfileCredentialsProvider.BuilderImpl) InstanceProfileCredentialsProvider.builder();
+        builder.clock(clock);
+        InstanceProfileCredentialsProvider provider = builder.asyncHttpClient(httpClient).build();
+        String successfulCredentialsResponse =
+            "{"
+            + "\"AccessKeyId\":\"ACCESS_KEY_ID\","
+            + "\"SecretAccessKey\":\"SECRET_ACCESS_KEY\","
+            + "\"Expiration\":\"" + DateUtils.formatIso8601Date(Instant.now()) + '"'
+            + "}";
+
+        // Prime the cache in the past, then take down IMDS in the present to see if the cached credentials are used
+        clock.time = Instant.now().minus(24, HOURS);
+        httpClient.respond(TOKEN_RESOURCE_PATH, CompletableFuture.completedFuture(TOKEN_STUB));
+        httpClient.respond(CREDENTIALS_RESOURCE_PATH, CompletableFuture.completedFuture(PROFILE_NAME));
+        httpClient.respond(CREDENTIALS_RESOURCE_PATH + PROFILE_NAME,
+                           CompletableFuture.completedFuture(successfulCredentialsResponse));
+        AwsCredentialsIdentity credentialsBefore = provider.resolveIdentity().join();
+
+        clock.time = Instant.now();
+        SdkClientException imdsDown = SdkClientException.create("IMDS is unavailable");
+        httpClient.respond(TOKEN_RESOURCE_PATH, CompletableFutureUtils.failedFuture(imdsDown));
+        httpClient.respond(CREDENTIALS_RESOURCE_PATH, CompletableFutureUtils.failedFuture(imdsDown));
+        AwsCredentialsIdentity credentialsAfter = provider.resolveIdentity().join();
+
+        assertThat(credentialsBefore).isEqualTo(credentialsAfter);
+    }
+
     private AwsCredentialsProvider credentialsProviderWithClock(Clock clock) {
         InstanceProfileCredentialsProvider.BuilderImpl builder =
             (InstanceProfileCredentialsProvider.BuilderImpl) InstanceProfileCredentialsProvider.builder();
@@ -551,6 +622,49 @@ public class InstanceProfileCredentialsProviderTest {
         return builder.build();
     }
 
+    /**
+     * An {@link SdkAsyncHttpClient} that answers each request with the response registered for its path, and with a 404
+     * response otherwise.
+     */
+    private static final class StubAsyncHttpClient implements SdkAsyncHttpClient {
+        private final Map<String, CompletableFuture<String>> responses = new ConcurrentHashMap<>();
+        private final List<SdkHttpRequest> requests = new CopyOnWriteArrayList<>();
+
+        void respond(String path, CompletableFuture<String> response) {
+            responses.put(path, response);
+        }
+
+        List<SdkHttpRequest> requests(String path) {
+            return requests.stream().filter(r -> r.encodedPath().equals(path)).collect(Collectors.toList());
+        }
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            requests.add(request.request());
+            SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+            CompletableFuture<String> response = responses.get(request.request().encodedPath());
+            if (response == null) {
+                responseHandler.onHeaders(SdkHttpResponse.builder().statusCode(404).build());
+                responseHandler.onStream(AsyncRequestBody.empty());
+                return CompletableFuture.completedFuture(null);
+            }
+
+            return response.handle((body, error) -> {
+                if (error != null) {
+                    responseHandler.onError(error);
+                    throw new CompletionException(error);
+                }
+                responseHandler.onHeaders(SdkHttpResponse.builder().statusCode(200).build());
+                responseHandler.onStream(AsyncRequestBody.fromString(body));
+                return null;
+            });
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     private static class AdjustableClock extends Clock {
         private Instant time;
 
@@ -106,6 +106,8 @@ public final class AwsExecutionContextBuilder {
             .putAttribute(SdkExecutionAttribute.ENDPOINT_OVERRIDDEN, clientConfig.option(SdkClientOption.ENDPOINT_OVERRIDDEN))
             .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER,
                           resolveEndpointProvider(originalRequest, clientConfig))
+            .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE,
+                          clientConfig.option(SdkClientOption.ENDPOINT_RESOLUTION_CACHE))
             .putAttribute(SdkInternalExecutionAttribute.CLIENT_CONTEXT_PARAMS,
                           clientConfig.option(SdkClientOption.CLIENT_CONTEXT_PARAMS))
             .putAttribute(SdkInternalExecutionAttribute.DISABLE_HOST_PREFIX_INJECTION,
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Combines the CRCs of two consecutive blocks of data into the CRC of their concatenation, without reading the data again.
+ * Given {@code crc(A)}, {@code crc(B)} and the length of {@code B}, this computes {@code crc(A || B)}.
+ * <p>
+ * This is the method used by zlib's {@code crc32_combine}: appending {@code len(B)} zero bytes to {@code A} multiplies its CRC
+ * by {@code x^(8 * len(B))} modulo the CRC polynomial, which is computed in {@code O(log(len(B)))} steps from a table of
+ * {@code x^(2^n)}.
+ */
+@SdkInternalApi
+public final class CrcCombine {
+    private static final int CRC32_POLYNOMIAL = 0xEDB88320;
+    private static final int CRC32C_POLYNOMIAL = 0x82F63B78;
+
+    private static final int[] CRC32_X2N_TABLE = x2nTable(CRC32_POLYNOMIAL);
+    private static final int[] CRC32C_X2N_TABLE = x2nTable(CRC32C_POLYNOMIAL);
+
+    private CrcCombine() {
+    }
+
+    /**
+     * Returns the CRC32 of the concatenation of two blocks, given the CRC32 of each block and the length of the second one.
+     */
+    public static long combineCrc32(long crc1, long crc2, long length2) {
+        return combine(CRC32_POLYNOMIAL, CRC32_X2N_TABLE, crc1, crc2, length2);
+    }
+
+    /**
+     * Returns the CRC32C of the concatenation of two blocks, given the CRC32C of each block and the length of the second one.
+     */
+    public static long combineCrc32C(long crc1, long crc2, long length2) {
+        return combine(CRC32C_POLYNOMIAL, CRC32C_X2N_TABLE, crc1, crc2, length2);
+    }
+
+    private static long combine(int polynomial, int[] x2nTable, long crc1, long crc2, long length2) {
+        if (length2 < 0) {
+            throw new IllegalArgumentException("length2 must not be negative: " + length2);
+        }
+        int shifted = multiplyModP(polynomial, x2nModP(polynomial, x2nTable, length2, 3), (int) crc1);
+        return (shifted ^ (int) crc2) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Multiplies {@code a} and {@code b} modulo the polynomial, where both are in the reflected bit order used by the CRC.
+     */
+    private static int multiplyModP(int polynomial, int a, int b) {
+        int m = 1 << 31;
+        int p = 0;
+        for (;;) {
+            if ((a & m) != 0) {
+                p ^= b;
+                if ((a & (m - 1)) == 0) {
+                    break;
+                }
+            }
+            m >>>= 1;
+            b = (b & 1) != 0 ? (b >>> 1) ^ polynomial : b >>> 1;
+        }
+        return p;
+    }
+
+    /**
+     * Returns {@code x^(n * 2^k)} modulo the polynomial.
+     */
+    private static int x2nModP(int polynomial, int[] x2nTable, long n, int k) {
+        int p = 1 << 31;
+        while (n != 0) {
+            if ((n & 1) != 0) {
+                p = multiplyModP(polynomial, x2nTable[k & 31], p);
+            }
+            n >>>= 1;
+            k++;
+        }
+        return p;
+    }
+
+    private static int[] x2nTable(int polynomial) {
+        int[] table = new int[32];
+        int p = 1 << 30;
+        table[0] = p;
+        for (int n = 1; n < 32; n++) {
+            p = multiplyModP(polynomial, p, p);
+            table[n] = p;
+        }
+        return table;
+    }
+}
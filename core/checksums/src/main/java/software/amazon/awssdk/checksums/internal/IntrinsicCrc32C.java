@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A CRC32C {@link Checksum} backed by {@code java.util.zip.CRC32C}, which the JVM intrinsifies with the CRC32 instructions
+ * of the CPU on Java 9 and later.
+ * <p>
+ * {@code java.util.zip.CRC32C} cannot be copied, so this class keeps the CRC of the data that was checksummed before the last
+ * {@link #clone()} separately, and uses {@link CrcCombine} to combine it with the CRC of the data checksummed since.
+ */
+@SdkInternalApi
+public final class IntrinsicCrc32C implements Checksum, Cloneable {
+    private static final MethodHandle CONSTRUCTOR = findConstructor();
+    private static final MethodHandle UPDATE_BYTE_BUFFER = findUpdateByteBuffer();
+
+    private long baseCrc;
+    private final Checksum crc32c;
+    private long length;
+
+    private IntrinsicCrc32C(long baseCrc) {
+        this.baseCrc = baseCrc;
+        this.crc32c = newCrc32C();
+    }
+
+    /**
+     * Whether {@code java.util.zip.CRC32C} is available, i.e. whether the SDK is running on Java 9 or later.
+     */
+    public static boolean isAvailable() {
+        return CONSTRUCTOR != null;
+    }
+
+    /**
+     * Creates a new checksum, or returns {@code null} if {@code java.util.zip.CRC32C} is not available.
+     */
+    public static IntrinsicCrc32C create() {
+        return isAvailable() ? new IntrinsicCrc32C(0) : null;
+    }
+
+    @Override
+    public void update(int b) {
+        crc32c.update(b);
+        length++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        crc32c.update(b, off, len);
+        length += len;
+    }
+
+    /**
+     * Updates the checksum with the remaining bytes of the buffer, and advances its position to its limit. This delegates to
+     * {@code java.util.zip.CRC32C.update(ByteBuffer)}, which checksums direct buffers in place instead of copying them to an
+     * array first. It overrides {@code Checksum.update(ByteBuffer)}, which only exists on Java 9 and later.
+     */
+    public void update(ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+        try {
+            UPDATE_BYTE_BUFFER.invokeExact(crc32c, buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unable to update java.util.zip.CRC32C", t);
+        }
+        length += remaining;
+    }
+
+    @Override
+    public long getValue() {
+        return length == 0 ? baseCrc : CrcCombine.combineCrc32C(baseCrc, crc32c.getValue(), length);
+    }
+
+    @Override
+    public void reset() {
+        crc32c.reset();
+        baseCrc = 0;
+        length = 0;
+    }
+
+    @Override
+    public IntrinsicCrc32C clone() {
+        return new IntrinsicCrc32C(getValue());
+    }
+
+    private static Checksum newCrc32C() {
+        try {
+            return (Checksum) CONSTRUCTOR.invoke();
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unable to create java.util.zip.CRC32C", t);
+        }
+    }
+
+    private static MethodHandle findConstructor() {
+        try {
+            Class<?> crc32cClass = Class.forName("java.util.zip.CRC32C");
+            return MethodHandles.publicLookup().findConstructor(crc32cClass, MethodType.methodType(void.class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findUpdateByteBuffer() {
+        try {
+            Class<?> crc32cClass = Class.forName("java.util.zip.CRC32C");
+            return MethodHandles.publicLookup()
+                                .findVirtual(crc32cClass, "update", MethodType.methodType(void.class, ByteBuffer.class))
+                                .asType(MethodType.methodType(void.class, Checksum.class, ByteBuffer.class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
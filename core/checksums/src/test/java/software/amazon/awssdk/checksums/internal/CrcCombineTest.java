@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.zip.CRC32;
+import org.junit.jupiter.api.Test;
+
+public class CrcCombineTest {
+
+    @Test
+    public void combineCrc32_matchesCrcOfConcatenation() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            byte[] first = new byte[random.nextInt(10_000)];
+            byte[] second = new byte[random.nextInt(10_000)];
+            random.nextBytes(first);
+            random.nextBytes(second);
+
+            CRC32 whole = new CRC32();
+            whole.update(first);
+            whole.update(second);
+
+            assertEquals(whole.getValue(), CrcCombine.combineCrc32(crc32(first), crc32(second), second.length));
+        }
+    }
+
+    @Test
+    public void combineCrc32C_matchesCheckValue() {
+        // CRC32C("1234") = 0xF63AF4EE, CRC32C("56789") = 0x83B565D8, CRC32C("123456789") = 0xE3069283
+        assertEquals(0xE3069283L, CrcCombine.combineCrc32C(0xF63AF4EEL, 0x83B565D8L, 5));
+    }
+
+    @Test
+    public void combine_emptySecondBlock_returnsFirstCrc() {
+        assertEquals(0xF63AF4EEL, CrcCombine.combineCrc32C(0xF63AF4EEL, 0, 0));
+        assertEquals(0xCBF43926L, CrcCombine.combineCrc32(0xCBF43926L, 0, 0));
+    }
+
+    @Test
+    public void combine_emptyFirstBlock_returnsSecondCrc() {
+        assertEquals(0xE3069283L, CrcCombine.combineCrc32C(0, 0xE3069283L, 9));
+    }
+
+    @Test
+    public void combine_negativeLength_throws() {
+        assertThrows(IllegalArgumentException.class, () -> CrcCombine.combineCrc32C(0, 0, -1));
+    }
+
+    private static long crc32(byte[] bytes) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes);
+        return crc32.getValue();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IntrinsicCrc32CTest {
+    private static final byte[] CHECK_INPUT = "123456789".getBytes(StandardCharsets.UTF_8);
+    private static final long CHECK_VALUE = 0xE3069283L;
+
+    @BeforeEach
+    public void requiresJava9() {
+        assumeTrue(IntrinsicCrc32C.isAvailable());
+    }
+
+    @Test
+    public void getValue_matchesCheckValue() {
+        IntrinsicCrc32C crc = IntrinsicCrc32C.create();
+        crc.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+        assertEquals(CHECK_VALUE, crc.getValue());
+    }
+
+    @Test
+    public void updateByteBuffer_matchesCheckValue() {
+        ByteBuffer direct = ByteBuffer.allocateDirect(CHECK_INPUT.length);
+        direct.put(CHECK_INPUT).flip();
+        IntrinsicCrc32C crc = IntrinsicCrc32C.create();
+        crc.update(ByteBuffer.wrap(CHECK_INPUT, 0, 4));
+        direct.position(4);
+        crc.update(direct);
+
+        assertEquals(CHECK_VALUE, crc.getValue());
+        assertEquals(direct.limit(), direct.position());
+    }
+
+    @Test
+    public void updateByteBuffer_afterClone_combinesWithClonedState() {
+        IntrinsicCrc32C crc = IntrinsicCrc32C.create();
+        crc.update(CHECK_INPUT, 0, 4);
+        IntrinsicCrc32C clone = crc.clone();
+
+        clone.update(ByteBuffer.wrap(CHECK_INPUT, 4, 5));
+
+        assertEquals(CHECK_VALUE, clone.getValue());
+    }
+
+    @Test
+    public void clone_continuesFromClonedState() {
+        IntrinsicCrc32C crc = IntrinsicCrc32C.create();
+        crc.update(CHECK_INPUT, 0, 4);
+        IntrinsicCrc32C clone = crc.clone();
+
+        crc.update(CHECK_INPUT, 4, 5);
+        clone.update(CHECK_INPUT, 4, 3);
+        clone.update(CHECK_INPUT[7]);
+        clone.update(CHECK_INPUT[8]);
+
+        assertEquals(CHECK_VALUE, crc.getValue());
+        assertEquals(CHECK_VALUE, clone.getValue());
+    }
+
+    @Test
+    public void reset_clearsClonedState() {
+        IntrinsicCrc32C crc = IntrinsicCrc32C.create();
+        crc.update(CHECK_INPUT, 0, 4);
+        IntrinsicCrc32C clone = crc.clone();
+
+        clone.reset();
+        clone.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+
+        assertEquals(CHECK_VALUE, clone.getValue());
+    }
+}
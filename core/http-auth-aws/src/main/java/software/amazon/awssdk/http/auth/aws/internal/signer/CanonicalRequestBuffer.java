@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.DigestAlgorithm;
+
+/**
+ * A buffer that the canonical request is written to as UTF-8 bytes before it is hashed, reused by each thread so that hashing
+ * a canonical request does not allocate the canonical request string or its encoding.
+ */
+@SdkInternalApi
+final class CanonicalRequestBuffer implements Appendable {
+    // 2048 chosen for the same reason as the canonical headers string builder: the minimal DynamoDB get-item request used
+    // ~1100 bytes.
+    private static final int INITIAL_SIZE = 2048;
+
+    /**
+     * Buffers that grew larger than this for a large request are not kept, so that each thread does not hold on to them.
+     */
+    private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<CanonicalRequestBuffer> BUFFERS = ThreadLocal.withInitial(CanonicalRequestBuffer::new);
+
+    private byte[] bytes = new byte[INITIAL_SIZE];
+    private int length;
+
+    private CanonicalRequestBuffer() {
+    }
+
+    /**
+     * Returns the empty buffer of the current thread.
+     */
+    static CanonicalRequestBuffer forCurrentThread() {
+        CanonicalRequestBuffer buffer = BUFFERS.get();
+        buffer.length = 0;
+        return buffer;
+    }
+
+    @Override
+    public CanonicalRequestBuffer append(CharSequence value) {
+        return append(value, 0, value.length());
+    }
+
+    @Override
+    public CanonicalRequestBuffer append(CharSequence value, int start, int end) {
+        ensureCapacity(length + end - start);
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else {
+                i = appendNonAscii(value, i, end);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public CanonicalRequestBuffer append(char c) {
+        if (c < 0x80) {
+            ensureCapacity(length + 1);
+            bytes[length++] = (byte) c;
+            return this;
+        }
+        return append(String.valueOf(c));
+    }
+
+    /**
+     * Returns the SHA-256 hash of the bytes written to the buffer.
+     */
+    byte[] sha256() {
+        MessageDigest digest = DigestAlgorithm.SHA256.getDigest();
+        digest.update(bytes, 0, length);
+        if (bytes.length > MAX_RETAINED_SIZE) {
+            bytes = new byte[INITIAL_SIZE];
+        }
+        length = 0;
+        return digest.digest();
+    }
+
+    /**
+     * Writes the UTF-8 encoding of the non-ASCII character at the given index, the same way as
+     * {@link String#getBytes(java.nio.charset.Charset)} does, and returns the index of the last character that was written.
+     */
+    private int appendNonAscii(CharSequence value, int index, int end) {
+        char c = value.charAt(index);
+        ensureCapacity(length + 4 + end - index);
+        if (c < 0x800) {
+            bytes[length++] = (byte) (0xC0 | (c >> 6));
+            bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            return index;
+        }
+        if (Character.isSurrogate(c)) {
+            if (Character.isHighSurrogate(c) && index + 1 < end && Character.isLowSurrogate(value.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                return index + 1;
+            }
+            // Malformed surrogates are replaced, like the UTF-8 encoder of the JDK does
+            bytes[length++] = '?';
+            return index;
+        }
+        bytes[length++] = (byte) (0xE0 | (c >> 12));
+        bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        bytes[length++] = (byte) (0x80 | (c & 0x3F));
+        return index;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+}
@@ -17,6 +17,8 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -29,6 +31,7 @@ import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
@@ -82,6 +85,29 @@ public final class V4CanonicalRequest {
         return signedHeadersString;
     }
 
+    /**
+     * Get the hex-encoded SHA-256 hash of the canonical request string.
+     * <p>
+     * Unlike hashing {@link #getCanonicalRequestString()}, this writes the canonical request as UTF-8 bytes into a buffer that
+     * is reused by the thread, without building the canonical request string, the canonical headers string or their
+     * encodings.
+     */
+    public String getCanonicalRequestHash() {
+        CanonicalRequestBuffer buffer = CanonicalRequestBuffer.forCurrentThread();
+        buffer.append(request.method().toString()).append(SignerConstant.LINE_SEPARATOR)
+              .append(canonicalUri()).append(SignerConstant.LINE_SEPARATOR)
+              .append(canonicalQueryString()).append(SignerConstant.LINE_SEPARATOR);
+        if (canonicalHeadersString != null) {
+            buffer.append(canonicalHeadersString);
+        } else {
+            appendCanonicalHeaders(buffer, canonicalHeaders());
+        }
+        buffer.append(SignerConstant.LINE_SEPARATOR)
+              .append(getSignedHeadersString()).append(SignerConstant.LINE_SEPARATOR)
+              .append(contentHash);
+        return BinaryUtils.toHex(buffer.sha256());
+    }
+
     /**
      * Get the canonical request string.
      */
@@ -146,7 +172,7 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortIfNeeded(result);
 
         return result;
     }
@@ -164,11 +190,24 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortIfNeeded(result);
 
         return result;
     }
 
+    /**
+     * Headers are sorted case-insensitively, which is the same order as their lower-case names unless a name has non-ASCII
+     * characters, so the list only needs to be sorted in rare cases.
+     */
+    private static void sortIfNeeded(List<Pair<String, List<String>>> canonicalHeaders) {
+        for (int i = 1; i < canonicalHeaders.size(); i++) {
+            if (canonicalHeaders.get(i - 1).left().compareTo(canonicalHeaders.get(i).left()) > 0) {
+                canonicalHeaders.sort(Comparator.comparing(Pair::left));
+                return;
+            }
+        }
+    }
+
     /**
      * Get the string representing the headers that will be signed and their values. The input list is expected to be sorted
      * case-insensitively.
@@ -185,19 +224,27 @@ public final class V4CanonicalRequest {
         // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
         // next-highest power-of-two.
         StringBuilder result = new StringBuilder(2048);
-        canonicalHeaders.forEach(header -> {
-            result.append(header.left());
-            result.append(":");
-            for (String headerValue : header.right()) {
-                addAndTrim(result, headerValue);
-                result.append(",");
-            }
-            result.setLength(result.length() - 1);
-            result.append("\n");
-        });
+        appendCanonicalHeaders(result, canonicalHeaders);
         return result.toString();
     }
 
+    private static void appendCanonicalHeaders(Appendable result, List<Pair<String, List<String>>> canonicalHeaders) {
+        try {
+            for (Pair<String, List<String>> header : canonicalHeaders) {
+                result.append(header.left());
+                List<String> headerValues = header.right();
+                for (int i = 0; i < headerValues.size(); i++) {
+                    result.append(i == 0 ? ':' : ',');
+                    addAndTrim(result, headerValues.get(i));
+                }
+                result.append('\n');
+            }
+        } catch (IOException e) {
+            // Neither StringBuilder nor CanonicalRequestBuffer throw
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Get the string representing which headers are part of the signing process. Header names are separated by a semicolon.
      */
@@ -248,7 +295,7 @@ public final class V4CanonicalRequest {
      * but does not create a Pattern object that needs to compile the match string; it also prevents us from having to make a
      * Matcher object as well.
      */
-    private static void addAndTrim(StringBuilder result, String value) {
+    private static void addAndTrim(Appendable result, String value) throws IOException {
         int valueLength = value.length();
         if (valueLength == 0) {
             return;
@@ -329,6 +376,10 @@ public final class V4CanonicalRequest {
      * Get the sorted map of query parameters that are to be signed.
      */
     private static SortedMap<String, List<String>> getCanonicalQueryParams(SdkHttpRequest request) {
+        if (request.numRawQueryParameters() == 0) {
+            return Collections.emptySortedMap();
+        }
+
         SortedMap<String, List<String>> sorted = new TreeMap<>();
 
         // Signing protocol expects the param values also to be sorted after url
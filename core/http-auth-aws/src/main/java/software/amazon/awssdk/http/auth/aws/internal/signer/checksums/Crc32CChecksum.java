@@ -19,6 +19,7 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.internal.IntrinsicCrc32C;
 import software.amazon.awssdk.crt.checksums.CRC32C;
 import software.amazon.awssdk.utils.ClassLoaderHelper;
 
@@ -35,10 +36,13 @@ public class Crc32CChecksum implements SdkChecksum {
     private Checksum lastMarkedCrc32C;
 
     /**
-     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
+     * Creates a Crc32C checksum backed by the JDK intrinsic if running on Java 9 or later, else creates CRT Based Crc32C
+     * checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
      */
     public Crc32CChecksum() {
-        if (IS_CRT_AVAILABLE.get()) {
+        if (IntrinsicCrc32C.isAvailable()) {
+            crc32c = IntrinsicCrc32C.create();
+        } else if (IS_CRT_AVAILABLE.get()) {
             crc32c = new CRC32C();
         } else {
             crc32c = SdkCrc32CChecksum.create();
@@ -81,6 +85,15 @@ public class Crc32CChecksum implements SdkChecksum {
         crc32c.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        if (crc32c instanceof IntrinsicCrc32C) {
+            ((IntrinsicCrc32C) crc32c).update(buffer);
+        } else {
+            SdkChecksum.super.update(buffer);
+        }
+    }
+
     @Override
     public long getValue() {
         return crc32c.getValue();
@@ -96,6 +109,10 @@ public class Crc32CChecksum implements SdkChecksum {
     }
 
     private Checksum cloneChecksum(Checksum checksum) {
+        if (checksum instanceof IntrinsicCrc32C) {
+            return ((IntrinsicCrc32C) checksum).clone();
+        }
+
         if (checksum instanceof CRC32C) {
             return (Checksum) ((CRC32C) checksum).clone();
         }
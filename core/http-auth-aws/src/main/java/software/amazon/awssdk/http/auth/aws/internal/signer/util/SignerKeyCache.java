@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded cache of derived signing keys, read on every request that is signed.
+ * <p>
+ * Unlike {@link FifoCache}, reads do not take a lock, so concurrent signers do not contend on the cache. When the cache is full,
+ * an arbitrary entry is evicted to make room for a new one. Signing keys only change when the credentials, region, service or
+ * date change, so the cache is rarely written to.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SignerKeyCache {
+    private final ConcurrentHashMap<String, SignerKey> map = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * @param maxSize the maximum number of entries of the cache
+     */
+    public SignerKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds an entry to the cache, evicting an arbitrary entry if necessary.
+     */
+    public void add(String key, SignerKey value) {
+        if (!map.containsKey(key)) {
+            Iterator<String> keys = map.keySet().iterator();
+            while (map.size() >= maxSize && keys.hasNext()) {
+                map.remove(keys.next());
+            }
+        }
+        map.put(key, value);
+    }
+
+    /**
+     * Returns the value of the given key; or null of no such entry exists.
+     */
+    public SignerKey get(String key) {
+        return map.get(key);
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return map.size();
+    }
+}
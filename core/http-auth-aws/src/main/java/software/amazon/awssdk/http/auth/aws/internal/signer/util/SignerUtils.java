@@ -28,7 +28,6 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.Header;
@@ -47,8 +46,8 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
+    private static final SignerKeyCache SIGNER_CACHE =
+        new SignerKeyCache(300);
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
@@ -144,8 +143,7 @@ public final class SignerUtils {
      */
     public static byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) {
         try {
-            Mac mac = algorithm.getMac();
-            mac.init(new SecretKeySpec(key, algorithm.toString()));
+            Mac mac = algorithm.getMac(key);
             return mac.doFinal(data);
         } catch (Exception e) {
             throw new RuntimeException("Unable to calculate a request signature: ", e);
@@ -15,8 +15,11 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer.util;
 
+import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 @SdkInternalApi
@@ -25,7 +28,7 @@ public enum SigningAlgorithm {
     HMAC_SHA256("HmacSHA256");
 
     private final String algorithmName;
-    private final ThreadLocal<Mac> macReference;
+    private final ThreadLocal<KeyedMac> macReference;
 
     SigningAlgorithm(String algorithmName) {
         this.algorithmName = algorithmName;
@@ -40,10 +43,39 @@ public enum SigningAlgorithm {
      * Returns the thread local reference for the crypto algorithm
      */
     public Mac getMac() {
-        return macReference.get();
+        KeyedMac keyedMac = macReference.get();
+        // The caller initializes the Mac with a key of its own
+        keyedMac.key = null;
+        return keyedMac.mac;
     }
 
-    private static class MacThreadLocal extends ThreadLocal<Mac> {
+    /**
+     * Returns the thread local reference for the crypto algorithm, initialized with the given key. The Mac is only
+     * re-initialized when the key differs from the one it was last initialized with by this method, which saves deriving the
+     * HMAC pads when the same thread signs many requests with the same signing key.
+     */
+    public Mac getMac(byte[] key) throws InvalidKeyException {
+        KeyedMac keyedMac = macReference.get();
+        if (keyedMac.key != null && Arrays.equals(keyedMac.key, key)) {
+            keyedMac.mac.reset();
+            return keyedMac.mac;
+        }
+        keyedMac.key = null;
+        keyedMac.mac.init(new SecretKeySpec(key, algorithmName));
+        keyedMac.key = key.clone();
+        return keyedMac.mac;
+    }
+
+    private static final class KeyedMac {
+        private final Mac mac;
+        private byte[] key;
+
+        private KeyedMac(Mac mac) {
+            this.mac = mac;
+        }
+    }
+
+    private static class MacThreadLocal extends ThreadLocal<KeyedMac> {
         private final String algorithmName;
 
         MacThreadLocal(String algorithmName) {
@@ -51,9 +83,9 @@ public enum SigningAlgorithm {
         }
 
         @Override
-        protected Mac initialValue() {
+        protected KeyedMac initialValue() {
             try {
-                return Mac.getInstance(algorithmName);
+                return new KeyedMac(Mac.getInstance(algorithmName));
             } catch (NoSuchAlgorithmException e) {
                 throw new RuntimeException("Unable to fetch Mac instance for Algorithm "
                                            + algorithmName + ": " + e.getMessage());
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.hashCanonicalRequest;
 
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
@@ -76,6 +77,34 @@ public class V4CanonicalRequestTest {
         assertEquals(tc.expectedPath, canonicalPath);
     }
 
+    @ParameterizedTest
+    @MethodSource("data")
+    public void verifyCanonicalRequestHash(TestCase tc) {
+        assertEquals(hashCanonicalRequest(tc.canonicalRequest.getCanonicalRequestString()),
+                     tc.canonicalRequest.getCanonicalRequestHash());
+    }
+
+    @Test
+    public void canonicalRequestHash_withNonAsciiAndMultiValueHeaders_shouldMatchHashOfCanonicalRequestString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .encodedPath("/caf%C3%A9")
+                                               .method(SdkHttpMethod.PUT)
+                                               .appendHeader("foo", "bar")
+                                               .appendHeader("foo", "baz")
+                                               .putHeader("X-Amz-Meta-Name", "caf\u00e9 \u20ac \ud83d\ude00 \ud83d")
+                                               .putHeader("empty", "")
+                                               .putRawQueryParameter("b", "2")
+                                               .putRawQueryParameter("a", "\u00fc")
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256",
+                                                       new V4CanonicalRequest.Options(true,
+                                                                                      true));
+
+        assertEquals(hashCanonicalRequest(cr.getCanonicalRequestString()), cr.getCanonicalRequestHash());
+    }
+
     @Test
     public void canonicalRequest_WithForbiddenHeaders_shouldExcludeForbidden() {
         SdkHttpRequest request = SdkHttpRequest.builder()
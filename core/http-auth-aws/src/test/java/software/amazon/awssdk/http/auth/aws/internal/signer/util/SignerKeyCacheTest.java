@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+public class SignerKeyCacheTest {
+
+    @Test
+    public void test() {
+        SignerKeyCache cache = new SignerKeyCache(3);
+        SignerKey k1 = signerKey(1);
+        SignerKey k11 = signerKey(11);
+        assertEquals(0, cache.size());
+        cache.add("k1", k1);
+        assertEquals(1, cache.size());
+        cache.add("k1", k11);
+        assertEquals(1, cache.size());
+        assertSame(k11, cache.get("k1"));
+        cache.add("k2", signerKey(2));
+        cache.add("k3", signerKey(3));
+        assertEquals(3, cache.size());
+        cache.add("k4", signerKey(4));
+        assertEquals(3, cache.size());
+        assertNotNull(cache.get("k4"));
+        assertNull(cache.get("k5"));
+    }
+
+    @Test
+    public void testZeroSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SignerKeyCache(0));
+    }
+
+    @Test
+    public void testSingleEntry() {
+        SignerKeyCache cache = new SignerKeyCache(1);
+        SignerKey k2 = signerKey(2);
+        cache.add("k1", signerKey(1));
+        cache.add("k2", k2);
+        assertEquals(1, cache.size());
+        assertSame(k2, cache.get("k2"));
+        assertNull(cache.get("k1"));
+    }
+
+    private static SignerKey signerKey(int value) {
+        return new SignerKey(Instant.EPOCH, new byte[] {(byte) value});
+    }
+}
@@ -28,6 +28,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -78,9 +79,16 @@ public abstract class BaseAwsJsonProtocolFactory {
                                   .jsonFactory(getSdkFactory().getJsonFactory())
                                   .build())
             .defaultTimestampFormats(getDefaultTimestampFormats())
+            .jsonFactory(getSdkFactory().getJsonFactory())
+            .enableStreamingUnmarshalling(streamingUnmarshallingEnabled(clientConfiguration))
             .build();
     }
 
+    private static boolean streamingUnmarshallingEnabled(SdkClientConfiguration clientConfiguration) {
+        return clientConfiguration != null &&
+               Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.ENABLE_STREAMING_UNMARSHALLING));
+    }
+
     /**
      * Creates a new response handler with the given {@link JsonOperationMetadata} and a supplier of the POJO response
      * type.
@@ -45,6 +45,8 @@ import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.document.DocumentUnmarshaller;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 /**
@@ -61,12 +63,18 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonNodeParser parser;
 
+    private final JsonStreamingUnmarshaller streamingUnmarshaller;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.streamingUnmarshaller = builder.enableStreamingUnmarshalling ?
+                                     new JsonStreamingUnmarshaller(Validate.paramNotNull(builder.jsonFactory, "jsonFactory"),
+                                                                   instantStringToValue) :
+                                     null;
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -187,7 +195,12 @@ public final class JsonProtocolUnmarshaller {
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
-        JsonNode jsonNode = hasJsonPayload(sdkPojo, response) ? parser.parse(response.content().get()) : null;
+        boolean hasJsonPayload = hasJsonPayload(sdkPojo, response);
+        if (hasJsonPayload && streamingUnmarshaller != null) {
+            return streamingUnmarshaller.unmarshall(sdkPojo, response.content().get(), createContext(response));
+        }
+
+        JsonNode jsonNode = hasJsonPayload ? parser.parse(response.content().get()) : null;
         return unmarshall(sdkPojo, response, jsonNode);
     }
 
@@ -218,11 +231,14 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response,
                             JsonNode jsonContent) {
-        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
-                                                                 .unmarshallerRegistry(registry)
-                                                                 .response(response)
-                                                                 .build();
-        return unmarshallStructured(sdkPojo, jsonContent, context);
+        return unmarshallStructured(sdkPojo, jsonContent, createContext(response));
+    }
+
+    private JsonUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return JsonUnmarshallerContext.builder()
+                                      .unmarshallerRegistry(registry)
+                                      .response(response)
+                                      .build();
     }
 
     @SuppressWarnings("unchecked")
@@ -278,6 +294,8 @@ public final class JsonProtocolUnmarshaller {
 
         private JsonNodeParser parser;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
+        private JsonFactory jsonFactory;
+        private boolean enableStreamingUnmarshalling;
 
         private Builder() {
         }
@@ -300,6 +318,27 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param jsonFactory The factory used to create parsers when streaming unmarshalling is enabled.
+         * @return This builder for method chaining.
+         */
+        public Builder jsonFactory(JsonFactory jsonFactory) {
+            this.jsonFactory = jsonFactory;
+            return this;
+        }
+
+        /**
+         * Whether successful responses should be unmarshalled by streaming parser tokens directly into the POJO builders,
+         * instead of first parsing the payload into a {@link JsonNode} tree. Requires a {@link #jsonFactory(JsonFactory)}.
+         *
+         * @param enableStreamingUnmarshalling True to enable streaming unmarshalling.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link JsonProtocolUnmarshaller}.
          */
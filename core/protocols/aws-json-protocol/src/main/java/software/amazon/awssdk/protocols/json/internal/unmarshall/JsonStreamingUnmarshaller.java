@@ -0,0 +1,272 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls the payload members of a JSON (or CBOR) response by reading tokens straight from the {@link JsonParser} into the
+ * POJO builders, instead of first building a complete {@link software.amazon.awssdk.protocols.jsoncore.JsonNode} tree. This
+ * produces the same results as the tree-based unmarshalling in {@link JsonProtocolUnmarshaller}, without allocating the
+ * intermediate tree. Members outside the payload (headers, status code) are still unmarshalled through the
+ * {@link JsonUnmarshallerContext}.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class JsonStreamingUnmarshaller {
+
+    /**
+     * The payload fields of a POJO class, indexed by location name. They refer to the POJO class, so they are cached with a
+     * {@link ClassValue}, which is stored with the class itself and so does not keep the class or its class loader reachable.
+     * The fields are only known from an instance, so the holder is filled in by the first instance that is unmarshalled.
+     */
+    private static final ClassValue<AtomicReference<Map<String, SdkField<?>>>> PAYLOAD_FIELDS_BY_POJO_CLASS =
+        new ClassValue<AtomicReference<Map<String, SdkField<?>>>>() {
+            @Override
+            protected AtomicReference<Map<String, SdkField<?>>> computeValue(Class<?> pojoClass) {
+                return new AtomicReference<>();
+            }
+        };
+
+    private final JsonFactory jsonFactory;
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+
+    JsonStreamingUnmarshaller(JsonFactory jsonFactory, StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        this.jsonFactory = jsonFactory;
+        this.simpleTypeConverters = new HashMap<>();
+        this.simpleTypeConverters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        this.simpleTypeConverters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        this.simpleTypeConverters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        this.simpleTypeConverters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        this.simpleTypeConverters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        this.simpleTypeConverters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        this.simpleTypeConverters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        this.simpleTypeConverters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        this.simpleTypeConverters.put(MarshallingType.INSTANT, instantStringToValue);
+    }
+
+    /**
+     * Unmarshall the given JSON response content into the given POJO. An empty content, or a JSON {@code null}, is treated like
+     * an empty payload, as it is by the tree-based unmarshalling.
+     */
+    @SuppressWarnings("unchecked")
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, InputStream content, JsonUnmarshallerContext context)
+        throws IOException {
+        unmarshallNonPayloadMembers(sdkPojo, context);
+
+        try (JsonParser parser = jsonFactory.createParser(content)
+                                            .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+            JsonToken token = parser.nextToken();
+            if (token != null && token != JsonToken.VALUE_NULL) {
+                unmarshallPayload(sdkPojo, parser, token);
+            }
+        }
+
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void unmarshallNonPayloadMembers(SdkPojo sdkPojo, JsonUnmarshallerContext context) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (!isPayloadMember(field)) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+    }
+
+    private void unmarshallPayload(SdkPojo sdkPojo, JsonParser parser, JsonToken token) throws IOException {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (isExplicitJsonPayloadMember(field)) {
+                // The whole body is the value of this member
+                field.set(sdkPojo, readValue(field, parser, token));
+                return;
+            }
+        }
+
+        readStructure(sdkPojo, parser, token);
+    }
+
+    private void readStructure(SdkPojo sdkPojo, JsonParser parser, JsonToken token) throws IOException {
+        expect(JsonToken.START_OBJECT, token, parser);
+        Map<String, SdkField<?>> payloadFields = payloadFields(sdkPojo);
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            SdkField<?> field = payloadFields.get(fieldName);
+            if (field == null) {
+                parser.skipChildren();
+            } else {
+                field.set(sdkPojo, readValue(field, parser, valueToken));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(SdkField<?> field, JsonParser parser, JsonToken token) throws IOException {
+        MarshallingType<?> type = field.marshallingType();
+
+        if (type == MarshallingType.DOCUMENT) {
+            return readDocument(parser, token);
+        }
+
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        StringToValueConverter.StringToValue<?> converter = simpleTypeConverters.get(type);
+        if (converter != null) {
+            return ((StringToValueConverter.StringToValue<Object>) converter).convert(parser.getText(), (SdkField<Object>) field);
+        }
+
+        if (type == MarshallingType.SDK_BYTES) {
+            // Binary protocols like CBOR may already have the raw bytes extracted.
+            if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
+            }
+            return TO_SDK_BYTES.convert(parser.getText(), (SdkField<SdkBytes>) field);
+        }
+
+        if (type == MarshallingType.SDK_POJO) {
+            SdkPojo pojo = field.constructor().get();
+            readStructure(pojo, parser, token);
+            return ((Buildable) pojo).build();
+        }
+
+        if (type == MarshallingType.LIST) {
+            return readList(field, parser, token);
+        }
+
+        if (type == MarshallingType.MAP) {
+            return readMap(field, parser, token);
+        }
+
+        throw new IllegalStateException("Unsupported marshalling type for field " + field.memberName() + ": " + type);
+    }
+
+    private List<Object> readList(SdkField<?> field, JsonParser parser, JsonToken token) throws IOException {
+        expect(JsonToken.START_ARRAY, token, parser);
+        SdkField<Object> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        JsonToken itemToken;
+        while ((itemToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+            list.add(readValue(memberInfo, parser, itemToken));
+        }
+        return list;
+    }
+
+    private Map<String, Object> readMap(SdkField<?> field, JsonParser parser, JsonToken token) throws IOException {
+        expect(JsonToken.START_OBJECT, token, parser);
+        SdkField<Object> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String key = parser.getCurrentName();
+            map.put(key, readValue(valueInfo, parser, parser.nextToken()));
+        }
+        return map;
+    }
+
+    private static Document readDocument(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return Document.fromNull();
+            case VALUE_TRUE:
+                return Document.fromBoolean(true);
+            case VALUE_FALSE:
+                return Document.fromBoolean(false);
+            case VALUE_STRING:
+                return Document.fromString(parser.getText());
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return Document.fromNumber(parser.getText());
+            case START_ARRAY:
+                List<Document> list = new ArrayList<>();
+                JsonToken itemToken;
+                while ((itemToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    list.add(readDocument(parser, itemToken));
+                }
+                return Document.fromList(list);
+            case START_OBJECT:
+                Map<String, Document> map = new LinkedHashMap<>();
+                while (parser.nextToken() != JsonToken.END_OBJECT) {
+                    String key = parser.getCurrentName();
+                    map.put(key, readDocument(parser, parser.nextToken()));
+                }
+                return Document.fromMap(map);
+            case VALUE_EMBEDDED_OBJECT:
+                throw new UnsupportedOperationException("Embedded objects are not supported within Document types.");
+            default:
+                throw new IllegalArgumentException("Unexpected JSON token - " + token);
+        }
+    }
+
+    private static Map<String, SdkField<?>> payloadFields(SdkPojo sdkPojo) {
+        AtomicReference<Map<String, SdkField<?>>> cached = PAYLOAD_FIELDS_BY_POJO_CLASS.get(sdkPojo.getClass());
+        Map<String, SdkField<?>> fields = cached.get();
+        if (fields == null) {
+            fields = new HashMap<>();
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (isPayloadMember(field)) {
+                    fields.put(field.locationName(), field);
+                }
+            }
+            // Racing threads compute equal maps, so the last one set wins
+            cached.set(fields);
+        }
+        return fields;
+    }
+
+    private static void expect(JsonToken expected, JsonToken actual, JsonParser parser) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at " + parser.getCurrentLocation());
+        }
+    }
+
+    private static boolean isPayloadMember(SdkField<?> field) {
+        return field.location() == MarshallLocation.PAYLOAD || MarshallerUtil.isInUri(field.location());
+    }
+
+    private static boolean isExplicitJsonPayloadMember(SdkField<?> field) {
+        return field.containsTrait(PayloadTrait.class) && field.marshallingType() != MarshallingType.DOCUMENT;
+    }
+}
@@ -19,13 +19,17 @@ import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -34,6 +38,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -65,10 +70,31 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = XmlStreamingUnmarshaller
+        .builder()
+        .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+        .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+        .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+        .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+        .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+        .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+        .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+        .simpleTypeConverter(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()))
+        .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+        // There have been cases in EC2 where the member name is not modeled correctly so we just grab all
+        // direct children instead and don't care about member name. See ListQueryUnmarshaller.
+        .matchListMembersByName(false)
+        .build();
+
+    private static final String RESPONSE_METADATA = "ResponseMetadata";
+    private static final String REQUEST_ID = "requestId";
+
     private final boolean hasResultWrapper;
+    private final boolean enableStreamingUnmarshalling;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.enableStreamingUnmarshalling = builder.enableStreamingUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -82,11 +108,78 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (enableStreamingUnmarshalling) {
+            return unmarshallStreaming(sdkPojo, response);
+        }
+
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
 
+    /**
+     * Unmarshalls the response by streaming it into the POJO builders with {@link XmlStreamingUnmarshaller}, instead of
+     * first parsing it into an {@link XmlElement} tree.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallStreaming(SdkPojo sdkPojo,
+                                                                                         SdkHttpFullResponse response) {
+        Map<String, String> metadata = new HashMap<>();
+        InputStream content = response.content().orElse(null);
+        if (content != null) {
+            try {
+                XMLStreamReader reader = XmlStreamingUnmarshaller.createReader(content);
+                if (reader != null) {
+                    try {
+                        unmarshallDocument(reader, sdkPojo, metadata);
+                    } finally {
+                        reader.close();
+                    }
+                }
+            } catch (XMLStreamException e) {
+                throw SdkClientException.create("Could not parse XML response.", e);
+            }
+        }
+        return Pair.of((TypeT) ((Buildable) sdkPojo).build(), metadata);
+    }
+
+    private void unmarshallDocument(XMLStreamReader reader, SdkPojo sdkPojo, Map<String, String> metadata)
+        throws XMLStreamException {
+        if (!hasResultWrapper) {
+            STREAMING_UNMARSHALLER.unmarshallMembers(reader, sdkPojo, r -> readMetadata(r, metadata));
+            return;
+        }
+
+        boolean resultRead = false;
+        while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+            if (readMetadata(reader, metadata)) {
+                continue;
+            }
+            if (resultRead) {
+                XmlStreamingUnmarshaller.skipElement(reader);
+            } else {
+                STREAMING_UNMARSHALLER.unmarshallMembers(reader, sdkPojo);
+                resultRead = true;
+            }
+        }
+    }
+
+    private boolean readMetadata(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String name = reader.getLocalName();
+        if (RESPONSE_METADATA.equals(name)) {
+            while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+                String key = reader.getLocalName().equals("RequestId") ? AWS_REQUEST_ID : reader.getLocalName();
+                metadata.put(key, XmlStreamingUnmarshaller.readText(reader));
+            }
+            return true;
+        }
+        if (REQUEST_ID.equals(name)) {
+            metadata.put(AWS_REQUEST_ID, XmlStreamingUnmarshaller.readText(reader));
+            return true;
+        }
+        return false;
+    }
+
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(field -> field.marshallingType() == MarshallingType.SDK_BYTES &&
@@ -109,12 +202,12 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     }
 
     private Map<String, String> parseMetadata(XmlElement document) {
-        XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
+        XmlElement responseMetadata = document.getElementByName(RESPONSE_METADATA);
         Map<String, String> metadata = new HashMap<>();
         if (responseMetadata != null) {
             responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
         }
-        XmlElement requestId = document.getElementByName("requestId");
+        XmlElement requestId = document.getElementByName(REQUEST_ID);
         if (requestId != null) {
             metadata.put(AWS_REQUEST_ID, requestId.textContent());
         }
@@ -158,6 +251,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableStreamingUnmarshalling;
 
         private Builder() {
         }
@@ -207,6 +301,16 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * @param enableStreamingUnmarshalling True if successful responses should be unmarshalled by streaming the XML
+         * straight into the POJO builders, instead of first parsing it into an {@link XmlElement} tree.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
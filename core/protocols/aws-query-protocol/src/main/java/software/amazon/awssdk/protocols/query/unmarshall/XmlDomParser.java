@@ -22,7 +22,9 @@ import java.util.Iterator;
 import java.util.Map;
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.Attribute;
 import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
@@ -60,6 +62,44 @@ public final class XmlDomParser {
         }
     }
 
+    /**
+     * Parse the element the given stream reader is positioned at, and any nested elements, into an {@link XmlElement}. On
+     * return, the reader is positioned at the end element of the parsed element.
+     *
+     * @param reader Reader positioned at a start element.
+     * @return Parsed {@link XmlElement}.
+     */
+    public static XmlElement parse(XMLStreamReader reader) throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder().elementName(reader.getLocalName());
+
+        if (reader.getAttributeCount() > 0) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                attributes.put(XmlStreamingUnmarshaller.attributeKey(reader, i), reader.getAttributeValue(i));
+            }
+            elementBuilder.attributes(attributes);
+        }
+
+        StringBuilder text = null;
+        int event;
+        do {
+            event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                elementBuilder.addChildElement(parse(reader));
+            }
+
+            if (XmlStreamingUnmarshaller.isText(event)) {
+                text = text == null ? new StringBuilder() : text;
+                text.append(reader.getText());
+            } else if (text != null) {
+                // Mirror the event based parser, where the last run of character data wins
+                elementBuilder.textContent(text.toString());
+                text = null;
+            }
+        } while (event != XMLStreamConstants.END_ELEMENT);
+        return elementBuilder.build();
+    }
+
     /**
      * Parse an XML elemnt and any nested elements by recursively calling this method.
      *
@@ -122,6 +162,13 @@ public final class XmlDomParser {
         }
     }
 
+    /**
+     * @return The secured {@link XMLInputFactory} of the current thread.
+     */
+    static XMLInputFactory xmlInputFactory() {
+        return FACTORY.get();
+    }
+
     /**
      * Disables certain dangerous features that attempt to automatically fetch DTDs
      *
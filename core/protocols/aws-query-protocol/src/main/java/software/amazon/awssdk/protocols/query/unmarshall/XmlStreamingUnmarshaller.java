@@ -0,0 +1,473 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls the payload members of an XML response by reading {@link XMLStreamReader} events straight into the POJO
+ * builders, instead of first parsing the whole document into an {@link XmlElement} tree with {@link XmlDomParser}. This
+ * produces the same results as the tree-based unmarshallers of the AWS/Query, EC2 and REST/XML protocols without allocating
+ * the intermediate tree.
+ *
+ * <p>Members outside the payload (headers, status code) and the protocol specific document structure (result wrappers,
+ * response metadata) are left to the calling protocol unmarshaller.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class XmlStreamingUnmarshaller {
+
+    private static final String MAP_ENTRY_ELEMENT_NAME = "entry";
+
+    /**
+     * The payload members of a POJO class refer to the class, so they are cached with a {@link ClassValue}, which is stored
+     * with the class itself and so does not keep the class or its class loader reachable. The members are only known from an
+     * instance, so the holder is filled in by the first instance that is unmarshalled.
+     */
+    private static final ClassValue<AtomicReference<PayloadMembers>> PAYLOAD_MEMBERS_BY_POJO_CLASS =
+        new ClassValue<AtomicReference<PayloadMembers>>() {
+            @Override
+            protected AtomicReference<PayloadMembers> computeValue(Class<?> pojoClass) {
+                return new AtomicReference<>();
+            }
+        };
+
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+    private final boolean matchListMembersByName;
+
+    private XmlStreamingUnmarshaller(Builder builder) {
+        this.simpleTypeConverters = new HashMap<>(builder.simpleTypeConverters);
+        this.matchListMembersByName = builder.matchListMembersByName;
+    }
+
+    /**
+     * Creates a reader for the given XML content, using the same secured factory as {@link XmlDomParser}, and advances it
+     * to the start element of the document root.
+     *
+     * @param content XML content to read.
+     * @return Reader positioned at the document root, or null if the content is empty.
+     */
+    public static XMLStreamReader createReader(InputStream content) throws XMLStreamException {
+        LookaheadInputStream stream = new LookaheadInputStream(content);
+        try {
+            if (stream.peek() == -1) {
+                return null;
+            }
+        } catch (IOException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+
+        XMLStreamReader reader = XmlDomParser.xmlInputFactory().createXMLStreamReader(stream);
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return reader;
+            }
+        }
+        reader.close();
+        return null;
+    }
+
+    /**
+     * Unmarshall the attributes and child elements of the element the reader is positioned at into the payload members of
+     * the given POJO builder. The builder is not built. On return, the reader is positioned at the end element.
+     *
+     * @param reader Reader positioned at the start element of the structure.
+     * @param sdkPojo POJO builder to populate.
+     */
+    public void unmarshallMembers(XMLStreamReader reader, SdkPojo sdkPojo) throws XMLStreamException {
+        unmarshallMembers(reader, sdkPojo, null);
+    }
+
+    /**
+     * Same as {@link #unmarshallMembers(XMLStreamReader, SdkPojo)}, but child elements that do not map to a member of the
+     * POJO are offered to the given handler instead of being skipped.
+     *
+     * @param reader Reader positioned at the start element of the structure.
+     * @param sdkPojo POJO builder to populate.
+     * @param unknownElementHandler Handler for child elements without a matching member. May be null.
+     */
+    public void unmarshallMembers(XMLStreamReader reader,
+                                  SdkPojo sdkPojo,
+                                  UnknownElementHandler unknownElementHandler) throws XMLStreamException {
+        PayloadMembers members = payloadMembers(sdkPojo);
+        if (!members.attributes.isEmpty()) {
+            readAttributes(reader, sdkPojo, members.attributes);
+        }
+
+        // The tree-based unmarshallers only look at the first element of a non-flattened member, and collect every element
+        // of a flattened member, wherever it appears in the structure.
+        boolean[] seen = null;
+        Object[] flattenedValues = null;
+
+        while (nextChildElement(reader)) {
+            Member member = members.elements.get(reader.getLocalName());
+            if (member == null) {
+                if (unknownElementHandler == null || !unknownElementHandler.handle(reader)) {
+                    skipElement(reader);
+                }
+            } else if (member.flattened) {
+                flattenedValues = flattenedValues == null ? new Object[members.count] : flattenedValues;
+                flattenedValues[member.index] = readFlattenedValue(reader, member.field, flattenedValues[member.index]);
+            } else {
+                seen = seen == null ? new boolean[members.count] : seen;
+                if (seen[member.index]) {
+                    skipElement(reader);
+                } else {
+                    seen[member.index] = true;
+                    member.field.set(sdkPojo, unmarshallValue(reader, member.field));
+                }
+            }
+        }
+
+        if (flattenedValues != null) {
+            for (Member member : members.elements.values()) {
+                if (flattenedValues[member.index] != null) {
+                    member.field.set(sdkPojo, flattenedValues[member.index]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unmarshall the element the reader is positioned at as the value of the given field. On return, the reader is
+     * positioned at the end element.
+     *
+     * @param reader Reader positioned at the start element of the value.
+     * @param field Field describing the value.
+     * @return Unmarshalled value.
+     */
+    public Object unmarshallValue(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+
+        if (type == MarshallingType.SDK_POJO) {
+            SdkPojo sdkPojo = field.constructor().get();
+            unmarshallMembers(reader, sdkPojo);
+            return ((Buildable) sdkPojo).build();
+        }
+        if (type == MarshallingType.LIST) {
+            return readList(reader, field.getTrait(ListTrait.class));
+        }
+        if (type == MarshallingType.MAP) {
+            return readMap(reader, field.getTrait(MapTrait.class));
+        }
+        if (type == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+
+        StringToValueConverter.StringToValue<?> converter = simpleTypeConverters.get(type);
+        if (converter == null) {
+            throw SdkClientException.create("Unable to unmarshall XML member " + field.memberName() + " of type " + type);
+        }
+        return convert(converter, readText(reader), field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object convert(StringToValueConverter.StringToValue<?> converter, String text, SdkField<?> field) {
+        return ((StringToValueConverter.StringToValue<Object>) converter).convert(text, (SdkField<Object>) field);
+    }
+
+    private List<Object> readList(XMLStreamReader reader, ListTrait listTrait) throws XMLStreamException {
+        SdkField<?> memberField = listTrait.memberFieldInfo();
+        String memberName = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                   : memberField.locationName();
+        List<Object> list = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if (!matchListMembersByName || reader.getLocalName().equals(memberName)) {
+                list.add(unmarshallValue(reader, memberField));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return list;
+    }
+
+    private Map<String, Object> readMap(XMLStreamReader reader, MapTrait mapTrait) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        while (nextChildElement(reader)) {
+            if (MAP_ENTRY_ELEMENT_NAME.equals(reader.getLocalName())) {
+                readMapEntry(reader, mapTrait, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void readMapEntry(XMLStreamReader reader, MapTrait mapTrait, Map<String, Object> map) throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        boolean keySeen = false;
+        boolean valueSeen = false;
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (!keySeen && name.equals(mapTrait.keyLocationName())) {
+                keySeen = true;
+                key = readText(reader);
+            } else if (!valueSeen && name.equals(mapTrait.valueLocationName())) {
+                valueSeen = true;
+                value = unmarshallValue(reader, mapTrait.valueFieldInfo());
+            } else {
+                skipElement(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readFlattenedValue(XMLStreamReader reader, SdkField<?> field, Object collected) throws XMLStreamException {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            List<Object> list = collected == null ? new ArrayList<>() : (List<Object>) collected;
+            list.add(unmarshallValue(reader, field.getTrait(ListTrait.class).memberFieldInfo()));
+            return list;
+        }
+
+        Map<String, Object> map = collected == null ? new HashMap<>() : (Map<String, Object>) collected;
+        readMapEntry(reader, field.getTrait(MapTrait.class), map);
+        return map;
+    }
+
+    private static PayloadMembers payloadMembers(SdkPojo sdkPojo) {
+        AtomicReference<PayloadMembers> cached = PAYLOAD_MEMBERS_BY_POJO_CLASS.get(sdkPojo.getClass());
+        PayloadMembers members = cached.get();
+        if (members == null) {
+            // Racing threads compute equal members, so the last one set wins
+            members = new PayloadMembers(sdkPojo.sdkFields());
+            cached.set(members);
+        }
+        return members;
+    }
+
+    private static void readAttributes(XMLStreamReader reader, SdkPojo sdkPojo, List<SdkField<?>> attributeFields) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String key = attributeKey(reader, i);
+            for (SdkField<?> field : attributeFields) {
+                if (key.equals(field.unmarshallLocationName())) {
+                    field.set(sdkPojo, reader.getAttributeValue(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The key of an attribute, in the {@code prefix:localName} form used by {@link XmlElement}.
+     */
+    static String attributeKey(XMLStreamReader reader, int index) {
+        String prefix = reader.getAttributePrefix(index);
+        return (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(index);
+    }
+
+    static boolean isText(int event) {
+        return event == XMLStreamConstants.CHARACTERS ||
+               event == XMLStreamConstants.CDATA ||
+               event == XMLStreamConstants.SPACE;
+    }
+
+    /**
+     * Advances the reader to the next child element of the current element.
+     *
+     * @param reader Reader positioned at a start element, or at the end element of a previous child.
+     * @return True if the reader is now positioned at the start element of a child, false if it is positioned at the end
+     * element of the current element.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads all character data of the current element, ignoring any nested elements. On return, the reader is positioned
+     * at the end element.
+     *
+     * @param reader Reader positioned at a start element.
+     * @return Text content of the element, or an empty string if it has none.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        StringBuilder sb = null;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (isText(event)) {
+                if (text.isEmpty()) {
+                    text = reader.getText();
+                } else {
+                    sb = sb == null ? new StringBuilder(text) : sb;
+                    sb.append(reader.getText());
+                }
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                skipElement(reader);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+        return sb == null ? text : sb.toString();
+    }
+
+    /**
+     * Skips the current element and all of its content. On return, the reader is positioned at the end element.
+     *
+     * @param reader Reader positioned at a start element.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Handles child elements that do not map to a member of the structure being unmarshalled.
+     */
+    @FunctionalInterface
+    public interface UnknownElementHandler {
+
+        /**
+         * @param reader Reader positioned at the start element of the unknown child.
+         * @return True if the element was consumed, leaving the reader at its end element. False to have it skipped.
+         */
+        boolean handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * Builder for {@link XmlStreamingUnmarshaller}.
+     */
+    public static final class Builder {
+
+        private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters = new HashMap<>();
+        private boolean matchListMembersByName;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the converter used for the text content of members of the given simple type.
+         */
+        public <T> Builder simpleTypeConverter(MarshallingType<T> marshallingType,
+                                               StringToValueConverter.StringToValue<T> converter) {
+            simpleTypeConverters.put(marshallingType, converter);
+            return this;
+        }
+
+        /**
+         * @param matchListMembersByName True if only child elements with the modeled member name belong to a non-flattened
+         * list. False if all child elements do, which EC2 relies on since some of its member names are not modeled
+         * correctly.
+         * @return This builder for method chaining.
+         */
+        public Builder matchListMembersByName(boolean matchListMembersByName) {
+            this.matchListMembersByName = matchListMembersByName;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link XmlStreamingUnmarshaller}.
+         */
+        public XmlStreamingUnmarshaller build() {
+            return new XmlStreamingUnmarshaller(this);
+        }
+    }
+
+    /**
+     * The payload members of a POJO class, indexed by the element or attribute name they are unmarshalled from.
+     */
+    private static final class PayloadMembers {
+        private final Map<String, Member> elements = new HashMap<>();
+        private final List<SdkField<?>> attributes;
+        private final int count;
+
+        private PayloadMembers(List<SdkField<?>> fields) {
+            List<SdkField<?>> attributeFields = new ArrayList<>();
+            for (SdkField<?> field : fields) {
+                if (field.location() != MarshallLocation.PAYLOAD || field.containsTrait(PayloadTrait.class)) {
+                    continue;
+                }
+                if (field.containsTrait(XmlAttributeTrait.class)) {
+                    attributeFields.add(field);
+                } else {
+                    elements.putIfAbsent(field.unmarshallLocationName(), new Member(field, elements.size()));
+                }
+            }
+            this.attributes = attributeFields.isEmpty() ? Collections.emptyList() : attributeFields;
+            this.count = elements.size();
+        }
+    }
+
+    private static final class Member {
+        private final SdkField<?> field;
+        private final int index;
+        private final boolean flattened;
+
+        private Member(SdkField<?> field, int index) {
+            this.field = field;
+            this.index = index;
+            this.flattened = isFlattened(field);
+        }
+
+        private static boolean isFlattened(SdkField<?> field) {
+            if (field.marshallingType() == MarshallingType.LIST) {
+                return field.getTrait(ListTrait.class).isFlattened();
+            }
+            if (field.marshallingType() == MarshallingType.MAP) {
+                return field.getTrait(MapTrait.class).isFlattened();
+            }
+            return false;
+        }
+    }
+}
@@ -20,10 +20,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.StringInputStream;
 
 public class XmlDomParserTest {
@@ -80,6 +82,25 @@ public class XmlDomParserTest {
             .isEqualTo("valTwo");
     }
 
+    @Test
+    public void streamReader_ParsedLikeInputStream() throws XMLStreamException {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Error xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"foo\">"
+                     + " <Code>NoSuchKey</Code>"
+                     + " <Nested><member>valOne</member><member>valTwo</member></Nested>"
+                     + "</Error>";
+        XMLStreamReader reader = XmlStreamingUnmarshaller.createReader(new StringInputStream(xml));
+        XmlElement element = XmlDomParser.parse(reader);
+        XmlElement expected = XmlDomParser.parse(new StringInputStream(xml));
+
+        assertThat(element.elementName()).isEqualTo(expected.elementName());
+        assertThat(element.getOptionalAttributeByName("xsi:type")).isEqualTo(expected.getOptionalAttributeByName("xsi:type"));
+        assertThat(element.getElementByName("Code").textContent()).isEqualTo("NoSuchKey");
+        assertThat(element.getElementByName("Nested").getElementsByName("member"))
+            .extracting(XmlElement::textContent)
+            .containsExactly("valOne", "valTwo");
+    }
+
     @Test
     public void invalidXml_ThrowsException() {
         String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
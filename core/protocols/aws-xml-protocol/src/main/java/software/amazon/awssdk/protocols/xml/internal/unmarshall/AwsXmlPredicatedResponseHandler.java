@@ -49,6 +49,7 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
     private final Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError;
     private final boolean needsConnectionLeftOpen;
+    private final XmlProtocolUnmarshaller streamingUnmarshaller;
 
     /**
      * Standard constructor
@@ -64,12 +65,34 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
         Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
         boolean needsConnectionLeftOpen) {
+        this(pojoSupplier, successResponseTransformer, errorResponseTransformer, decorateContextWithError,
+             needsConnectionLeftOpen, null);
+    }
+
+    /**
+     * Constructor that can stream successful responses straight into the response POJO.
+     * @param pojoSupplier A method that supplies an empty builder of the correct type
+     * @param successResponseTransformer A function that can unmarshall a response object from parsed XML
+     * @param errorResponseTransformer A function that can unmarshall an exception object from parsed XML
+     * @param decorateContextWithError A function that determines if the response was an error or not
+     * @param needsConnectionLeftOpen true if the underlying connection should not be closed once parsed
+     * @param streamingUnmarshaller The unmarshaller used for responses it can stream, instead of parsing them first. May be
+     *                              null.
+     */
+    public AwsXmlPredicatedResponseHandler(
+        Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
+        Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
+        boolean needsConnectionLeftOpen,
+        XmlProtocolUnmarshaller streamingUnmarshaller) {
 
         this.pojoSupplier = pojoSupplier;
         this.successResponseTransformer = successResponseTransformer;
         this.errorResponseTransformer = errorResponseTransformer;
         this.decorateContextWithError = decorateContextWithError;
         this.needsConnectionLeftOpen = needsConnectionLeftOpen;
+        this.streamingUnmarshaller = streamingUnmarshaller;
     }
 
     /**
@@ -113,13 +136,21 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+
+        if (streamingUnmarshaller != null && streamingUnmarshaller.canUnmarshallStreaming(sdkPojo, httpFullResponse)) {
+            // The streaming unmarshaller hands back the parsed document instead if it turns out to be an error
+            return streamingUnmarshaller.unmarshallStreaming(sdkPojo, httpFullResponse)
+                                        .map(unmarshalled -> context.unmarshalledResponse(unmarshalled),
+                                             document -> context.parsedXml(document))
+                                        .build();
+        }
 
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+        XmlElement document = XmlResponseParserUtils.parse(sdkPojo, httpFullResponse);
+        return context.parsedXml(document).build();
     }
 
     /**
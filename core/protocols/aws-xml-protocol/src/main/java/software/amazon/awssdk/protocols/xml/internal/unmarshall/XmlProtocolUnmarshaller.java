@@ -24,10 +24,13 @@ import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
@@ -39,7 +42,9 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 @SdkInternalApi
@@ -47,16 +52,33 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     public static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE
         = StringToInstant.create(getDefaultTimestampFormats());
+    private static final String ERROR_ELEMENT_NAME = "Error";
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = createStreamingUnmarshaller();
 
-    private XmlProtocolUnmarshaller() {
+    private final boolean enableStreamingUnmarshalling;
+
+    private XmlProtocolUnmarshaller(boolean enableStreamingUnmarshalling) {
+        this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return new XmlProtocolUnmarshaller(false);
+    }
+
+    /**
+     * @param enableStreamingUnmarshalling True if successful responses should be unmarshalled by streaming the XML
+     * straight into the POJO builders, instead of first parsing it into an {@link XmlElement} tree.
+     */
+    public static XmlProtocolUnmarshaller create(boolean enableStreamingUnmarshalling) {
+        return new XmlProtocolUnmarshaller(enableStreamingUnmarshalling);
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (canUnmarshallStreaming(sdkPojo, response)) {
+            return unmarshallStreaming(sdkPojo, response)
+                .map(unmarshalled -> (TypeT) unmarshalled, document -> unmarshall(sdkPojo, document, response));
+        }
         XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
         return unmarshall(sdkPojo, document, response);
     }
@@ -77,16 +99,87 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
     }
 
-    SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
+    /**
+     * @return True if this unmarshaller streams responses and the given response can be streamed. Explicit blob and string
+     * payloads are read as a whole, and error responses are always parsed into an {@link XmlElement} tree.
+     */
+    public boolean canUnmarshallStreaming(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        return enableStreamingUnmarshalling
+               && response.isSuccessful()
+               && response.content().isPresent()
+               && sdkPojo.sdkFields().stream().anyMatch(f -> f.location() == MarshallLocation.PAYLOAD)
+               && sdkPojo.sdkFields().stream().noneMatch(f -> isExplicitBlobPayloadMember(f)
+                                                             || isExplicitStringPayloadMember(f));
+    }
+
+    /**
+     * Unmarshalls a successful response by streaming it into the POJO builders with {@link XmlStreamingUnmarshaller},
+     * instead of first parsing it into an {@link XmlElement} tree. Should only be called if
+     * {@link #canUnmarshallStreaming(SdkPojo, SdkHttpFullResponse)} returns true.
+     *
+     * <p>If the document root turns out to be an {@code Error} element (S3 may return errors with a 200 status code) or
+     * the body is empty, nothing is unmarshalled and the parsed document is returned instead, so the caller can handle it
+     * like before.
+     *
+     * @return Either the unmarshalled POJO, or the parsed document.
+     */
+    public Either<SdkPojo, XmlElement> unmarshallStreaming(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        try {
+            XMLStreamReader reader = XmlStreamingUnmarshaller.createReader(response.content().get());
+            if (reader == null) {
+                return Either.right(XmlElement.empty());
+            }
+            try {
+                if (ERROR_ELEMENT_NAME.equals(reader.getLocalName())) {
+                    return Either.right(XmlDomParser.parse(reader));
+                }
+                unmarshallPayloadStreaming(sdkPojo, reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
         for (SdkField<?> field : sdkPojo.sdkFields()) {
-            XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                unmarshallNonPayloadMember(context, sdkPojo, field);
+            }
+        }
+        return Either.left(build(sdkPojo));
+    }
+
+    private void unmarshallPayloadStreaming(SdkPojo sdkPojo, XMLStreamReader reader) throws XMLStreamException {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() == MarshallLocation.PAYLOAD && isExplicitPayloadMember(field) && !isAttribute(field)) {
+                // The document root is the value of this member
+                field.set(sdkPojo, STREAMING_UNMARSHALLER.unmarshallValue(reader, field));
+                return;
+            }
+        }
+        STREAMING_UNMARSHALLER.unmarshallMembers(reader, sdkPojo);
+    }
 
+    private static void unmarshallNonPayloadMember(XmlUnmarshallerContext context, SdkPojo sdkPojo, SdkField<?> field) {
+        XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+        Object unmarshalled = unmarshaller.unmarshall(context, null, (SdkField<Object>) field);
+        field.set(sdkPojo, unmarshalled);
+    }
+
+    SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
             if (field.location() != MarshallLocation.PAYLOAD) {
-                Object unmarshalled = unmarshaller.unmarshall(context, null, (SdkField<Object>) field);
-                field.set(sdkPojo, unmarshalled);
+                unmarshallNonPayloadMember(context, sdkPojo, field);
                 continue;
             }
 
+            XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+
             if (isExplicitPayloadMember(field)) {
                 InputStream content = context.response().content().orElse(null);
                 if (field.marshallingType() == MarshallingType.SDK_BYTES) {
@@ -129,6 +222,10 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             }
         }
 
+        return build(sdkPojo);
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
         if (!(sdkPojo instanceof Buildable)) {
             throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
                                        + "Buildable)");
@@ -212,6 +309,23 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    private static XmlStreamingUnmarshaller createStreamingUnmarshaller() {
+        return XmlStreamingUnmarshaller
+            .builder()
+            .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+            .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+            .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+            .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+            .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+            .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+            .simpleTypeConverter(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL)
+            .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+            .simpleTypeConverter(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE)
+            .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+            .matchListMembersByName(true)
+            .build();
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
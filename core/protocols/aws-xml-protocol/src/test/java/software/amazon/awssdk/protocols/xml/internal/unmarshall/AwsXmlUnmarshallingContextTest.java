@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -42,6 +43,9 @@ public class AwsXmlUnmarshallingContextTest {
     @Mock
     private SdkHttpFullResponse mockSdkHttpFullResponse;
 
+    @Mock
+    private SdkPojo mockUnmarshalledResponse;
+
     private AwsXmlUnmarshallingContext minimal() {
         return AwsXmlUnmarshallingContext.builder().build();
     }
@@ -53,6 +57,7 @@ public class AwsXmlUnmarshallingContextTest {
                                          .isResponseSuccess(true)
                                          .sdkHttpFullResponse(mockSdkHttpFullResponse)
                                          .executionAttributes(EXECUTION_ATTRIBUTES_1)
+                                         .unmarshalledResponse(mockUnmarshalledResponse)
                                          .build();
     }
 
@@ -65,6 +70,7 @@ public class AwsXmlUnmarshallingContextTest {
         assertThat(result.parsedRootXml()).isNull();
         assertThat(result.executionAttributes()).isNull();
         assertThat(result.parsedErrorXml()).isNull();
+        assertThat(result.unmarshalledResponse()).isNull();
     }
 
     @Test
@@ -76,6 +82,7 @@ public class AwsXmlUnmarshallingContextTest {
         assertThat(result.parsedRootXml()).isEqualTo(XML_ELEMENT_1);
         assertThat(result.executionAttributes()).isEqualTo(EXECUTION_ATTRIBUTES_1);
         assertThat(result.parsedErrorXml()).isEqualTo(XML_ERROR_ELEMENT_1);
+        assertThat(result.unmarshalledResponse()).isEqualTo(mockUnmarshalledResponse);
     }
 
     @Test
@@ -105,6 +112,7 @@ public class AwsXmlUnmarshallingContextTest {
         assertThat(maximal().toBuilder().parsedXml(XML_ELEMENT_2).build()).isNotEqualTo(maximal());
         assertThat(maximal().toBuilder().parsedErrorXml(XML_ERROR_ELEMENT_2).build()).isNotEqualTo(maximal());
         assertThat(maximal().toBuilder().executionAttributes(EXECUTION_ATTRIBUTES_2).build()).isNotEqualTo(maximal());
+        assertThat(maximal().toBuilder().unmarshalledResponse(mock(SdkPojo.class)).build()).isNotEqualTo(maximal());
     }
 
     @Test
@@ -129,6 +137,8 @@ public class AwsXmlUnmarshallingContextTest {
             .isNotEqualTo(maximal().hashCode());
         assertThat(maximal().toBuilder().executionAttributes(EXECUTION_ATTRIBUTES_2).build().hashCode())
             .isNotEqualTo(maximal().hashCode());
+        assertThat(maximal().toBuilder().unmarshalledResponse(mock(SdkPojo.class)).build().hashCode())
+            .isNotEqualTo(maximal().hashCode());
     }
 
 }
\ No newline at end of file
@@ -18,9 +18,11 @@ package software.amazon.awssdk.core.checksums;
 import static software.amazon.awssdk.core.internal.util.HttpChecksumUtils.longToByte;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.internal.IntrinsicCrc32C;
 import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
 import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
 
@@ -35,9 +37,15 @@ public class Crc32CChecksum implements SdkChecksum {
     private final boolean isCrtBasedChecksum;
 
     /**
-     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
+     * Creates a Crc32C checksum backed by the JDK intrinsic if running on Java 9 or later, else creates CRT Based Crc32C
+     * checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
      */
     public Crc32CChecksum() {
+        crc32c = IntrinsicCrc32C.create();
+        if (crc32c != null) {
+            isCrtBasedChecksum = false;
+            return;
+        }
         crc32c = CrtBasedChecksumProvider.createCrc32C();
         isCrtBasedChecksum = crc32c != null;
         if (!isCrtBasedChecksum) {
@@ -66,6 +74,15 @@ public class Crc32CChecksum implements SdkChecksum {
         crc32c.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        if (crc32c instanceof IntrinsicCrc32C) {
+            ((IntrinsicCrc32C) crc32c).update(buffer);
+        } else {
+            SdkChecksum.super.update(buffer);
+        }
+    }
+
     @Override
     public long getValue() {
         return crc32c.getValue();
@@ -89,6 +106,8 @@ public class Crc32CChecksum implements SdkChecksum {
             } catch (ReflectiveOperationException e) {
                 throw new IllegalStateException("Could not clone checksum class " + checksum.getClass(), e);
             }
+        } else if (checksum instanceof IntrinsicCrc32C) {
+            return ((IntrinsicCrc32C) checksum).clone();
         } else {
             return (Checksum) ((SdkCrc32C) checksum).clone();
 
@@ -18,6 +18,9 @@ package software.amazon.awssdk.core.client.builder;
 import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.INCREMENTAL_UNMARSHALLING_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.ENABLE_INCREMENTAL_ASYNC_UNMARSHALLING;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITIONAL_HTTP_HEADERS;
@@ -33,6 +36,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGUR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SYNC_HTTP_CLIENT_BUILDER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.DEFAULT_RETRY_MODE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT_RESOLUTION_CACHE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.HTTP_CLIENT_CONFIG;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.IDENTITY_PROVIDERS;
@@ -44,6 +48,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SYNC_HTTP_CLIENT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.VIRTUAL_THREADS_ENABLED;
 import static software.amazon.awssdk.utils.CollectionUtils.mergeLists;
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
@@ -56,9 +61,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -73,6 +80,7 @@ import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
@@ -97,9 +105,11 @@ import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.AttributeMap.LazyValueSource;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.OptionalUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.VirtualThreadUtils;
 
 /**
  * An SDK-internal implementation of the methods in {@link SdkClientBuilder}, {@link SdkAsyncClientBuilder} and
@@ -121,6 +131,8 @@ import software.amazon.awssdk.utils.Validate;
 @SdkProtectedApi
 public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>, C> implements SdkClientBuilder<B, C> {
 
+    private static final Logger log = Logger.loggerFor(SdkDefaultClientBuilder.class);
+
     private static final SdkHttpClient.Builder DEFAULT_HTTP_CLIENT_BUILDER = new DefaultSdkHttpClientBuilder();
     private static final SdkAsyncHttpClient.Builder DEFAULT_ASYNC_HTTP_CLIENT_BUILDER = new DefaultSdkAsyncHttpClientBuilder();
 
@@ -293,6 +305,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     private SdkClientConfiguration finalizeAsyncConfiguration(SdkClientConfiguration config) {
         return config.toBuilder()
                      .lazyOptionIfAbsent(FUTURE_COMPLETION_EXECUTOR, this::resolveAsyncFutureCompletionExecutor)
+                     .lazyOptionIfAbsent(INCREMENTAL_UNMARSHALLING_EXECUTOR, this::resolveIncrementalUnmarshallingExecutor)
                      .lazyOption(ASYNC_HTTP_CLIENT, c -> resolveAsyncHttpClient(c, config))
                      .option(SdkClientOption.CLIENT_TYPE, ASYNC)
                      .build();
@@ -309,9 +322,15 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                      .lazyOption(CLIENT_USER_AGENT, this::resolveClientUserAgent)
                      .lazyOption(COMPRESSION_CONFIGURATION, this::resolveCompressionConfiguration)
                      .lazyOptionIfAbsent(IDENTITY_PROVIDERS, c -> IdentityProviders.builder().build())
+                     .lazyOption(ENDPOINT_RESOLUTION_CACHE, this::resolveEndpointResolutionCache)
                      .build();
     }
 
+    private EndpointResolutionCache resolveEndpointResolutionCache(LazyValueSource config) {
+        Integer cacheSize = config.get(ENDPOINT_RESOLUTION_CACHE_SIZE);
+        return cacheSize == null ? null : EndpointResolutionCache.create(cacheSize);
+    }
+
     private CompressionConfiguration resolveCompressionConfiguration(LazyValueSource config) {
         CompressionConfiguration compressionConfig = config.get(CONFIGURED_COMPRESSION_CONFIGURATION);
         return compressionConfig.toBuilder()
@@ -447,6 +466,16 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      * on the number of processors available.
      */
     private Executor resolveAsyncFutureCompletionExecutor(LazyValueSource config) {
+        if (Boolean.TRUE.equals(config.get(VIRTUAL_THREADS_ENABLED))) {
+            Optional<ExecutorService> virtualThreadExecutor =
+                VirtualThreadUtils.newVirtualThreadPerTaskExecutor("sdk-async-response");
+            if (virtualThreadExecutor.isPresent()) {
+                return virtualThreadExecutor.get();
+            }
+            log.warn(() -> "Virtual threads were enabled in the client override configuration, but they are not supported by "
+                           + "this Java runtime. Falling back to the default future completion executor.");
+        }
+
         int processors = Runtime.getRuntime().availableProcessors();
         int corePoolSize = Math.max(8, processors);
         int maxPoolSize = Math.max(64, processors * 2);
@@ -460,6 +489,34 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         return executor;
     }
 
+    /**
+     * Finalize which executor will be used to unmarshall responses incrementally, if that is enabled. Each task blocks its
+     * thread while it waits for the rest of the response, so the default executor starts a new thread instead of queueing
+     * a task behind a busy one. It has as many threads at most as the default future completion executor. Once they are all
+     * busy, it rejects the task and the response is buffered and unmarshalled after it has been received instead.
+     */
+    private Executor resolveIncrementalUnmarshallingExecutor(LazyValueSource config) {
+        if (!Boolean.TRUE.equals(config.get(ENABLE_INCREMENTAL_ASYNC_UNMARSHALLING))) {
+            return null;
+        }
+
+        if (Boolean.TRUE.equals(config.get(VIRTUAL_THREADS_ENABLED))) {
+            Optional<ExecutorService> virtualThreadExecutor =
+                VirtualThreadUtils.newVirtualThreadPerTaskExecutor("sdk-async-unmarshalling");
+            if (virtualThreadExecutor.isPresent()) {
+                return virtualThreadExecutor.get();
+            }
+        }
+
+        int maxPoolSize = Math.max(64, Runtime.getRuntime().availableProcessors() * 2);
+        return new ThreadPoolExecutor(0, maxPoolSize,
+                                      60, TimeUnit.SECONDS,
+                                      new SynchronousQueue<>(),
+                                      new ThreadFactoryBuilder()
+                                          .threadNamePrefix("sdk-async-unmarshalling").build(),
+                                      new ThreadPoolExecutor.AbortPolicy());
+    }
+
     /**
      * Finalize the internal SDK scheduled executor service that is used for scheduling tasks such as async retry attempts and
      * timeout task.
@@ -512,6 +569,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
     public final B asyncConfiguration(ClientAsyncConfiguration asyncConfiguration) {
         clientConfiguration.option(FUTURE_COMPLETION_EXECUTOR, asyncConfiguration.advancedOption(FUTURE_COMPLETION_EXECUTOR));
+        clientConfiguration.option(INCREMENTAL_UNMARSHALLING_EXECUTOR,
+                                   asyncConfiguration.advancedOption(INCREMENTAL_UNMARSHALLING_EXECUTOR));
         return thisBuilder();
     }
 
@@ -30,6 +30,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.VIRTUAL_THREADS_ENABLED;
 import static software.amazon.awssdk.utils.ScheduledExecutorUtils.unmanagedScheduledExecutor;
 import static software.amazon.awssdk.utils.ScheduledExecutorUtils.unwrapUnmanagedScheduledExecutor;
 
@@ -111,6 +112,7 @@ public final class ClientOverrideConfiguration
         options.add(API_CALL_ATTEMPT_TIMEOUT);
         options.add(PROFILE_FILE_SUPPLIER);
         options.add(PROFILE_NAME);
+        options.add(VIRTUAL_THREADS_ENABLED);
         CLIENT_OVERRIDE_OPTIONS = Collections.unmodifiableSet(options);
 
         Set<ClientOption<?>> resolvedOptions = new HashSet<>();
@@ -279,6 +281,15 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(config.option(API_CALL_ATTEMPT_TIMEOUT));
     }
 
+    /**
+     * Whether the client should run the work it schedules on its own behalf on virtual threads.
+     *
+     * @see Builder#virtualThreadsEnabled(Boolean)
+     */
+    public Optional<Boolean> virtualThreadsEnabled() {
+        return Optional.ofNullable(config.option(VIRTUAL_THREADS_ENABLED));
+    }
+
     /**
      * The profile file supplier that should be used by default for all profile-based configuration in the SDK client.
      *
@@ -354,6 +365,7 @@ public final class ClientOverrideConfiguration
                        .add("profileName", defaultProfileName().orElse(null))
                        .add("scheduledExecutorService", scheduledExecutorService().orElse(null))
                        .add("compressionConfiguration", compressionConfiguration().orElse(null))
+                       .add("virtualThreadsEnabled", virtualThreadsEnabled().orElse(null))
                        .build();
     }
 
@@ -664,6 +676,25 @@ public final class ClientOverrideConfiguration
         }
 
         CompressionConfiguration compressionConfiguration();
+
+        /**
+         * Configure whether the client should use virtual threads for the work it schedules on its own behalf. This requires
+         * Java 21 or newer; on older runtimes the option is ignored and a warning is logged when the client is created.
+         *
+         * <p>When enabled, an asynchronous client that is not configured with a
+         * {@link SdkAdvancedAsyncClientOption#FUTURE_COMPLETION_EXECUTOR} completes its response futures on a new virtual thread
+         * per completion instead of on the default bounded platform thread pool, so that dependent stages that block do not
+         * exhaust the pool.
+         *
+         * <p>Synchronous clients always run requests on the calling thread, and can be called from virtual threads whether or not
+         * this option is set: the SDK does not hold monitors across blocking operations on the request path, so calling threads
+         * do not pin their carrier threads while they wait for I/O.
+         *
+         * <p>By default, this is disabled.
+         */
+        Builder virtualThreadsEnabled(Boolean virtualThreadsEnabled);
+
+        Boolean virtualThreadsEnabled();
     }
 
     /**
@@ -934,6 +965,21 @@ public final class ClientOverrideConfiguration
             return config.option(CONFIGURED_COMPRESSION_CONFIGURATION);
         }
 
+        @Override
+        public Builder virtualThreadsEnabled(Boolean virtualThreadsEnabled) {
+            config.option(VIRTUAL_THREADS_ENABLED, virtualThreadsEnabled);
+            return this;
+        }
+
+        public void setVirtualThreadsEnabled(Boolean virtualThreadsEnabled) {
+            virtualThreadsEnabled(virtualThreadsEnabled);
+        }
+
+        @Override
+        public Boolean virtualThreadsEnabled() {
+            return config.option(VIRTUAL_THREADS_ENABLED);
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(config.build(), resolvedConfig.build());
@@ -55,6 +55,31 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedAsyncClientOption<Executor> FUTURE_COMPLETION_EXECUTOR =
             new SdkAdvancedAsyncClientOption<>(Executor.class);
 
+    /**
+     * Configure the {@link Executor} that unmarshalls non-streaming responses when
+     * {@link SdkAdvancedClientOption#ENABLE_INCREMENTAL_ASYNC_UNMARSHALLING} is enabled. By default, this is a dedicated,
+     * per-client executor that is managed by the SDK. It starts a new thread whenever all of its threads are busy, up to as
+     * many threads as the default {@link #FUTURE_COMPLETION_EXECUTOR}.
+     * <p>
+     * Each response is unmarshalled as soon as its body starts, and the unmarshalling task <b>blocks</b> its thread while it
+     * waits for the rest of the body. Each response in flight can therefore occupy one thread for as long as its body takes to
+     * arrive. If the configured {@link Executor} queues tasks behind busy threads, a slow response delays the unmarshalling of
+     * every response queued behind it.
+     * <p>
+     * If the {@link Executor} rejects the task with a {@link java.util.concurrent.RejectedExecutionException}, or runs it on
+     * the submitting thread (e.g. {@code Runnable::run}, or a caller-runs rejection policy), the response is buffered and
+     * unmarshalled once it has been received, as if incremental unmarshalling were disabled.
+     * <p>
+     * <b>WARNING</b>
+     * <p>
+     * The task is submitted from the async HTTP client's I/O thread, which delivers the rest of the body. The configured
+     * {@link Executor} must not run the task later on that thread, or on any other thread that the HTTP client needs to deliver
+     * the body, such as its event loop threads. The SDK fails the request if the task runs on the submitting thread later, but
+     * cannot detect the other threads of the HTTP client, whose requests would stall.
+     */
+    public static final SdkAdvancedAsyncClientOption<Executor> INCREMENTAL_UNMARSHALLING_EXECUTOR =
+            new SdkAdvancedAsyncClientOption<>(Executor.class);
+
     private SdkAdvancedAsyncClientOption(Class<T> valueClass) {
         super(valueClass);
     }
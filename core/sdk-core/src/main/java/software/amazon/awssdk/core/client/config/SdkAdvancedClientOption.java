@@ -64,6 +64,53 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Whether the client should unmarshall response payloads by streaming parser events directly into the response objects,
+     * instead of first parsing the whole payload into an intermediate document tree. This reduces allocation for large
+     * responses. Only supported by protocols that implement streaming unmarshalling; others ignore this option.
+     *
+     * <p>By default, this is disabled.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ENABLE_STREAMING_UNMARSHALLING =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Whether async clients should start unmarshalling a non-streaming response as soon as its first bytes arrive, reading
+     * the rest of the body as it is received, instead of buffering the whole body first. This overlaps unmarshalling with
+     * receiving the response and bounds the memory used for buffering large responses. Has no effect on sync clients.
+     *
+     * <p>Unmarshalling runs on the {@link SdkAdvancedAsyncClientOption#INCREMENTAL_UNMARSHALLING_EXECUTOR}, and blocks its
+     * thread while waiting for more of the body, so each response in flight can occupy a thread until its body has arrived.
+     * Combine with {@link #ENABLE_STREAMING_UNMARSHALLING} to also avoid building an intermediate document tree.
+     *
+     * <p>By default, this is disabled.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ENABLE_INCREMENTAL_ASYNC_UNMARSHALLING =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Whether API call and API call attempt timeouts should be tracked with a timer wheel shared by all clients, instead of
+     * scheduling a task on the {@link ClientOverrideConfiguration#scheduledExecutorService()} for every call and attempt.
+     * Scheduling and cancelling a timeout on the wheel takes constant time and does not contend on a lock, which reduces the
+     * overhead of timeouts at high request rates. Timeouts may fire up to 10 milliseconds late, and still run on the
+     * client's scheduled executor service.
+     *
+     * <p>By default, this is disabled.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ENABLE_HASHED_WHEEL_TIMEOUTS =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * The maximum number of resolved endpoints the client caches, keyed by the endpoint provider and the endpoint parameters of
+     * the request. Requests whose endpoint parameters are equal to those of a cached endpoint reuse it instead of evaluating
+     * the endpoint rules again. Whether each request was served from the cache is reported as the
+     * {@link software.amazon.awssdk.core.metrics.CoreMetric#ENDPOINT_RESOLUTION_CACHE_HIT} metric.
+     *
+     * <p>By default, endpoints are not cached.
+     */
+    public static final SdkAdvancedClientOption<Integer> ENDPOINT_RESOLUTION_CACHE_SIZE =
+        new SdkAdvancedClientOption<>(Integer.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
         OPTIONS.add(this);
@@ -26,6 +26,7 @@ import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.ServiceConfiguration;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.retry.RetryMode;
@@ -160,6 +161,11 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<Duration> API_CALL_TIMEOUT = new SdkClientOption<>(Duration.class);
 
+    /**
+     * @see ClientOverrideConfiguration#virtualThreadsEnabled()
+     */
+    public static final SdkClientOption<Boolean> VIRTUAL_THREADS_ENABLED = new SdkClientOption<>(Boolean.class);
+
     /**
      * Descriptive name for the service. Used primarily for metrics and also in metadata like AwsErrorDetails.
      */
@@ -229,6 +235,13 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<EndpointProvider> ENDPOINT_PROVIDER = new SdkClientOption<>(EndpointProvider.class);
 
+    /**
+     * The cache of the endpoints resolved by the client, if
+     * {@link SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE} is configured.
+     */
+    public static final SdkClientOption<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+        new SdkClientOption<>(EndpointResolutionCache.class);
+
     /**
      * The {@link AuthSchemeProvider} configured on the client.
      */
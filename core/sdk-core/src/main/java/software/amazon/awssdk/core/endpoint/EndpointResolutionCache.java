@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.endpoint;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.lru.ConcurrentLruCache;
+
+/**
+ * A bounded cache of the {@link Endpoint}s resolved by a client's {@link EndpointProvider}, keyed by the provider and the
+ * endpoint parameters it was invoked with. Endpoint rule evaluation is deterministic for a given provider and set of
+ * parameters, so requests that share their parameters can reuse the endpoint resolved for the first of them.
+ * <p>
+ * A cache is created for each client that enables {@link SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE}. Only
+ * endpoint parameter classes that implement {@link Object#equals(Object)} and {@link Object#hashCode()} by value can be
+ * cached effectively. Failed resolutions are not cached.
+ */
+@SdkProtectedApi
+public final class EndpointResolutionCache {
+    private final ConcurrentLruCache<CacheKey, Endpoint> cache;
+
+    private EndpointResolutionCache(int maxSize) {
+        this.cache = ConcurrentLruCache.builder(CacheKey::resolve)
+                                       .maxSize(maxSize)
+                                       .build();
+    }
+
+    public static EndpointResolutionCache create(int maxSize) {
+        Validate.isPositive(maxSize, "maxSize");
+        return new EndpointResolutionCache(maxSize);
+    }
+
+    /**
+     * Return the endpoint for the provided parameters, either from the cache or by resolving it with the provided function.
+     * Whether the endpoint was found in the cache is reported to the metric collector, if one is provided, as
+     * {@link CoreMetric#ENDPOINT_RESOLUTION_CACHE_HIT}.
+     *
+     * @param provider The endpoint provider the endpoint is resolved with.
+     * @param params The endpoint parameters.
+     * @param resolver The function that resolves the endpoint with the provider, when it is not cached.
+     * @param metricCollector The metric collector of the API call, or null.
+     */
+    public <T> Endpoint resolveEndpoint(EndpointProvider provider,
+                                        T params,
+                                        Function<T, CompletableFuture<Endpoint>> resolver,
+                                        MetricCollector metricCollector) {
+        CacheKey key = new CacheKey(provider, params, () -> resolver.apply(params).join());
+        Endpoint endpoint = cache.get(key);
+        if (metricCollector != null) {
+            metricCollector.reportMetric(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT, !key.resolved);
+        }
+        return endpoint;
+    }
+
+    /**
+     * The number of endpoints currently in the cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * The number of resolutions that were served from the cache.
+     */
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    /**
+     * The number of resolutions that invoked the endpoint provider.
+     */
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    /**
+     * The key of a cached endpoint. The resolver is not part of the key: it is only used to calculate the endpoint when the
+     * key is not in the cache, and records that it did so.
+     */
+    private static final class CacheKey {
+        private final EndpointProvider provider;
+        private final Object params;
+        private final Supplier<Endpoint> resolver;
+        private boolean resolved;
+
+        private CacheKey(EndpointProvider provider, Object params, Supplier<Endpoint> resolver) {
+            this.provider = provider;
+            this.params = params;
+            this.resolver = resolver;
+        }
+
+        private Endpoint resolve() {
+            resolved = true;
+            return resolver.get();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            CacheKey that = (CacheKey) o;
+            return provider == that.provider && Objects.equals(params, that.params);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(provider);
+            result = 31 * result + Objects.hashCode(params);
+            return result;
+        }
+    }
+}
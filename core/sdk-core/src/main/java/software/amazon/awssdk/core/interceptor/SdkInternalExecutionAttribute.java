@@ -22,6 +22,7 @@ import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.SdkProtocolMetadata;
 import software.amazon.awssdk.core.SelectedAuthScheme;
 import software.amazon.awssdk.core.checksums.ChecksumSpecs;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksum;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
 import software.amazon.awssdk.core.internal.interceptor.trait.RequestCompression;
@@ -83,6 +84,12 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<EndpointProvider> ENDPOINT_PROVIDER =
         new ExecutionAttribute<>("EndpointProvider");
 
+    /**
+     * The cache of the endpoints resolved by the client, or null if endpoints are not cached.
+     */
+    public static final ExecutionAttribute<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+        new ExecutionAttribute<>("EndpointResolutionCache");
+
     /**
      * The resolved endpoint as computed by the client's configured {@link EndpointProvider}.
      */
@@ -82,6 +82,35 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         return  0L;
     }
 
+    /**
+     * @return The file the response content is written to.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * @return The configuration that controls how the file is opened and how failures are handled.
+     */
+    public FileTransformerConfiguration configuration() {
+        return configuration;
+    }
+
+    /**
+     * @return The position in the file at which the response content starts.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Opens a new channel to {@link #path()} using the {@link FileTransformerConfiguration.FileWriteOption} of this
+     * transformer. The caller is responsible for closing the returned channel.
+     */
+    public AsynchronousFileChannel openChannel() throws IOException {
+        return createChannel(path);
+    }
+
     private AsynchronousFileChannel createChannel(Path path) throws IOException {
         Set<OpenOption> options = new HashSet<>();
         switch (configuration.fileWriteOption()) {
@@ -17,6 +17,7 @@ package software.amazon.awssdk.core.internal.compression;
 
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.CompressRequestStage;
@@ -52,6 +53,18 @@ public interface Compressor {
         return compress(SdkBytes.fromByteArray(content)).asByteArray();
     }
 
+    /**
+     * Compress a range of a byte[] payload.
+     *
+     * @param content
+     * @param offset The offset of the first byte to compress.
+     * @param length The number of bytes to compress.
+     * @return The compressed byte array.
+     */
+    default byte[] compress(byte[] content, int offset, int length) {
+        return compress(Arrays.copyOfRange(content, offset, offset + length));
+    }
+
     /**
      * Compress an {@link InputStream} payload.
      *
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A bounded pool of raw (headerless) {@link Deflater}s.
+ *
+ * <p>Every {@link Deflater} allocates a few hundred kilobytes of native memory that is only freed when it is ended or
+ * garbage collected. Streaming requests are compressed one chunk at a time, so reusing deflaters avoids allocating and
+ * freeing that memory for every chunk.
+ */
+@SdkInternalApi
+final class DeflaterPool {
+    private static final int DEFAULT_MAX_POOLED_DEFLATERS = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final int compressionLevel;
+    private final BlockingQueue<Deflater> deflaters;
+
+    DeflaterPool(int compressionLevel) {
+        this(compressionLevel, DEFAULT_MAX_POOLED_DEFLATERS);
+    }
+
+    DeflaterPool(int compressionLevel, int maxPooledDeflaters) {
+        this.compressionLevel = compressionLevel;
+        this.deflaters = new ArrayBlockingQueue<>(maxPooledDeflaters);
+    }
+
+    /**
+     * Take a deflater from the pool, or create a new one if the pool is empty.
+     */
+    Deflater acquire() {
+        Deflater deflater = deflaters.poll();
+        return deflater != null ? deflater : new Deflater(compressionLevel, true);
+    }
+
+    /**
+     * Return a deflater to the pool. The deflater is ended instead if the pool is full.
+     */
+    void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    int pooledDeflaters() {
+        return deflaters.size();
+    }
+}
@@ -15,22 +15,34 @@
 
 package software.amazon.awssdk.core.internal.compression;
 
-import static software.amazon.awssdk.utils.IoUtils.closeQuietly;
-
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.zip.GZIPOutputStream;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.utils.BinaryUtils;
 
+/**
+ * A gzip {@link Compressor}. Payloads are compressed directly into a right-sized buffer with a pooled {@link Deflater} instead
+ * of going through intermediate streams and copies, and streams are compressed as they are read.
+ */
 @SdkInternalApi
 public final class GzipCompressor implements Compressor {
 
     private static final String COMPRESSOR_TYPE = "gzip";
-    private static final Logger log = LoggerFactory.getLogger(GzipCompressor.class);
+    private static final DeflaterPool DEFLATER_POOL = new DeflaterPool(Deflater.DEFAULT_COMPRESSION);
+
+    /**
+     * The minimal gzip header: magic number, deflate method, no flags, no modification time, no extra flags and unknown OS.
+     */
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_LENGTH = 8;
+    private static final int STREAM_BUFFER_SIZE = 8192;
 
     @Override
     public String compressorType() {
@@ -39,17 +51,158 @@ public final class GzipCompressor implements Compressor {
 
     @Override
     public SdkBytes compress(SdkBytes content) {
-        GZIPOutputStream gzipOutputStream = null;
+        return SdkBytes.fromByteArrayUnsafe(compress(content.asByteArrayUnsafe()));
+    }
+
+    @Override
+    public byte[] compress(byte[] content) {
+        return compress(content, 0, content.length);
+    }
+
+    @Override
+    public byte[] compress(byte[] content, int offset, int length) {
+        ByteBuffer compressed = gzip(content, offset, length);
+        return Arrays.copyOf(compressed.array(), compressed.remaining());
+    }
+
+    @Override
+    public ByteBuffer compress(ByteBuffer content) {
+        if (content.hasArray()) {
+            return gzip(content.array(), content.arrayOffset() + content.position(), content.remaining());
+        }
+        byte[] bytes = BinaryUtils.copyBytesFrom(content);
+        return gzip(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Compress the provided stream as it is read, instead of reading it fully into memory first. The returned stream should be
+     * closed so that its {@link Deflater} is returned to the pool.
+     */
+    @Override
+    public InputStream compress(InputStream content) {
+        return new GzipCompressingInputStream(content);
+    }
+
+    private static ByteBuffer gzip(byte[] content, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(content, offset, length);
+
+        byte[] out = new byte[HEADER.length + maxDeflatedLength(length) + TRAILER_LENGTH];
+        System.arraycopy(HEADER, 0, out, 0, HEADER.length);
+        int position = HEADER.length;
+
+        Deflater deflater = DEFLATER_POOL.acquire();
         try {
-            ByteArrayOutputStream compressedOutputStream = new ByteArrayOutputStream();
-            gzipOutputStream = new GZIPOutputStream(compressedOutputStream);
-            gzipOutputStream.write(content.asByteArray());
-            gzipOutputStream.close();
-            return SdkBytes.fromByteArray(compressedOutputStream.toByteArray());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+            deflater.setInput(content, offset, length);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (position == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+                position += deflater.deflate(out, position, out.length - position);
+            }
         } finally {
-            closeQuietly(gzipOutputStream, log);
+            DEFLATER_POOL.release(deflater);
+        }
+
+        if (out.length - position < TRAILER_LENGTH) {
+            out = Arrays.copyOf(out, position + TRAILER_LENGTH);
+        }
+        writeTrailer(out, position, crc.getValue(), length);
+        return ByteBuffer.wrap(out, 0, position + TRAILER_LENGTH);
+    }
+
+    /**
+     * The upper bound of the deflated size of the input, as computed by zlib's deflateBound for the default settings.
+     */
+    private static int maxDeflatedLength(int length) {
+        long bound = (long) length + (length >>> 12) + (length >>> 14) + (length >>> 25) + 13;
+        return (int) Math.min(bound, Integer.MAX_VALUE - HEADER.length - TRAILER_LENGTH);
+    }
+
+    private static void writeTrailer(byte[] out, int offset, long crc, long uncompressedLength) {
+        writeIntLittleEndian(out, offset, crc);
+        writeIntLittleEndian(out, offset + 4, uncompressedLength);
+    }
+
+    private static void writeIntLittleEndian(byte[] out, int offset, long value) {
+        out[offset] = (byte) value;
+        out[offset + 1] = (byte) (value >> 8);
+        out[offset + 2] = (byte) (value >> 16);
+        out[offset + 3] = (byte) (value >> 24);
+    }
+
+    /**
+     * Reads the gzip encoding of the wrapped stream: the header, the deflated content as it is read from the wrapped stream,
+     * and the trailer once the wrapped stream is exhausted.
+     */
+    private static final class GzipCompressingInputStream extends InputStream {
+        private final CheckedInputStream source;
+        private final Deflater deflater;
+        private final DeflaterInputStream deflatedSource;
+        private final byte[] singleByte = new byte[1];
+
+        private byte[] remaining = HEADER;
+        private int remainingPosition = 0;
+        private boolean contentRead = false;
+        private boolean deflaterReleased = false;
+
+        private GzipCompressingInputStream(InputStream source) {
+            this.source = new CheckedInputStream(source, new CRC32());
+            this.deflater = DEFLATER_POOL.acquire();
+            this.deflatedSource = new DeflaterInputStream(this.source, deflater, STREAM_BUFFER_SIZE);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = read(singleByte, 0, 1);
+            return read == -1 ? -1 : singleByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+
+            if (remainingPosition == remaining.length && !contentRead) {
+                if (deflaterReleased) {
+                    throw new IOException("Stream closed");
+                }
+                int read = deflatedSource.read(b, off, len);
+                if (read != -1) {
+                    return read;
+                }
+                contentRead = true;
+                remaining = new byte[TRAILER_LENGTH];
+                remainingPosition = 0;
+                writeTrailer(remaining, 0, source.getChecksum().getValue(), deflater.getBytesRead());
+                releaseDeflater();
+            }
+
+            if (remainingPosition == remaining.length) {
+                return -1;
+            }
+            int count = Math.min(len, remaining.length - remainingPosition);
+            System.arraycopy(remaining, remainingPosition, b, off, count);
+            remainingPosition += count;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            releaseDeflater();
+            source.close();
+        }
+
+        private void releaseDeflater() {
+            if (!deflaterReleased) {
+                deflaterReleased = true;
+                DEFLATER_POOL.release(deflater);
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -27,6 +28,8 @@ import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.handler.AsyncClientHandler;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
@@ -58,12 +61,22 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
     private static final Logger log = Logger.loggerFor(BaseAsyncClientHandler.class);
     private final AmazonAsyncHttpClient client;
     private final Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator;
+    private final Executor incrementalUnmarshallingExecutor;
 
     protected BaseAsyncClientHandler(SdkClientConfiguration clientConfiguration,
                                      AmazonAsyncHttpClient client) {
         super(clientConfiguration);
         this.client = client;
         this.crc32Validator = response -> Crc32Validation.validate(isCalculateCrc32FromCompressedData(), response);
+        this.incrementalUnmarshallingExecutor = resolveIncrementalUnmarshallingExecutor(clientConfiguration);
+    }
+
+    private static Executor resolveIncrementalUnmarshallingExecutor(SdkClientConfiguration clientConfiguration) {
+        if (clientConfiguration == null ||
+            !Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.ENABLE_INCREMENTAL_ASYNC_UNMARSHALLING))) {
+            return null;
+        }
+        return clientConfiguration.option(SdkAdvancedAsyncClientOption.INCREMENTAL_UNMARSHALLING_EXECUTOR);
     }
 
     @Override
@@ -163,7 +176,8 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         TransformingAsyncResponseHandler<OutputT> decoratedSuccessHandler =
             new AsyncResponseHandler<>(decoratedResponseHandlers,
                                        crc32Validator,
-                                       executionContext.executionAttributes());
+                                       executionContext.executionAttributes(),
+                                       incrementalUnmarshallingExecutor);
 
         TransformingAsyncResponseHandler<? extends SdkException> decoratedErrorHandler =
             resolveErrorResponseHandler(errorHandler, executionContext, crc32Validator);
@@ -182,7 +196,8 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
 
         return new AsyncResponseHandler<>(decoratedResponseHandlers,
                                           crc32Validator,
-                                          executionContext.executionAttributes());
+                                          executionContext.executionAttributes(),
+                                          incrementalUnmarshallingExecutor);
     }
 
     private <InputT extends SdkRequest, OutputT extends SdkResponse, ReturnT> CompletableFuture<ReturnT> doExecute(
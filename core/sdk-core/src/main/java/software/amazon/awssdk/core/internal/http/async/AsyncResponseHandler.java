@@ -16,15 +16,26 @@
 package software.amazon.awssdk.core.internal.http.async;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
@@ -33,32 +44,74 @@ import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.InputStreamSubscriber;
 
 /**
  *
  * Response handler for asynchronous non-streaming operations.
  *
  * <p>
- * Adapts an {@link HttpResponseHandler} to the asynchronous {@link TransformingAsyncResponseHandler}. Buffers
- * all content into a {@link ByteArrayInputStream} then invokes the {@link HttpResponseHandler#handle}
- * method.
+ * Adapts an {@link HttpResponseHandler} to the asynchronous {@link TransformingAsyncResponseHandler}. By default, buffers
+ * all content as the chunks it was received in, then invokes the {@link HttpResponseHandler#handle} method with an
+ * {@link InputStream} over those chunks.
+ *
+ * <p>
+ * If an incremental parsing {@link Executor} is given, {@link HttpResponseHandler#handle} is instead invoked on that executor
+ * as soon as the first chunk arrives, with an {@link InputStream} that is fed by the remaining chunks as they arrive. This
+ * lets unmarshalling overlap with receiving the response and bounds the amount of buffered content, at the cost of blocking
+ * an executor thread while waiting for more content. The task is submitted when the content starts. If the executor rejects
+ * it, for example because all of its threads are busy, or runs it on the submitting thread, the content is buffered instead.
+ * <p>
+ * An executor that runs the task later on the thread that delivers the content, such as the event loop of the HTTP client,
+ * would make that thread wait for content only it can deliver. The response fails instead. Other threads that the HTTP client
+ * needs to deliver the content are not detected.
  *
  * @param <T> Type that the response handler produces.
  */
 @SdkInternalApi
 public final class AsyncResponseHandler<T> implements TransformingAsyncResponseHandler<T> {
-    private volatile CompletableFuture<ByteArrayOutputStream> streamFuture;
+    private static final Logger log = Logger.loggerFor(AsyncResponseHandler.class);
+
+    /**
+     * States of the submission of a task to the incremental parsing executor.
+     */
+    private static final int SUBMITTING = 0;
+    private static final int SUBMITTED = 1;
+    private static final int RAN_ON_SUBMITTING_THREAD = 2;
+
+    private volatile CompletableFuture<InputStream> streamFuture;
+
+    /**
+     * When parsing incrementally, the result of whichever of the executor task or the buffered fallback handles the content.
+     */
+    private volatile CompletableFuture<T> handledFuture;
+
     private final HttpResponseHandler<T> responseHandler;
     private final ExecutionAttributes executionAttributes;
     private final Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator;
+    private final Executor incrementalParsingExecutor;
     private SdkHttpFullResponse.Builder httpResponse;
 
     public AsyncResponseHandler(HttpResponseHandler<T> responseHandler,
                                 Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator,
                                 ExecutionAttributes executionAttributes) {
+        this(responseHandler, crc32Validator, executionAttributes, null);
+    }
+
+    /**
+     * @param incrementalParsingExecutor The executor to invoke the response handler on while the content is still being
+     * received, or null to buffer all content before invoking the response handler.
+     */
+    public AsyncResponseHandler(HttpResponseHandler<T> responseHandler,
+                                Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator,
+                                ExecutionAttributes executionAttributes,
+                                Executor incrementalParsingExecutor) {
         this.responseHandler = responseHandler;
         this.executionAttributes = executionAttributes;
         this.crc32Validator = crc32Validator;
+        this.incrementalParsingExecutor = incrementalParsingExecutor;
     }
 
     @Override
@@ -68,7 +121,43 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
 
     @Override
     public void onStream(Publisher<ByteBuffer> publisher) {
-        publisher.subscribe(new BaosSubscriber(streamFuture));
+        if (incrementalParsingExecutor == null) {
+            publisher.subscribe(new BufferingSubscriber(streamFuture));
+            return;
+        }
+
+        CompletableFuture<InputStream> stream = streamFuture;
+        CompletableFuture<T> handled = handledFuture;
+        if (startIncrementalHandling(stream, handled)) {
+            publisher.subscribe(new IncrementalSubscriber(stream));
+        } else {
+            CompletableFutureUtils.forwardResultTo(stream.thenCompose(this::handle), handled);
+            publisher.subscribe(new BufferingSubscriber(stream));
+        }
+    }
+
+    /**
+     * Submits the task that handles the content on the incremental parsing executor. The task waits for the first chunk.
+     *
+     * @return false if the executor rejected the task or ran it on the calling thread, in which case the content must be
+     * buffered instead.
+     */
+    private boolean startIncrementalHandling(CompletableFuture<InputStream> stream, CompletableFuture<T> handled) {
+        Thread deliveringThread = Thread.currentThread();
+        AtomicInteger submission = new AtomicInteger(SUBMITTING);
+        try {
+            incrementalParsingExecutor.execute(() -> {
+                if (Thread.currentThread() == deliveringThread &&
+                    submission.compareAndSet(SUBMITTING, RAN_ON_SUBMITTING_THREAD)) {
+                    return;
+                }
+                handleIncrementally(stream, handled, deliveringThread);
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug(() -> "The incremental unmarshalling executor rejected the response. Buffering it instead.", e);
+            return false;
+        }
+        return submission.compareAndSet(SUBMITTING, SUBMITTED);
     }
 
     @Override
@@ -82,28 +171,83 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
     @Override
     public CompletableFuture<T> prepare() {
         streamFuture = new CompletableFuture<>();
-        return streamFuture.thenCompose(baos -> {
-            if (baos != null) {
-                // Ignore aborts - we already have all of the content.
-                httpResponse.content(AbortableInputStream.create(new ByteArrayInputStream(baos.toByteArray())));
-            }
-
-            try {
-                return CompletableFuture.completedFuture(responseHandler.handle(crc32Validator.apply(httpResponse.build()),
-                                                                                executionAttributes));
-            } catch (Exception e) {
-                return CompletableFutureUtils.failedFuture(e);
+        if (incrementalParsingExecutor == null) {
+            return streamFuture.thenCompose(this::handle);
+        }
+        CompletableFuture<T> handled = new CompletableFuture<>();
+        streamFuture.whenComplete((content, error) -> {
+            if (error != null) {
+                handled.completeExceptionally(error);
             }
         });
+        handledFuture = handled;
+        return handled;
     }
 
-    private static class BaosSubscriber implements Subscriber<ByteBuffer> {
-        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        private final CompletableFuture<ByteArrayOutputStream> streamFuture;
+    private CompletableFuture<T> handle(InputStream content) {
+        if (content != null) {
+            // Ignore aborts - we already have all of the content.
+            httpResponse.content(AbortableInputStream.create(content));
+        }
+
+        try {
+            return CompletableFuture.completedFuture(responseHandler.handle(crc32Validator.apply(httpResponse.build()),
+                                                                            executionAttributes));
+        } catch (Exception e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
+    private void handleIncrementally(CompletableFuture<InputStream> stream, CompletableFuture<T> handled,
+                                     Thread deliveringThread) {
+        if (Thread.currentThread() == deliveringThread) {
+            handled.completeExceptionally(
+                SdkClientException.create("The incremental unmarshalling executor ran the response handler on the thread that "
+                                          + "delivers the response, which would deadlock. Configure an "
+                                          + "INCREMENTAL_UNMARSHALLING_EXECUTOR that runs tasks on other threads."));
+            stream.thenAccept(content -> IoUtils.closeQuietly(content, null));
+            return;
+        }
+
+        InputStream content;
+        try {
+            content = stream.join();
+        } catch (CancellationException | CompletionException e) {
+            // The failure was already forwarded to the handled future
+            return;
+        }
+        CompletableFutureUtils.forwardResultTo(handleIncrementally(content), handled);
+    }
+
+    private CompletableFuture<T> handleIncrementally(InputStream content) {
+        if (content == null) {
+            return handle(null);
+        }
+
+        // Response handlers close the content when they are done. Closing the subscriber early would cancel the rest of the
+        // response and prevent connection reuse, so drain it instead. Aborting still cancels.
+        DrainOnCloseInputStream drainOnClose = new DrainOnCloseInputStream(content);
+        httpResponse.content(AbortableInputStream.create(drainOnClose, () -> IoUtils.closeQuietly(content, null)));
+        try {
+            T result = responseHandler.handle(crc32Validator.apply(httpResponse.build()), executionAttributes);
+            drainOnClose.close();
+            return CompletableFuture.completedFuture(result);
+        } catch (Exception e) {
+            IoUtils.closeQuietly(content, null);
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
+    /**
+     * Buffers all content as copies of the received chunks, without concatenating them.
+     */
+    private static final class BufferingSubscriber implements Subscriber<ByteBuffer> {
+        private final List<byte[]> chunks = new ArrayList<>();
+        private final CompletableFuture<InputStream> streamFuture;
         private Subscription subscription;
         private boolean dataWritten = false;
 
-        private BaosSubscriber(CompletableFuture<ByteArrayOutputStream> streamFuture) {
+        private BufferingSubscriber(CompletableFuture<InputStream> streamFuture) {
             this.streamFuture = streamFuture;
         }
 
@@ -116,13 +260,10 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
         @Override
         public void onNext(ByteBuffer byteBuffer) {
             dataWritten = true;
-            try {
-                baos.write(BinaryUtils.copyBytesFrom(byteBuffer));
-                this.subscription.request(1);
-            } catch (IOException e) {
-                // Should never happen
-                streamFuture.completeExceptionally(e);
+            if (byteBuffer.hasRemaining()) {
+                chunks.add(BinaryUtils.copyBytesFrom(byteBuffer));
             }
+            this.subscription.request(1);
         }
 
         @Override
@@ -132,7 +273,70 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
 
         @Override
         public void onComplete() {
-            streamFuture.complete(dataWritten ? baos : null);
+            streamFuture.complete(dataWritten ? toInputStream() : null);
+        }
+
+        private InputStream toInputStream() {
+            if (chunks.size() == 1) {
+                return new ByteArrayInputStream(chunks.get(0));
+            }
+            List<InputStream> streams = new ArrayList<>(chunks.size());
+            chunks.forEach(chunk -> streams.add(new ByteArrayInputStream(chunk)));
+            return new SequenceInputStream(Collections.enumeration(streams));
+        }
+    }
+
+    /**
+     * Feeds copies of the content into an {@link InputStreamSubscriber}, and hands that out as soon as the first chunk arrives.
+     */
+    private static final class IncrementalSubscriber implements Subscriber<ByteBuffer> {
+        private final InputStreamSubscriber inputStream = new InputStreamSubscriber();
+        private final CompletableFuture<InputStream> streamFuture;
+
+        private IncrementalSubscriber(CompletableFuture<InputStream> streamFuture) {
+            this.streamFuture = streamFuture;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            inputStream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            // The input stream keeps chunks after requesting more, and the publisher may reuse a buffer once more is requested
+            inputStream.onNext(ByteBuffer.wrap(BinaryUtils.copyBytesFrom(byteBuffer)));
+            streamFuture.complete(inputStream);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // If the stream was already handed out, the error surfaces when it is read
+            inputStream.onError(throwable);
+            streamFuture.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            inputStream.onComplete();
+            streamFuture.complete(null);
+        }
+    }
+
+    /**
+     * Reads the remaining content when closed, instead of closing the underlying stream.
+     */
+    private static final class DrainOnCloseInputStream extends FilterInputStream {
+        private DrainOnCloseInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // Discard
+            }
         }
     }
 }
@@ -17,6 +17,7 @@ package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESSION_CONFIGURATION;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
@@ -26,7 +27,6 @@ import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
-import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
@@ -37,7 +37,6 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
 import software.amazon.awssdk.core.internal.sync.CompressionContentStreamProvider;
-import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.IoUtils;
 
@@ -67,7 +66,6 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         if (!isStreaming(context)) {
             compressEntirePayload(input, compressor);
             updateContentEncodingHeader(input, compressor);
-            updateContentLengthHeader(input);
             return input;
         }
 
@@ -111,10 +109,20 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         return context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).isStreaming();
     }
 
+    /**
+     * Compress the payload once, up front, so that neither computing the content length nor retrying the request compresses
+     * it again.
+     */
     private void compressEntirePayload(SdkHttpFullRequest.Builder input, Compressor compressor) {
-        ContentStreamProvider wrappedProvider = input.contentStreamProvider();
-        ContentStreamProvider compressedStreamProvider = () -> compressor.compress(wrappedProvider.newStream());
-        input.contentStreamProvider(compressedStreamProvider);
+        byte[] compressed;
+        try (InputStream payload = input.contentStreamProvider().newStream()) {
+            compressed = compressor.compress(IoUtils.toByteArray(payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        input.contentStreamProvider(() -> new ByteArrayInputStream(compressed));
+        input.putHeader("Content-Length", String.valueOf(compressed.length));
     }
 
     private void updateContentEncodingHeader(SdkHttpFullRequest.Builder input,
@@ -126,17 +134,6 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         }
     }
 
-    private void updateContentLengthHeader(SdkHttpFullRequest.Builder input) {
-        InputStream inputStream = input.contentStreamProvider().newStream();
-        try {
-            byte[] bytes = IoUtils.toByteArray(inputStream);
-            String length = String.valueOf(bytes.length);
-            input.putHeader("Content-Length", length);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
     private boolean isTransferEncodingChunked(SdkHttpFullRequest.Builder input) {
         return input.firstMatchingHeader("Transfer-Encoding")
                     .map(headerValue -> headerValue.equals("chunked"))
@@ -177,8 +174,26 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
     private boolean isRequestSizeWithinThreshold(SdkHttpFullRequest.Builder input, RequestExecutionContext context) {
         int minimumCompressionThreshold = resolveMinCompressionSize(context);
         validateMinCompressionSizeInput(minimumCompressionThreshold);
-        int requestSize = SdkBytes.fromInputStream(input.contentStreamProvider().newStream()).asByteArray().length;
-        return requestSize >= minimumCompressionThreshold;
+        return payloadSize(input) >= minimumCompressionThreshold;
+    }
+
+    private long payloadSize(SdkHttpFullRequest.Builder input) {
+        Optional<String> contentLength = input.firstMatchingHeader("Content-Length");
+        if (contentLength.isPresent()) {
+            return Long.parseLong(contentLength.get());
+        }
+
+        byte[] buffer = new byte[8192];
+        long size = 0;
+        try (InputStream payload = input.contentStreamProvider().newStream()) {
+            int read;
+            while ((read = payload.read(buffer)) != -1) {
+                size += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return size;
     }
 
     private int resolveMinCompressionSize(RequestExecutionContext context) {
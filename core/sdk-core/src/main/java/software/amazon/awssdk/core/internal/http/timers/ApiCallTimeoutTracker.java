@@ -21,18 +21,26 @@ import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
 
 /**
- * Api Call Timeout Tracker to track the {@link TimeoutTask} and the {@link ScheduledFuture}.
+ * Api Call Timeout Tracker to track the {@link TimeoutTask} and the {@link ScheduledFuture} or
+ * {@link HashedWheelTimer.Timeout} it was scheduled with.
  */
 @SdkInternalApi
 public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     private final TimeoutTask timeoutTask;
 
-    private final ScheduledFuture<?> future;
+    private final Runnable cancelScheduledTask;
 
     public ApiCallTimeoutTracker(TimeoutTask timeout, ScheduledFuture<?> future) {
         this.timeoutTask = Validate.paramNotNull(timeout, "timeoutTask");
-        this.future = Validate.paramNotNull(future, "scheduledFuture");
+        Validate.paramNotNull(future, "scheduledFuture");
+        this.cancelScheduledTask = () -> future.cancel(false);
+    }
+
+    public ApiCallTimeoutTracker(TimeoutTask timeout, HashedWheelTimer.Timeout wheelTimeout) {
+        this.timeoutTask = Validate.paramNotNull(timeout, "timeoutTask");
+        Validate.paramNotNull(wheelTimeout, "wheelTimeout");
+        this.cancelScheduledTask = wheelTimeout::cancel;
     }
 
     @Override
@@ -48,7 +56,7 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
     @Override
     public void cancel() {
         // Best-effort attempt to ensure that if the future hasn't started running already, don't run it.
-        future.cancel(false);
+        cancelScheduledTask.run();
         // Ensure that if the future hasn't executed its timeout logic already, it won't do so.
         timeoutTask.cancel();
     }
@@ -0,0 +1,375 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A timer that schedules and cancels timeouts in constant time, for timeouts that are scheduled for nearly every request and
+ * are almost always cancelled before they expire.
+ * <p>
+ * Timeouts are kept in a ring of buckets, each covering one tick of time. Scheduling a timeout adds it to a lock-free queue,
+ * and cancelling it marks it as cancelled, so neither contends on a lock or re-orders a heap like a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} does. A single daemon thread moves new timeouts to their bucket,
+ * removes cancelled ones, and expires the bucket of the current tick. Timeouts are therefore expired up to one tick late.
+ * <p>
+ * The task of an expired timeout is handed to the executor it was scheduled with, so that slow timeout handling, such as
+ * aborting an HTTP request, does not delay other timeouts.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HashedWheelTimer {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimer.class);
+
+    private static final long DEFAULT_TICK_DURATION_MILLIS = 10;
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+    private static final int MAX_TIMEOUTS_TRANSFERRED_PER_TICK = 100_000;
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    private final long tickDurationNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+    private final Thread workerThread;
+
+    private volatile long startTime;
+
+    /**
+     * The number of ticks since the worker started. Only accessed by the worker thread.
+     */
+    private long tick;
+
+    HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel, String threadName) {
+        Validate.isPositive(tickDuration, "tickDuration");
+        Validate.isPositive(ticksPerWheel, "ticksPerWheel");
+        this.tickDurationNanos = unit.toNanos(tickDuration);
+        this.wheel = createWheel(ticksPerWheel);
+        this.mask = wheel.length - 1;
+        this.workerThread = new Thread(this::runWorker, threadName);
+        this.workerThread.setDaemon(true);
+    }
+
+    /**
+     * Returns the timer shared by all clients in the JVM. Its thread is started when the first timeout is scheduled, and it
+     * runs as a daemon for the lifetime of the JVM.
+     */
+    public static HashedWheelTimer shared() {
+        return SharedTimerHolder.INSTANCE;
+    }
+
+    /**
+     * Schedules the task to be handed to the executor after the given delay, unless the returned timeout is cancelled first.
+     *
+     * @param task the task to run when the timeout expires
+     * @param delay the delay after which the timeout expires
+     * @param unit the unit of the delay
+     * @param executor the executor that runs the task
+     * @return the scheduled timeout
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit, Executor executor) {
+        Validate.paramNotNull(task, "task");
+        Validate.paramNotNull(unit, "unit");
+        Validate.paramNotNull(executor, "executor");
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        if (delay > 0 && deadline < 0) {
+            // Guard against overflow for very long delays
+            deadline = Long.MAX_VALUE;
+        }
+        Timeout timeout = new Timeout(this, task, executor, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the worker thread. Timeouts that have not expired yet never will. The shared timer is never stopped.
+     */
+    @SdkTestInternalApi
+    void stop() throws InterruptedException {
+        if (workerState.getAndSet(WORKER_SHUTDOWN) == WORKER_STARTED) {
+            workerThread.interrupt();
+            workerThread.join();
+        }
+    }
+
+    @SdkTestInternalApi
+    int pendingTimeouts() {
+        int count = pendingTimeouts.size();
+        for (Bucket bucket : wheel) {
+            count += bucket.size;
+        }
+        return count;
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            case WORKER_SHUTDOWN:
+                throw new IllegalStateException("The timer has been stopped and cannot schedule new timeouts.");
+            default:
+                throw new IllegalStateException("Invalid worker state: " + workerState.get());
+        }
+
+        while (startTime == 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the timer to start.", e);
+            }
+        }
+    }
+
+    private void runWorker() {
+        long now = System.nanoTime();
+        // Zero is used to signal that the start time has not been initialized yet
+        startTime = now == 0 ? 1 : now;
+        startTimeInitialized.countDown();
+
+        while (workerState.get() == WORKER_STARTED) {
+            long deadline = waitForNextTick();
+            if (deadline > 0) {
+                int index = (int) (tick & mask);
+                removeCancelledTimeouts();
+                transferTimeoutsToBuckets();
+                wheel[index].expireTimeouts(deadline);
+                tick++;
+            }
+        }
+    }
+
+    /**
+     * Sleeps until the start of the next tick and returns the time elapsed since the timer started, or a negative value if
+     * the timer was stopped while sleeping.
+     */
+    private long waitForNextTick() {
+        long deadline = tickDurationNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepTimeMillis = (deadline - currentTime + 999_999) / 1_000_000;
+            if (sleepTimeMillis <= 0) {
+                return currentTime == Long.MIN_VALUE ? -Long.MAX_VALUE : currentTime;
+            }
+            try {
+                Thread.sleep(sleepTimeMillis);
+            } catch (InterruptedException e) {
+                if (workerState.get() == WORKER_SHUTDOWN) {
+                    return Long.MIN_VALUE;
+                }
+            }
+        }
+    }
+
+    private void transferTimeoutsToBuckets() {
+        // Bound the work done per tick, so that a burst of new timeouts does not delay the expiration of due ones
+        for (int i = 0; i < MAX_TIMEOUTS_TRANSFERRED_PER_TICK; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expirationTick = timeout.deadline / tickDurationNanos;
+            timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+            // Timeouts that are already due are added to the current bucket
+            long bucketTick = Math.max(expirationTick, tick);
+            wheel[(int) (bucketTick & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            timeout.removeFromBucket();
+        }
+    }
+
+    private static Bucket[] createWheel(int ticksPerWheel) {
+        int normalizedTicksPerWheel = 1;
+        while (normalizedTicksPerWheel < ticksPerWheel) {
+            normalizedTicksPerWheel <<= 1;
+        }
+        Bucket[] wheel = new Bucket[normalizedTicksPerWheel];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        return wheel;
+    }
+
+    /**
+     * A timeout scheduled on a {@link HashedWheelTimer}.
+     */
+    public static final class Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final Executor executor;
+        private final long deadline;
+
+        private volatile int state = ST_INIT;
+
+        // The fields below are only accessed by the worker thread
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, Executor executor, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.executor = executor;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, so that its task does not run if it has not been handed to the executor yet.
+         *
+         * @return true if the timeout was cancelled, false if it had already expired or been cancelled.
+         */
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            // Let the worker thread remove it from its bucket, so that it does not hold on to the task until it expires
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        private void removeFromBucket() {
+            if (bucket != null) {
+                bucket.remove(this);
+            }
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.debug(() -> "The timeout executor rejected an expired timeout task. The client may have been closed.", e);
+            } catch (Throwable t) {
+                log.warn(() -> "Failed to hand an expired timeout task to its executor.", t);
+            }
+        }
+    }
+
+    /**
+     * A doubly-linked list of the timeouts that expire in one tick of the wheel. Only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+        private int size;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+            size++;
+        }
+
+        private void expireTimeouts(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            size--;
+        }
+    }
+
+    private static final class SharedTimerHolder {
+        private static final HashedWheelTimer INSTANCE =
+            new HashedWheelTimer(DEFAULT_TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL,
+                                 "sdk-timeout-wheel");
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Schedules the {@link TimeoutTask}s of API call and API call attempt timeouts.
+ */
+@SdkInternalApi
+@FunctionalInterface
+public interface TimeoutScheduler {
+
+    /**
+     * Schedule the {@link TimeoutTask} to run after the given timeout.
+     *
+     * @param timeoutTask the task to run when the timeout expires
+     * @param timeoutInMillis the timeout in milliseconds
+     * @return a {@link TimeoutTracker} that cancels the task
+     */
+    TimeoutTracker schedule(TimeoutTask timeoutTask, long timeoutInMillis);
+
+    /**
+     * A scheduler that schedules each task on the {@link ScheduledExecutorService}.
+     */
+    static TimeoutScheduler forExecutor(ScheduledExecutorService timeoutExecutor) {
+        return (timeoutTask, timeoutInMillis) ->
+            new ApiCallTimeoutTracker(timeoutTask, timeoutExecutor.schedule(timeoutTask, timeoutInMillis, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * A scheduler that schedules each task on the shared {@link HashedWheelTimer}, and runs it on the
+     * {@link ScheduledExecutorService} when it expires.
+     */
+    static TimeoutScheduler forHashedWheelTimer(HashedWheelTimer timer, ScheduledExecutorService timeoutExecutor) {
+        return (timeoutTask, timeoutInMillis) ->
+            new ApiCallTimeoutTracker(timeoutTask,
+                                      timer.schedule(timeoutTask, timeoutInMillis, TimeUnit.MILLISECONDS, timeoutExecutor));
+    }
+}
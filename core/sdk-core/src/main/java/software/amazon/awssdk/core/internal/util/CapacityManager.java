@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.internal.util;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
@@ -25,7 +27,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 public class CapacityManager {
 
     private final int maxCapacity;
-    private final Object lock = new Object();
+    private final Lock lock = new ReentrantLock();
     private volatile int availableCapacity;
 
     /**
@@ -68,13 +70,16 @@ public class CapacityManager {
             return true;
         }
 
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (availableCapacity - capacity >= 0) {
                 availableCapacity -= capacity;
                 return true;
             } else {
                 return false;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -101,8 +106,11 @@ public class CapacityManager {
         // in the common 'good' case where we have our full capacity available we can
         // short circuit going any further and avoid unnecessary locking.
         if (availableCapacity >= 0 && availableCapacity != maxCapacity) {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 availableCapacity = Math.min((availableCapacity + capacity), maxCapacity);
+            } finally {
+                lock.unlock();
             }
         }
     }
@@ -162,6 +162,13 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> ENDPOINT_RESOLVE_DURATION =
         metric("EndpointResolveDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * Whether the endpoint used for the API call was found in the client's endpoint resolution cache. This is only reported
+     * when the cache is enabled with the {@code ENDPOINT_RESOLUTION_CACHE_SIZE} advanced client option.
+     */
+    public static final SdkMetric<Boolean> ENDPOINT_RESOLUTION_CACHE_HIT =
+        metric("EndpointResolutionCacheHit", Boolean.class, MetricLevel.INFO);
+
 
     /**
      * The type of error that occurred for a call attempt.
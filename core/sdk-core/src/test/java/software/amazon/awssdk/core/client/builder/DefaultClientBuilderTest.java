@@ -23,7 +23,10 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.INCREMENTAL_UNMARSHALLING_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.ENABLE_INCREMENTAL_ASYNC_UNMARSHALLING;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
@@ -39,6 +42,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.VIRTUAL_THREADS_ENABLED;
 import static software.amazon.awssdk.core.internal.SdkInternalTestAdvancedClientOption.ENDPOINT_OVERRIDDEN_OVERRIDE;
 
 import com.google.common.collect.ImmutableSet;
@@ -55,8 +59,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -83,6 +90,7 @@ import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.VirtualThreadUtils;
 
 /**
  * Validate the functionality of the {@link SdkDefaultClientBuilder}.
@@ -157,6 +165,7 @@ public class DefaultClientBuilderTest {
             .executionAttributes(executionAttributes)
             .putAdvancedOption(ENDPOINT_OVERRIDDEN_OVERRIDE, Boolean.TRUE)
             .scheduledExecutorService(scheduledExecutorService)
+            .virtualThreadsEnabled(true)
             .build();
 
         TestClientBuilder builder = testClientBuilder().overrideConfiguration(overrideConfig);
@@ -206,6 +215,7 @@ public class DefaultClientBuilderTest {
         assertThat(builderOverrideConfig.executionAttributes().getAttributes()).isEmpty();
         assertThat(builderOverrideConfig.advancedOption(ENDPOINT_OVERRIDDEN_OVERRIDE)).isEmpty();
         assertThat(builderOverrideConfig.scheduledExecutorService()).isEmpty();
+        assertThat(builderOverrideConfig.virtualThreadsEnabled()).isEmpty();
     }
 
     @Test
@@ -286,6 +296,7 @@ public class DefaultClientBuilderTest {
         assertThat(config.option(METRIC_PUBLISHERS)).contains(metricPublisher);
         assertThat(config.option(EXECUTION_ATTRIBUTES).getAttribute(execAttribute)).isEqualTo("value");
         assertThat(config.option(ENDPOINT_OVERRIDDEN)).isEqualTo(Boolean.TRUE);
+        assertThat(config.option(VIRTUAL_THREADS_ENABLED)).isEqualTo(Boolean.TRUE);
 
         // Ensure that the SDK won't close the scheduled executor service we provided.
         config.close();
@@ -407,6 +418,71 @@ public class DefaultClientBuilderTest {
         });
     }
 
+    @Test
+    public void asyncClient_futureCompletionExecutorDefaultsToPlatformThreadPool() {
+        SdkClientConfiguration config = testAsyncClientBuilder().build().clientConfiguration;
+        try {
+            assertThat(config.option(FUTURE_COMPLETION_EXECUTOR)).isInstanceOf(ThreadPoolExecutor.class);
+        } finally {
+            config.close();
+        }
+    }
+
+    @Test
+    public void asyncClient_virtualThreadsEnabled_futureCompletionExecutorUsesVirtualThreadsWhenSupported() throws Exception {
+        ClientOverrideConfiguration overrideConfig = ClientOverrideConfiguration.builder()
+                                                                                .putAdvancedOption(SIGNER, TEST_SIGNER)
+                                                                                .virtualThreadsEnabled(true)
+                                                                                .build();
+        SdkClientConfiguration config =
+            new TestAsyncClientBuilder().overrideConfiguration(overrideConfig).build().clientConfiguration;
+        try {
+            Executor executor = config.option(FUTURE_COMPLETION_EXECUTOR);
+            if (VirtualThreadUtils.isSupported()) {
+                CompletableFuture<Thread> thread = CompletableFuture.supplyAsync(Thread::currentThread, executor);
+                assertThat(Thread.class.getMethod("isVirtual").invoke(thread.get())).isEqualTo(true);
+            } else {
+                assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+            }
+        } finally {
+            config.close();
+        }
+    }
+
+    @Test
+    public void asyncClient_incrementalUnmarshallingDisabled_noIncrementalUnmarshallingExecutor() {
+        SdkClientConfiguration config = testAsyncClientBuilder().build().clientConfiguration;
+        try {
+            assertThat(config.option(INCREMENTAL_UNMARSHALLING_EXECUTOR)).isNull();
+        } finally {
+            config.close();
+        }
+    }
+
+    @Test
+    public void asyncClient_incrementalUnmarshallingEnabled_usesDedicatedExecutor() {
+        ClientOverrideConfiguration overrideConfig =
+            ClientOverrideConfiguration.builder()
+                                       .putAdvancedOption(SIGNER, TEST_SIGNER)
+                                       .putAdvancedOption(ENABLE_INCREMENTAL_ASYNC_UNMARSHALLING, true)
+                                       .build();
+        SdkClientConfiguration config =
+            new TestAsyncClientBuilder().overrideConfiguration(overrideConfig).build().clientConfiguration;
+        try {
+            Executor executor = config.option(INCREMENTAL_UNMARSHALLING_EXECUTOR);
+            assertThat(executor).isInstanceOf(ThreadPoolExecutor.class)
+                                .isNotSameAs(config.option(FUTURE_COMPLETION_EXECUTOR));
+            // Tasks block while waiting for content, so they must never be queued behind a busy thread
+            assertThat(((ThreadPoolExecutor) executor).getQueue().remainingCapacity()).isZero();
+            // Once all threads are busy, tasks are rejected and the responses are buffered instead
+            assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isLessThan(Integer.MAX_VALUE);
+            assertThat(((ThreadPoolExecutor) executor).getRejectedExecutionHandler())
+                .isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+        } finally {
+            config.close();
+        }
+    }
+
     @Test
     public void defaultProfileFileSupplier_isStaticOrHasIdentityCaching() {
         SdkClientConfiguration config =
@@ -292,4 +292,24 @@ public class ClientOverrideConfigurationTest {
         assertThat(newHeaders).containsEntry("my-key", Collections.singletonList("my-value"))
             .hasSize(1);
     }
+
+    @Test
+    void virtualThreadsEnabled_notSet_isEmpty() {
+        ClientOverrideConfiguration configuration = ClientOverrideConfiguration.builder().build();
+        assertThat(configuration.virtualThreadsEnabled()).isEmpty();
+        assertThat(configuration.asSdkClientConfiguration().option(SdkClientOption.VIRTUAL_THREADS_ENABLED)).isNull();
+    }
+
+    @Test
+    void virtualThreadsEnabled_set_isPreservedAcrossCopies() {
+        ClientOverrideConfiguration configuration = ClientOverrideConfiguration.builder()
+                                                                               .virtualThreadsEnabled(true)
+                                                                               .build();
+
+        assertThat(configuration.virtualThreadsEnabled()).contains(true);
+        assertThat(configuration.toBuilder().virtualThreadsEnabled()).isTrue();
+        assertThat(configuration.toBuilder().build().virtualThreadsEnabled()).contains(true);
+        assertThat(configuration.asSdkClientConfiguration().option(SdkClientOption.VIRTUAL_THREADS_ENABLED)).isTrue();
+        assertThat(configuration.toString()).contains("virtualThreadsEnabled=true");
+    }
 }
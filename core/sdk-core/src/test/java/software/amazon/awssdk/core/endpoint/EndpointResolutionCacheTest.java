@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class EndpointResolutionCacheTest {
+    private final EndpointProvider provider = new EndpointProvider() {
+    };
+    private final AtomicInteger resolutions = new AtomicInteger();
+    private final Function<String, CompletableFuture<Endpoint>> resolver = params -> {
+        resolutions.incrementAndGet();
+        return CompletableFuture.completedFuture(Endpoint.builder().url(URI.create("https://" + params)).build());
+    };
+
+    @Test
+    public void create_nonPositiveSize_throws() {
+        assertThatThrownBy(() -> EndpointResolutionCache.create(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void resolveEndpoint_equalParams_resolvesOnce() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+
+        Endpoint first = cache.resolveEndpoint(provider, new String("foo.com"), resolver, null);
+        Endpoint second = cache.resolveEndpoint(provider, new String("foo.com"), resolver, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.url()).isEqualTo(URI.create("https://foo.com"));
+        assertThat(resolutions).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolveEndpoint_differentParams_resolvesEach() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+
+        assertThat(cache.resolveEndpoint(provider, "foo.com", resolver, null).url()).isEqualTo(URI.create("https://foo.com"));
+        assertThat(cache.resolveEndpoint(provider, "bar.com", resolver, null).url()).isEqualTo(URI.create("https://bar.com"));
+
+        assertThat(resolutions).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolveEndpoint_differentProvider_resolvesEach() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        EndpointProvider otherProvider = new EndpointProvider() {
+        };
+
+        cache.resolveEndpoint(provider, "foo.com", resolver, null);
+        cache.resolveEndpoint(otherProvider, "foo.com", resolver, null);
+
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    public void resolveEndpoint_cacheFull_evictsEndpoints() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(2);
+
+        cache.resolveEndpoint(provider, "a.com", resolver, null);
+        cache.resolveEndpoint(provider, "b.com", resolver, null);
+        cache.resolveEndpoint(provider, "c.com", resolver, null);
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolveEndpoint_resolutionFails_isNotCached() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        Function<String, CompletableFuture<Endpoint>> failingResolver = params -> {
+            resolutions.incrementAndGet();
+            CompletableFuture<Endpoint> future = new CompletableFuture<>();
+            future.completeExceptionally(new IllegalStateException("invalid params"));
+            return future;
+        };
+
+        assertThatThrownBy(() -> cache.resolveEndpoint(provider, "foo.com", failingResolver, null))
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> cache.resolveEndpoint(provider, "foo.com", failingResolver, null))
+            .isInstanceOf(CompletionException.class);
+
+        assertThat(resolutions).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void resolveEndpoint_reportsCacheHitMetric() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        MetricCollector metricCollector = MetricCollector.create("ApiCall");
+
+        cache.resolveEndpoint(provider, "foo.com", resolver, metricCollector);
+        cache.resolveEndpoint(provider, "foo.com", resolver, metricCollector);
+
+        MetricCollection metrics = metricCollector.collect();
+        assertThat(metrics.metricValues(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT)).containsExactly(false, true);
+    }
+}
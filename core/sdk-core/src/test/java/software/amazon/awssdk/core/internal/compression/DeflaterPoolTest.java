@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.zip.Deflater;
+import org.junit.Test;
+
+public class DeflaterPoolTest {
+
+    @Test
+    public void releasedDeflater_isReusedAfterReset() {
+        DeflaterPool pool = new DeflaterPool(Deflater.DEFAULT_COMPRESSION, 1);
+        Deflater deflater = pool.acquire();
+        deflater.setInput(new byte[] {1, 2, 3});
+        deflater.finish();
+        deflater.deflate(new byte[64]);
+
+        pool.release(deflater);
+
+        Deflater reused = pool.acquire();
+        assertThat(reused).isSameAs(deflater);
+        assertThat(reused.finished()).isFalse();
+        assertThat(reused.getBytesRead()).isZero();
+    }
+
+    @Test
+    public void release_whenPoolIsFull_doesNotPoolDeflater() {
+        DeflaterPool pool = new DeflaterPool(Deflater.DEFAULT_COMPRESSION, 1);
+        Deflater first = pool.acquire();
+        Deflater second = pool.acquire();
+        assertThat(second).isNotSameAs(first);
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.pooledDeflaters()).isEqualTo(1);
+        assertThat(pool.acquire()).isSameAs(first);
+    }
+}
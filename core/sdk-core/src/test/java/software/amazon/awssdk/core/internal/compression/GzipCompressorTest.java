@@ -22,12 +22,20 @@ import static org.hamcrest.core.Is.is;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.junit.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.IoUtils;
 
 public class GzipCompressorTest {
     private static final Compressor gzipCompressor = new GzipCompressor();
+    private static final int GZIP_HEADER_LENGTH = 10;
     private static final String COMPRESSABLE_STRING =
         "RequestCompressionTest-RequestCompressionTest-RequestCompressionTest-RequestCompressionTest-RequestCompressionTest";
 
@@ -53,4 +61,88 @@ public class GzipCompressorTest {
 
         assertThat(decompressedData, is(originalData));
     }
+
+    @Test
+    public void compressedData_matchesGzipOutputStreamAfterHeader() throws IOException {
+        byte[] originalData = randomCompressableData(300_000);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(baos)) {
+            gzipOutputStream.write(originalData);
+        }
+
+        // The OS field of the header written by GZIPOutputStream differs between Java versions.
+        byte[] expected = baos.toByteArray();
+        byte[] actual = gzipCompressor.compress(originalData);
+        assertThat(Arrays.copyOfRange(actual, GZIP_HEADER_LENGTH, actual.length),
+                   is(Arrays.copyOfRange(expected, GZIP_HEADER_LENGTH, expected.length)));
+    }
+
+    @Test
+    public void compressedEmptyData_decompressesCorrectly() throws IOException {
+        assertThat(decompress(gzipCompressor.compress(new byte[0])), is(new byte[0]));
+    }
+
+    @Test
+    public void compressedIncompressibleData_decompressesCorrectly() throws IOException {
+        byte[] originalData = new byte[200_000];
+        new Random().nextBytes(originalData);
+        assertThat(decompress(gzipCompressor.compress(originalData)), is(originalData));
+    }
+
+    @Test
+    public void compressedByteArrayRange_decompressesToRange() throws IOException {
+        byte[] originalData = randomCompressableData(1000);
+        byte[] compressedData = gzipCompressor.compress(originalData, 100, 500);
+        assertThat(decompress(compressedData), is(Arrays.copyOfRange(originalData, 100, 600)));
+    }
+
+    @Test
+    public void compressedByteBuffer_decompressesCorrectlyAndDoesNotConsumeInput() throws IOException {
+        byte[] originalData = randomCompressableData(1000);
+        ByteBuffer input = ByteBuffer.wrap(originalData);
+        input.position(10);
+
+        ByteBuffer compressed = gzipCompressor.compress(input);
+
+        assertThat(input.position(), is(10));
+        assertThat(decompress(BinaryUtils.copyBytesFrom(compressed)), is(Arrays.copyOfRange(originalData, 10, 1000)));
+    }
+
+    @Test
+    public void compressedInputStream_isIdenticalToCompressedByteArray() throws IOException {
+        byte[] originalData = randomCompressableData(1_000_000);
+        try (InputStream compressedStream = gzipCompressor.compress(new ByteArrayInputStream(originalData))) {
+            assertThat(IoUtils.toByteArray(compressedStream), is(gzipCompressor.compress(originalData)));
+        }
+    }
+
+    @Test
+    public void compressedInputStream_readByteByByte_decompressesCorrectly() throws IOException {
+        byte[] originalData = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (InputStream compressedStream = gzipCompressor.compress(new ByteArrayInputStream(originalData))) {
+            int b;
+            while ((b = compressedStream.read()) != -1) {
+                baos.write(b);
+            }
+        }
+        assertThat(decompress(baos.toByteArray()), is(originalData));
+    }
+
+    private static byte[] randomCompressableData(int size) {
+        byte[] words = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+        Random random = new Random(size);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = words[random.nextInt(words.length)];
+        }
+        return data;
+    }
+
+    private static byte[] decompress(byte[] compressedData) throws IOException {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressedData))) {
+            return IoUtils.toByteArray(gzipInputStream);
+        }
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+class AsyncResponseHandlerTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void buffered_multipleChunks_handlerSeesWholeContent() throws Exception {
+        AsyncResponseHandler<String> handler = new AsyncResponseHandler<>(contentAsString(), Function.identity(),
+                                                                          new ExecutionAttributes());
+        CompletableFuture<String> result = handler.prepare();
+        handler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        handler.onStream(publisher);
+        publisher.send(utf8("{\"foo\":"));
+        publisher.send(utf8("\"bar\"}"));
+        assertThat(result).isNotDone();
+        publisher.complete();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("{\"foo\":\"bar\"}");
+    }
+
+    @Test
+    void buffered_noContent_handlerSeesNoContent() throws Exception {
+        AsyncResponseHandler<String> handler = new AsyncResponseHandler<>(contentAsString(), Function.identity(),
+                                                                          new ExecutionAttributes());
+        CompletableFuture<String> result = handler.prepare();
+        handler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        handler.onStream(publisher);
+        publisher.complete();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void incremental_handlerInvokedBeforeContentIsComplete() throws Exception {
+        CountDownLatch handlerInvoked = new CountDownLatch(1);
+        HttpResponseHandler<String> responseHandler = (response, executionAttributes) -> {
+            handlerInvoked.countDown();
+            return IoUtils.toUtf8String(response.content().get());
+        };
+        AsyncResponseHandler<String> handler = new AsyncResponseHandler<>(responseHandler, Function.identity(),
+                                                                          new ExecutionAttributes(), executor);
+        CompletableFuture<String> result = handler.prepare();
+        handler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        handler.onStream(publisher);
+        publisher.send(utf8("{\"foo\":"));
+
+        assertThat(handlerInvoked.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result).isNotDone();
+
+        publisher.send(utf8("\"bar\"}"));
+        publisher.complete();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("{\"foo\":\"bar\"}");
+    }
+
+    @Test
+    void incremental_handlerClosesContentEarly_remainingContentIsDrained() throws Exception {
+        HttpResponseHandler<Integer> responseHandler = (response, executionAttributes) -> {
+            InputStream content = response.content().get();
+            int firstByte = content.read();
+            content.close();
+            return firstByte;
+        };
+        AsyncResponseHandler<Integer> handler = new AsyncResponseHandler<>(responseHandler, Function.identity(),
+                                                                           new ExecutionAttributes(), executor);
+        CompletableFuture<Integer> result = handler.prepare();
+        handler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        handler.onStream(publisher);
+        publisher.send(utf8("a"));
+        CompletableFuture<Void> secondChunkSent = publisher.send(utf8("bcd"));
+        CompletableFuture<Void> completed = publisher.complete();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo((int) 'a');
+        // The subscription was not cancelled, so the rest of the response was delivered
+        secondChunkSent.get(5, TimeUnit.SECONDS);
+        completed.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void incremental_publisherReusesChunkAfterDelivery_handlerSeesOriginalContent() throws Exception {
+        CountDownLatch chunkReused = new CountDownLatch(1);
+        HttpResponseHandler<String> responseHandler = (response, executionAttributes) -> {
+            chunkReused.await(5, TimeUnit.SECONDS);
+            return IoUtils.toUtf8String(response.content().get());
+        };
+        AsyncResponseHandler<String> handler = new AsyncResponseHandler<>(responseHandler, Function.identity(),
+                                                                          new ExecutionAttributes(), executor);
+        CompletableFuture<String> result = handler.prepare();
+        handler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        handler.onStream(publisher);
+        byte[] chunk = "{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8);
+        publisher.send(ByteBuffer.wrap(chunk)).get(5, TimeUnit.SECONDS);
+        // Like a pooled buffer that the HTTP client reuses once more data has been requested
+        Arrays.fill(chunk, (byte) ' ');
+        chunkReused.countDown();
+        publisher.complete();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("{\"foo\":\"bar\"}");
+    }
+
+    @Test
+    void incremental_noContent_handlerSeesNoContent() throws Exception {
+        AsyncResponseHandler<String> handler = new AsyncResponseHandler<>(contentAsString(), Function.identity(),
+                                                                          new ExecutionAttributes(), executor);
+        CompletableFuture<String> result = handler.prepare();
+        handler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        handler.onStream(publisher);
+        publisher.complete();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void incremental_directExecutor_buffersInstead() throws Exception {
+        AsyncResponseHandler<String> handler = new AsyncResponseHandler<>(contentAsString(), Function.identity(),
+                                                                          new ExecutionAttributes(), Runnable::run);
+        assertBuffersContent(handler);
+    }
+
+    @Test
+    void incremental_executorRejects_buffersInstead() throws Exception {
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("All threads are busy");
+        };
+        AsyncResponseHandler<String> handler = new AsyncResponseHandler<>(contentAsString(), Function.identity(),
+                                                                          new ExecutionAttributes(), rejecting);
+        assertBuffersContent(handler);
+    }
+
+    @Test
+    void incremental_executorRunsTaskLaterOnDeliveringThread_failsInsteadOfDeadlocking() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        AsyncResponseHandler<String> handler = new AsyncResponseHandler<>(contentAsString(), Function.identity(),
+                                                                          new ExecutionAttributes(), tasks::add);
+        CompletableFuture<String> result = handler.prepare();
+        handler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        handler.onStream(publisher);
+        publisher.send(utf8("{\"foo\":"));
+        tasks.forEach(Runnable::run);
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("INCREMENTAL_UNMARSHALLING_EXECUTOR");
+    }
+
+    private static void assertBuffersContent(AsyncResponseHandler<String> handler) throws Exception {
+        CompletableFuture<String> result = handler.prepare();
+        handler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        handler.onStream(publisher);
+        publisher.send(utf8("{\"foo\":"));
+        assertThat(result).isNotDone();
+        publisher.send(utf8("\"bar\"}"));
+        publisher.complete();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("{\"foo\":\"bar\"}");
+    }
+
+    private static HttpResponseHandler<String> contentAsString() {
+        return (response, executionAttributes) -> response.content().isPresent()
+                                                  ? IoUtils.toUtf8String(response.content().get())
+                                                  : null;
+    }
+
+    private static ByteBuffer utf8(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(10)
+public class HashedWheelTimerTest {
+    private HashedWheelTimer timer;
+    private ScheduledExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, "test-timeout-wheel");
+        executor = new ScheduledThreadPoolExecutor(1);
+    }
+
+    @AfterEach
+    public void teardown() throws InterruptedException {
+        timer.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void schedule_runsTaskOnExecutorAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(() -> {
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        }, 50, TimeUnit.MILLISECONDS, executor);
+
+        latch.await();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+        assertThat(threads).singleElement().satisfies(t -> assertThat(t.getName()).isNotEqualTo("test-timeout-wheel"));
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void schedule_delayLongerThanWheel_expiresAfterMultipleRounds() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.schedule(latch::countDown, 30, TimeUnit.MILLISECONDS, executor);
+
+        latch.await();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    public void cancel_beforeExpiration_taskDoesNotRunAndIsRemoved() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            timeouts.add(timer.schedule(runs::incrementAndGet, 100, TimeUnit.MILLISECONDS, executor));
+        }
+
+        timeouts.forEach(t -> assertThat(t.cancel()).isTrue());
+        assertThat(timeouts.get(0).cancel()).isFalse();
+
+        while (timer.pendingTimeouts() > 0) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(200);
+        assertThat(runs).hasValue(0);
+        assertThat(timeouts).allSatisfy(t -> assertThat(t.isCancelled()).isTrue());
+    }
+
+    @Test
+    public void schedule_manyTimeouts_allExpire() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(500);
+        for (int i = 0; i < 500; i++) {
+            timer.schedule(latch::countDown, i % 20, TimeUnit.MILLISECONDS, executor);
+        }
+
+        latch.await();
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    public void schedule_executorShutdown_doesNotStopTimer() throws InterruptedException {
+        executor.shutdown();
+        timer.schedule(() -> { }, 0, TimeUnit.MILLISECONDS, executor);
+
+        ScheduledExecutorService otherExecutor = new ScheduledThreadPoolExecutor(1);
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            timer.schedule(latch::countDown, 5, TimeUnit.MILLISECONDS, otherExecutor);
+            latch.await();
+        } finally {
+            otherExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void schedule_afterStop_throwsException() throws InterruptedException {
+        timer.stop();
+
+        assertThatThrownBy(() -> timer.schedule(() -> { }, 1, TimeUnit.MILLISECONDS, executor))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void apiCallTimeoutTracker_cancel_cancelsWheelTimeout() {
+        SyncTimeoutTask timeoutTask = new SyncTimeoutTask(Thread.currentThread());
+        TimeoutTracker tracker = TimeoutScheduler.forHashedWheelTimer(timer, executor).schedule(timeoutTask, 1000);
+
+        tracker.cancel();
+
+        assertThat(tracker.hasExecuted()).isFalse();
+    }
+}
@@ -121,6 +121,42 @@ public final class HttpMetric {
     public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
         metric("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * The time taken to establish a new connection for the request. For TLS connections that are not tunneled through a proxy,
+     * this includes the TLS handshake. This is only reported when the request could not reuse a pooled connection.
+     */
+    public static final SdkMetric<Duration> CONNECT_DURATION =
+        metric("ConnectDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time taken to perform the TLS handshake on a new connection for the request. This is only reported when the request
+     * established a new TLS connection.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_DURATION =
+        metric("TlsHandshakeDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of requests that were executed on the connection before this request. This is 0 when the request established
+     * a new connection.
+     */
+    public static final SdkMetric<Integer> CONNECTION_REUSE_COUNT =
+        metric("ConnectionReuseCount", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The time the connection used by the request spent idle in the connection pool before it was leased. This is not reported
+     * when the request established a new connection.
+     */
+    public static final SdkMetric<Duration> CONNECTION_IDLE_DURATION =
+        metric("ConnectionIdleDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time between leasing the connection from the connection pool and returning it to the pool, which includes reading
+     * the response body. This is only reported if the connection is returned before the metrics for the request are published;
+     * for streaming responses that are consumed after the API call completes, it is not reported.
+     */
+    public static final SdkMetric<Duration> CONNECTION_LEASE_DURATION =
+        metric("ConnectionLeaseDuration", Duration.class, MetricLevel.INFO);
+
     private HttpMetric() {
     }
 
@@ -78,6 +78,7 @@ import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionLifecycleTracker;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
@@ -149,6 +150,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         // IdleConnectionReaper as it's required for the successful deregistration of managers
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
         HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions);
+        ConnectionLifecycleTracker lifecycleTracker = createLifecycleTracker(configuration, standardOptions);
 
         builder.setRequestExecutor(new HttpRequestExecutor())
                // SDK handles decompression
@@ -158,18 +160,24 @@ public final class ApacheHttpClient implements SdkHttpClient {
                .disableAutomaticRetries()
                .setUserAgent("") // SDK will set the user agent header in the pipeline. Don't let Apache waste time
                .setConnectionReuseStrategy(new SdkConnectionReuseStrategy())
-               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
+               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm, lifecycleTracker));
 
         addProxyConfig(builder, configuration);
 
-        if (useIdleConnectionReaper(standardOptions)) {
-            IdleConnectionReaper.getInstance().registerConnectionManager(
-                    cm, standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis());
+        if (lifecycleTracker.needsReaper()) {
+            IdleConnectionReaper.getInstance().registerConnectionManager(cm, lifecycleTracker);
         }
 
         return new ApacheSdkHttpClient(builder.build(), cm);
     }
 
+    private ConnectionLifecycleTracker createLifecycleTracker(DefaultBuilder configuration, AttributeMap standardOptions) {
+        Duration maxIdleTime = useIdleConnectionReaper(standardOptions)
+                               ? standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT)
+                               : null;
+        return new ConnectionLifecycleTracker(maxIdleTime, configuration.connectionLeakDetectionThreshold);
+    }
+
     private void addProxyConfig(HttpClientBuilder builder,
                                 DefaultBuilder configuration) {
         ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
@@ -399,6 +407,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
          */
         Builder useIdleConnectionReaper(Boolean useConnectionReaper);
 
+        /**
+         * Configure the amount of time after which a connection that was leased from the connection pool and not returned is
+         * reported as leaked. Leaked connections are usually caused by response input streams that are never closed, and
+         * eventually exhaust the connection pool.
+         * <p>
+         * When enabled, a warning including the stack trace of the code that leased the connection is logged for each leaked
+         * connection, shortly after it exceeds this threshold. Capturing the stack trace adds a small cost to every request.
+         * By default, this is disabled.
+         */
+        Builder connectionLeakDetectionThreshold(Duration connectionLeakDetectionThreshold);
+
         /**
          * Configuration that defines a DNS resolver. If no matches are found, the default resolver is used.
          */
@@ -462,6 +481,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
         private ConnectionSocketFactory socketFactory;
+        private Duration connectionLeakDetectionThreshold;
 
         private DefaultBuilder() {
         }
@@ -572,6 +592,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
             useIdleConnectionReaper(useIdleConnectionReaper);
         }
 
+        @Override
+        public Builder connectionLeakDetectionThreshold(Duration connectionLeakDetectionThreshold) {
+            Validate.isPositiveOrNull(connectionLeakDetectionThreshold, "connectionLeakDetectionThreshold");
+            this.connectionLeakDetectionThreshold = connectionLeakDetectionThreshold;
+            return this;
+        }
+
+        public void setConnectionLeakDetectionThreshold(Duration connectionLeakDetectionThreshold) {
+            connectionLeakDetectionThreshold(connectionLeakDetectionThreshold);
+        }
+
         @Override
         public Builder dnsResolver(DnsResolver dnsResolver) {
             this.dnsResolver = dnsResolver;
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.apache.internal.conn;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import org.apache.http.HttpClientConnection;
 import org.apache.http.conn.ConnectionRequest;
@@ -23,6 +24,8 @@ import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 @SdkInternalApi
 public final class ClientConnectionManagerFactory {
@@ -37,25 +40,58 @@ public final class ClientConnectionManagerFactory {
      * @param orig the target instance to be wrapped
      */
     public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig) {
+        return wrap(orig, new ConnectionLifecycleTracker(null, null));
+    }
+
+    /**
+     * Returns a wrapped instance of {@link HttpClientConnectionManager}
+     * to capture the necessary performance metrics and notify the given tracker of connection leases and releases.
+     *
+     * @param orig the target instance to be wrapped
+     * @param lifecycleTracker the tracker of the connections of the wrapped instance
+     */
+    public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig,
+                                                   ConnectionLifecycleTracker lifecycleTracker) {
         if (orig instanceof DelegatingHttpClientConnectionManager) {
             throw new IllegalArgumentException();
         }
-        return new InstrumentedHttpClientConnectionManager(orig);
+        return new InstrumentedHttpClientConnectionManager(orig, lifecycleTracker);
     }
 
     /**
-     * Further wraps {@link ConnectionRequest} to capture performance metrics.
+     * Further wraps {@link ConnectionRequest} to capture performance metrics, measures the time taken to establish new
+     * connections and tracks the lifecycle of the pooled connections.
      */
     private static class InstrumentedHttpClientConnectionManager extends DelegatingHttpClientConnectionManager {
+        private final ConnectionLifecycleTracker lifecycleTracker;
 
-        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate) {
+        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate,
+                                                        ConnectionLifecycleTracker lifecycleTracker) {
             super(delegate);
+            this.lifecycleTracker = lifecycleTracker;
         }
 
         @Override
         public ConnectionRequest requestConnection(HttpRoute route, Object state) {
             ConnectionRequest connectionRequest = super.requestConnection(route, state);
-            return ClientConnectionRequestFactory.wrap(connectionRequest);
+            return ClientConnectionRequestFactory.wrap(connectionRequest, lifecycleTracker);
+        }
+
+        @Override
+        public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration, TimeUnit timeUnit) {
+            lifecycleTracker.connectionReleased(conn);
+            super.releaseConnection(conn, newState, validDuration, timeUnit);
+        }
+
+        @Override
+        public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout, HttpContext context)
+                throws IOException {
+            long start = System.nanoTime();
+            super.connect(conn, route, connectTimeout, context);
+            MetricCollector metricCollector = ClientConnectionRequestFactory.THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+            if (metricCollector != null) {
+                metricCollector.reportMetric(HttpMetric.CONNECT_DURATION, Duration.ofNanos(System.nanoTime() - start));
+            }
         }
     }
 
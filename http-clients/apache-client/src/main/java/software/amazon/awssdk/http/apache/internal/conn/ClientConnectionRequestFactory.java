@@ -44,32 +44,38 @@ public final class ClientConnectionRequestFactory {
      * to capture the necessary performance metrics.
      *
      * @param orig the target instance to be wrapped
+     * @param lifecycleTracker the tracker to notify of leased connections
      */
-    static ConnectionRequest wrap(ConnectionRequest orig) {
+    static ConnectionRequest wrap(ConnectionRequest orig, ConnectionLifecycleTracker lifecycleTracker) {
         if (orig instanceof DelegatingConnectionRequest) {
             throw new IllegalArgumentException();
         }
-        return new InstrumentedConnectionRequest(orig);
+        return new InstrumentedConnectionRequest(orig, lifecycleTracker);
     }
 
     /**
-     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}.
+     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)} and notifies the
+     * {@link ConnectionLifecycleTracker} of the leased connection.
      */
     private static class InstrumentedConnectionRequest extends DelegatingConnectionRequest {
+        private final ConnectionLifecycleTracker lifecycleTracker;
 
-        private InstrumentedConnectionRequest(ConnectionRequest delegate) {
+        private InstrumentedConnectionRequest(ConnectionRequest delegate, ConnectionLifecycleTracker lifecycleTracker) {
             super(delegate);
+            this.lifecycleTracker = lifecycleTracker;
         }
 
         @Override
         public HttpClientConnection get(long timeout, TimeUnit timeUnit) throws InterruptedException, ExecutionException,
                                                                                 ConnectionPoolTimeoutException {
             Instant startTime = Instant.now();
+            MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
             try {
-                return super.get(timeout, timeUnit);
+                HttpClientConnection connection = super.get(timeout, timeUnit);
+                lifecycleTracker.connectionLeased(connection, metricCollector);
+                return connection;
             } finally {
                 Duration elapsed = Duration.between(startTime, Instant.now());
-                MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
                 metricCollector.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, elapsed);
             }
         }
@@ -0,0 +1,274 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpConnectionMetrics;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.NumericUtils;
+
+/**
+ * Tracks the lifecycle of the connections of one connection pool: reports per-connection metrics when a connection is leased
+ * and released, records when idle connections become eligible for reaping so that the {@link IdleConnectionReaper} can wake up
+ * exactly when needed, and detects leased connections that are never returned to the pool.
+ *
+ * <p>Per-connection state is stored as attributes of the pooled connection itself, so it lives and dies with the connection.
+ */
+@SdkInternalApi
+public final class ConnectionLifecycleTracker {
+    private static final Logger log = Logger.loggerFor(ConnectionLifecycleTracker.class);
+
+    private static final String RELEASED_AT_ATTRIBUTE = "software.amazon.awssdk.http.apache.releasedAtNanos";
+
+    /**
+     * The minimum precision with which idle deadlines are tracked. Deadlines are grouped in buckets so that the number of
+     * tracked deadlines stays small however many connections are released, at the cost of reaping a connection up to one bucket
+     * late.
+     */
+    private static final long MIN_DEADLINE_PRECISION_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * The pool compares idle times in milliseconds of wall-clock time, so leave a little slack to make sure a connection is
+     * eligible for reaping when its deadline is reached.
+     */
+    private static final long DEADLINE_SLACK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long maxIdleNanos;
+    private final long deadlinePrecisionNanos;
+    private final long leakDetectionThresholdNanos;
+    private final Map<HttpClientConnection, Lease> leases = new ConcurrentHashMap<>();
+
+    private final Lock idleDeadlinesLock = new ReentrantLock();
+    private final ArrayDeque<Long> idleDeadlines = new ArrayDeque<>();
+
+    private volatile Runnable earlierDeadlineListener = () -> { };
+
+    /**
+     * @param maxIdleTime The time after which idle connections are reaped, or null if idle connections are not reaped.
+     * @param leakDetectionThreshold The time after which a leased connection that was not returned to the pool is reported as
+     * leaked, or null if leaks are not detected.
+     */
+    public ConnectionLifecycleTracker(Duration maxIdleTime, Duration leakDetectionThreshold) {
+        this.maxIdleNanos = isPositive(maxIdleTime) ? maxIdleTime.toNanos() : 0;
+        this.deadlinePrecisionNanos = Math.max(maxIdleNanos / 10, MIN_DEADLINE_PRECISION_NANOS);
+        this.leakDetectionThresholdNanos = isPositive(leakDetectionThreshold) ? leakDetectionThreshold.toNanos() : 0;
+    }
+
+    /**
+     * Whether this tracker has work for the {@link IdleConnectionReaper}.
+     */
+    public boolean needsReaper() {
+        return maxIdleNanos > 0 || leakDetectionThresholdNanos > 0;
+    }
+
+    /**
+     * Called when a connection was leased from the pool for the request whose metrics are collected by the given collector.
+     */
+    void connectionLeased(HttpClientConnection connection, MetricCollector metricCollector) {
+        MetricCollector collector = metricCollector != null ? metricCollector : NoOpMetricCollector.create();
+        long now = System.nanoTime();
+
+        if (connection.isOpen()) {
+            HttpConnectionMetrics connectionMetrics = connection.getMetrics();
+            collector.reportMetric(HttpMetric.CONNECTION_REUSE_COUNT,
+                                   NumericUtils.saturatedCast(connectionMetrics.getRequestCount()));
+            Object releasedAt = attribute(connection, RELEASED_AT_ATTRIBUTE);
+            if (releasedAt instanceof Long) {
+                collector.reportMetric(HttpMetric.CONNECTION_IDLE_DURATION, Duration.ofNanos(now - (Long) releasedAt));
+            }
+        } else {
+            collector.reportMetric(HttpMetric.CONNECTION_REUSE_COUNT, 0);
+        }
+
+        Throwable leaseSite = leakDetectionThresholdNanos > 0 ? new Throwable("Connection lease site") : null;
+        leases.put(connection, new Lease(now, collector, Thread.currentThread().getName(), leaseSite));
+    }
+
+    /**
+     * Called when a connection is about to be returned to the pool.
+     */
+    void connectionReleased(HttpClientConnection connection) {
+        long now = System.nanoTime();
+        Lease lease = leases.remove(connection);
+        if (lease != null) {
+            lease.metricCollector.reportMetric(HttpMetric.CONNECTION_LEASE_DURATION, Duration.ofNanos(now - lease.leasedAtNanos));
+            if (lease.reportedAsLeaked) {
+                log.info(() -> "A connection previously reported as leaked was returned to the pool after "
+                               + Duration.ofNanos(now - lease.leasedAtNanos) + ".");
+            }
+        }
+
+        if (connection.isOpen()) {
+            setAttribute(connection, RELEASED_AT_ATTRIBUTE, now);
+            if (maxIdleNanos > 0) {
+                addIdleDeadline(now);
+            }
+        }
+    }
+
+    /**
+     * Closes the idle connections of the given connection manager if an idle deadline has passed, and reports connections that
+     * have been leased for longer than the leak detection threshold.
+     *
+     * @return The {@link System#nanoTime()} at which this method should be called again, or {@link Long#MAX_VALUE} if there is
+     * nothing left to do until {@link #onEarlierDeadline(Runnable) the listener} is notified.
+     */
+    long reap(HttpClientConnectionManager connectionManager, long now) {
+        long nextDeadline = Long.MAX_VALUE;
+
+        if (maxIdleNanos > 0) {
+            boolean deadlinePassed = false;
+            Long earliestDeadline;
+            idleDeadlinesLock.lock();
+            try {
+                while (!idleDeadlines.isEmpty() && idleDeadlines.peekFirst() - now <= 0) {
+                    idleDeadlines.pollFirst();
+                    deadlinePassed = true;
+                }
+                earliestDeadline = idleDeadlines.peekFirst();
+            } finally {
+                idleDeadlinesLock.unlock();
+            }
+
+            if (deadlinePassed) {
+                connectionManager.closeIdleConnections(maxIdleNanos, TimeUnit.NANOSECONDS);
+            }
+            if (earliestDeadline != null) {
+                nextDeadline = earliestDeadline;
+            }
+        }
+
+        if (leakDetectionThresholdNanos > 0) {
+            nextDeadline = Math.min(nextDeadline, detectLeaks(now));
+        }
+
+        return nextDeadline;
+    }
+
+    /**
+     * Register a listener that is notified when the next deadline moves earlier than the one previously returned by
+     * {@link #reap(HttpClientConnectionManager, long)}.
+     */
+    void onEarlierDeadline(Runnable listener) {
+        this.earlierDeadlineListener = listener;
+    }
+
+    @SdkTestInternalApi
+    int leasedConnections() {
+        return leases.size();
+    }
+
+    private void addIdleDeadline(long releasedAt) {
+        long deadline = releasedAt + maxIdleNanos + DEADLINE_SLACK_NANOS;
+        long bucketedDeadline = Math.floorDiv(deadline + deadlinePrecisionNanos - 1, deadlinePrecisionNanos)
+                                * deadlinePrecisionNanos;
+        boolean wasEmpty;
+        idleDeadlinesLock.lock();
+        try {
+            Long latestDeadline = idleDeadlines.peekLast();
+            if (latestDeadline != null && bucketedDeadline - latestDeadline <= 0) {
+                return;
+            }
+            wasEmpty = latestDeadline == null;
+            idleDeadlines.addLast(bucketedDeadline);
+        } finally {
+            idleDeadlinesLock.unlock();
+        }
+
+        // Connections are released in time order, so only the first deadline after the queue drained can be earlier than the
+        // one the reaper is waiting for.
+        if (wasEmpty) {
+            earlierDeadlineListener.run();
+        }
+    }
+
+    private long detectLeaks(long now) {
+        // When no lease is pending, check again after one threshold. A lease taken in the meantime is then reported at most one
+        // threshold late, without having to notify the reaper on every lease.
+        long nextCheck = now + leakDetectionThresholdNanos;
+        for (Lease lease : leases.values()) {
+            if (lease.reportedAsLeaked) {
+                continue;
+            }
+            long leakDeadline = lease.leasedAtNanos + leakDetectionThresholdNanos;
+            if (leakDeadline - now <= 0) {
+                lease.reportedAsLeaked = true;
+                log.warn(() -> "A connection leased from the Apache HTTP client's connection pool by thread '" + lease.threadName
+                               + "' has not been returned after " + Duration.ofNanos(now - lease.leasedAtNanos) + ". This "
+                               + "usually means that a response input stream was not closed. Unclosed streams exhaust the "
+                               + "connection pool.", lease.leaseSite);
+            } else {
+                nextCheck = Math.min(nextCheck, leakDeadline);
+            }
+        }
+        return nextCheck;
+    }
+
+    private static Object attribute(HttpClientConnection connection, String name) {
+        if (connection instanceof HttpContext) {
+            try {
+                return ((HttpContext) connection).getAttribute(name);
+            } catch (IllegalStateException e) {
+                // The connection was detached from the pool concurrently.
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static void setAttribute(HttpClientConnection connection, String name, Object value) {
+        if (connection instanceof HttpContext) {
+            try {
+                ((HttpContext) connection).setAttribute(name, value);
+            } catch (IllegalStateException e) {
+                // The connection was detached from the pool concurrently.
+            }
+        }
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isNegative() && !duration.isZero();
+    }
+
+    private static final class Lease {
+        private final long leasedAtNanos;
+        private final MetricCollector metricCollector;
+        private final String threadName;
+        private final Throwable leaseSite;
+        private volatile boolean reportedAsLeaked;
+
+        private Lease(long leasedAtNanos, MetricCollector metricCollector, String threadName, Throwable leaseSite) {
+            this.leasedAtNanos = leasedAtNanos;
+            this.metricCollector = metricCollector;
+            this.threadName = threadName;
+            this.leaseSite = leaseSite;
+        }
+    }
+}
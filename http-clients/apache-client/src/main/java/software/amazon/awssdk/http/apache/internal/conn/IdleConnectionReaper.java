@@ -15,13 +15,16 @@
 
 package software.amazon.awssdk.http.apache.internal.conn;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.slf4j.Logger;
@@ -30,7 +33,12 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 
 /**
- * Manages the reaping of idle connections.
+ * Manages the reaping of idle connections and the detection of leaked connections.
+ *
+ * <p>Rather than waking up periodically, the reaper thread sleeps until the earliest deadline reported by the
+ * {@link ConnectionLifecycleTracker}s of the registered connection managers: the time at which the oldest idle connection
+ * exceeds its maximum idle time, or at which the oldest leased connection exceeds its leak detection threshold. When no
+ * connection is idle or leased, the thread waits until a tracker reports a new deadline.
  */
 @SdkInternalApi
 public final class IdleConnectionReaper {
@@ -38,12 +46,10 @@ public final class IdleConnectionReaper {
 
     private static final IdleConnectionReaper INSTANCE = new IdleConnectionReaper();
 
-    private final Map<HttpClientConnectionManager, Long> connectionManagers;
+    private final Map<HttpClientConnectionManager, ConnectionLifecycleTracker> connectionManagers;
 
     private final Supplier<ExecutorService> executorServiceSupplier;
 
-    private final long sleepPeriod;
-
     private volatile ExecutorService exec;
 
     private volatile ReaperTask reaperTask;
@@ -59,31 +65,31 @@ public final class IdleConnectionReaper {
             });
             return e;
         };
-
-        this.sleepPeriod = Duration.ofMinutes(1).toMillis();
     }
 
     @SdkTestInternalApi
-    IdleConnectionReaper(Map<HttpClientConnectionManager, Long> connectionManagers,
-                         Supplier<ExecutorService> executorServiceSupplier,
-                         long sleepPeriod) {
+    IdleConnectionReaper(Map<HttpClientConnectionManager, ConnectionLifecycleTracker> connectionManagers,
+                         Supplier<ExecutorService> executorServiceSupplier) {
 
         this.connectionManagers = connectionManagers;
         this.executorServiceSupplier = executorServiceSupplier;
-        this.sleepPeriod = sleepPeriod;
     }
 
     /**
      * Register the connection manager with this reaper.
      *
      * @param manager The connection manager.
-     * @param maxIdleTime The maximum time connections in the connection manager are to remain idle before being reaped.
+     * @param lifecycleTracker The tracker of the connections of the connection manager, which determines when connections are
+     * reaped or reported as leaked.
      * @return {@code true} If the connection manager was not previously registered with this reaper, {@code false}
      * otherwise.
      */
-    public synchronized boolean registerConnectionManager(HttpClientConnectionManager manager, long maxIdleTime) {
-        boolean notPreviouslyRegistered = connectionManagers.put(manager, maxIdleTime) == null;
+    public synchronized boolean registerConnectionManager(HttpClientConnectionManager manager,
+                                                          ConnectionLifecycleTracker lifecycleTracker) {
+        boolean notPreviouslyRegistered = connectionManagers.put(manager, lifecycleTracker) == null;
         setupExecutorIfNecessary();
+        lifecycleTracker.onEarlierDeadline(this::wakeUp);
+        wakeUp();
         return notPreviouslyRegistered;
     }
 
@@ -107,6 +113,13 @@ public final class IdleConnectionReaper {
         return INSTANCE;
     }
 
+    private void wakeUp() {
+        ReaperTask task = reaperTask;
+        if (task != null) {
+            task.wakeUp();
+        }
+    }
+
     private void setupExecutorIfNecessary() {
         if (exec != null) {
             return;
@@ -114,7 +127,7 @@ public final class IdleConnectionReaper {
 
         ExecutorService e = executorServiceSupplier.get();
 
-        this.reaperTask = new ReaperTask(connectionManagers, sleepPeriod);
+        this.reaperTask = new ReaperTask(connectionManagers);
 
         e.execute(this.reaperTask);
 
@@ -133,30 +146,23 @@ public final class IdleConnectionReaper {
     }
 
     private static final class ReaperTask implements Runnable {
-        private final Map<HttpClientConnectionManager, Long> connectionManagers;
-        private final long sleepPeriod;
+        private final Map<HttpClientConnectionManager, ConnectionLifecycleTracker> connectionManagers;
+
+        private final Lock lock = new ReentrantLock();
+        private final Condition wakeUpCondition = lock.newCondition();
+        private boolean wakeUpRequested = false;
 
         private volatile boolean stopping = false;
 
-        private ReaperTask(Map<HttpClientConnectionManager, Long> connectionManagers,
-                           long sleepPeriod) {
+        private ReaperTask(Map<HttpClientConnectionManager, ConnectionLifecycleTracker> connectionManagers) {
             this.connectionManagers = connectionManagers;
-            this.sleepPeriod = sleepPeriod;
         }
 
         @Override
         public void run() {
             while (!stopping) {
                 try {
-                    Thread.sleep(sleepPeriod);
-
-                    for (Map.Entry<HttpClientConnectionManager, Long> entry : connectionManagers.entrySet()) {
-                        try {
-                            entry.getKey().closeIdleConnections(entry.getValue(), TimeUnit.MILLISECONDS);
-                        } catch (Exception t) {
-                            log.warn("Unable to close idle connections", t);
-                        }
-                    }
+                    awaitDeadline(reap());
                 } catch (Throwable t) {
                     log.debug("Reaper thread: ", t);
                 }
@@ -164,8 +170,64 @@ public final class IdleConnectionReaper {
             log.debug("Shutting down reaper thread.");
         }
 
+        /**
+         * Reaps all registered connection managers and returns the earliest deadline at which they need to be reaped again.
+         */
+        private long reap() {
+            List<Map.Entry<HttpClientConnectionManager, ConnectionLifecycleTracker>> entries;
+            synchronized (connectionManagers) {
+                entries = new ArrayList<>(connectionManagers.entrySet());
+            }
+
+            long now = System.nanoTime();
+            long nextDeadline = Long.MAX_VALUE;
+            for (Map.Entry<HttpClientConnectionManager, ConnectionLifecycleTracker> entry : entries) {
+                HttpClientConnectionManager manager = entry.getKey();
+                if (manager == null) {
+                    continue;
+                }
+                try {
+                    nextDeadline = Math.min(nextDeadline, entry.getValue().reap(manager, now));
+                } catch (Exception t) {
+                    log.warn("Unable to close idle connections", t);
+                }
+            }
+            return nextDeadline;
+        }
+
+        private void awaitDeadline(long deadline) throws InterruptedException {
+            lock.lock();
+            try {
+                while (!stopping && !wakeUpRequested) {
+                    if (deadline == Long.MAX_VALUE) {
+                        wakeUpCondition.await();
+                        continue;
+                    }
+                    long waitNanos = deadline - System.nanoTime();
+                    if (waitNanos <= 0) {
+                        break;
+                    }
+                    wakeUpCondition.awaitNanos(waitNanos);
+                }
+                wakeUpRequested = false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void wakeUp() {
+            lock.lock();
+            try {
+                wakeUpRequested = true;
+                wakeUpCondition.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
         private void stop() {
             stopping = true;
+            wakeUp();
         }
     }
 }
@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.apache.internal.conn;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.time.Duration;
 import java.util.Arrays;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
@@ -26,8 +27,10 @@ import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
@@ -71,4 +74,15 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
         return new SdkSocket(connectedSocket);
     }
 
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+        long start = System.nanoTime();
+        Socket layeredSocket = super.createLayeredSocket(socket, target, port, context);
+        MetricCollector metricCollector = ClientConnectionRequestFactory.THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+        if (metricCollector != null) {
+            metricCollector.reportMetric(HttpMetric.TLS_HANDSHAKE_DURATION, Duration.ofNanos(System.nanoTime() - start));
+        }
+        return layeredSocket;
+    }
+
 }
@@ -20,9 +20,15 @@ import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_IDLE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_LEASE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_REUSE_COUNT;
+import static software.amazon.awssdk.http.HttpMetric.CONNECT_DURATION;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -38,6 +44,7 @@ import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.IoUtils;
 
 
 public class ApacheMetricsTest {
@@ -82,6 +89,36 @@ public class ApacheMetricsTest {
         assertThat(collection.metricValues(CONCURRENCY_ACQUIRE_DURATION)).isNotEmpty();
     }
 
+    @Test
+    public void connectionLifecycleMetricsAreRecorded() throws IOException {
+        client = ApacheHttpClient.create();
+
+        MetricCollector firstCollector = MetricCollector.create("first");
+        drain(makeRequestWithMetrics(client, firstCollector));
+        MetricCollection first = firstCollector.collect();
+
+        assertThat(first.metricValues(CONNECT_DURATION)).hasSize(1);
+        assertThat(first.metricValues(CONNECTION_REUSE_COUNT)).containsExactly(0);
+        assertThat(first.metricValues(CONNECTION_IDLE_DURATION)).isEmpty();
+        assertThat(first.metricValues(CONNECTION_LEASE_DURATION)).hasSize(1);
+
+        MetricCollector secondCollector = MetricCollector.create("second");
+        drain(makeRequestWithMetrics(client, secondCollector));
+        MetricCollection second = secondCollector.collect();
+
+        assertThat(second.metricValues(CONNECT_DURATION)).isEmpty();
+        assertThat(second.metricValues(CONNECTION_REUSE_COUNT)).containsExactly(1);
+        assertThat(second.metricValues(CONNECTION_IDLE_DURATION)).hasSize(1);
+        assertThat(second.metricValues(CONNECTION_IDLE_DURATION).get(0)).isGreaterThanOrEqualTo(Duration.ZERO);
+        assertThat(second.metricValues(CONNECTION_LEASE_DURATION)).hasSize(1);
+    }
+
+    private static void drain(HttpExecuteResponse response) throws IOException {
+        try (InputStream body = response.responseBody().get()) {
+            IoUtils.drainInputStream(body);
+        }
+    }
+
     private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector) throws IOException {
         SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
                                                        .method(SdkHttpMethod.GET)
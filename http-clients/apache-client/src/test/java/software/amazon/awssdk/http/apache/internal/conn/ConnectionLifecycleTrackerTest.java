@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class ConnectionLifecycleTrackerTest {
+    private static final long MAX_IDLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long LEAK_THRESHOLD_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final HttpClientConnectionManager connectionManager = mock(HttpClientConnectionManager.class);
+
+    @Test
+    public void disabledTracker_doesNotNeedReaper() {
+        assertThat(new ConnectionLifecycleTracker(null, null).needsReaper()).isFalse();
+        assertThat(new ConnectionLifecycleTracker(Duration.ZERO, null).needsReaper()).isFalse();
+        assertThat(new ConnectionLifecycleTracker(null, Duration.ofSeconds(1)).needsReaper()).isTrue();
+    }
+
+    @Test
+    public void release_reportsLeaseDurationToCollectorOfLease() {
+        ConnectionLifecycleTracker tracker = new ConnectionLifecycleTracker(null, null);
+        HttpClientConnection connection = mock(HttpClientConnection.class);
+        MetricCollector collector = MetricCollector.create("test");
+
+        tracker.connectionLeased(connection, collector);
+        assertThat(tracker.leasedConnections()).isEqualTo(1);
+        tracker.connectionReleased(connection);
+        assertThat(tracker.leasedConnections()).isZero();
+
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(HttpMetric.CONNECTION_REUSE_COUNT)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.CONNECTION_LEASE_DURATION)).hasSize(1);
+    }
+
+    @Test
+    public void reap_closesIdleConnectionsOnlyOnceDeadlinePassed() {
+        ConnectionLifecycleTracker tracker = new ConnectionLifecycleTracker(Duration.ofNanos(MAX_IDLE_NANOS), null);
+        long now = System.nanoTime();
+        assertThat(tracker.reap(connectionManager, now)).isEqualTo(Long.MAX_VALUE);
+
+        tracker.connectionReleased(openConnection());
+        long deadline = tracker.reap(connectionManager, System.nanoTime());
+        verify(connectionManager, never()).closeIdleConnections(anyLong(), any());
+        assertThat(deadline - now).isGreaterThanOrEqualTo(MAX_IDLE_NANOS);
+
+        assertThat(tracker.reap(connectionManager, deadline)).isEqualTo(Long.MAX_VALUE);
+        verify(connectionManager).closeIdleConnections(MAX_IDLE_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    public void release_notifiesListenerOnlyWhenNoDeadlineWasPending() {
+        ConnectionLifecycleTracker tracker = new ConnectionLifecycleTracker(Duration.ofNanos(MAX_IDLE_NANOS), null);
+        AtomicInteger notifications = new AtomicInteger();
+        tracker.onEarlierDeadline(notifications::incrementAndGet);
+
+        tracker.connectionReleased(openConnection());
+        tracker.connectionReleased(openConnection());
+        assertThat(notifications.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void reap_wakesUpAtLeakDeadlineOfOutstandingLease() {
+        ConnectionLifecycleTracker tracker = new ConnectionLifecycleTracker(null, Duration.ofNanos(LEAK_THRESHOLD_NANOS));
+        HttpClientConnection connection = mock(HttpClientConnection.class);
+        long beforeLease = System.nanoTime();
+        tracker.connectionLeased(connection, null);
+
+        long nextCheck = tracker.reap(connectionManager, beforeLease);
+        assertThat(nextCheck - beforeLease).isGreaterThanOrEqualTo(LEAK_THRESHOLD_NANOS);
+
+        // Once reported, the lease no longer determines the next check.
+        long afterLeak = System.nanoTime() + LEAK_THRESHOLD_NANOS;
+        assertThat(tracker.reap(connectionManager, afterLeak)).isEqualTo(afterLeak + LEAK_THRESHOLD_NANOS);
+        assertThat(tracker.leasedConnections()).isEqualTo(1);
+
+        tracker.connectionReleased(connection);
+        assertThat(tracker.leasedConnections()).isZero();
+    }
+
+    private static HttpClientConnection openConnection() {
+        HttpClientConnection connection = mock(HttpClientConnection.class);
+        when(connection.isOpen()).thenReturn(true);
+        return connection;
+    }
+}
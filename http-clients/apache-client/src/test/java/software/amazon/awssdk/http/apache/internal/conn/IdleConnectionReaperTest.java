@@ -16,12 +16,16 @@
 package software.amazon.awssdk.http.apache.internal.conn;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import org.apache.http.HttpClientConnection;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,6 +33,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -40,9 +45,9 @@ import java.util.concurrent.TimeUnit;
  */
 @RunWith(MockitoJUnitRunner.class)
 public class IdleConnectionReaperTest {
-    private static final long SLEEP_PERIOD = 250;
+    private static final Duration MAX_IDLE_TIME = Duration.ofMillis(250);
 
-    private final Map<HttpClientConnectionManager, Long> connectionManagers = new HashMap<>();
+    private final Map<HttpClientConnectionManager, ConnectionLifecycleTracker> connectionManagers = new HashMap<>();
 
     @Mock
     public ExecutorService executorService;
@@ -55,43 +60,65 @@ public class IdleConnectionReaperTest {
     @Before
     public void methodSetup() {
         this.connectionManagers.clear();
-        idleConnectionReaper = new IdleConnectionReaper(connectionManagers, () -> executorService, SLEEP_PERIOD);
+        idleConnectionReaper = new IdleConnectionReaper(connectionManagers, () -> executorService);
     }
 
     @Test
     public void setsUpExecutorIfManagerNotPreviouslyRegistered() {
-        idleConnectionReaper.registerConnectionManager(connectionManager, 1L);
+        idleConnectionReaper.registerConnectionManager(connectionManager, tracker());
         verify(executorService).execute(any(Runnable.class));
     }
 
     @Test
     public void shutsDownExecutorIfMapEmptied() {
         // use register method so it sets up the executor
-        idleConnectionReaper.registerConnectionManager(connectionManager, 1L);
+        idleConnectionReaper.registerConnectionManager(connectionManager, tracker());
         idleConnectionReaper.deregisterConnectionManager(connectionManager);
         verify(executorService).shutdownNow();
     }
 
     @Test
     public void doesNotShutDownExecutorIfNoManagerRemoved() {
-        idleConnectionReaper.registerConnectionManager(connectionManager, 1L);
+        idleConnectionReaper.registerConnectionManager(connectionManager, tracker());
         HttpClientConnectionManager someOtherConnectionManager = mock(HttpClientConnectionManager.class);
         idleConnectionReaper.deregisterConnectionManager(someOtherConnectionManager);
         verify(executorService, times(0)).shutdownNow();
     }
 
-    @Test(timeout = 1000L)
-    public void testReapsConnections() throws InterruptedException {
-        IdleConnectionReaper reaper = new IdleConnectionReaper(new HashMap<>(),
-                                                               Executors::newSingleThreadExecutor,
-                                                               SLEEP_PERIOD);
-        final long idleTime = 1L;
-        reaper.registerConnectionManager(connectionManager, idleTime);
+    @Test(timeout = 2000L)
+    public void testReapsConnectionsAfterTheirIdleDeadline() {
+        IdleConnectionReaper reaper = new IdleConnectionReaper(new HashMap<>(), Executors::newSingleThreadExecutor);
+        ConnectionLifecycleTracker tracker = tracker();
+        reaper.registerConnectionManager(connectionManager, tracker);
         try {
-            Thread.sleep(SLEEP_PERIOD * 2);
-            verify(connectionManager, atLeastOnce()).closeIdleConnections(eq(idleTime), eq(TimeUnit.MILLISECONDS));
+            tracker.connectionReleased(openConnection());
+
+            verify(connectionManager, after(MAX_IDLE_TIME.toMillis() / 2).never()).closeIdleConnections(anyLong(), any());
+            verify(connectionManager, timeout(MAX_IDLE_TIME.toMillis() * 2).atLeastOnce())
+                .closeIdleConnections(eq(MAX_IDLE_TIME.toNanos()), eq(TimeUnit.NANOSECONDS));
         } finally {
             reaper.deregisterConnectionManager(connectionManager);
         }
     }
+
+    @Test(timeout = 2000L)
+    public void testDoesNotWakeUpWithoutIdleConnections() {
+        IdleConnectionReaper reaper = new IdleConnectionReaper(new HashMap<>(), Executors::newSingleThreadExecutor);
+        reaper.registerConnectionManager(connectionManager, tracker());
+        try {
+            verify(connectionManager, after(MAX_IDLE_TIME.toMillis() * 2).never()).closeIdleConnections(anyLong(), any());
+        } finally {
+            reaper.deregisterConnectionManager(connectionManager);
+        }
+    }
+
+    private static ConnectionLifecycleTracker tracker() {
+        return new ConnectionLifecycleTracker(MAX_IDLE_TIME, null);
+    }
+
+    private static HttpClientConnection openConnection() {
+        HttpClientConnection connection = mock(HttpClientConnection.class);
+        when(connection.isOpen()).thenReturn(true);
+        return connection;
+    }
 }
@@ -0,0 +1,388 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.utils.Validate.paramNotNull;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.javahttp.internal.ConcurrencyLimiter;
+import software.amazon.awssdk.http.javahttp.internal.HttpClientFactory;
+import software.amazon.awssdk.http.javahttp.internal.RequestAdapter;
+import software.amazon.awssdk.http.javahttp.internal.ResponseAdapter;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} of the JDK, which is available on Java 11
+ * and later. This client is asynchronous, uses non-blocking IO and supports HTTP/2, which multiplexes all requests to an
+ * endpoint on a single connection, without the dependencies of the Netty based client.
+ *
+ * <p>Request and response bodies are handed between the SDK and the JDK client without copying them. The number of requests in
+ * flight is limited by {@link Builder#maxConcurrency(Integer)}, and requests above the limit wait for their turn without
+ * blocking a thread.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ * {@snippet :
+    SdkAsyncHttpClient client = JavaAsyncHttpClient.builder()
+                                                   .protocol(Protocol.HTTP2)
+                                                   .maxConcurrency(100)
+                                                   .connectionTimeout(Duration.ofSeconds(1))
+                                                   .build();
+ * }
+ */
+@SdkPublicApi
+public final class JavaAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final Logger log = Logger.loggerFor(JavaAsyncHttpClient.class);
+    private static final String CLIENT_NAME = "JavaHttp";
+
+    private final HttpClient httpClient;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+
+    private JavaAsyncHttpClient(DefaultBuilder builder, AttributeMap options) {
+        this.httpClient = HttpClientFactory.create(options, builder.executor);
+        this.concurrencyLimiter =
+            new ConcurrencyLimiter(options.get(SdkHttpConfigurationOption.MAX_CONNECTIONS),
+                                   options.get(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES),
+                                   HttpClientFactory.timeoutOrNull(
+                                       options.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT)));
+        this.readTimeout = HttpClientFactory.timeoutOrNull(options.get(SdkHttpConfigurationOption.READ_TIMEOUT));
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JavaAsyncHttpClient} client with the default configuration
+     *
+     * @return an {@link SdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        paramNotNull(request, "request");
+        paramNotNull(request.request(), "SdkHttpRequest");
+        paramNotNull(request.requestContentPublisher(), "RequestContentPublisher");
+        paramNotNull(request.responseHandler(), "ResponseHandler");
+
+        MetricCollector metricCollector = request.metricCollector().orElse(null);
+        boolean shouldPublishMetrics = metricCollector != null && !(metricCollector instanceof NoOpMetricCollector);
+        if (shouldPublishMetrics) {
+            metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+        }
+
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+        long acquireStartTime = System.nanoTime();
+        CompletableFuture<Void> permitFuture = concurrencyLimiter.acquire();
+        CompletableFutureUtils.forwardExceptionTo(executeFuture, permitFuture);
+
+        permitFuture.whenComplete((r, error) -> {
+            if (error != null) {
+                fail(request.responseHandler(), executeFuture, error);
+                return;
+            }
+
+            executeFuture.whenComplete((r2, t2) -> concurrencyLimiter.release());
+            if (shouldPublishMetrics) {
+                concurrencyLimiter.reportMetrics(metricCollector, Duration.ofNanos(System.nanoTime() - acquireStartTime));
+            }
+            if (!executeFuture.isDone()) {
+                send(request, executeFuture);
+            }
+        });
+        return executeFuture;
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+        // The HTTP client of the JDK can only be closed on Java 21 and later, otherwise its connections are closed when it is
+        // garbage collected.
+        IoUtils.closeIfCloseable(httpClient, null);
+    }
+
+    private void send(AsyncExecuteRequest request, CompletableFuture<Void> executeFuture) {
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture;
+        try {
+            HttpRequest httpRequest =
+                RequestAdapter.toHttpRequest(request.request(),
+                                             RequestAdapter.bodyPublisher(request.request(), request.requestContentPublisher()),
+                                             readTimeout);
+            responseFuture = httpClient.sendAsync(httpRequest, BodyHandlers.ofPublisher());
+        } catch (RuntimeException e) {
+            fail(responseHandler, executeFuture, e);
+            return;
+        }
+
+        // Cancelling the response future aborts the exchange on Java 16 and later.
+        executeFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                responseFuture.cancel(true);
+            }
+        });
+
+        responseFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                fail(responseHandler, executeFuture, error);
+                return;
+            }
+
+            try {
+                responseHandler.onHeaders(ResponseAdapter.toSdkHttpResponse(response));
+                responseHandler.onStream(ResponseAdapter.toPublisher(response.body(), executeFuture));
+            } catch (RuntimeException e) {
+                fail(responseHandler, executeFuture, e);
+            }
+        });
+    }
+
+    private static void fail(SdkAsyncHttpResponseHandler responseHandler, CompletableFuture<Void> executeFuture,
+                             Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (executeFuture.isDone()) {
+            log.debug(() -> "Request failed after it was completed or cancelled.", cause);
+            return;
+        }
+
+        try {
+            responseHandler.onError(cause);
+        } finally {
+            executeFuture.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Builder that allows configuration of the Java HTTP client implementation.
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JavaAsyncHttpClient.Builder> {
+
+        /**
+         * The maximum number of concurrent requests. Requests above the limit wait until a request in flight completes. With
+         * HTTP/2 all concurrent requests to an endpoint share one connection, for HTTP/1.1 this is also the maximum number of
+         * connections.
+         *
+         * @param maxConcurrency maximum concurrency
+         * @return the builder for method chaining.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * The maximum number of requests that wait for their turn when {@link #maxConcurrency(Integer)} requests are in
+         * flight, before new requests fail.
+         *
+         * @param maxPendingConnectionAcquires maximum number of waiting requests
+         * @return the builder for method chaining.
+         */
+        Builder maxPendingConnectionAcquires(Integer maxPendingConnectionAcquires);
+
+        /**
+         * The amount of time a request waits for its turn when {@link #maxConcurrency(Integer)} requests are in flight, before
+         * it fails.
+         *
+         * @param connectionAcquisitionTimeout the timeout duration
+         * @return the builder for method chaining.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         *
+         * @param connectionTimeout the timeout duration
+         * @return the builder for method chaining.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for the response headers of a request before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         *
+         * <p>Unlike the other clients, the HTTP client of the JDK does not time out reading the response body.</p>
+         *
+         * @param readTimeout the timeout duration
+         * @return the builder for method chaining.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). With HTTP/2, the client negotiates the protocol with the
+         * server via ALPN for HTTPS endpoints, and falls back to HTTP/1.1 if the server does not support HTTP/2.
+         *
+         * @param protocol the HTTP protocol to use
+         * @return the builder for method chaining.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * The executor that the HTTP client of the JDK runs its tasks on, which includes delivering the response headers and
+         * body to the SDK. By default, the JDK creates a cached thread pool for each client. The executor is not shut down when
+         * this client is closed.
+         *
+         * @param executor the executor
+         * @return the builder for method chaining.
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConcurrency);
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        @Override
+        public Builder maxPendingConnectionAcquires(Integer maxPendingConnectionAcquires) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES, maxPendingConnectionAcquires);
+            return this;
+        }
+
+        public void setMaxPendingConnectionAcquires(Integer maxPendingConnectionAcquires) {
+            maxPendingConnectionAcquires(maxPendingConnectionAcquires);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JavaAsyncHttpClient(this, standardOptions.build()
+                                                                .merge(serviceDefaults)
+                                                                .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
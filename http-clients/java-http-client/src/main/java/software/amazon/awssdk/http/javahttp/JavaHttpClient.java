@@ -0,0 +1,312 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.javahttp.internal.HttpClientFactory;
+import software.amazon.awssdk.http.javahttp.internal.RequestAdapter;
+import software.amazon.awssdk.http.javahttp.internal.ResponseAdapter;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the {@link HttpClient} of the JDK, which is available on Java 11 and
+ * later. Unlike the URL connection client, it pools its connections itself and supports HTTP/2, so concurrent requests to an
+ * endpoint can share a single connection.
+ *
+ * <p>See {@link JavaAsyncHttpClient} for the asynchronous client that uses the same implementation.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JavaHttpClient implements SdkHttpClient {
+    private static final String CLIENT_NAME = "JavaHttp";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+
+    private JavaHttpClient(DefaultBuilder builder, AttributeMap options) {
+        this.httpClient = HttpClientFactory.create(options, builder.executor);
+        this.readTimeout = HttpClientFactory.timeoutOrNull(options.get(SdkHttpConfigurationOption.READ_TIMEOUT));
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JavaHttpClient} client with the default properties
+     *
+     * @return an {@link JavaHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        request.metricCollector()
+               .ifPresent(metricCollector -> metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName()));
+        return new RequestCallable(request);
+    }
+
+    @Override
+    public void close() {
+        // The HTTP client of the JDK can only be closed on Java 21 and later, otherwise its connections are closed when it is
+        // garbage collected.
+        IoUtils.closeIfCloseable(httpClient, null);
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private final class RequestCallable implements ExecutableHttpRequest {
+        private final HttpExecuteRequest request;
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        private volatile InputStream responseBody;
+        private volatile boolean aborted;
+
+        private RequestCallable(HttpExecuteRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            HttpRequest httpRequest =
+                RequestAdapter.toHttpRequest(request.httpRequest(),
+                                             RequestAdapter.bodyPublisher(request.httpRequest(), request.contentStreamProvider()),
+                                             readTimeout);
+
+            responseFuture = httpClient.sendAsync(httpRequest, BodyHandlers.ofInputStream());
+            if (aborted) {
+                responseFuture.cancel(true);
+            }
+
+            HttpResponse<InputStream> response = awaitResponse();
+            responseBody = response.body();
+            if (aborted) {
+                IoUtils.closeQuietly(responseBody, null);
+            }
+
+            HttpExecuteResponse.Builder executeResponse =
+                HttpExecuteResponse.builder().response(ResponseAdapter.toSdkHttpResponse(response));
+            if (responseHasNoContent(response)) {
+                IoUtils.closeQuietly(responseBody, null);
+            } else {
+                executeResponse.responseBody(AbortableInputStream.create(responseBody, this::abort));
+            }
+            return executeResponse.build();
+        }
+
+        private boolean responseHasNoContent(HttpResponse<InputStream> response) {
+            int statusCode = response.statusCode();
+            return statusCode == 204 || statusCode == 304 || (statusCode >= 100 && statusCode < 200) ||
+                   "HEAD".equals(response.request().method()) ||
+                   response.headers().firstValue("Content-Length").filter("0"::equals).isPresent();
+        }
+
+        private HttpResponse<InputStream> awaitResponse() throws IOException {
+            try {
+                return responseFuture.get();
+            } catch (InterruptedException e) {
+                responseFuture.cancel(true);
+                Thread.currentThread().interrupt();
+                InterruptedIOException exception = new InterruptedIOException("Interrupted while waiting for the response.");
+                exception.initCause(e);
+                throw exception;
+            } catch (CancellationException e) {
+                throw new IOException("The request was aborted.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future != null) {
+                // Cancelling the response future aborts the exchange on Java 16 and later.
+                future.cancel(true);
+            }
+
+            // Closing the body before it is read to the end closes the connection or resets the HTTP/2 stream.
+            InputStream body = responseBody;
+            if (body != null) {
+                IoUtils.closeQuietly(body, null);
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the {@link HttpClient} of the JDK. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JavaHttpClient.builder()
+     * .socketTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<JavaHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for the response headers of a request before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         *
+         * <p>Unlike the other clients, the HTTP client of the JDK does not time out reading the response body.</p>
+         */
+        Builder socketTimeout(Duration socketTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). With HTTP/2, the client negotiates the protocol with the
+         * server via ALPN for HTTPS endpoints, and falls back to HTTP/1.1 if the server does not support HTTP/2.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * The executor that the HTTP client of the JDK runs its tasks on. By default, the JDK creates a cached thread pool for
+         * each client. The executor is not shut down when this client is closed.
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder socketTimeout(Duration socketTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, socketTimeout);
+            return this;
+        }
+
+        public void setSocketTimeout(Duration socketTimeout) {
+            socketTimeout(socketTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JavaHttpClient(this, standardOptions.build()
+                                                           .merge(serviceDefaults)
+                                                           .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Limits the number of requests that the async client has in flight.
+ * <p>
+ * The {@link java.net.http.HttpClient} opens as many connections as it needs for HTTP/1.1 and as many streams as the server
+ * allows for HTTP/2, so this plays the part of the connection pool of the other async clients: requests above the limit wait
+ * for a permit without blocking a thread, and the numbers it keeps track of are reported as the concurrency metrics of each
+ * request.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class ConcurrencyLimiter {
+    private final int maxConcurrency;
+    private final int maxPendingAcquires;
+    private final Duration acquireTimeout;
+
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+    private final Queue<CompletableFuture<Void>> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param maxConcurrency The maximum number of requests in flight.
+     * @param maxPendingAcquires The maximum number of requests waiting for a permit.
+     * @param acquireTimeout The maximum time a request waits for a permit; or null to wait indefinitely.
+     */
+    public ConcurrencyLimiter(int maxConcurrency, int maxPendingAcquires, Duration acquireTimeout) {
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+        this.maxPendingAcquires = Validate.isPositive(maxPendingAcquires, "maxPendingAcquires");
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Acquires a permit to send a request, which must be released with {@link #release()} when the request completes.
+     *
+     * @return A future that completes when a permit was acquired. Cancelling it gives up waiting for a permit.
+     */
+    public CompletableFuture<Void> acquire() {
+        if (tryLease()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (pendingAcquires.incrementAndGet() > maxPendingAcquires) {
+            pendingAcquires.decrementAndGet();
+            return CompletableFutureUtils.failedFuture(
+                new IllegalStateException("Too many outstanding acquire operations. The maximum number of pending requests is "
+                                          + maxPendingAcquires + ". Consider increasing maxConcurrency or reducing the rate "
+                                          + "of requests."));
+        }
+
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        permit.whenComplete((r, t) -> {
+            pendingAcquires.decrementAndGet();
+            if (t != null) {
+                pending.remove(permit);
+            }
+        });
+        pending.add(permit);
+
+        // A permit may have been released before this acquisition was queued.
+        dispatchPermits();
+
+        if (acquireTimeout == null) {
+            return permit;
+        }
+
+        permit.orTimeout(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        permit.whenComplete((r, t) -> {
+            if (t instanceof TimeoutException) {
+                result.completeExceptionally(
+                    new TimeoutException("Acquire operation took longer than the configured maximum time of " + acquireTimeout
+                                         + ". Consider increasing maxConcurrency or the connection acquisition timeout, or "
+                                         + "reducing the rate of requests."));
+            } else if (t != null) {
+                result.completeExceptionally(t);
+            } else if (!result.complete(null)) {
+                // The caller gave up, e.g. because its own timeout fired, while the permit was being granted to it.
+                release();
+            }
+        });
+        CompletableFutureUtils.forwardExceptionTo(result, permit);
+        return result;
+    }
+
+    /**
+     * Releases a permit that was acquired with {@link #acquire()}.
+     */
+    public void release() {
+        leased.decrementAndGet();
+        dispatchPermits();
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int leasedConcurrency() {
+        return leased.get();
+    }
+
+    public int availableConcurrency() {
+        return Math.max(0, maxConcurrency - leased.get());
+    }
+
+    public int pendingAcquires() {
+        return pendingAcquires.get();
+    }
+
+    /**
+     * Reports the time it took to acquire a permit for a request and the current concurrency of the client.
+     */
+    public void reportMetrics(MetricCollector metricCollector, Duration acquireDuration) {
+        metricCollector.reportMetric(CONCURRENCY_ACQUIRE_DURATION, acquireDuration);
+        metricCollector.reportMetric(MAX_CONCURRENCY, maxConcurrency);
+        metricCollector.reportMetric(AVAILABLE_CONCURRENCY, availableConcurrency());
+        metricCollector.reportMetric(LEASED_CONCURRENCY, leasedConcurrency());
+        metricCollector.reportMetric(PENDING_CONCURRENCY_ACQUIRES, pendingAcquires());
+    }
+
+    private void dispatchPermits() {
+        while (!pending.isEmpty() && tryLease()) {
+            CompletableFuture<Void> next = pending.poll();
+            // The next acquisition may have timed out or been cancelled in the meantime.
+            if (next == null || !next.complete(null)) {
+                leased.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean tryLease() {
+        while (true) {
+            int current = leased.get();
+            if (current >= maxConcurrency) {
+                return false;
+            }
+            if (leased.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Flow;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Adapts SDK requests to the requests of the {@link java.net.http.HttpClient}.
+ */
+@SdkInternalApi
+public final class RequestAdapter {
+    private static final Logger log = Logger.loggerFor(RequestAdapter.class);
+
+    /**
+     * The headers that the {@link java.net.http.HttpClient} sets itself, and that it does not allow to be set on a request.
+     * The "Transfer-Encoding" header is allowed, but the client decides how to frame the body itself.
+     */
+    private static final Set<String> IGNORED_HEADERS = Collections.unmodifiableSet(
+        new TreeSet<>(Arrays.asList("connection", "content-length", "expect", "host", "transfer-encoding", "upgrade")));
+
+    private RequestAdapter() {
+    }
+
+    /**
+     * Creates the request to send for the given SDK request.
+     *
+     * @param request The SDK request.
+     * @param body The body of the request, created with one of the {@code bodyPublisher} methods.
+     * @param readTimeout The maximum time to wait for the response headers; or null to wait indefinitely.
+     */
+    public static HttpRequest toHttpRequest(SdkHttpRequest request, BodyPublisher body, Duration readTimeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), body);
+        if (readTimeout != null) {
+            builder.timeout(readTimeout);
+        }
+
+        request.forEachHeader((name, values) -> addHeader(builder, name, values));
+        return builder.build();
+    }
+
+    /**
+     * Creates the body of an async request. The buffers of the content publisher are handed to the HTTP client as they are,
+     * without copying them.
+     */
+    public static BodyPublisher bodyPublisher(SdkHttpRequest request, SdkHttpContentPublisher contentPublisher) {
+        if (contentPublisher == null) {
+            return BodyPublishers.noBody();
+        }
+
+        Optional<Long> contentLength = contentPublisher.contentLength();
+        if (!contentLength.isPresent()) {
+            contentLength = contentLength(request);
+        }
+        return bodyPublisher(FlowAdapters.toFlowPublisher(contentPublisher), contentLength);
+    }
+
+    /**
+     * Creates the body of a sync request.
+     */
+    public static BodyPublisher bodyPublisher(SdkHttpRequest request, Optional<ContentStreamProvider> contentStreamProvider) {
+        if (!contentStreamProvider.isPresent()) {
+            return BodyPublishers.noBody();
+        }
+
+        ContentStreamProvider provider = contentStreamProvider.get();
+        return bodyPublisher(BodyPublishers.ofInputStream(provider::newStream), contentLength(request));
+    }
+
+    private static BodyPublisher bodyPublisher(Flow.Publisher<ByteBuffer> publisher, Optional<Long> contentLength) {
+        if (!contentLength.isPresent()) {
+            // Sent with chunked encoding over HTTP/1.1
+            return BodyPublishers.fromPublisher(publisher);
+        }
+
+        long length = contentLength.get();
+        if (length == 0) {
+            return BodyPublishers.noBody();
+        }
+        return BodyPublishers.fromPublisher(publisher, length);
+    }
+
+    private static Optional<Long> contentLength(SdkHttpRequest request) {
+        return request.firstMatchingHeader(CONTENT_LENGTH).map(Long::parseLong);
+    }
+
+    private static void addHeader(HttpRequest.Builder builder, String name, List<String> values) {
+        String lowerCaseName = name.toLowerCase(Locale.ROOT);
+        if (IGNORED_HEADERS.contains(lowerCaseName)) {
+            if ("expect".equals(lowerCaseName) && values.stream().anyMatch("100-continue"::equalsIgnoreCase)) {
+                builder.expectContinue(true);
+            }
+            return;
+        }
+
+        try {
+            for (String value : values) {
+                builder.header(name, value);
+            }
+        } catch (IllegalArgumentException e) {
+            // Java 11 restricts a few more headers, like "Date", than later versions.
+            log.debug(() -> "Header " + name + " is not allowed by the HTTP client, so it is not sent.", e);
+        }
+    }
+}
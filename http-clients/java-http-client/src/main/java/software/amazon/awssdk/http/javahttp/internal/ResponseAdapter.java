@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.DelegatingSubscription;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Adapts the responses of the {@link java.net.http.HttpClient} to SDK responses.
+ */
+@SdkInternalApi
+public final class ResponseAdapter {
+    private ResponseAdapter() {
+    }
+
+    /**
+     * Returns the status code and headers of the given response.
+     */
+    public static SdkHttpResponse toSdkHttpResponse(HttpResponse<?> response) {
+        SdkHttpResponse.Builder builder = SdkHttpResponse.builder().statusCode(response.statusCode());
+        response.headers().map().forEach((name, values) -> {
+            // HTTP/2 pseudo-headers, like ":status", are not headers of the response
+            if (!name.startsWith(":")) {
+                builder.putHeader(name, values);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Adapts the body of an async response to the publisher of the SDK.
+     * <p>
+     * The buffers received by the HTTP client are published as they are, without copying them. The given future is completed
+     * when the body has been received, when receiving it failed or when the subscriber cancelled its subscription. If the
+     * future is completed exceptionally first, for example because the request was cancelled, receiving the body is
+     * cancelled.
+     */
+    public static Publisher<ByteBuffer> toPublisher(Flow.Publisher<List<ByteBuffer>> body, CompletableFuture<Void> completion) {
+        Publisher<List<ByteBuffer>> buffers = FlowAdapters.toPublisher(body);
+        AtomicBoolean subscribed = new AtomicBoolean();
+        completion.whenComplete((r, t) -> {
+            if (t != null && subscribed.compareAndSet(false, true)) {
+                // Nobody is going to read the body, so release the connection or stream that it is received on.
+                buffers.subscribe(new CancellingSubscriber());
+            }
+        });
+
+        return subscriber -> {
+            if (subscribed.compareAndSet(false, true)) {
+                buffers.subscribe(new FlatteningSubscriber<>(new CompletionSubscriber(subscriber, completion)));
+            } else {
+                buffers.subscribe(new FlatteningSubscriber<>(subscriber));
+            }
+        };
+    }
+
+    private static final class CompletionSubscriber extends DelegatingSubscriber<ByteBuffer, ByteBuffer> {
+        private final CompletableFuture<Void> completion;
+
+        private CompletionSubscriber(Subscriber<? super ByteBuffer> subscriber, CompletableFuture<Void> completion) {
+            super(subscriber);
+            this.completion = completion;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            completion.whenComplete((r, t) -> {
+                if (t != null) {
+                    subscription.cancel();
+                }
+            });
+            super.onSubscribe(new DelegatingSubscription(subscription) {
+                @Override
+                public void cancel() {
+                    super.cancel();
+                    completion.complete(null);
+                }
+            });
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            subscriber.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            super.onError(throwable);
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            completion.complete(null);
+        }
+    }
+
+    private static final class CancellingSubscriber implements Subscriber<List<ByteBuffer>> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> byteBuffers) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SimpleHttpContentPublisher;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollection;
+
+public class JavaAsyncHttpClientWireMockTest {
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private SdkAsyncHttpClient client;
+
+    @After
+    public void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    public void execute_sendsRequestAndPublishesResponse() throws Exception {
+        client = JavaAsyncHttpClient.create();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                          .withHeader("Some-Header", "With Value")
+                                                                          .withBody("hello")));
+
+        RecordingResponseHandler handler = execute(request("Body"));
+        handler.completeFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(handler.responses()).hasSize(1);
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        assertThat(handler.responses().get(0).firstMatchingHeader("Some-Header")).contains("With Value");
+        assertThat(handler.fullResponseAsString()).isEqualTo("hello");
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withHeader("User-Agent", equalTo("hello-world!"))
+                                                               .withHeader("Content-Length", equalTo("4"))
+                                                               .withRequestBody(equalTo("Body")));
+    }
+
+    @Test
+    public void execute_reportsConcurrencyMetrics() throws Exception {
+        client = JavaAsyncHttpClient.builder().maxConcurrency(10).build();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+
+        RecordingResponseHandler handler = execute(request("Body"));
+        handler.completeFuture().get(5, TimeUnit.SECONDS);
+
+        MetricCollection metrics = handler.collector().collect();
+        assertThat(metrics.metricValues(HttpMetric.HTTP_CLIENT_NAME)).containsExactly("JavaHttp");
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(10);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+        assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(9);
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)).hasSize(1);
+    }
+
+    @Test
+    public void execute_aboveMaxConcurrency_waitsForRequestInFlight() throws Exception {
+        client = JavaAsyncHttpClient.builder().maxConcurrency(1).build();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                          .withBody("hello")
+                                                                          .withFixedDelay(200)));
+
+        RecordingResponseHandler first = execute(request("Body"));
+        RecordingResponseHandler second = execute(request("Body"));
+        CompletableFuture.allOf(first.completeFuture(), second.completeFuture()).get(5, TimeUnit.SECONDS);
+
+        assertThat(second.collector().collect().metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION).get(0))
+            .isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(second.fullResponseAsString()).isEqualTo("hello");
+    }
+
+    @Test
+    public void execute_acquisitionTimesOut_fails() throws Exception {
+        client = JavaAsyncHttpClient.builder()
+                                    .maxConcurrency(1)
+                                    .connectionAcquisitionTimeout(Duration.ofMillis(50))
+                                    .build();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                          .withBody("hello")
+                                                                          .withFixedDelay(1000)));
+
+        RecordingResponseHandler first = execute(request("Body"));
+        RecordingResponseHandler second = execute(request("Body"));
+
+        assertThatThrownBy(() -> second.completeFuture().join()).hasCauseInstanceOf(TimeoutException.class);
+        first.completeFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void execute_connectionReset_failsWithIOException() {
+        client = JavaAsyncHttpClient.create();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+
+        RecordingResponseHandler handler = execute(request("Body"));
+
+        assertThatThrownBy(() -> handler.completeFuture().join()).isInstanceOf(CompletionException.class)
+                                                                 .hasCauseInstanceOf(IOException.class);
+    }
+
+    private RecordingResponseHandler execute(SdkHttpFullRequest request) {
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(new SimpleHttpContentPublisher(request))
+                                          .responseHandler(handler)
+                                          .metricCollector(handler.collector())
+                                          .build());
+        return handler;
+    }
+
+    private SdkHttpFullRequest request(String body) {
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+        return SdkHttpFullRequest.builder()
+                                 .uri(uri)
+                                 .method(SdkHttpMethod.POST)
+                                 .putHeader("Host", uri.getHost())
+                                 .putHeader("User-Agent", "hello-world!")
+                                 .putHeader("Content-Length", Integer.toString(content.length))
+                                 .contentStreamProvider(() -> new ByteArrayInputStream(content))
+                                 .build();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void acquire_belowMaxConcurrency_completesImmediately() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 10, null);
+
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.leasedConcurrency()).isEqualTo(2);
+        assertThat(limiter.availableConcurrency()).isZero();
+    }
+
+    @Test
+    public void acquire_atMaxConcurrency_completesWhenPermitIsReleased() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, null);
+        limiter.acquire();
+
+        CompletableFuture<Void> pending = limiter.acquire();
+        assertThat(pending).isNotDone();
+        assertThat(limiter.pendingAcquires()).isEqualTo(1);
+
+        limiter.release();
+        assertThat(pending).isCompleted();
+        assertThat(limiter.pendingAcquires()).isZero();
+        assertThat(limiter.leasedConcurrency()).isEqualTo(1);
+    }
+
+    @Test
+    public void acquire_cancelledWhilePending_doesNotTakePermit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, null);
+        limiter.acquire();
+
+        CompletableFuture<Void> cancelled = limiter.acquire();
+        CompletableFuture<Void> pending = limiter.acquire();
+        cancelled.cancel(false);
+
+        limiter.release();
+        assertThat(pending).isCompleted();
+        assertThat(limiter.leasedConcurrency()).isEqualTo(1);
+
+        limiter.release();
+        assertThat(limiter.leasedConcurrency()).isZero();
+    }
+
+    @Test
+    public void acquire_tooManyPending_fails() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, null);
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThatThrownBy(() -> limiter.acquire().join()).hasCauseInstanceOf(IllegalStateException.class)
+                                                          .hasMessageContaining("Too many outstanding acquire operations");
+    }
+
+    @Test
+    public void acquire_timesOut_failsAndDoesNotTakePermit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ofMillis(10));
+        limiter.acquire();
+
+        assertThatThrownBy(() -> limiter.acquire().join()).hasCauseInstanceOf(TimeoutException.class)
+                                                          .hasMessageContaining("Acquire operation took longer");
+        assertThat(limiter.pendingAcquires()).isZero();
+
+        limiter.release();
+        assertThat(limiter.leasedConcurrency()).isZero();
+        assertThat(limiter.acquire()).isCompleted();
+    }
+
+    @Test
+    public void acquire_callerTimeoutRacingRelease_doesNotLeakPermit() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(limiter.acquire()).isCompleted();
+                CompletableFuture<Void> pending = limiter.acquire();
+
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> release = executor.submit(() -> {
+                    barrier.await();
+                    limiter.release();
+                    return null;
+                });
+                Future<?> timeout = executor.submit(() -> {
+                    barrier.await();
+                    return pending.completeExceptionally(new TimeoutException());
+                });
+                release.get(5, TimeUnit.SECONDS);
+                timeout.get(5, TimeUnit.SECONDS);
+
+                // Whoever ends up holding the permit gives it back, so none may be left leased.
+                if (!pending.isCompletedExceptionally()) {
+                    limiter.release();
+                }
+                assertThat(limiter.leasedConcurrency()).isZero();
+                assertThat(limiter.pendingAcquires()).isZero();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
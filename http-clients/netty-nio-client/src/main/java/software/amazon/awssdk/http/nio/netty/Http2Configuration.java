@@ -29,11 +29,15 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final Duration streamLatencyThreshold;
+    private final Integer minimumConnectionWindowSize;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.streamLatencyThreshold = builder.streamLatencyThreshold;
+        this.minimumConnectionWindowSize = builder.minimumConnectionWindowSize;
     }
 
     /**
@@ -57,6 +61,14 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    public Duration streamLatencyThreshold() {
+        return streamLatencyThreshold;
+    }
+
+    public Integer minimumConnectionWindowSize() {
+        return minimumConnectionWindowSize;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,6 +90,16 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
+        if (streamLatencyThreshold != null ? !streamLatencyThreshold.equals(that.streamLatencyThreshold)
+                                           : that.streamLatencyThreshold != null) {
+            return false;
+        }
+
+        if (minimumConnectionWindowSize != null ? !minimumConnectionWindowSize.equals(that.minimumConnectionWindowSize)
+                                                : that.minimumConnectionWindowSize != null) {
+            return false;
+        }
+
         return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
 
     }
@@ -86,6 +108,8 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (streamLatencyThreshold != null ? streamLatencyThreshold.hashCode() : 0);
+        result = 31 * result + (minimumConnectionWindowSize != null ? minimumConnectionWindowSize.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +151,45 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets the average time to receive the response headers of a stream above which the client opens an additional
+         * connection, instead of adding more streams to its existing connections. This spreads streams across more
+         * connections when a single connection is congested, for example by long-lived event streams.
+         *
+         * <p>New streams are always placed on the connection with the fewest streams in flight. This setting only controls
+         * whether a new connection is opened before the existing ones reach the maximum number of streams. The total number of
+         * streams is still limited by the max concurrency of the client. By default, this is not enabled.</p>
+         *
+         * @param streamLatencyThreshold The average latency of the response headers above which to open a new connection.
+         * @return This builder for method chaining.
+         */
+        Builder streamLatencyThreshold(Duration streamLatencyThreshold);
+
+        /**
+         * Sets the remote connection flow-control window, in bytes, below which the client opens an additional connection,
+         * instead of adding more streams to its existing connections. A connection whose window is below this size cannot send
+         * request bodies until the remote endpoint sends a {@code WINDOW_UPDATE} frame, so new streams on it would wait.
+         *
+         * <p>New streams are always placed on the connection with the fewest streams in flight. This setting only controls
+         * whether a new connection is opened before the existing ones reach the maximum number of streams. The total number of
+         * streams is still limited by the max concurrency of the client. By default, this is not enabled.</p>
+         *
+         * See <a href="https://tools.ietf.org/html/rfc7540#section-6.9">https://tools.ietf.org/html/rfc7540#section-6.9</a>
+         * for more information about flow control.
+         *
+         * @param minimumConnectionWindowSize The window size below which to open a new connection.
+         * @return This builder for method chaining.
+         */
+        Builder minimumConnectionWindowSize(Integer minimumConnectionWindowSize);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Duration streamLatencyThreshold;
+        private Integer minimumConnectionWindowSize;
 
         private DefaultBuilder() {
         }
@@ -141,6 +198,8 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.streamLatencyThreshold = http2Configuration.streamLatencyThreshold;
+            this.minimumConnectionWindowSize = http2Configuration.minimumConnectionWindowSize;
         }
 
         @Override
@@ -173,6 +232,27 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder streamLatencyThreshold(Duration streamLatencyThreshold) {
+            this.streamLatencyThreshold = Validate.isPositiveOrNull(streamLatencyThreshold, "streamLatencyThreshold");
+            return this;
+        }
+
+        public void setStreamLatencyThreshold(Duration streamLatencyThreshold) {
+            streamLatencyThreshold(streamLatencyThreshold);
+        }
+
+        @Override
+        public Builder minimumConnectionWindowSize(Integer minimumConnectionWindowSize) {
+            this.minimumConnectionWindowSize = Validate.isPositiveOrNull(minimumConnectionWindowSize,
+                                                                         "minimumConnectionWindowSize");
+            return this;
+        }
+
+        public void setMinimumConnectionWindowSize(Integer minimumConnectionWindowSize) {
+            minimumConnectionWindowSize(minimumConnectionWindowSize);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
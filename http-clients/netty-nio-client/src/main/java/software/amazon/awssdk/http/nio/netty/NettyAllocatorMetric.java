@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics describing the pooled buffer allocator of a Netty HTTP client. These are only reported when the client is
+ * configured with a {@link PooledAllocatorConfiguration}. The allocator is sampled at most once per second, so they can lag its
+ * state when the request was executed by about a second.
+ */
+@SdkPublicApi
+public final class NettyAllocatorMetric {
+    /**
+     * The number of bytes of heap memory currently reserved by the client's allocator.
+     */
+    public static final SdkMetric<Long> USED_HEAP_MEMORY_IN_BYTES =
+        metric("AllocatorUsedHeapMemory", Long.class, MetricLevel.TRACE);
+
+    /**
+     * The number of bytes of direct memory currently reserved by the client's allocator.
+     */
+    public static final SdkMetric<Long> USED_DIRECT_MEMORY_IN_BYTES =
+        metric("AllocatorUsedDirectMemory", Long.class, MetricLevel.TRACE);
+
+    /**
+     * The number of buffers currently allocated from the client's heap and direct arenas and not yet released.
+     */
+    public static final SdkMetric<Long> ACTIVE_ALLOCATIONS =
+        metric("AllocatorActiveAllocations", Long.class, MetricLevel.TRACE);
+
+    /**
+     * The number of arenas, heap and direct, used by the client's allocator.
+     */
+    public static final SdkMetric<Integer> ARENA_COUNT =
+        metric("AllocatorArenaCount", Integer.class, MetricLevel.TRACE);
+
+    private NettyAllocatorMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.HTTP_CLIENT);
+    }
+}
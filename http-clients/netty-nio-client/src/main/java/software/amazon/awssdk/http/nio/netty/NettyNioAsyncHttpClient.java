@@ -22,6 +22,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.runAndLogError;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.handler.ssl.SslContext;
@@ -46,8 +47,12 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
+import software.amazon.awssdk.http.nio.netty.internal.NettyConfigurationOption;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
+import software.amazon.awssdk.http.nio.netty.internal.NettyRequestMetrics;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.PooledAllocatorFactory;
+import software.amazon.awssdk.http.nio.netty.internal.PooledAllocatorMetrics;
 import software.amazon.awssdk.http.nio.netty.internal.RequestContext;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelOptions;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -77,14 +82,17 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private static final AttributeMap NETTY_HTTP_DEFAULTS =
         AttributeMap.builder()
                     .put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT, Duration.ofSeconds(5))
+                    .put(NettyConfigurationOption.ZERO_COPY_RESPONSE_BODY, false)
                     .build();
 
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final SdkChannelPoolMap<URI, ? extends SdkChannelPool> pools;
     private final NettyConfiguration configuration;
+    private final PooledAllocatorMetrics allocatorMetrics;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
         this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        this.allocatorMetrics = PooledAllocatorMetrics.create(configuration.byteBufAllocator());
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
@@ -100,6 +108,9 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .maxStreams(maxStreams)
                                              .initialWindowSize(initialWindowSize)
                                              .healthCheckPingPeriod(resolveHealthCheckPingPeriod(http2Configuration))
+                                             .streamLatencyThreshold(resolveStreamLatencyThreshold(http2Configuration))
+                                             .minimumConnectionWindowSize(
+                                                 resolveMinimumConnectionWindowSize(http2Configuration))
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
@@ -114,12 +125,14 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.sdkEventLoopGroup = sdkEventLoopGroup;
         this.pools = pools;
         this.configuration = configuration;
+        this.allocatorMetrics = PooledAllocatorMetrics.create(configuration.byteBufAllocator());
     }
 
     @Override
     public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
         RequestContext ctx = createRequestContext(request);
         ctx.metricCollector().reportMetric(HTTP_CLIENT_NAME, clientName()); // TODO: Can't this be done in core?
+        NettyRequestMetrics.publishAllocatorMetrics(ctx.metricCollector(), allocatorMetrics);
         return new NettyRequestExecutor(ctx).execute();
     }
 
@@ -188,6 +201,20 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return null;
     }
 
+    private Duration resolveStreamLatencyThreshold(Http2Configuration http2Configuration) {
+        if (http2Configuration != null) {
+            return http2Configuration.streamLatencyThreshold();
+        }
+        return null;
+    }
+
+    private Integer resolveMinimumConnectionWindowSize(Http2Configuration http2Configuration) {
+        if (http2Configuration != null) {
+            return http2Configuration.minimumConnectionWindowSize();
+        }
+        return null;
+    }
+
     private SdkEventLoopGroup nonManagedEventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
         return SdkEventLoopGroup.create(new NonManagedEventLoopGroup(eventLoopGroup.eventLoopGroup()),
                                         eventLoopGroup.channelFactory());
@@ -196,6 +223,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     @Override
     public void close() {
         runAndLogError(log, "Unable to close channel pools", pools::close);
+        if (allocatorMetrics != null) {
+            // The pooled allocator is only set when it was created for this client
+            allocatorMetrics.close();
+            runAndLogError(log, "Unable to release allocator thread caches", () ->
+                PooledAllocatorFactory.releaseThreadCaches((PooledByteBufAllocator) configuration.byteBufAllocator(),
+                                                           sdkEventLoopGroup.eventLoopGroup()));
+        }
         runAndLogError(log, "Unable to shutdown event loop", () ->
             closeEventLoopUninterruptibly(sdkEventLoopGroup.eventLoopGroup()));
     }
@@ -485,6 +519,48 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure whether streaming response bodies are delivered without copying. False by default.
+         * <p>
+         * By default, every chunk of the response body read by Netty is copied into a new heap {@link java.nio.ByteBuffer}
+         * before it is published to the {@link software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler}, which lets the
+         * subscriber keep the buffer for as long as it likes. When enabled, the subscriber instead receives read-only views
+         * of the Netty buffers, avoiding the copy for high-throughput downloads.
+         * <p>
+         * Each view is only valid until the subscriber requests more data after receiving it, or until the stream fails or is
+         * cancelled; at that point the underlying Netty buffer is released and may be reused. The last chunk of a body is
+         * always delivered as a copy, so completing the stream never releases a buffer the subscriber is still using, such as
+         * one that is being written to a file. Subscribers that keep a buffer after requesting more data, or that request all
+         * of their demand up front while holding on to the buffers they receive, must not be used with this option. This
+         * includes {@code AsyncResponseTransformer.toBlockingInputStream()}.
+         */
+        Builder useZeroCopyResponseBody(Boolean useZeroCopyResponseBody);
+
+        /**
+         * Configure a pooled buffer allocator that is private to this client and sized by the given configuration.
+         * <p>
+         * By default, the client uses Netty's default allocator, or an unpooled allocator when the JDK {@link SslProvider} is
+         * in use. When this is set, every connection uses the configured pooled allocator, including connections using the
+         * JDK {@link SslProvider}. The configuration limits how the allocator's memory grows, but does not cap it; its memory
+         * usage is reported through {@link NettyAllocatorMetric}. Closing the client stops reporting it and returns the
+         * memory cached by the event loop threads to the allocator, so that it can be released.
+         *
+         * @param pooledAllocatorConfiguration The pooled allocator configuration.
+         * @return the builder for method chaining.
+         * @see PooledAllocatorConfiguration
+         */
+        Builder pooledAllocatorConfiguration(PooledAllocatorConfiguration pooledAllocatorConfiguration);
+
+        /**
+         * Configure a pooled buffer allocator that is private to this client and sized by the given configuration.
+         *
+         * @param pooledAllocatorConfigurationBuilderConsumer The consumer of the pooled allocator configuration builder.
+         * @return the builder for method chaining.
+         * @see #pooledAllocatorConfiguration(PooledAllocatorConfiguration)
+         */
+        Builder pooledAllocatorConfiguration(
+            Consumer<PooledAllocatorConfiguration.Builder> pooledAllocatorConfigurationBuilderConsumer);
     }
 
     /**
@@ -503,6 +579,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder().build();
         private Boolean useNonBlockingDnsResolver;
+        private PooledAllocatorConfiguration pooledAllocatorConfiguration;
 
         private DefaultBuilder() {
         }
@@ -737,6 +814,34 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder useZeroCopyResponseBody(Boolean useZeroCopyResponseBody) {
+            standardOptions.put(NettyConfigurationOption.ZERO_COPY_RESPONSE_BODY, useZeroCopyResponseBody);
+            return this;
+        }
+
+        public void setUseZeroCopyResponseBody(Boolean useZeroCopyResponseBody) {
+            useZeroCopyResponseBody(useZeroCopyResponseBody);
+        }
+
+        @Override
+        public Builder pooledAllocatorConfiguration(PooledAllocatorConfiguration pooledAllocatorConfiguration) {
+            this.pooledAllocatorConfiguration = pooledAllocatorConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder pooledAllocatorConfiguration(
+            Consumer<PooledAllocatorConfiguration.Builder> pooledAllocatorConfigurationBuilderConsumer) {
+            PooledAllocatorConfiguration.Builder builder = PooledAllocatorConfiguration.builder();
+            pooledAllocatorConfigurationBuilderConsumer.accept(builder);
+            return pooledAllocatorConfiguration(builder.build());
+        }
+
+        public void setPooledAllocatorConfiguration(PooledAllocatorConfiguration pooledAllocatorConfiguration) {
+            pooledAllocatorConfiguration(pooledAllocatorConfiguration);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
@@ -744,7 +849,14 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT));
             }
 
-            return new NettyNioAsyncHttpClient(this, standardOptions.build()
+            // Each client gets its own allocator, so it is resolved into a copy rather than kept on this builder.
+            AttributeMap.Builder resolvedOptions = standardOptions.copy();
+            if (pooledAllocatorConfiguration != null) {
+                resolvedOptions.put(NettyConfigurationOption.BYTE_BUF_ALLOCATOR,
+                                    PooledAllocatorFactory.create(pooledAllocatorConfiguration));
+            }
+
+            return new NettyNioAsyncHttpClient(this, resolvedOptions.build()
                                                                     .merge(serviceDefaults)
                                                                     .merge(NETTY_HTTP_DEFAULTS)
                                                                     .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
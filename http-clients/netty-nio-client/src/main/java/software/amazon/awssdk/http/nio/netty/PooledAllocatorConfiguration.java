@@ -0,0 +1,255 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for a pooled I/O buffer allocator that is private to a single Netty HTTP client.
+ *
+ * <p>By default, the Netty client uses Netty's default allocator, except when the JDK {@code SslProvider} is in use, in which
+ * case it falls back to an unpooled allocator to avoid unbounded heap growth in Netty's thread-local buffer caches. When this
+ * configuration is set, every connection created by the client uses a dedicated pooled allocator instead, regardless of the
+ * {@code SslProvider}. The allocator's memory growth is reduced by limiting the number of arenas and the chunk size, and by
+ * only keeping thread-local caches on the client's event loop threads.
+ *
+ * <p>This is not a hard limit: the allocator still allocates a new chunk whenever its arenas cannot satisfy a request, so its
+ * memory grows with the number and size of buffers in use at the same time. The memory used by the allocator is sampled
+ * periodically and reported through {@link NettyAllocatorMetric}.
+ */
+@SdkPublicApi
+public final class PooledAllocatorConfiguration
+    implements ToCopyableBuilder<PooledAllocatorConfiguration.Builder, PooledAllocatorConfiguration> {
+
+    private final Integer maxHeapArenas;
+    private final Integer maxDirectArenas;
+    private final Integer maxOrder;
+    private final Boolean useThreadLocalCacheForAllThreads;
+
+    private PooledAllocatorConfiguration(DefaultBuilder builder) {
+        this.maxHeapArenas = builder.maxHeapArenas;
+        this.maxDirectArenas = builder.maxDirectArenas;
+        this.maxOrder = builder.maxOrder;
+        this.useThreadLocalCacheForAllThreads = builder.useThreadLocalCacheForAllThreads;
+    }
+
+    /**
+     * @return The maximum number of heap arenas the allocator may use.
+     */
+    public Integer maxHeapArenas() {
+        return maxHeapArenas;
+    }
+
+    /**
+     * @return The maximum number of direct memory arenas the allocator may use.
+     */
+    public Integer maxDirectArenas() {
+        return maxDirectArenas;
+    }
+
+    /**
+     * @return The max order of the allocator, which determines the size of each chunk allocated by an arena.
+     */
+    public Integer maxOrder() {
+        return maxOrder;
+    }
+
+    /**
+     * @return Whether threads other than the event loop threads keep thread-local buffer caches.
+     */
+    public Boolean useThreadLocalCacheForAllThreads() {
+        return useThreadLocalCacheForAllThreads;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PooledAllocatorConfiguration that = (PooledAllocatorConfiguration) o;
+
+        if (maxHeapArenas != null ? !maxHeapArenas.equals(that.maxHeapArenas) : that.maxHeapArenas != null) {
+            return false;
+        }
+
+        if (maxDirectArenas != null ? !maxDirectArenas.equals(that.maxDirectArenas) : that.maxDirectArenas != null) {
+            return false;
+        }
+
+        if (maxOrder != null ? !maxOrder.equals(that.maxOrder) : that.maxOrder != null) {
+            return false;
+        }
+
+        return useThreadLocalCacheForAllThreads != null ?
+               useThreadLocalCacheForAllThreads.equals(that.useThreadLocalCacheForAllThreads) :
+               that.useThreadLocalCacheForAllThreads == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxHeapArenas != null ? maxHeapArenas.hashCode() : 0;
+        result = 31 * result + (maxDirectArenas != null ? maxDirectArenas.hashCode() : 0);
+        result = 31 * result + (maxOrder != null ? maxOrder.hashCode() : 0);
+        result = 31 * result + (useThreadLocalCacheForAllThreads != null ? useThreadLocalCacheForAllThreads.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("PooledAllocatorConfiguration")
+                       .add("maxHeapArenas", maxHeapArenas)
+                       .add("maxDirectArenas", maxDirectArenas)
+                       .add("maxOrder", maxOrder)
+                       .add("useThreadLocalCacheForAllThreads", useThreadLocalCacheForAllThreads)
+                       .build();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, PooledAllocatorConfiguration> {
+
+        /**
+         * Sets the maximum number of heap arenas. Each arena grows independently, so fewer arenas reduce the amount of heap
+         * retained by the allocator at the cost of more contention between threads.
+         *
+         * <p>By default, this is the smaller of Netty's default and the number of available processors.
+         *
+         * @param maxHeapArenas The maximum number of heap arenas.
+         * @return This builder for method chaining.
+         */
+        Builder maxHeapArenas(Integer maxHeapArenas);
+
+        /**
+         * Sets the maximum number of direct memory arenas.
+         *
+         * <p>By default, this is the smaller of Netty's default and the number of available processors.
+         *
+         * @param maxDirectArenas The maximum number of direct memory arenas.
+         * @return This builder for method chaining.
+         */
+        Builder maxDirectArenas(Integer maxDirectArenas);
+
+        /**
+         * Sets the max order of the allocator. Each arena allocates memory in chunks of {@code pageSize << maxOrder} bytes,
+         * so lowering this value reduces the granularity with which the allocator's memory grows. Must be between 0 and 14.
+         *
+         * <p>By default, Netty's default max order is used.
+         *
+         * @param maxOrder The max order.
+         * @return This builder for method chaining.
+         */
+        Builder maxOrder(Integer maxOrder);
+
+        /**
+         * Sets whether threads other than the client's event loop threads should keep thread-local buffer caches. Enabling
+         * this can reduce contention when buffers are released from many application threads, but every such thread then
+         * retains its own cache, which is what causes unbounded heap growth with the JDK {@code SslProvider}.
+         *
+         * <p>By default, this is disabled.
+         *
+         * @param useThreadLocalCacheForAllThreads Whether all threads keep thread-local caches.
+         * @return This builder for method chaining.
+         */
+        Builder useThreadLocalCacheForAllThreads(Boolean useThreadLocalCacheForAllThreads);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer maxHeapArenas;
+        private Integer maxDirectArenas;
+        private Integer maxOrder;
+        private Boolean useThreadLocalCacheForAllThreads;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(PooledAllocatorConfiguration configuration) {
+            this.maxHeapArenas = configuration.maxHeapArenas;
+            this.maxDirectArenas = configuration.maxDirectArenas;
+            this.maxOrder = configuration.maxOrder;
+            this.useThreadLocalCacheForAllThreads = configuration.useThreadLocalCacheForAllThreads;
+        }
+
+        @Override
+        public Builder maxHeapArenas(Integer maxHeapArenas) {
+            if (maxHeapArenas != null) {
+                Validate.isNotNegative(maxHeapArenas, "maxHeapArenas");
+            }
+            this.maxHeapArenas = maxHeapArenas;
+            return this;
+        }
+
+        public void setMaxHeapArenas(Integer maxHeapArenas) {
+            maxHeapArenas(maxHeapArenas);
+        }
+
+        @Override
+        public Builder maxDirectArenas(Integer maxDirectArenas) {
+            if (maxDirectArenas != null) {
+                Validate.isNotNegative(maxDirectArenas, "maxDirectArenas");
+            }
+            this.maxDirectArenas = maxDirectArenas;
+            return this;
+        }
+
+        public void setMaxDirectArenas(Integer maxDirectArenas) {
+            maxDirectArenas(maxDirectArenas);
+        }
+
+        @Override
+        public Builder maxOrder(Integer maxOrder) {
+            if (maxOrder != null) {
+                Validate.isTrue(maxOrder >= 0 && maxOrder <= 14, "maxOrder must be between 0 and 14, but was %s", maxOrder);
+            }
+            this.maxOrder = maxOrder;
+            return this;
+        }
+
+        public void setMaxOrder(Integer maxOrder) {
+            maxOrder(maxOrder);
+        }
+
+        @Override
+        public Builder useThreadLocalCacheForAllThreads(Boolean useThreadLocalCacheForAllThreads) {
+            this.useThreadLocalCacheForAllThreads = useThreadLocalCacheForAllThreads;
+            return this;
+        }
+
+        public void setUseThreadLocalCacheForAllThreads(Boolean useThreadLocalCacheForAllThreads) {
+            useThreadLocalCacheForAllThreads(useThreadLocalCacheForAllThreads);
+        }
+
+        @Override
+        public PooledAllocatorConfiguration build() {
+            return new PooledAllocatorConfiguration(this);
+        }
+    }
+}
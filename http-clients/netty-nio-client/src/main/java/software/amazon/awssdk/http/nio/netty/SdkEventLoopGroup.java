@@ -20,12 +20,11 @@ import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
-import io.netty.channel.socket.nio.NioDatagramChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelResolver;
+import software.amazon.awssdk.http.nio.netty.internal.utils.IoUringUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -81,8 +80,8 @@ public final class SdkEventLoopGroup {
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
         this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveSocketChannelFactory(builder);
-        this.datagramChannelFactory = resolveDatagramChannelFactory(builder);
+        this.channelFactory = resolveSocketChannelFactory(builder, eventLoopGroup);
+        this.datagramChannelFactory = resolveDatagramChannelFactory(builder, eventLoopGroup);
     }
 
     /**
@@ -142,6 +141,9 @@ public final class SdkEventLoopGroup {
                                               .orElseGet(() -> new ThreadFactoryBuilder()
                                                   .threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                   .build());
+        if (Boolean.TRUE.equals(builder.preferIoUring) && IoUringUtils.isAvailable()) {
+            return IoUringUtils.newEventLoopGroup(numThreads, threadFactory);
+        }
         return new NioEventLoopGroup(numThreads, threadFactory);
         /*
         Need to investigate why epoll is raising channel inactive after successful response that causes
@@ -154,20 +156,20 @@ public final class SdkEventLoopGroup {
         }*/
     }
 
-    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder) {
-        return builder.channelFactory;
-    }
-
-    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder) {
-        return builder.datagramChannelFactory;
-    }
-
-    private static ChannelFactory<? extends Channel> defaultSocketChannelFactory() {
-        return NioSocketChannel::new;
+    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder,
+                                                                          EventLoopGroup eventLoopGroup) {
+        if (builder.channelFactory != null) {
+            return builder.channelFactory;
+        }
+        return ChannelResolver.resolveSocketChannelFactory(eventLoopGroup);
     }
 
-    private static ChannelFactory<? extends DatagramChannel> defaultDatagramChannelFactory() {
-        return NioDatagramChannel::new;
+    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder,
+                                                                                    EventLoopGroup eventLoopGroup) {
+        if (builder.datagramChannelFactory != null) {
+            return builder.datagramChannelFactory;
+        }
+        return ChannelResolver.resolveDatagramChannelFactory(eventLoopGroup);
     }
 
     /**
@@ -198,7 +200,7 @@ public final class SdkEventLoopGroup {
 
         /**
          * {@link ChannelFactory} to create socket channels used by the {@link EventLoopGroup}. If not set,
-         * NioSocketChannel is used.
+         * NioSocketChannel is used, or IOUringSocketChannel if the io_uring transport is used.
          *
          * @param channelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -207,13 +209,27 @@ public final class SdkEventLoopGroup {
 
         /**
          * {@link ChannelFactory} to create datagram channels used by the {@link EventLoopGroup}. If not set,
-         * NioDatagramChannel is used.
+         * NioDatagramChannel is used, or IOUringDatagramChannel if the io_uring transport is used.
          *
          * @param datagramChannelFactory ChannelFactory to use.
          * @return This builder for method chaining.
          */
         Builder datagramChannelFactory(ChannelFactory<? extends DatagramChannel> datagramChannelFactory);
 
+        /**
+         * Whether to use the io_uring transport of the Netty incubator instead of NIO when it is available. The transport is
+         * available when {@code io.netty.incubator:netty-incubator-transport-native-io_uring} is on the classpath and the
+         * kernel supports io_uring (Linux 5.9 and later). Otherwise, NIO is used. io_uring reduces the number of system calls
+         * made by the event loop, which helps workloads with many concurrent connections. Defaults to false.
+         *
+         * <p>If a {@link #channelFactory} or {@link #datagramChannelFactory} is configured, it must create channels that are
+         * compatible with the io_uring event loop group.
+         *
+         * @param preferIoUring Whether to use io_uring when it is available.
+         * @return This builder for method chaining.
+         */
+        Builder preferIoUring(Boolean preferIoUring);
+
         SdkEventLoopGroup build();
     }
 
@@ -221,8 +237,9 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
-        private ChannelFactory<? extends Channel> channelFactory = defaultSocketChannelFactory();
-        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory = defaultDatagramChannelFactory();
+        private ChannelFactory<? extends Channel> channelFactory;
+        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory;
+        private Boolean preferIoUring;
 
         private DefaultBuilder() {
         }
@@ -267,6 +284,16 @@ public final class SdkEventLoopGroup {
             datagramChannelFactory(datagramChannelFactory);
         }
 
+        @Override
+        public Builder preferIoUring(Boolean preferIoUring) {
+            this.preferIoUring = preferIoUring;
+            return this;
+        }
+
+        public void setPreferIoUring(Boolean preferIoUring) {
+            preferIoUring(preferIoUring);
+        }
+
         @Override
         public SdkEventLoopGroup build() {
             return new SdkEventLoopGroup(this);
@@ -78,6 +78,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final Protocol protocol;
     private final long maxStreams;
     private final Duration healthCheckPingPeriod;
+    private final Duration streamLatencyThreshold;
+    private final Integer minimumConnectionWindowSize;
     private final int initialWindowSize;
     private final SslProvider sslProvider;
     private final ProxyConfiguration proxyConfiguration;
@@ -90,6 +92,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         this.protocol = builder.protocol;
         this.maxStreams = builder.maxStreams;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.streamLatencyThreshold = builder.streamLatencyThreshold;
+        this.minimumConnectionWindowSize = builder.minimumConnectionWindowSize;
         this.initialWindowSize = builder.initialWindowSize;
         this.sslProvider = builder.sslProvider;
         this.proxyConfiguration = builder.proxyConfiguration;
@@ -237,7 +241,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         SdkChannelPool sdkChannelPool = new HttpOrHttp2ChannelPool(channelPool,
                                                                    bootstrap.config().group(),
                                                                    configuration.maxConnections(),
-                                                                   configuration);
+                                                                   configuration,
+                                                                   streamLatencyThreshold,
+                                                                   minimumConnectionWindowSize);
 
 
         sdkChannelPool = new ListenerInvokingChannelPool(bootstrap.config().group(), sdkChannelPool, Arrays.asList(
@@ -285,6 +291,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private long maxStreams;
         private int initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Duration streamLatencyThreshold;
+        private Integer minimumConnectionWindowSize;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
         private Boolean useNonBlockingDnsResolver;
@@ -327,6 +335,16 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder streamLatencyThreshold(Duration streamLatencyThreshold) {
+            this.streamLatencyThreshold = streamLatencyThreshold;
+            return this;
+        }
+
+        public Builder minimumConnectionWindowSize(Integer minimumConnectionWindowSize) {
+            this.minimumConnectionWindowSize = minimumConnectionWindowSize;
+            return this;
+        }
+
         public Builder sslProvider(SslProvider sslProvider) {
             this.sslProvider = sslProvider;
             return this;
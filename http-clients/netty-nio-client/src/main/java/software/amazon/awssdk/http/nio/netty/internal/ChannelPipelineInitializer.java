@@ -24,6 +24,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.ne
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
@@ -92,6 +93,11 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         ch.attr(CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(ch));
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
         ChannelPipeline pipeline = ch.pipeline();
+        ByteBufAllocator allocator = configuration.byteBufAllocator();
+        if (allocator != null) {
+            ch.config().setOption(ChannelOption.ALLOCATOR, allocator);
+        }
+
         if (sslCtx != null) {
 
             SslHandler sslHandler = newSslHandler(sslCtx, ch.alloc(), poolKey.getHost(), poolKey.getPort(),
@@ -100,9 +106,9 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
 
-            // Use unpooled allocator to avoid increased heap memory usage from Netty 4.1.43.
-            // See https://github.com/netty/netty/issues/9768
-            if (sslProvider == SslProvider.JDK) {
+            // Use unpooled allocator to avoid increased heap memory usage from Netty 4.1.43, unless the client was configured
+            // with its own size-limited pooled allocator. See https://github.com/netty/netty/issues/9768
+            if (sslProvider == SslProvider.JDK && allocator == null) {
                 ch.config().setOption(ChannelOption.ALLOCATOR, UnpooledByteBufAllocator.DEFAULT);
             }
         }
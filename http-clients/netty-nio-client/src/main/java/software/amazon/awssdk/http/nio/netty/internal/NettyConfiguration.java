@@ -23,6 +23,7 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TCP_KEEPALI
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
+import io.netty.buffer.ByteBufAllocator;
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
@@ -107,4 +108,15 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    /**
+     * @return The allocator to use for every channel, or {@code null} if the channel's default should be used.
+     */
+    public ByteBufAllocator byteBufAllocator() {
+        return configuration.get(NettyConfigurationOption.BYTE_BUF_ALLOCATOR);
+    }
+
+    public boolean zeroCopyResponseBody() {
+        return Boolean.TRUE.equals(configuration.get(NettyConfigurationOption.ZERO_COPY_RESPONSE_BODY));
+    }
 }
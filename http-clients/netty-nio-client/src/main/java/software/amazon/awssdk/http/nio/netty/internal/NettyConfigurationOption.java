@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBufAllocator;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Netty-specific options that are carried in the {@link NettyConfiguration} alongside the standard
+ * {@link software.amazon.awssdk.http.SdkHttpConfigurationOption}s.
+ */
+@SdkInternalApi
+public final class NettyConfigurationOption<T> extends AttributeMap.Key<T> {
+
+    /**
+     * Whether response body buffers are handed to the subscriber as read-only views of the Netty buffers instead of copies.
+     */
+    public static final NettyConfigurationOption<Boolean> ZERO_COPY_RESPONSE_BODY =
+        new NettyConfigurationOption<>("ZeroCopyResponseBody", Boolean.class);
+
+    /**
+     * The allocator used for every channel created by the client, or {@code null} to use the default allocator.
+     */
+    public static final NettyConfigurationOption<ByteBufAllocator> BYTE_BUF_ALLOCATOR =
+        new NettyConfigurationOption<>("ByteBufAllocator", ByteBufAllocator.class);
+
+    private final String name;
+
+    private NettyConfigurationOption(String name, Class<T> clzz) {
+        super(clzz);
+        this.name = name;
+    }
+
+    /**
+     * Note that the name is mainly used for debugging purposes. Two option key objects with the same name do not represent
+     * the same option. Option keys are compared by reference when obtaining a value from an {@link AttributeMap}.
+     *
+     * @return Name of this option key.
+     */
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
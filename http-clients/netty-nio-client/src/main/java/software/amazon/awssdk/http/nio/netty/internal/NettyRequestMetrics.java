@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http.nio.netty.internal;
 
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2Stream;
@@ -82,6 +83,25 @@ public class NettyRequestMetrics {
                                      http2Connection.local().flowController().windowSize(stream));
         metricCollector.reportMetric(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES,
                                      http2Connection.remote().flowController().windowSize(stream));
+
+        Http2Stream connectionStream = http2Connection.connectionStream();
+        metricCollector.reportMetric(Http2Metric.LOCAL_CONNECTION_WINDOW_SIZE_IN_BYTES,
+                                     http2Connection.local().flowController().windowSize(connectionStream));
+        metricCollector.reportMetric(Http2Metric.REMOTE_CONNECTION_WINDOW_SIZE_IN_BYTES,
+                                     http2Connection.remote().flowController().windowSize(connectionStream));
+        metricCollector.reportMetric(Http2Metric.CONNECTION_ACTIVE_STREAMS, http2Connection.numActiveStreams());
+    }
+
+    /**
+     * Publish the sampled state of the client's pooled allocator to the provided collector. Does nothing if the client does
+     * not use a {@link PooledByteBufAllocator}, in which case {@code allocatorMetrics} is null.
+     */
+    public static void publishAllocatorMetrics(MetricCollector metricCollector, PooledAllocatorMetrics allocatorMetrics) {
+        if (!metricsAreEnabled(metricCollector) || allocatorMetrics == null) {
+            return;
+        }
+
+        allocatorMetrics.publish(metricCollector);
     }
 
     /**
@@ -0,0 +1,70 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.PooledAllocatorConfiguration;
+
+/**
+ * Creates the per-client {@link PooledByteBufAllocator} described by a {@link PooledAllocatorConfiguration}.
+ */
+@SdkInternalApi
+public final class PooledAllocatorFactory {
+
+    private PooledAllocatorFactory() {
+    }
+
+    public static PooledByteBufAllocator create(PooledAllocatorConfiguration configuration) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int heapArenas = resolve(configuration.maxHeapArenas(),
+                                 Math.min(PooledByteBufAllocator.defaultNumHeapArena(), processors));
+        int directArenas = resolve(configuration.maxDirectArenas(),
+                                   Math.min(PooledByteBufAllocator.defaultNumDirectArena(), processors));
+        int maxOrder = resolve(configuration.maxOrder(), PooledByteBufAllocator.defaultMaxOrder());
+        boolean useCacheForAllThreads = Boolean.TRUE.equals(configuration.useThreadLocalCacheForAllThreads());
+
+        return new PooledByteBufAllocator(PooledByteBufAllocator.defaultPreferDirect(),
+                                          heapArenas,
+                                          directArenas,
+                                          PooledByteBufAllocator.defaultPageSize(),
+                                          maxOrder,
+                                          PooledByteBufAllocator.defaultSmallCacheSize(),
+                                          PooledByteBufAllocator.defaultNormalCacheSize(),
+                                          useCacheForAllThreads);
+    }
+
+    /**
+     * Return the memory held by the thread caches of a per-client allocator to its arenas, when the client is closed.
+     *
+     * <p>Netty does not offer a way to destroy an allocator's arenas. Their chunks are released once they are empty, and the
+     * rest of their memory when the allocator is no longer reachable. The thread caches keep buffers, and the arenas, alive
+     * for as long as their threads live, which can outlive the client when its event loop group is shared. The caches of the
+     * closing thread and of every event loop are therefore trimmed.
+     */
+    public static void releaseThreadCaches(PooledByteBufAllocator allocator, EventLoopGroup eventLoopGroup) {
+        allocator.trimCurrentThreadCache();
+        for (EventExecutor eventLoop : eventLoopGroup) {
+            eventLoop.execute(allocator::trimCurrentThreadCache);
+        }
+    }
+
+    private static int resolve(Integer configured, int defaultValue) {
+        return configured != null ? configured : defaultValue;
+    }
+}
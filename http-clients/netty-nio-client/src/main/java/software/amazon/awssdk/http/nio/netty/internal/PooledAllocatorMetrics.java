@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.nio.netty.NettyAllocatorMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Periodically samples the state of a client's {@link PooledByteBufAllocator} for {@link NettyAllocatorMetric}.
+ *
+ * <p>Reading the allocator's memory usage visits, and locks, every arena, so it is not done on every request. Instead, the
+ * last sample is reported, and it is refreshed by at most one request once it is older than {@link #SAMPLE_INTERVAL}.
+ */
+@SdkInternalApi
+public final class PooledAllocatorMetrics {
+    static final Duration SAMPLE_INTERVAL = Duration.ofSeconds(1);
+
+    private final PooledByteBufAllocatorMetric metric;
+    private final LongSupplier nanoTime;
+    private final AtomicBoolean sampling = new AtomicBoolean(false);
+    private volatile Sample sample;
+    private volatile boolean closed;
+
+    @SdkTestInternalApi
+    PooledAllocatorMetrics(PooledByteBufAllocator allocator, LongSupplier nanoTime) {
+        this.metric = allocator.metric();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Create the metrics for the provided allocator, or return null if it is not a {@link PooledByteBufAllocator}.
+     */
+    public static PooledAllocatorMetrics create(ByteBufAllocator allocator) {
+        if (!(allocator instanceof PooledByteBufAllocator)) {
+            return null;
+        }
+        return new PooledAllocatorMetrics((PooledByteBufAllocator) allocator, System::nanoTime);
+    }
+
+    /**
+     * Publish the most recent sample of the allocator's state to the provided collector, taking a new sample first if the
+     * most recent one is stale and no other request is already taking one. Nothing is published once this is closed.
+     */
+    public void publish(MetricCollector metricCollector) {
+        if (closed) {
+            return;
+        }
+
+        Sample current = currentSample();
+        metricCollector.reportMetric(NettyAllocatorMetric.USED_HEAP_MEMORY_IN_BYTES, current.usedHeapMemory);
+        metricCollector.reportMetric(NettyAllocatorMetric.USED_DIRECT_MEMORY_IN_BYTES, current.usedDirectMemory);
+        metricCollector.reportMetric(NettyAllocatorMetric.ACTIVE_ALLOCATIONS, current.activeAllocations);
+        metricCollector.reportMetric(NettyAllocatorMetric.ARENA_COUNT, current.arenaCount);
+    }
+
+    /**
+     * Stop sampling the allocator, because the client that owns it is closed.
+     */
+    public void close() {
+        closed = true;
+        sample = null;
+    }
+
+    private Sample currentSample() {
+        Sample current = sample;
+        long now = nanoTime.getAsLong();
+        if (current != null && now - current.sampledAtNanos < SAMPLE_INTERVAL.toNanos()) {
+            return current;
+        }
+
+        if (!sampling.compareAndSet(false, true)) {
+            // Another request is already sampling. Only wait for it if there is no previous sample to report.
+            return current != null ? current : takeSample(now);
+        }
+
+        try {
+            current = takeSample(now);
+            sample = current;
+            return current;
+        } finally {
+            sampling.set(false);
+        }
+    }
+
+    private Sample takeSample(long now) {
+        return new Sample(now,
+                          metric.usedHeapMemory(),
+                          metric.usedDirectMemory(),
+                          activeAllocations(metric.heapArenas()) + activeAllocations(metric.directArenas()),
+                          metric.numHeapArenas() + metric.numDirectArenas());
+    }
+
+    private static long activeAllocations(List<PoolArenaMetric> arenas) {
+        long activeAllocations = 0;
+        for (PoolArenaMetric arena : arenas) {
+            activeAllocations += arena.numActiveAllocations();
+        }
+        return activeAllocations;
+    }
+
+    private static final class Sample {
+        private final long sampledAtNanos;
+        private final long usedHeapMemory;
+        private final long usedDirectMemory;
+        private final long activeAllocations;
+        private final int arenaCount;
+
+        private Sample(long sampledAtNanos, long usedHeapMemory, long usedDirectMemory, long activeAllocations, int arenaCount) {
+            this.sampledAtNanos = sampledAtNanos;
+            this.usedHeapMemory = usedHeapMemory;
+            this.usedDirectMemory = usedDirectMemory;
+            this.activeAllocations = activeAllocations;
+            this.arenaCount = arenaCount;
+        }
+    }
+}
@@ -48,8 +48,13 @@ import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.reactivestreams.Publisher;
@@ -107,7 +112,8 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             requestContext.handler().onStream(
                     new DataCountingPublisher(channelContext,
                                               new PublisherAdapter((StreamedHttpResponse) msg, channelContext,
-                                                                   requestContext, ef)));
+                                                                   requestContext, ef,
+                                                                   zeroCopyResponseBody(requestContext))));
         } else if (msg instanceof FullHttpResponse) {
             ByteBuf fullContent = null;
             try {
@@ -270,6 +276,24 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         return bb;
     }
 
+    /**
+     * Create a read-only view over the readable bytes of the given buffer without copying them. Buffers that are not backed
+     * by exactly one NIO buffer (e.g. composite buffers) cannot be exposed as a single view and are copied instead.
+     *
+     * @return The view, or {@code null} if the buffer had to be copied.
+     */
+    private static ByteBuffer readOnlyView(ByteBuf byteBuf) {
+        if (byteBuf.nioBufferCount() != 1) {
+            return null;
+        }
+        return byteBuf.nioBuffer().asReadOnlyBuffer();
+    }
+
+    private static boolean zeroCopyResponseBody(RequestContext requestContext) {
+        NettyConfiguration configuration = requestContext.configuration();
+        return configuration != null && configuration.zeroCopyResponseBody();
+    }
+
     private static CompletableFuture<Void> executeFuture(ChannelHandlerContext ctx) {
         return ctx.channel().attr(EXECUTE_FUTURE_KEY).get();
     }
@@ -280,13 +304,52 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         private final RequestContext requestContext;
         private final CompletableFuture<Void> executeFuture;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
+        private final boolean zeroCopy;
+
+        /**
+         * Netty buffers whose views have been handed to the subscriber but not yet released. Only used in zero-copy mode.
+         */
+        private final Queue<ByteBuf> deliveredBuffers = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Content received from Netty but not yet handed to the subscriber. Only used in zero-copy mode, where the most recent
+         * content is held back until it is known whether more content follows it.
+         */
+        private final Queue<HttpContent> undeliveredContent = new ConcurrentLinkedQueue<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger deliveryInProgress = new AtomicInteger();
+        private volatile boolean upstreamComplete;
 
         PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
                          RequestContext requestContext, CompletableFuture<Void> executeFuture) {
+            this(response, channelContext, requestContext, executeFuture, false);
+        }
+
+        PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
+                         RequestContext requestContext, CompletableFuture<Void> executeFuture, boolean zeroCopy) {
             this.response = response;
             this.channelContext = channelContext;
             this.requestContext = requestContext;
             this.executeFuture = executeFuture;
+            this.zeroCopy = zeroCopy;
+        }
+
+        /**
+         * Release every buffer that was delivered to the subscriber before this call. In zero-copy mode, the subscriber
+         * signalling more demand (or cancelling) is what tells us it is done with the buffers it has already received.
+         */
+        private void releaseDeliveredBuffers() {
+            ByteBuf delivered;
+            while ((delivered = deliveredBuffers.poll()) != null) {
+                ReferenceCountUtil.release(delivered);
+            }
+        }
+
+        private void releaseUndeliveredContent() {
+            HttpContent undelivered;
+            while ((undelivered = undeliveredContent.poll()) != null) {
+                ReferenceCountUtil.release(undelivered);
+            }
         }
 
         @Override
@@ -299,11 +362,26 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                 }
 
                 private Subscription resolveSubscription(Subscription subscription) {
+                    Subscription resolved = subscription;
                     // For HTTP2 we send a RST_STREAM frame on cancel to stop the service from sending more data
                     if (ChannelAttributeKey.getProtocolNow(channelContext.channel()) == Protocol.HTTP2) {
-                        return new Http2ResetSendingSubscription(channelContext, subscription);
-                    } else {
-                        return subscription;
+                        resolved = new Http2ResetSendingSubscription(channelContext, resolved);
+                    }
+                    if (zeroCopy) {
+                        resolved = new ZeroCopySubscription(resolved, this::onRequest);
+                    }
+                    return resolved;
+                }
+
+                /**
+                 * Called before every request for more data in zero-copy mode.
+                 */
+                private void onRequest(long n) {
+                    releaseDeliveredBuffers();
+                    if (n > 0) {
+                        demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE
+                                                                                            : current + added);
+                        deliver();
                     }
                 }
 
@@ -317,6 +395,8 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         log.debug(channelContext.channel(), () -> "Subscriber cancelled before all events were published");
                         executeFuture.completeExceptionally(e);
                     } finally {
+                        releaseDeliveredBuffers();
+                        releaseUndeliveredContent();
                         runAndLogError(channelContext.channel(), () -> "Could not release channel back to the pool",
                             () -> closeAndRelease(channelContext));
                     }
@@ -330,6 +410,61 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (zeroCopy) {
+                        undeliveredContent.add(httpContent);
+                        deliver();
+                        return;
+                    }
+
+                    onNextCopy(httpContent);
+                }
+
+                /**
+                 * Hand the subscriber the undelivered content it has demand for. A content is only delivered once the next one
+                 * has arrived, or the body is complete. Content followed by more content is delivered as a view of the Netty
+                 * buffer, because the subscriber has to request more data, and so release the view, before it can receive the
+                 * rest of the body. The last content of the body is delivered as a copy, so that completing the body never
+                 * releases a buffer the subscriber may still be using.
+                 */
+                private void deliver() {
+                    if (deliveryInProgress.getAndIncrement() != 0) {
+                        return;
+                    }
+                    int missed = 1;
+                    do {
+                        while (!isDone.get() && demand.get() > 0) {
+                            // Read before the queue: content is always queued before the body is marked complete
+                            boolean complete = upstreamComplete;
+                            int undelivered = undeliveredContent.size();
+                            boolean last = complete && undelivered == 1;
+                            if (undelivered == 0 || (undelivered == 1 && !last)) {
+                                break;
+                            }
+                            HttpContent httpContent = undeliveredContent.poll();
+                            if (httpContent == null) {
+                                break;
+                            }
+                            if (demand.get() != Long.MAX_VALUE) {
+                                demand.decrementAndGet();
+                            }
+                            ByteBuffer view = last ? null : readOnlyView(httpContent.content());
+                            if (view != null) {
+                                onNextZeroCopy(httpContent, view);
+                            } else {
+                                onNextCopy(httpContent);
+                            }
+                        }
+
+                        if (isDone.get()) {
+                            releaseUndeliveredContent();
+                        } else if (upstreamComplete && undeliveredContent.isEmpty()) {
+                            complete();
+                        }
+                        missed = deliveryInProgress.addAndGet(-missed);
+                    } while (missed != 0);
+                }
+
+                private void onNextCopy(HttpContent httpContent) {
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -345,6 +480,24 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Hand the subscriber a view of the Netty buffer instead of a copy. The buffer is only queued for release
+                 * once onNext has returned, so a request(n) made from within onNext does not free the buffer the
+                 * subscriber is still looking at; it is released on the following request, or when the stream fails or is
+                 * cancelled.
+                 */
+                private void onNextZeroCopy(HttpContent httpContent, ByteBuffer view) {
+                    try {
+                        tryCatch(() -> subscriber.onNext(view),
+                                 this::notifyError);
+                    } finally {
+                        deliveredBuffers.add(httpContent.content());
+                        if (isDone.get()) {
+                            releaseDeliveredBuffers();
+                        }
+                    }
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
@@ -356,6 +509,8 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                                        () -> subscriber.onError(t));
                         notifyError(t);
                     } finally {
+                        releaseDeliveredBuffers();
+                        releaseUndeliveredContent();
                         runAndLogError(channelContext.channel(), () -> "Could not release channel back to the pool",
                             () -> closeAndRelease(channelContext));
                     }
@@ -363,12 +518,25 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
                 @Override
                 public void onComplete() {
+                    if (zeroCopy) {
+                        // The subscriber is completed once it has received the content that is still held back
+                        upstreamComplete = true;
+                        deliver();
+                        return;
+                    }
+                    complete();
+                }
+
+                private void complete() {
                     // For HTTP/2 it's possible to get an onComplete after we cancel due to the channel becoming
                     // inactive. We guard against that here and just ignore the signal (see HandlerPublisher)
                     if (!isDone.compareAndSet(false, true)) {
                         return;
                     }
 
+                    // Views are released by the request for the last content, which is a copy. Any that remain belong to a
+                    // subscriber that requested all of its demand up front, which zero-copy mode does not support.
+                    releaseDeliveredBuffers();
                     try {
                         validateResponseContentLength(channelContext);
                         try {
@@ -416,6 +584,32 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         }
     }
 
+    /**
+     * Decorator around a {@link Subscription} used in zero-copy mode. It notifies every request for more data, so that the
+     * buffers the subscriber has finished with can be released, and it requests one more content from Netty than the
+     * subscriber asked for, so that the most recent content can be held back until it is known whether more follows.
+     */
+    private static class ZeroCopySubscription extends DelegatingSubscription {
+
+        private final LongConsumer onRequest;
+        private final AtomicBoolean prefetched = new AtomicBoolean(false);
+
+        private ZeroCopySubscription(Subscription subscription, LongConsumer onRequest) {
+            super(subscription);
+            this.onRequest = onRequest;
+        }
+
+        @Override
+        public void request(long l) {
+            onRequest.accept(l);
+            if (l > 0 && l < Long.MAX_VALUE && prefetched.compareAndSet(false, true)) {
+                super.request(l + 1);
+            } else {
+                super.request(l);
+            }
+        }
+    }
+
     static class FullResponseContentPublisher implements Publisher<ByteBuffer> {
         private final ChannelHandlerContext channelContext;
         private final ByteBuffer fullContent;
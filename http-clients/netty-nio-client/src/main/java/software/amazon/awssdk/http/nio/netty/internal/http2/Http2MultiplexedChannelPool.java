@@ -64,8 +64,16 @@ import software.amazon.awssdk.utils.Validate;
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections by placing each new
+ * stream on the connection with the fewest streams in flight, when the max concurrency for a connection is reached then a new
+ * connection will be opened.
+ *
+ * <p>
+ * If a stream latency threshold or a minimum connection window size is configured, a new connection is also opened when the
+ * least-loaded connection is congested: when the average time its streams take to receive their response headers exceeds
+ * the threshold, or when its remote flow-control window is smaller than the minimum. Only one such connection is opened at a
+ * time.
+ * </p>
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -92,6 +100,9 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final Long streamLatencyThresholdNanos;
+    private final Integer minimumConnectionWindowSize;
+    private final AtomicBoolean openingAdditionalConnection = new AtomicBoolean(false);
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +112,27 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, null, null);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param streamLatencyThreshold The average latency of the response headers on the least-loaded connection above which a
+     * new connection is opened, or null to not open connections based on latency.
+     * @param minimumConnectionWindowSize The remote connection window of the least-loaded connection below which a new
+     * connection is opened, or null to not open connections based on the window size.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                Duration streamLatencyThreshold,
+                                Integer minimumConnectionWindowSize) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.streamLatencyThresholdNanos = streamLatencyThreshold == null ? null : streamLatencyThreshold.toNanos();
+        this.minimumConnectionWindowSize = minimumConnectionWindowSize;
     }
 
     @SdkTestInternalApi
@@ -116,6 +144,16 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         this.connections.addAll(connections);
     }
 
+    @SdkTestInternalApi
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Set<MultiplexedChannelRecord> connections,
+                                Duration streamLatencyThreshold,
+                                Integer minimumConnectionWindowSize) {
+        this(connectionPool, eventLoopGroup, null, streamLatencyThreshold, minimumConnectionWindowSize);
+        this.connections.addAll(connections);
+    }
+
     @Override
     public Future<Channel> acquire() {
         return acquire(eventLoopGroup.next().newPromise());
@@ -127,6 +165,22 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
+        MultiplexedChannelRecord leastLoadedChannel = leastLoadedConnection();
+        if (leastLoadedChannel != null) {
+            if (isCongested(leastLoadedChannel) && openingAdditionalConnection.compareAndSet(false, true)) {
+                log.debug(leastLoadedChannel.getConnection(),
+                          () -> "Connection " + leastLoadedChannel.getConnection() + " is congested, opening a new connection");
+                promise.addListener(f -> openingAdditionalConnection.set(false));
+                acquireStreamOnNewConnection(promise);
+                return promise;
+            }
+
+            if (acquireStreamOnInitializedConnection(leastLoadedChannel, promise)) {
+                return promise;
+            }
+        }
+
+        // The least-loaded connection ran out of streams concurrently, fall back to any connection with available streams.
         for (MultiplexedChannelRecord multiplexedChannel : connections) {
             if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
                 return promise;
@@ -138,6 +192,46 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         return promise;
     }
 
+    /**
+     * Find the connection to place a new stream on: the one with the fewest streams in flight, preferring connections that
+     * are not starved of flow-control window, and then connections with a larger remote window.
+     */
+    private MultiplexedChannelRecord leastLoadedConnection() {
+        MultiplexedChannelRecord leastLoaded = null;
+        for (MultiplexedChannelRecord candidate : connections) {
+            if (candidate.hasAvailableStreams() && (leastLoaded == null || isLessLoaded(candidate, leastLoaded))) {
+                leastLoaded = candidate;
+            }
+        }
+        return leastLoaded;
+    }
+
+    private boolean isLessLoaded(MultiplexedChannelRecord candidate, MultiplexedChannelRecord current) {
+        boolean candidateStarved = isWindowStarved(candidate);
+        if (candidateStarved != isWindowStarved(current)) {
+            return !candidateStarved;
+        }
+
+        long candidateStreams = candidate.inFlightStreams();
+        long currentStreams = current.inFlightStreams();
+        if (candidateStreams != currentStreams) {
+            return candidateStreams < currentStreams;
+        }
+
+        return candidate.remoteConnectionWindowSize() > current.remoteConnectionWindowSize();
+    }
+
+    private boolean isCongested(MultiplexedChannelRecord channelRecord) {
+        if (isWindowStarved(channelRecord)) {
+            return true;
+        }
+        return streamLatencyThresholdNanos != null && channelRecord.averageStreamLatencyNanos() > streamLatencyThresholdNanos;
+    }
+
+    private boolean isWindowStarved(MultiplexedChannelRecord channelRecord) {
+        return minimumConnectionWindowSize != null && channelRecord.remoteConnectionWindowSize() < minimumConnectionWindowSize;
+    }
+
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
@@ -174,7 +268,8 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             Validate.isTrue(maxStreams > 0, "Maximum streams were not positive on channel (%s).", parentChannel);
 
             MultiplexedChannelRecord multiplexedChannel = new MultiplexedChannelRecord(parentChannel, maxStreams,
-                                                                                       idleConnectionTimeout);
+                                                                                       idleConnectionTimeout,
+                                                                                       streamLatencyThresholdNanos != null);
             parentChannel.attr(MULTIPLEXED_CHANNEL).set(multiplexedChannel);
 
             Promise<Channel> streamPromise = parentChannel.eventLoop().newPromise();
@@ -48,6 +48,8 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final EventLoop eventLoop;
     private final NettyConfiguration configuration;
+    private final Duration streamLatencyThreshold;
+    private final Integer minimumConnectionWindowSize;
 
     private boolean protocolImplPromiseInitializationStarted = false;
     private Promise<ChannelPool> protocolImplPromise;
@@ -58,11 +60,26 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                   EventLoopGroup group,
                                   int maxConcurrency,
                                   NettyConfiguration configuration) {
+        this(delegatePool, group, maxConcurrency, configuration, null, null);
+    }
+
+    /**
+     * @param streamLatencyThreshold See {@link Http2MultiplexedChannelPool}, may be null.
+     * @param minimumConnectionWindowSize See {@link Http2MultiplexedChannelPool}, may be null.
+     */
+    public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
+                                  EventLoopGroup group,
+                                  int maxConcurrency,
+                                  NettyConfiguration configuration,
+                                  Duration streamLatencyThreshold,
+                                  Integer minimumConnectionWindowSize) {
         this.delegatePool = delegatePool;
         this.maxConcurrency = maxConcurrency;
         this.eventLoopGroup = group;
         this.eventLoop = group.next();
         this.configuration = configuration;
+        this.streamLatencyThreshold = streamLatencyThreshold;
+        this.minimumConnectionWindowSize = minimumConnectionWindowSize;
         this.protocolImplPromise = eventLoop.newPromise();
     }
 
@@ -170,7 +187,8 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
+            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout,
+                                                                    streamLatencyThreshold, minimumConnectionWindowSize);
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
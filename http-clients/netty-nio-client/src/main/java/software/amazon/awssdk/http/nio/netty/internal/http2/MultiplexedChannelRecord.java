@@ -19,9 +19,14 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.do
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.warnIfNotInEventLoop;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelId;
 import io.netty.channel.ChannelOutboundInvoker;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2GoAwayFrame;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
 import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
 import io.netty.util.concurrent.Future;
@@ -51,10 +56,12 @@ import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
 @SdkInternalApi
 public class MultiplexedChannelRecord {
     private static final NettyClientLogger log = NettyClientLogger.getLogger(MultiplexedChannelRecord.class);
+    private static final int LATENCY_SMOOTHING_FACTOR = 8;
 
     private final Channel connection;
     private final long maxConcurrencyPerConnection;
     private final Long allowedIdleConnectionTimeMillis;
+    private final boolean trackStreamLatency;
 
     private final AtomicLong availableChildChannels;
     private volatile long lastReserveAttemptTimeMillis;
@@ -68,11 +75,27 @@ public class MultiplexedChannelRecord {
 
     private volatile int lastStreamId;
 
+    // Only write in the connection.eventLoop(). These are snapshots used to balance streams across connections.
+    private volatile long averageStreamLatencyNanos = -1;
+    private volatile int remoteConnectionWindowSize = Integer.MAX_VALUE;
+
     MultiplexedChannelRecord(Channel connection, long maxConcurrencyPerConnection, Duration allowedIdleConnectionTime) {
+        this(connection, maxConcurrencyPerConnection, allowedIdleConnectionTime, false);
+    }
+
+    /**
+     * @param trackStreamLatency Whether to measure the time it takes for each stream to receive its response headers, see
+     * {@link #averageStreamLatencyNanos()}.
+     */
+    MultiplexedChannelRecord(Channel connection,
+                             long maxConcurrencyPerConnection,
+                             Duration allowedIdleConnectionTime,
+                             boolean trackStreamLatency) {
         this.connection = connection;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
         this.availableChildChannels = new AtomicLong(maxConcurrencyPerConnection);
         this.allowedIdleConnectionTimeMillis = allowedIdleConnectionTime == null ? null : allowedIdleConnectionTime.toMillis();
+        this.trackStreamLatency = trackStreamLatency;
     }
 
     boolean acquireStream(Promise<Channel> promise) {
@@ -110,10 +133,14 @@ public class MultiplexedChannelRecord {
                 }
 
                 Http2StreamChannel channel = future.getNow();
+                if (trackStreamLatency) {
+                    channel.pipeline().addLast(new StreamLatencyRecorder());
+                }
                 channel.pipeline().addLast(UnusedChannelExceptionHandler.getInstance());
                 channel.attr(ChannelAttributeKey.HTTP2_FRAME_STREAM).set(channel.stream());
                 channel.attr(ChannelAttributeKey.CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(channel));
                 childChannels.put(channel.id(), channel);
+                updateRemoteConnectionWindowSize();
                 promise.setSuccess(channel);
 
                 if (closeIfIdleTask == null && allowedIdleConnectionTimeMillis != null) {
@@ -236,9 +263,28 @@ public class MultiplexedChannelRecord {
         doInEventLoop(connection.eventLoop(), () -> {
             childChannels.remove(childChannel.id());
             releaseClaim();
+            updateRemoteConnectionWindowSize();
         });
     }
 
+    private void recordStreamLatency(long latencyNanos) {
+        warnIfNotInEventLoop(connection.eventLoop());
+
+        // Exponentially weighted moving average, so that the latency reflects recent streams.
+        long previousAverage = averageStreamLatencyNanos;
+        averageStreamLatencyNanos = previousAverage < 0
+                                    ? latencyNanos
+                                    : previousAverage + (latencyNanos - previousAverage) / LATENCY_SMOOTHING_FACTOR;
+        updateRemoteConnectionWindowSize();
+    }
+
+    private void updateRemoteConnectionWindowSize() {
+        Http2Connection http2Connection = connection.attr(ChannelAttributeKey.HTTP2_CONNECTION).get();
+        if (http2Connection != null) {
+            remoteConnectionWindowSize = http2Connection.remote().flowController().windowSize(http2Connection.connectionStream());
+        }
+    }
+
     private void closeIfIdle() {
         warnIfNotInEventLoop(connection.eventLoop());
 
@@ -279,6 +325,36 @@ public class MultiplexedChannelRecord {
         return connection;
     }
 
+    /**
+     * @return true if new streams may currently be acquired from this connection.
+     */
+    boolean hasAvailableStreams() {
+        return state == RecordState.OPEN && availableChildChannels.get() > 0;
+    }
+
+    /**
+     * @return the number of streams that are claimed on this connection, including streams that are still being opened.
+     */
+    long inFlightStreams() {
+        return maxConcurrencyPerConnection - availableChildChannels.get();
+    }
+
+    /**
+     * @return the moving average of the time between writing the request and receiving the response headers of the streams on
+     * this connection, or -1 if it was not measured yet.
+     */
+    long averageStreamLatencyNanos() {
+        return averageStreamLatencyNanos;
+    }
+
+    /**
+     * @return the number of bytes that may be sent on this connection before the remote endpoint sends a {@code WINDOW_UPDATE}
+     * frame, as of the last time a stream was opened, closed or received its response headers.
+     */
+    int remoteConnectionWindowSize() {
+        return remoteConnectionWindowSize;
+    }
+
     private boolean claimStream() {
         lastReserveAttemptTimeMillis = System.currentTimeMillis();
         for (int attempt = 0; attempt < 5; ++attempt) {
@@ -313,6 +389,31 @@ public class MultiplexedChannelRecord {
         return result;
     }
 
+    /**
+     * Measures the time between the first write on a stream and its response headers, see {@link #averageStreamLatencyNanos}.
+     */
+    private final class StreamLatencyRecorder extends ChannelDuplexHandler {
+        private long requestStartNanos = -1;
+        private boolean recorded;
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (requestStartNanos < 0) {
+                requestStartNanos = System.nanoTime();
+            }
+            ctx.write(msg, promise);
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (!recorded && requestStartNanos >= 0 && msg instanceof Http2HeadersFrame) {
+                recorded = true;
+                recordStreamLatency(System.nanoTime() - requestStartNanos);
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+
     private enum RecordState {
         /**
          * The connection is open and new streams may be acquired from it, if they are available.
@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import io.netty.channel.EventLoopGroup;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Loads the io_uring transport of the Netty incubator reflectively, so that the client does not depend on it. The transport
+ * is only used when it is on the classpath and the kernel supports io_uring (Linux 5.9 and later).
+ */
+@SdkInternalApi
+public final class IoUringUtils {
+    static final String IO_URING_EVENT_LOOP_GROUP = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+    static final String IO_URING_SOCKET_CHANNEL = "io.netty.incubator.channel.uring.IOUringSocketChannel";
+    static final String IO_URING_DATAGRAM_CHANNEL = "io.netty.incubator.channel.uring.IOUringDatagramChannel";
+
+    private static final Logger log = Logger.loggerFor(IoUringUtils.class);
+    private static final String IO_URING = "io.netty.incubator.channel.uring.IOUring";
+
+    private IoUringUtils() {
+    }
+
+    /**
+     * @return true if the io_uring transport is on the classpath and can be used on this host.
+     */
+    public static boolean isAvailable() {
+        return LazyHolder.AVAILABLE;
+    }
+
+    /**
+     * Creates an io_uring event loop group. This must only be called if {@link #isAvailable()} returns true.
+     *
+     * @param numberOfThreads the number of threads, or 0 to use the Netty default
+     * @param threadFactory the factory for the threads of the event loop group
+     * @return a new io_uring event loop group
+     */
+    public static EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) {
+        try {
+            return (EventLoopGroup) Class.forName(IO_URING_EVENT_LOOP_GROUP)
+                                         .getConstructor(int.class, ThreadFactory.class)
+                                         .newInstance(numberOfThreads, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the io_uring event loop group.", e);
+        }
+    }
+
+    private static boolean checkAvailability() {
+        try {
+            boolean available = (Boolean) Class.forName(IO_URING).getMethod("isAvailable").invoke(null);
+            if (!available) {
+                log.debug(() -> "The io_uring transport is on the classpath, but it is not supported on this host.");
+            }
+            return available;
+        } catch (ClassNotFoundException e) {
+            return false;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.debug(() -> "Unable to load the io_uring transport.", e);
+            return false;
+        }
+    }
+
+    private static final class LazyHolder {
+        private static final boolean AVAILABLE = checkAvailability();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.internal.PooledAllocatorFactory;
+
+public class PooledAllocatorConfigurationTest {
+
+    @Test
+    public void builder_toBuilder_roundTrip() {
+        PooledAllocatorConfiguration config1 = PooledAllocatorConfiguration.builder()
+                                                                           .maxHeapArenas(2)
+                                                                           .maxDirectArenas(1)
+                                                                           .maxOrder(7)
+                                                                           .useThreadLocalCacheForAllThreads(true)
+                                                                           .build();
+
+        PooledAllocatorConfiguration config2 = config1.toBuilder().build();
+
+        assertThat(config1).isEqualTo(config2);
+        assertThat(config1.hashCode()).isEqualTo(config2.hashCode());
+    }
+
+    @Test
+    public void builder_negativeArenas_throws() {
+        assertThatThrownBy(() -> PooledAllocatorConfiguration.builder().maxHeapArenas(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PooledAllocatorConfiguration.builder().maxDirectArenas(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void builder_maxOrderOutOfRange_throws() {
+        assertThatThrownBy(() -> PooledAllocatorConfiguration.builder().maxOrder(15))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void factory_createsAllocatorWithConfiguredArenas() {
+        PooledByteBufAllocator allocator =
+            PooledAllocatorFactory.create(PooledAllocatorConfiguration.builder()
+                                                                      .maxHeapArenas(1)
+                                                                      .maxDirectArenas(0)
+                                                                      .maxOrder(3)
+                                                                      .build());
+
+        assertThat(allocator.metric().numHeapArenas()).isEqualTo(1);
+        assertThat(allocator.metric().numDirectArenas()).isZero();
+        assertThat(allocator.metric().chunkSize()).isEqualTo(PooledByteBufAllocator.defaultPageSize() << 3);
+        assertThat(allocator.isDirectBufferPooled()).isFalse();
+    }
+
+    @Test
+    public void buildWithDefaults_calledTwice_eachClientGetsItsOwnAllocator() {
+        NettyNioAsyncHttpClient.Builder builder =
+            NettyNioAsyncHttpClient.builder().pooledAllocatorConfiguration(c -> c.maxHeapArenas(1).maxDirectArenas(1));
+
+        try (NettyNioAsyncHttpClient client1 = (NettyNioAsyncHttpClient) builder.build();
+             NettyNioAsyncHttpClient client2 = (NettyNioAsyncHttpClient) builder.pooledAllocatorConfiguration(
+                 (PooledAllocatorConfiguration) null).build()) {
+            assertThat(client1.configuration().byteBufAllocator()).isInstanceOf(PooledByteBufAllocator.class);
+            assertThat(client2.configuration().byteBufAllocator()).isNull();
+        }
+
+        builder.pooledAllocatorConfiguration(c -> c.maxHeapArenas(1).maxDirectArenas(1));
+        try (NettyNioAsyncHttpClient client1 = (NettyNioAsyncHttpClient) builder.build();
+             NettyNioAsyncHttpClient client2 = (NettyNioAsyncHttpClient) builder.build()) {
+            assertThat(client1.configuration().byteBufAllocator())
+                .isNotSameAs(client2.configuration().byteBufAllocator());
+        }
+    }
+}
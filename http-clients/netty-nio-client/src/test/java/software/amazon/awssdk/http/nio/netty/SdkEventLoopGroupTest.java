@@ -27,7 +27,9 @@ import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.socket.oio.OioDatagramChannel;
 import io.netty.channel.socket.oio.OioSocketChannel;
+import org.junit.Assume;
 import org.junit.Test;
+import software.amazon.awssdk.http.nio.netty.internal.utils.IoUringUtils;
 
 public class SdkEventLoopGroupTest {
 
@@ -64,6 +66,45 @@ public class SdkEventLoopGroupTest {
         assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
     }
 
+    @Test
+    public void preferIoUringNotSet_usesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+            assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void preferIoUring_ioUringAvailable_usesIoUring() {
+        Assume.assumeTrue(IoUringUtils.isAvailable());
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).preferIoUring(true).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isNotInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel().getClass().getName())
+                .isEqualTo("io.netty.incubator.channel.uring.IOUringSocketChannel");
+            assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel().getClass().getName())
+                .isEqualTo("io.netty.incubator.channel.uring.IOUringDatagramChannel");
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void preferIoUring_ioUringUnavailable_fallsBackToNio() {
+        Assume.assumeFalse(IoUringUtils.isAvailable());
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).preferIoUring(true).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void notProvidingChannelFactory_unknownEventLoopGroup() {
         SdkEventLoopGroup.create(new DefaultEventLoopGroup());
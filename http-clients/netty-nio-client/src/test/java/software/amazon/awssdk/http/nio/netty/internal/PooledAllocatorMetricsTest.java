@@ -0,0 +1,78 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.NettyAllocatorMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class PooledAllocatorMetricsTest {
+
+    @Test
+    public void create_unpooledAllocator_returnsNull() {
+        assertThat(PooledAllocatorMetrics.create(UnpooledByteBufAllocator.DEFAULT)).isNull();
+        assertThat(PooledAllocatorMetrics.create(null)).isNull();
+    }
+
+    @Test
+    public void publish_withinSampleInterval_reportsPreviousSample() {
+        PooledByteBufAllocator allocator = new PooledByteBufAllocator(false, 1, 0, 8192, 3, 0, 0, false);
+        AtomicLong nanoTime = new AtomicLong(0);
+        PooledAllocatorMetrics metrics = new PooledAllocatorMetrics(allocator, nanoTime::get);
+
+        assertThat(publish(metrics).metricValues(NettyAllocatorMetric.ACTIVE_ALLOCATIONS)).containsExactly(0L);
+
+        ByteBuf buffer = allocator.heapBuffer(16);
+        try {
+            nanoTime.set(PooledAllocatorMetrics.SAMPLE_INTERVAL.toNanos() - 1);
+            assertThat(publish(metrics).metricValues(NettyAllocatorMetric.ACTIVE_ALLOCATIONS)).containsExactly(0L);
+
+            nanoTime.set(PooledAllocatorMetrics.SAMPLE_INTERVAL.toNanos());
+            MetricCollection resampled = publish(metrics);
+            assertThat(resampled.metricValues(NettyAllocatorMetric.ACTIVE_ALLOCATIONS)).containsExactly(1L);
+            assertThat(resampled.metricValues(NettyAllocatorMetric.USED_HEAP_MEMORY_IN_BYTES).get(0)).isPositive();
+            assertThat(resampled.metricValues(NettyAllocatorMetric.ARENA_COUNT)).containsExactly(1);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void publish_afterClose_reportsNothing() {
+        PooledByteBufAllocator allocator = new PooledByteBufAllocator(false, 1, 0, 8192, 3, 0, 0, false);
+        PooledAllocatorMetrics metrics = new PooledAllocatorMetrics(allocator, new AtomicLong(0)::get);
+
+        assertThat(publish(metrics).metricValues(NettyAllocatorMetric.ARENA_COUNT)).containsExactly(1);
+
+        metrics.close();
+
+        assertThat(publish(metrics).metricValues(NettyAllocatorMetric.ARENA_COUNT)).isEmpty();
+        assertThat(publish(metrics).metricValues(NettyAllocatorMetric.ACTIVE_ALLOCATIONS)).isEmpty();
+    }
+
+    private static MetricCollection publish(PooledAllocatorMetrics metrics) {
+        MetricCollector collector = MetricCollector.create("test");
+        metrics.publish(collector);
+        return collector.collect();
+    }
+}
@@ -26,6 +26,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
@@ -40,6 +41,9 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
@@ -235,6 +239,138 @@ public class PublisherAdapterTest {
         }
     }
 
+    @Test
+    public void zeroCopy_deliversReadOnlyViewsAndReleasesOnNextRequest() {
+        ByteBuf first = Unpooled.wrappedBuffer("first".getBytes(StandardCharsets.UTF_8));
+        ByteBuf second = Unpooled.wrappedBuffer("second".getBytes(StandardCharsets.UTF_8));
+        List<Integer> firstRefCntOnNext = new ArrayList<>();
+
+        StreamedHttpResponse streamedHttpResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                            HttpResponseStatus.OK,
+                                            Flowable.just(new DefaultHttpContent(first), new DefaultHttpContent(second)));
+
+        List<ByteBuffer> received = new ArrayList<>();
+        Subscriber<ByteBuffer> subscriber = new Subscriber<ByteBuffer>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                received.add(byteBuffer);
+                subscription.request(1);
+                firstRefCntOnNext.add(first.refCnt());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+
+        ResponseHandler.PublisherAdapter publisherAdapter =
+            new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, requestContext, executeFuture, true);
+
+        publisherAdapter.subscribe(subscriber);
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(received.get(0).duplicate()).toString()).isEqualTo("first");
+        // The last content is copied
+        assertThat(received.get(1).isReadOnly()).isFalse();
+        assertThat(StandardCharsets.UTF_8.decode(received.get(1).duplicate()).toString()).isEqualTo("second");
+        // The first buffer stays alive while the subscriber is handling it, and is released by the next request
+        assertThat(firstRefCntOnNext).containsExactly(1, 0);
+        assertThat(first.refCnt()).isZero();
+        assertThat(second.refCnt()).isZero();
+        verify(channelPool).release(channel);
+    }
+
+    @Test
+    public void zeroCopy_subscriptionCancelled_releasesDeliveredBuffers() {
+        ByteBuf content = Unpooled.wrappedBuffer("content".getBytes(StandardCharsets.UTF_8));
+        ByteBuf undelivered = Unpooled.wrappedBuffer("undelivered".getBytes(StandardCharsets.UTF_8));
+
+        StreamedHttpResponse streamedHttpResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                            HttpResponseStatus.OK,
+                                            Flowable.just(new DefaultHttpContent(content),
+                                                          new DefaultHttpContent(undelivered)));
+
+        Subscriber<ByteBuffer> subscriber = new Subscriber<ByteBuffer>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                subscription.cancel();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+
+        ResponseHandler.PublisherAdapter publisherAdapter =
+            new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, requestContext, executeFuture, true);
+
+        publisherAdapter.subscribe(subscriber);
+
+        assertThat(content.refCnt()).isZero();
+        assertThat(undelivered.refCnt()).isZero();
+        assertThat(executeFuture).isCompletedExceptionally();
+    }
+
+    @Test
+    public void zeroCopy_lastContentIsCopied_completionWaitsForIt() {
+        ByteBuf first = Unpooled.wrappedBuffer("first".getBytes(StandardCharsets.UTF_8));
+        ByteBuf last = Unpooled.wrappedBuffer("last".getBytes(StandardCharsets.UTF_8));
+
+        StreamedHttpResponse streamedHttpResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                            HttpResponseStatus.OK,
+                                            Flowable.just(new DefaultHttpContent(first), new DefaultHttpContent(last)));
+
+        // Like a subscriber that writes each buffer to a file, and only requests more once the write has finished
+        ManualRequestSubscriber subscriber = new ManualRequestSubscriber();
+        ResponseHandler.PublisherAdapter publisherAdapter =
+            new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, requestContext, executeFuture, true);
+        publisherAdapter.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.received).hasSize(1);
+        assertThat(subscriber.received.get(0).isReadOnly()).isTrue();
+        assertThat(first.refCnt()).isOne();
+        // The body is complete, but the subscriber has not received the last content or finished with the first one yet
+        assertThat(subscriber.isCompleted).isFalse();
+
+        subscriber.subscription.request(1);
+        assertThat(first.refCnt()).isZero();
+        assertThat(subscriber.received).hasSize(2);
+        assertThat(subscriber.received.get(1).isReadOnly()).isFalse();
+        assertThat(StandardCharsets.UTF_8.decode(subscriber.received.get(1).duplicate()).toString()).isEqualTo("last");
+        assertThat(last.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isTrue();
+        verify(channelPool).release(channel);
+    }
+
     @Test
     public void contentLengthValidationFails_closesAndReleasesConnection() {
         channel.attr(ChannelAttributeKey.RESPONSE_CONTENT_LENGTH).set(1L);
@@ -312,4 +448,30 @@ public class PublisherAdapterTest {
             isCompleted = true;
         }
     }
+
+    private static final class ManualRequestSubscriber implements Subscriber<ByteBuffer> {
+
+        private final List<ByteBuffer> received = new ArrayList<>();
+        private Subscription subscription;
+        private boolean isCompleted = false;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            received.add(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
 }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
@@ -38,7 +39,10 @@ import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.concurrent.CompletableFuture;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -330,6 +334,114 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void acquire_placesStreamOnLeastLoadedConnection() {
+        SocketChannel channel = new NioSocketChannel();
+        try {
+            loopGroup.register(channel).awaitUninterruptibly();
+            MultiplexedChannelRecord busyRecord = mockRecord(channel, 5, Integer.MAX_VALUE, -1);
+            MultiplexedChannelRecord idleRecord = mockRecord(channel, 1, Integer.MAX_VALUE, -1);
+
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(mock(ChannelPool.class), loopGroup,
+                                                new HashSet<>(Arrays.asList(busyRecord, idleRecord)), null, null);
+            h2Pool.acquire();
+
+            Mockito.verify(idleRecord).acquireStream(any());
+            Mockito.verify(busyRecord, Mockito.never()).acquireStream(any());
+        } finally {
+            channel.close().awaitUninterruptibly();
+        }
+    }
+
+    @Test
+    public void acquire_prefersConnectionThatIsNotWindowStarved() {
+        SocketChannel channel = new NioSocketChannel();
+        try {
+            loopGroup.register(channel).awaitUninterruptibly();
+            MultiplexedChannelRecord starvedRecord = mockRecord(channel, 1, 10, -1);
+            MultiplexedChannelRecord busyRecord = mockRecord(channel, 5, 1_000_000, -1);
+
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(mock(ChannelPool.class), loopGroup,
+                                                new HashSet<>(Arrays.asList(starvedRecord, busyRecord)), null, 65535);
+            h2Pool.acquire();
+
+            Mockito.verify(busyRecord).acquireStream(any());
+            Mockito.verify(starvedRecord, Mockito.never()).acquireStream(any());
+        } finally {
+            channel.close().awaitUninterruptibly();
+        }
+    }
+
+    @Test
+    public void acquire_leastLoadedConnectionWindowStarved_opensNewConnection() throws InterruptedException {
+        verifyCongestedConnectionOpensNewConnection(null, 65535, 10, -1);
+    }
+
+    @Test
+    public void acquire_leastLoadedConnectionAboveLatencyThreshold_opensNewConnection() throws InterruptedException {
+        verifyCongestedConnectionOpensNewConnection(Duration.ofMillis(10), null, Integer.MAX_VALUE,
+                                                    Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    public void acquire_latencyBelowThreshold_reusesConnection() {
+        SocketChannel channel = new NioSocketChannel();
+        try {
+            loopGroup.register(channel).awaitUninterruptibly();
+            ChannelPool connectionPool = mock(ChannelPool.class);
+            MultiplexedChannelRecord record = mockRecord(channel, 1, Integer.MAX_VALUE, Duration.ofMillis(1).toNanos());
+
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(connectionPool, loopGroup, Collections.singleton(record),
+                                                Duration.ofMillis(10), null);
+            h2Pool.acquire();
+
+            Mockito.verify(record).acquireStream(any());
+            Mockito.verify(connectionPool, Mockito.never()).acquire();
+        } finally {
+            channel.close().awaitUninterruptibly();
+        }
+    }
+
+    private void verifyCongestedConnectionOpensNewConnection(Duration streamLatencyThreshold,
+                                                             Integer minimumConnectionWindowSize,
+                                                             int remoteWindowSize,
+                                                             long averageLatencyNanos) throws InterruptedException {
+        SocketChannel channel = new NioSocketChannel();
+        try {
+            loopGroup.register(channel).awaitUninterruptibly();
+            IOException exception = new IOException();
+            ChannelPool connectionPool = mock(ChannelPool.class);
+            when(connectionPool.acquire()).thenReturn(new FailedFuture<>(loopGroup.next(), exception));
+            MultiplexedChannelRecord record = mockRecord(channel, 1, remoteWindowSize, averageLatencyNanos);
+
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(connectionPool, loopGroup, Collections.singleton(record),
+                                                streamLatencyThreshold, minimumConnectionWindowSize);
+            Future<Channel> acquire = h2Pool.acquire().await();
+
+            assertThat(acquire.cause()).isEqualTo(exception);
+            Mockito.verify(connectionPool).acquire();
+            Mockito.verify(record, Mockito.never()).acquireStream(any());
+        } finally {
+            channel.close().awaitUninterruptibly();
+        }
+    }
+
+    private MultiplexedChannelRecord mockRecord(Channel channel, long inFlightStreams, int remoteWindowSize,
+                                                long averageLatencyNanos) {
+        MultiplexedChannelRecord record = mock(MultiplexedChannelRecord.class);
+        when(record.getConnection()).thenReturn(channel);
+        when(record.hasAvailableStreams()).thenReturn(true);
+        when(record.inFlightStreams()).thenReturn(inFlightStreams);
+        when(record.remoteConnectionWindowSize()).thenReturn(remoteWindowSize);
+        when(record.averageStreamLatencyNanos()).thenReturn(averageLatencyNanos);
+        when(record.acquireStream(any())).thenReturn(true);
+        return record;
+    }
+
     private Channel doAcquire(EmbeddedChannel channel1, EmbeddedChannel channel2, Http2MultiplexedChannelPool h2Pool) {
         Future<Channel> acquire = h2Pool.acquire();
         acquire.awaitUninterruptibly();
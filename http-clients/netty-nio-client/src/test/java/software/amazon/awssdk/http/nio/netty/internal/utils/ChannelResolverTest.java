@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.ChannelResolver.resolveDatagramChannelFactory;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.ChannelResolver.resolveSocketChannelFactory;
 
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
@@ -29,6 +30,7 @@ import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.socket.oio.OioDatagramChannel;
 import io.netty.channel.socket.oio.OioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
@@ -48,6 +50,20 @@ public class ChannelResolverTest {
         assertThat(resolveDatagramChannelFactory(new EpollEventLoopGroup()).newChannel()).isInstanceOf(EpollDatagramChannel.class);
     }
 
+    @Test
+    public void canDetectIoUringEventLoopGroupFactory() {
+        Assumptions.assumeTrue(IoUringUtils.isAvailable());
+        EventLoopGroup eventLoopGroup = IoUringUtils.newEventLoopGroup(1, new DefaultThreadFactory("io-uring-test"));
+        try {
+            assertThat(resolveSocketChannelFactory(eventLoopGroup).newChannel().getClass().getName())
+                .isEqualTo(IoUringUtils.IO_URING_SOCKET_CHANNEL);
+            assertThat(resolveDatagramChannelFactory(eventLoopGroup).newChannel().getClass().getName())
+                .isEqualTo(IoUringUtils.IO_URING_DATAGRAM_CHANNEL);
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
     @Test
     public void worksWithDelegateEventLoopGroupsFactory() {
         assertThat(resolveSocketChannelFactory(new DelegatingEventLoopGroup(new NioEventLoopGroup()) {}).newChannel()).isInstanceOf(NioSocketChannel.class);
@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * One mapped property of an annotated class: either an attribute, or a flattened class whose attributes are mapped as if they
+ * were attributes of the annotated class.
+ */
+@SdkInternalApi
+final class AttributeModel {
+    private final String name;
+    private final String getterReference;
+    private final String setterReference;
+    private final String enhancedTypeExpression;
+    private final String flattenedClass;
+    private final String converterClass;
+    private final List<String> tagExpressions;
+
+    private AttributeModel(Builder builder) {
+        this.name = builder.name;
+        this.getterReference = builder.getterReference;
+        this.setterReference = builder.setterReference;
+        this.enhancedTypeExpression = builder.enhancedTypeExpression;
+        this.flattenedClass = builder.flattenedClass;
+        this.converterClass = builder.converterClass;
+        this.tagExpressions = Collections.unmodifiableList(new ArrayList<>(builder.tagExpressions));
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    String name() {
+        return name;
+    }
+
+    String getterReference() {
+        return getterReference;
+    }
+
+    String setterReference() {
+        return setterReference;
+    }
+
+    String enhancedTypeExpression() {
+        return enhancedTypeExpression;
+    }
+
+    /**
+     * The class whose attributes are flattened into the annotated class, or null if this property is a regular attribute.
+     */
+    String flattenedClass() {
+        return flattenedClass;
+    }
+
+    /**
+     * The attribute converter declared with {@code @DynamoDbConvertedBy}, or null if the converter is resolved from the
+     * converter providers.
+     */
+    String converterClass() {
+        return converterClass;
+    }
+
+    List<String> tagExpressions() {
+        return tagExpressions;
+    }
+
+    static final class Builder {
+        private String name;
+        private String getterReference;
+        private String setterReference;
+        private String enhancedTypeExpression;
+        private String flattenedClass;
+        private String converterClass;
+        private final List<String> tagExpressions = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        Builder getterReference(String getterReference) {
+            this.getterReference = getterReference;
+            return this;
+        }
+
+        Builder setterReference(String setterReference) {
+            this.setterReference = setterReference;
+            return this;
+        }
+
+        Builder enhancedTypeExpression(String enhancedTypeExpression) {
+            this.enhancedTypeExpression = enhancedTypeExpression;
+            return this;
+        }
+
+        Builder flattenedClass(String flattenedClass) {
+            this.flattenedClass = flattenedClass;
+            return this;
+        }
+
+        Builder converterClass(String converterClass) {
+            this.converterClass = converterClass;
+            return this;
+        }
+
+        Builder addTagExpression(String tagExpression) {
+            this.tagExpressions.add(tagExpression);
+            return this;
+        }
+
+        AttributeModel build() {
+            return new AttributeModel(this);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.SchemaIntrospector.ENHANCED_PACKAGE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.SchemaIntrospector.stringLiteral;
+
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Renders the source of the class that creates the table schema of an annotated class. Every type in the generated source is
+ * referred to by its canonical name, so the generated class has no imports that could clash with the names of the item class.
+ */
+@SdkInternalApi
+final class GeneratedSchemaWriter {
+    /**
+     * The generated helper that reads an annotation from a getter or setter at runtime, for attribute tags that are created by
+     * their tag class from the annotation.
+     */
+    static final String ANNOTATION_LOOKUP = "annotation";
+
+    private static final String INDENT = "    ";
+
+    private GeneratedSchemaWriter() {
+    }
+
+    static String write(SchemaModel schema) {
+        String itemClass = schema.itemClass();
+        StringBuilder source = new StringBuilder();
+        if (!schema.packageName().isEmpty()) {
+            source.append("package ").append(schema.packageName()).append(";\n\n");
+        }
+
+        source.append("/**\n")
+              .append(" * The table schema of {@link ").append(itemClass).append("}, generated at compile time by\n")
+              .append(" * {@code ").append(TableSchemaProcessor.class.getName()).append("}. It maps items exactly like the\n")
+              .append(" * table schema introspected at runtime, without using reflection to create it.\n")
+              .append(" */\n")
+              .append("public final class ").append(schema.generatedSimpleName()).append(" {\n")
+              .append(INDENT).append("private ").append(schema.generatedSimpleName()).append("() {\n")
+              .append(INDENT).append("}\n\n")
+              .append(INDENT).append("@java.lang.SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+              .append(INDENT).append("public static ").append(ENHANCED_PACKAGE).append("TableSchema<").append(itemClass)
+              .append("> create() {\n");
+
+        String chain = INDENT + INDENT + INDENT + INDENT;
+        if (schema.isImmutable()) {
+            source.append(INDENT).append(INDENT).append("return ").append(ENHANCED_PACKAGE)
+                  .append("mapper.StaticImmutableTableSchema.builder(").append(itemClass).append(".class, ")
+                  .append(schema.builderClass()).append(".class)\n")
+                  .append(chain).append(".newItemBuilder(").append(schema.newItemExpression()).append(", ")
+                  .append(schema.buildExpression()).append(")\n");
+        } else {
+            source.append(INDENT).append(INDENT).append("return ").append(ENHANCED_PACKAGE)
+                  .append("mapper.StaticTableSchema.builder(").append(itemClass).append(".class)\n")
+                  .append(chain).append(".newItemSupplier(").append(schema.newItemExpression()).append(")\n");
+        }
+
+        if (!schema.converterProviderClasses().isEmpty()) {
+            source.append(chain).append(".attributeConverterProviders(")
+                  .append(schema.converterProviderClasses()
+                                .stream()
+                                .map(provider -> "new " + provider + "()")
+                                .collect(Collectors.joining(", ")))
+                  .append(")\n");
+        }
+
+        for (AttributeModel attribute : schema.attributes()) {
+            if (attribute.flattenedClass() != null) {
+                source.append(chain).append(".flatten(").append(ENHANCED_PACKAGE).append("TableSchema.fromClass(")
+                      .append(attribute.flattenedClass()).append(".class), ").append(attribute.getterReference()).append(", ")
+                      .append(attribute.setterReference()).append(")\n");
+                continue;
+            }
+
+            source.append(chain).append(".addAttribute(").append(attribute.enhancedTypeExpression()).append(",\n")
+                  .append(chain).append(INDENT).append(INDENT).append("a -> a.name(").append(stringLiteral(attribute.name()))
+                  .append(")\n");
+            String attributeChain = chain + INDENT + INDENT + INDENT + INDENT + "  ";
+            source.append(attributeChain).append(".getter(").append(attribute.getterReference()).append(")\n")
+                  .append(attributeChain).append(".setter(").append(attribute.setterReference()).append(")");
+            if (attribute.converterClass() != null) {
+                source.append("\n").append(attributeChain).append(".attributeConverter((").append(ENHANCED_PACKAGE)
+                      .append("AttributeConverter) new ").append(attribute.converterClass()).append("())");
+            }
+            for (String tag : attribute.tagExpressions()) {
+                source.append("\n").append(attributeChain).append(".addTag(").append(tag).append(")");
+            }
+            source.append(")\n");
+        }
+
+        source.append(chain).append(".build();\n")
+              .append(INDENT).append("}\n");
+
+        if (usesAnnotationLookup(schema)) {
+            source.append("\n")
+                  .append(INDENT).append("private static <A extends java.lang.annotation.Annotation> A ")
+                  .append(ANNOTATION_LOOKUP).append("(java.lang.Class<A> annotationType,\n")
+                  .append(INDENT).append(INDENT).append("java.lang.Class<?> owner, java.lang.String method, ")
+                  .append("java.lang.Class<?>... parameterTypes) {\n")
+                  .append(INDENT).append(INDENT).append("try {\n")
+                  .append(INDENT).append(INDENT).append(INDENT)
+                  .append("return owner.getMethod(method, parameterTypes).getAnnotation(annotationType);\n")
+                  .append(INDENT).append(INDENT).append("} catch (java.lang.NoSuchMethodException e) {\n")
+                  .append(INDENT).append(INDENT).append(INDENT)
+                  .append("throw new java.lang.IllegalStateException(\"Could not find method \" + method + \" of \" + owner, ")
+                  .append("e);\n")
+                  .append(INDENT).append(INDENT).append("}\n")
+                  .append(INDENT).append("}\n");
+        }
+
+        return source.append("}\n").toString();
+    }
+
+    private static boolean usesAnnotationLookup(SchemaModel schema) {
+        return schema.attributes()
+                     .stream()
+                     .flatMap(a -> a.tagExpressions().stream())
+                     .anyMatch(tag -> tag.contains("(" + ANNOTATION_LOOKUP + "("));
+    }
+}
@@ -0,0 +1,625 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Resolves the table schema of a class annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable} from its source
+ * model, following the same rules as {@code BeanTableSchema} and {@code ImmutableTableSchema} do with reflection at runtime.
+ * Anything those rules would reject, or that cannot be expressed in generated code, is reported with an
+ * {@link UnsupportedSchemaException} so that the class keeps being introspected at runtime.
+ */
+@SdkInternalApi
+final class SchemaIntrospector {
+    /**
+     * Appended to the name of an annotated class, with nested class names separated by underscores, to name the generated
+     * schema class. The runtime looks the generated class up with the same convention.
+     */
+    static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+
+    static final String ENHANCED_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.";
+    static final String DYNAMO_DB_BEAN = ENHANCED_PACKAGE + "mapper.annotations.DynamoDbBean";
+    static final String DYNAMO_DB_IMMUTABLE = ENHANCED_PACKAGE + "mapper.annotations.DynamoDbImmutable";
+
+    private static final String ANNOTATIONS_PACKAGE = ENHANCED_PACKAGE + "mapper.annotations.";
+    private static final String DYNAMO_DB_ATTRIBUTE = ANNOTATIONS_PACKAGE + "DynamoDbAttribute";
+    private static final String DYNAMO_DB_CONVERTED_BY = ANNOTATIONS_PACKAGE + "DynamoDbConvertedBy";
+    private static final String DYNAMO_DB_FLATTEN = ANNOTATIONS_PACKAGE + "DynamoDbFlatten";
+    private static final String DYNAMO_DB_IGNORE = ANNOTATIONS_PACKAGE + "DynamoDbIgnore";
+    private static final String DYNAMO_DB_IGNORE_NULLS = ANNOTATIONS_PACKAGE + "DynamoDbIgnoreNulls";
+    private static final String DYNAMO_DB_PRESERVE_EMPTY_OBJECT = ANNOTATIONS_PACKAGE + "DynamoDbPreserveEmptyObject";
+    private static final String DYNAMO_DB_PARTITION_KEY = ANNOTATIONS_PACKAGE + "DynamoDbPartitionKey";
+    private static final String DYNAMO_DB_SORT_KEY = ANNOTATIONS_PACKAGE + "DynamoDbSortKey";
+    private static final String DYNAMO_DB_SECONDARY_PARTITION_KEY = ANNOTATIONS_PACKAGE + "DynamoDbSecondaryPartitionKey";
+    private static final String DYNAMO_DB_SECONDARY_SORT_KEY = ANNOTATIONS_PACKAGE + "DynamoDbSecondarySortKey";
+    private static final String DYNAMO_DB_UPDATE_BEHAVIOR = ANNOTATIONS_PACKAGE + "DynamoDbUpdateBehavior";
+    private static final String DYNAMO_DB_ATOMIC_COUNTER = ENHANCED_PACKAGE + "extensions.annotations.DynamoDbAtomicCounter";
+    private static final String BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG = ANNOTATIONS_PACKAGE + "BeanTableSchemaAttributeTag";
+    private static final String BEAN_TABLE_SCHEMA_ATTRIBUTE_TAGS =
+        ENHANCED_PACKAGE + "internal.mapper.BeanTableSchemaAttributeTags";
+    private static final String TRANSIENT = "java.beans.Transient";
+
+    private static final String ENHANCED_TYPE = ENHANCED_PACKAGE + "EnhancedType";
+    private static final String TABLE_SCHEMA = ENHANCED_PACKAGE + "TableSchema";
+    private static final String STATIC_ATTRIBUTE_TAGS = ENHANCED_PACKAGE + "mapper.StaticAttributeTags";
+    private static final String UPDATE_BEHAVIOR = ENHANCED_PACKAGE + "mapper.UpdateBehavior";
+    private static final String ATTRIBUTE_TAG_METHOD = "attributeTagFor";
+
+    private static final Set<String> IMMUTABLE_METHODS_TO_IGNORE =
+        new HashSet<>(Arrays.asList("equals", "getClass", "hashCode", "notify", "notifyAll", "toString", "wait", "toBuilder"));
+
+    private final Elements elements;
+    private final Types types;
+
+    SchemaIntrospector(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    SchemaModel introspect(TypeElement type) {
+        validateItemClass(type);
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        SchemaModel.Builder schema = SchemaModel.builder()
+                                                .packageName(packageName)
+                                                .generatedSimpleName(flatName(type) + GENERATED_CLASS_SUFFIX)
+                                                .itemClass(canonicalName(type));
+
+        AnnotationMirror immutable = annotation(type, DYNAMO_DB_IMMUTABLE);
+        if (immutable != null) {
+            introspectImmutable(type, immutable, packageName, schema);
+        } else {
+            introspectBean(type, annotation(type, DYNAMO_DB_BEAN), packageName, schema);
+        }
+        return schema.build();
+    }
+
+    private void introspectBean(TypeElement type, AnnotationMirror dynamoDbBean, String packageName,
+                                SchemaModel.Builder schema) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedSchemaException("A bean class must not be abstract.");
+        }
+        requireNewInstanceSupported(type, packageName);
+        schema.newItemExpression(canonicalName(type) + "::new")
+              .converterProviderClasses(converterProviders(dynamoDbBean, packageName));
+
+        DeclaredType beanType = (DeclaredType) type.asType();
+        Map<String, ExecutableElement> getGetters = new HashMap<>();
+        Map<String, ExecutableElement> isGetters = new HashMap<>();
+        Map<String, List<ExecutableElement>> setters = new HashMap<>();
+
+        // Same property discovery as java.beans.Introspector, which BeanTableSchema relies on.
+        for (ExecutableElement method : publicInstanceMethods(type)) {
+            String name = method.getSimpleName().toString();
+            TypeMirror returnType = memberType(beanType, method).getReturnType();
+            if (method.getParameters().isEmpty()) {
+                if (name.length() > 3 && name.startsWith("get") && returnType.getKind() != TypeKind.VOID) {
+                    getGetters.put(decapitalize(name.substring(3)), method);
+                } else if (name.length() > 2 && name.startsWith("is") && returnType.getKind() == TypeKind.BOOLEAN) {
+                    isGetters.put(decapitalize(name.substring(2)), method);
+                }
+            } else if (method.getParameters().size() == 1 && name.length() > 3 && name.startsWith("set")
+                       && returnType.getKind() == TypeKind.VOID) {
+                setters.computeIfAbsent(decapitalize(name.substring(3)), n -> new ArrayList<>()).add(method);
+            }
+        }
+
+        Map<String, ExecutableElement> getters = new TreeMap<>(getGetters);
+        getters.putAll(isGetters);
+
+        List<AttributeModel> attributes = new ArrayList<>();
+        getters.forEach((propertyName, getter) -> {
+            TypeMirror propertyType = memberType(beanType, getter).getReturnType();
+            ExecutableElement setter = setters.getOrDefault(propertyName, new ArrayList<>())
+                                              .stream()
+                                              .filter(s -> isSameErasure(memberType(beanType, s).getParameterTypes().get(0),
+                                                                         propertyType))
+                                              .findFirst()
+                                              .orElse(null);
+            if (setter == null || isIgnored(getter) || isIgnored(setter)) {
+                return;
+            }
+            attributes.add(attribute(propertyName, propertyType, packageName,
+                                     new MethodRef(type, getter, beanType), new MethodRef(type, setter, beanType)));
+        });
+        schema.attributes(attributes);
+    }
+
+    private void introspectImmutable(TypeElement type, AnnotationMirror dynamoDbImmutable, String packageName,
+                                     SchemaModel.Builder schema) {
+        TypeMirror builderMirror = (TypeMirror) annotationValue(dynamoDbImmutable, "builder");
+        if (builderMirror.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedSchemaException("The builder class " + builderMirror + " could not be resolved.");
+        }
+        TypeElement builderType = (TypeElement) types.asElement(builderMirror);
+        validateItemClass(builderType);
+        requireAccessible(builderType, packageName);
+        DeclaredType immutableType = (DeclaredType) type.asType();
+        DeclaredType builderDeclaredType = (DeclaredType) builderType.asType();
+        String builderClass = canonicalName(builderType);
+
+        schema.builderClass(builderClass)
+              .newItemExpression(newBuilderExpression(type, builderType, packageName))
+              .converterProviderClasses(converterProviders(dynamoDbImmutable, packageName));
+
+        // Same method discovery as ImmutableIntrospector.
+        Map<String, ExecutableElement> builderMethods = new HashMap<>();
+        for (ExecutableElement method : publicInstanceMethods(builderType)) {
+            if (isMappableImmutableMethod(method)) {
+                ExecutableElement previous = builderMethods.put(normalizeSetterName(method.getSimpleName().toString()), method);
+                if (previous != null) {
+                    throw new UnsupportedSchemaException("The builder class has more than one method for property '"
+                                                         + normalizeSetterName(previous.getSimpleName().toString()) + "'.");
+                }
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove("build");
+        if (buildMethod == null || !buildMethod.getParameters().isEmpty()
+            || !isSameErasure(memberType(builderDeclaredType, buildMethod).getReturnType(), immutableType)) {
+            throw new UnsupportedSchemaException("The builder class must have a public method named 'build()' that takes no "
+                                                 + "arguments and returns an instance of the immutable class it builds.");
+        }
+        schema.buildExpression(builderClass + "::build");
+
+        List<AttributeModel> attributes = new ArrayList<>();
+        for (ExecutableElement getter : publicInstanceMethods(type)) {
+            if (!isMappableImmutableMethod(getter)) {
+                continue;
+            }
+            TypeMirror propertyType = memberType(immutableType, getter).getReturnType();
+            if (propertyType.getKind() == TypeKind.VOID || isType(propertyType, "java.lang.Void")
+                || !getter.getParameters().isEmpty()) {
+                throw new UnsupportedSchemaException("Method " + getter + " is not a valid getter.");
+            }
+            String propertyName = normalizeGetterName(getter.getSimpleName().toString(), propertyType);
+            ExecutableElement setter = builderMethods.remove(propertyName);
+            if (setter == null || !isValidImmutableSetter(memberType(builderDeclaredType, setter), propertyType,
+                                                          builderDeclaredType)) {
+                throw new UnsupportedSchemaException("Getter " + getter + " has no matching setter on the builder class.");
+            }
+            attributes.add(attribute(propertyName, propertyType, packageName, new MethodRef(type, getter, immutableType),
+                                     new MethodRef(builderType, setter, builderDeclaredType)));
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw new UnsupportedSchemaException("Builder method " + builderMethods.values().iterator().next()
+                                                 + " has no matching getter on the immutable class.");
+        }
+        schema.attributes(attributes);
+    }
+
+    private String newBuilderExpression(TypeElement immutableType, TypeElement builderType, String packageName) {
+        String builderClass = canonicalName(builderType);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(immutableType))) {
+            if (method.getSimpleName().contentEquals("builder")
+                && method.getParameters().isEmpty()
+                && method.getModifiers().contains(Modifier.PUBLIC)) {
+                if (!method.getModifiers().contains(Modifier.STATIC)
+                    || !types.isAssignable(types.erasure(builderType.asType()), types.erasure(method.getReturnType()))) {
+                    break;
+                }
+                String owner = canonicalName((TypeElement) method.getEnclosingElement());
+                if (isSameErasure(method.getReturnType(), builderType.asType())) {
+                    return owner + "::builder";
+                }
+                return "() -> (" + builderClass + ") " + owner + ".builder()";
+            }
+        }
+        requireNewInstanceSupported(builderType, packageName);
+        return builderClass + "::new";
+    }
+
+    private AttributeModel attribute(String propertyName, TypeMirror propertyType, String packageName, MethodRef getter,
+                                     MethodRef setter) {
+        AttributeModel.Builder attribute = AttributeModel.builder()
+                                                         .getterReference(getter.reference())
+                                                         .setterReference(setter.reference());
+
+        AnnotationMirror dynamoDbAttribute = propertyAnnotation(getter, setter, DYNAMO_DB_ATTRIBUTE);
+        attribute.name(dynamoDbAttribute != null ? (String) annotationValue(dynamoDbAttribute, "value") : propertyName);
+
+        if (propertyAnnotation(getter, setter, DYNAMO_DB_FLATTEN) != null) {
+            if (propertyType.getKind() != TypeKind.DECLARED || !((DeclaredType) propertyType).getTypeArguments().isEmpty()) {
+                throw new UnsupportedSchemaException("Flattened property '" + propertyName + "' must not be generic.");
+            }
+            return attribute.flattenedClass(canonicalName((TypeElement) types.asElement(propertyType))).build();
+        }
+
+        boolean preserveEmptyObject = propertyAnnotation(getter, setter, DYNAMO_DB_PRESERVE_EMPTY_OBJECT) != null;
+        boolean ignoreNulls = propertyAnnotation(getter, setter, DYNAMO_DB_IGNORE_NULLS) != null;
+        attribute.enhancedTypeExpression(enhancedType(propertyType, preserveEmptyObject, ignoreNulls));
+
+        AnnotationMirror convertedBy = propertyAnnotation(getter, setter, DYNAMO_DB_CONVERTED_BY);
+        if (convertedBy != null) {
+            TypeElement converter = (TypeElement) types.asElement((TypeMirror) annotationValue(convertedBy, "value"));
+            requireNewInstanceSupported(converter, packageName);
+            attribute.converterClass(canonicalName(converter));
+        }
+
+        for (MethodRef method : Arrays.asList(getter, setter)) {
+            for (AnnotationMirror annotation : method.method.getAnnotationMirrors()) {
+                String tag = tagExpression(annotation, method);
+                if (tag != null) {
+                    attribute.addTagExpression(tag);
+                }
+            }
+        }
+        return attribute.build();
+    }
+
+    /**
+     * Renders the tag of an annotation meta-annotated with {@code @BeanTableSchemaAttributeTag}, or returns null if the
+     * annotation is not a tag. The tags of the enhanced client's own annotations are rendered directly; other tags are created
+     * by their tag class from the annotation, which is then read from the method at runtime.
+     */
+    private String tagExpression(AnnotationMirror annotation, MethodRef method) {
+        TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+        AnnotationMirror tagAnnotation = annotation(annotationType, BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG);
+        if (tagAnnotation == null) {
+            return null;
+        }
+
+        String annotationName = canonicalName(annotationType);
+        TypeElement tagClass = (TypeElement) types.asElement((TypeMirror) annotationValue(tagAnnotation, "value"));
+        if (canonicalName(tagClass).equals(BEAN_TABLE_SCHEMA_ATTRIBUTE_TAGS)) {
+            switch (annotationName) {
+                case DYNAMO_DB_PARTITION_KEY:
+                    return STATIC_ATTRIBUTE_TAGS + ".primaryPartitionKey()";
+                case DYNAMO_DB_SORT_KEY:
+                    return STATIC_ATTRIBUTE_TAGS + ".primarySortKey()";
+                case DYNAMO_DB_SECONDARY_PARTITION_KEY:
+                    return STATIC_ATTRIBUTE_TAGS + ".secondaryPartitionKey(" + indexNames(annotation) + ")";
+                case DYNAMO_DB_SECONDARY_SORT_KEY:
+                    return STATIC_ATTRIBUTE_TAGS + ".secondarySortKey(" + indexNames(annotation) + ")";
+                case DYNAMO_DB_UPDATE_BEHAVIOR:
+                    VariableElement behavior = (VariableElement) annotationValue(annotation, "value");
+                    return STATIC_ATTRIBUTE_TAGS + ".updateBehavior(" + UPDATE_BEHAVIOR + "." + behavior.getSimpleName() + ")";
+                case DYNAMO_DB_ATOMIC_COUNTER:
+                    return STATIC_ATTRIBUTE_TAGS + ".atomicCounter(" + annotationValue(annotation, "delta") + "L, "
+                           + annotationValue(annotation, "startValue") + "L)";
+                default:
+                    throw new UnsupportedSchemaException("Unknown attribute tag annotation " + annotationName + ".");
+            }
+        }
+
+        boolean hasTagMethod =
+            isPublic(tagClass)
+            && ElementFilter.methodsIn(tagClass.getEnclosedElements())
+                            .stream()
+                            .anyMatch(m -> m.getSimpleName().contentEquals(ATTRIBUTE_TAG_METHOD)
+                                           && m.getModifiers().contains(Modifier.PUBLIC)
+                                           && m.getModifiers().contains(Modifier.STATIC)
+                                           && m.getParameters().size() == 1
+                                           && types.isSameType(m.getParameters().get(0).asType(), annotationType.asType()));
+        if (!hasTagMethod) {
+            throw new UnsupportedSchemaException("Tag class " + canonicalName(tagClass) + " of annotation " + annotationName
+                                                 + " has no public static " + ATTRIBUTE_TAG_METHOD + " method.");
+        }
+        return canonicalName(tagClass) + "." + ATTRIBUTE_TAG_METHOD + "(" + GeneratedSchemaWriter.ANNOTATION_LOOKUP + "("
+               + annotationName + ".class, " + method.locator() + "))";
+    }
+
+    private String indexNames(AnnotationMirror annotation) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> indexNames = (List<? extends AnnotationValue>) annotationValue(annotation, "indexNames");
+        return "java.util.Arrays.asList(" + indexNames.stream()
+                                                      .map(v -> stringLiteral((String) v.getValue()))
+                                                      .collect(Collectors.joining(", ")) + ")";
+    }
+
+    /**
+     * Renders the {@code EnhancedType} of a property the way {@code BeanTableSchema#convertTypeToEnhancedType} resolves it:
+     * lists and maps are resolved element by element so that annotated classes nested in them are mapped as documents.
+     */
+    private String enhancedType(TypeMirror type, boolean preserveEmptyObject, boolean ignoreNulls) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            TypeElement element = (TypeElement) declaredType.asElement();
+            List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+
+            if (isType(type, "java.util.List") && typeArguments.size() == 1) {
+                return ENHANCED_TYPE + ".listOf(" + enhancedType(typeArguments.get(0), preserveEmptyObject, ignoreNulls) + ")";
+            }
+            if (isType(type, "java.util.Map") && typeArguments.size() == 2) {
+                return ENHANCED_TYPE + ".mapOf(" + plainEnhancedType(typeArguments.get(0)) + ", "
+                       + enhancedType(typeArguments.get(1), preserveEmptyObject, ignoreNulls) + ")";
+            }
+            if (annotation(element, DYNAMO_DB_BEAN) != null || annotation(element, DYNAMO_DB_IMMUTABLE) != null) {
+                if (!typeArguments.isEmpty() || !element.getTypeParameters().isEmpty()) {
+                    throw new UnsupportedSchemaException("Document class " + element + " must not be generic.");
+                }
+                String documentClass = canonicalName(element) + ".class";
+                return ENHANCED_TYPE + ".documentOf(" + documentClass + ", " + TABLE_SCHEMA + ".fromClass(" + documentClass
+                       + "), b -> b.preserveEmptyObject(" + preserveEmptyObject + ").ignoreNulls(" + ignoreNulls + "))";
+            }
+        }
+        return plainEnhancedType(type);
+    }
+
+    private String plainEnhancedType(TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            // The type arguments are captured by an anonymous subclass, as EnhancedType.of(Type) would resolve them.
+            return "new " + ENHANCED_TYPE + "<" + typeName(type) + ">() { }";
+        }
+        return ENHANCED_TYPE + ".of(" + typeName(types.erasure(type)) + ".class)";
+    }
+
+    private String typeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase(Locale.ENGLISH);
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                String name = canonicalName((TypeElement) declaredType.asElement());
+                if (declaredType.getTypeArguments().isEmpty()) {
+                    return name;
+                }
+                return name + declaredType.getTypeArguments()
+                                          .stream()
+                                          .map(this::typeName)
+                                          .collect(Collectors.joining(", ", "<", ">"));
+            default:
+                throw new UnsupportedSchemaException("Type " + type + " cannot be mapped at compile time.");
+        }
+    }
+
+    private List<String> converterProviders(AnnotationMirror classAnnotation, String packageName) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> providers =
+            (List<? extends AnnotationValue>) annotationValue(classAnnotation, "converterProviders");
+        List<String> providerClasses = new ArrayList<>();
+        for (AnnotationValue provider : providers) {
+            TypeElement providerClass = (TypeElement) types.asElement((TypeMirror) provider.getValue());
+            requireNewInstanceSupported(providerClass, packageName);
+            providerClasses.add(canonicalName(providerClass));
+        }
+        return providerClasses;
+    }
+
+    private void validateItemClass(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS) {
+            throw new UnsupportedSchemaException(type + " is not a class.");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedSchemaException(type + " must not be generic.");
+        }
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnsupportedSchemaException(e + " must not be private.");
+            }
+            if (e != type && !type.getModifiers().contains(Modifier.STATIC)) {
+                throw new UnsupportedSchemaException(type + " must be a static nested class.");
+            }
+        }
+    }
+
+    private void requireNewInstanceSupported(TypeElement type, String packageName) {
+        requireAccessible(type, packageName);
+        boolean hasPublicNoArgConstructor =
+            !type.getModifiers().contains(Modifier.ABSTRACT)
+            && ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+        if (!hasPublicNoArgConstructor) {
+            throw new UnsupportedSchemaException(type + " has no public constructor without arguments.");
+        }
+    }
+
+    private void requireAccessible(TypeElement type, String packageName) {
+        boolean samePackage = elements.getPackageOf(type).getQualifiedName().contentEquals(packageName);
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE) || !samePackage && !e.getModifiers().contains(Modifier.PUBLIC)) {
+                throw new UnsupportedSchemaException(type + " is not accessible from package " + packageName + ".");
+            }
+        }
+    }
+
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        return ElementFilter.methodsIn(elements.getAllMembers(type))
+                            .stream()
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC)
+                                         && !m.getModifiers().contains(Modifier.STATIC)
+                                         && !canonicalName((TypeElement) m.getEnclosingElement()).equals("java.lang.Object"))
+                            .collect(Collectors.toList());
+    }
+
+    private boolean isMappableImmutableMethod(ExecutableElement method) {
+        return !isIgnored(method) && !IMMUTABLE_METHODS_TO_IGNORE.contains(method.getSimpleName().toString());
+    }
+
+    private boolean isValidImmutableSetter(ExecutableType setter, TypeMirror propertyType, DeclaredType builderType) {
+        if (setter.getParameterTypes().size() != 1 || !isSameErasure(setter.getParameterTypes().get(0), propertyType)) {
+            return false;
+        }
+        TypeMirror returnType = setter.getReturnType();
+        return returnType.getKind() == TypeKind.VOID
+               || isType(returnType, "java.lang.Void")
+               || types.isAssignable(types.erasure(builderType), types.erasure(returnType));
+    }
+
+    private boolean isIgnored(ExecutableElement method) {
+        return annotation(method, DYNAMO_DB_IGNORE) != null || annotation(method, TRANSIENT) != null;
+    }
+
+    private AnnotationMirror propertyAnnotation(MethodRef getter, MethodRef setter, String annotationName) {
+        AnnotationMirror getterAnnotation = annotation(getter.method, annotationName);
+        return getterAnnotation != null ? getterAnnotation : annotation(setter.method, annotationName);
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private Object annotationValue(AnnotationMirror annotation, String name) {
+        return elements.getElementValuesWithDefaults(annotation)
+                       .entrySet()
+                       .stream()
+                       .filter(e -> e.getKey().getSimpleName().contentEquals(name))
+                       .map(e -> e.getValue().getValue())
+                       .findFirst()
+                       .orElseThrow(() -> new UnsupportedSchemaException("Annotation " + annotation + " has no value " + name));
+    }
+
+    private ExecutableType memberType(DeclaredType owner, ExecutableElement method) {
+        return (ExecutableType) types.asMemberOf(owner, method);
+    }
+
+    private boolean isSameErasure(TypeMirror a, TypeMirror b) {
+        return types.isSameType(types.erasure(a), types.erasure(b));
+    }
+
+    private static boolean isType(TypeMirror type, String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED
+               && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static boolean isPublic(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String canonicalName(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    private static String flatName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name = e.getSimpleName() + "_" + name;
+        }
+        return name;
+    }
+
+    /**
+     * Same as {@code java.beans.Introspector#decapitalize}.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String normalizeSetterName(String name) {
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("set")) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    private static String normalizeGetterName(String name, TypeMirror returnType) {
+        boolean isBoolean = returnType.getKind() == TypeKind.BOOLEAN || isType(returnType, "java.lang.Boolean");
+        if (name.length() > 2 && Character.isUpperCase(name.charAt(2)) && name.startsWith("is") && isBoolean) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("get")) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    static String stringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * A getter or setter, and the class through which the generated code refers to it.
+     */
+    private final class MethodRef {
+        private final TypeElement owner;
+        private final ExecutableElement method;
+        private final DeclaredType ownerType;
+
+        private MethodRef(TypeElement owner, ExecutableElement method, DeclaredType ownerType) {
+            this.owner = owner;
+            this.method = method;
+            this.ownerType = ownerType;
+        }
+
+        private String reference() {
+            return canonicalName(owner) + "::" + method.getSimpleName();
+        }
+
+        /**
+         * The arguments that locate this method with {@link Class#getMethod(String, Class[])} at runtime.
+         */
+        private String locator() {
+            StringBuilder locator = new StringBuilder(canonicalName(owner)).append(".class, ")
+                                                                            .append(stringLiteral(method.getSimpleName()
+                                                                                                        .toString()));
+            for (TypeMirror parameterType : memberType(ownerType, method).getParameterTypes()) {
+                locator.append(", ").append(typeName(types.erasure(parameterType))).append(".class");
+            }
+            return locator.toString();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The table schema of one annotated class, as resolved at compile time. Type and method names are canonical source names so
+ * that they can be written to the generated source as they are.
+ */
+@SdkInternalApi
+final class SchemaModel {
+    private final String packageName;
+    private final String generatedSimpleName;
+    private final String itemClass;
+    private final String builderClass;
+    private final String newItemExpression;
+    private final String buildExpression;
+    private final List<String> converterProviderClasses;
+    private final List<AttributeModel> attributes;
+
+    private SchemaModel(Builder builder) {
+        this.packageName = builder.packageName;
+        this.generatedSimpleName = builder.generatedSimpleName;
+        this.itemClass = builder.itemClass;
+        this.builderClass = builder.builderClass;
+        this.newItemExpression = builder.newItemExpression;
+        this.buildExpression = builder.buildExpression;
+        this.converterProviderClasses = Collections.unmodifiableList(new ArrayList<>(builder.converterProviderClasses));
+        this.attributes = Collections.unmodifiableList(new ArrayList<>(builder.attributes));
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    String packageName() {
+        return packageName;
+    }
+
+    String generatedSimpleName() {
+        return generatedSimpleName;
+    }
+
+    String generatedQualifiedName() {
+        return packageName.isEmpty() ? generatedSimpleName : packageName + "." + generatedSimpleName;
+    }
+
+    String itemClass() {
+        return itemClass;
+    }
+
+    /**
+     * The builder class of an immutable item, or null if the item is a bean.
+     */
+    String builderClass() {
+        return builderClass;
+    }
+
+    boolean isImmutable() {
+        return builderClass != null;
+    }
+
+    /**
+     * A supplier of new beans, or of new builders of immutable items.
+     */
+    String newItemExpression() {
+        return newItemExpression;
+    }
+
+    /**
+     * A function that builds an immutable item from its builder, or null if the item is a bean.
+     */
+    String buildExpression() {
+        return buildExpression;
+    }
+
+    List<String> converterProviderClasses() {
+        return converterProviderClasses;
+    }
+
+    List<AttributeModel> attributes() {
+        return attributes;
+    }
+
+    static final class Builder {
+        private String packageName;
+        private String generatedSimpleName;
+        private String itemClass;
+        private String builderClass;
+        private String newItemExpression;
+        private String buildExpression;
+        private List<String> converterProviderClasses = new ArrayList<>();
+        private List<AttributeModel> attributes = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        Builder packageName(String packageName) {
+            this.packageName = packageName;
+            return this;
+        }
+
+        Builder generatedSimpleName(String generatedSimpleName) {
+            this.generatedSimpleName = generatedSimpleName;
+            return this;
+        }
+
+        Builder itemClass(String itemClass) {
+            this.itemClass = itemClass;
+            return this;
+        }
+
+        Builder builderClass(String builderClass) {
+            this.builderClass = builderClass;
+            return this;
+        }
+
+        Builder newItemExpression(String newItemExpression) {
+            this.newItemExpression = newItemExpression;
+            return this;
+        }
+
+        Builder buildExpression(String buildExpression) {
+            this.buildExpression = buildExpression;
+            return this;
+        }
+
+        Builder converterProviderClasses(List<String> converterProviderClasses) {
+            this.converterProviderClasses = converterProviderClasses;
+            return this;
+        }
+
+        Builder attributes(List<AttributeModel> attributes) {
+            this.attributes = attributes;
+            return this;
+        }
+
+        SchemaModel build() {
+            return new SchemaModel(this);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * An annotation processor that generates the table schema of every class annotated with {@code @DynamoDbBean} or
+ * {@code @DynamoDbImmutable} at compile time. {@code TableSchema.fromClass} returns the generated schema when it is on the
+ * classpath, which removes the cost of introspecting the class with reflection the first time its schema is created.
+ *
+ * <p>
+ * Add this module to the annotation processor path of the compiler to enable it, for example as a {@code provided} dependency
+ * with Maven. A class whose schema cannot be generated, for example because it is generic or has no public constructor, is
+ * reported with a note and keeps being introspected at runtime.
+ */
+@SdkPublicApi
+public final class TableSchemaProcessor extends AbstractProcessor {
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(SchemaIntrospector.DYNAMO_DB_BEAN, SchemaIntrospector.DYNAMO_DB_IMMUTABLE));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        SchemaIntrospector introspector = new SchemaIntrospector(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                generate(introspector, type);
+            }
+        }
+        // Other processors may also be interested in the enhanced client annotations.
+        return false;
+    }
+
+    private void generate(SchemaIntrospector introspector, TypeElement type) {
+        SchemaModel schema;
+        try {
+            schema = introspector.introspect(type);
+        } catch (UnsupportedSchemaException e) {
+            note(type, "The table schema of " + type + " is not generated and will be created at runtime: " + e.getMessage());
+            return;
+        }
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(schema.generatedQualifiedName(), type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(GeneratedSchemaWriter.write(schema));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Could not write the table schema of " + type + ": " + e.getMessage(),
+                                                     type);
+        }
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Thrown when the table schema of an annotated class cannot be generated at compile time. The class is then introspected at
+ * runtime, as if the processor was not used, which also reports configuration errors the same way.
+ */
+@SdkInternalApi
+final class UnsupportedSchemaException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    UnsupportedSchemaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Logger;
+
+class TableSchemaProcessorTest {
+    private static final Pattern CLASS_NAME = Pattern.compile("class (\\w+)");
+
+    private static final String CUSTOMER =
+        "package com.example;\n"
+        + "import java.util.List;\n"
+        + "import java.util.Map;\n"
+        + "import java.util.Set;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.UpdateBehavior;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Customer {\n"
+        + "    private String id;\n"
+        + "    private int rank;\n"
+        + "    private boolean active;\n"
+        + "    private List<Address> addresses;\n"
+        + "    private Map<String, List<Integer>> scores;\n"
+        + "    private Set<String> tags;\n"
+        + "    private Customer.Audit audit;\n"
+        + "    private Long version;\n"
+        + "    @DynamoDbPartitionKey @DynamoDbAttribute(\"customer_id\")\n"
+        + "    public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "    @DynamoDbSortKey @DynamoDbSecondaryPartitionKey(indexNames = \"by_rank\")\n"
+        + "    public int getRank() { return rank; }\n"
+        + "    public void setRank(int rank) { this.rank = rank; }\n"
+        + "    public boolean isActive() { return active; }\n"
+        + "    public void setActive(boolean active) { this.active = active; }\n"
+        + "    public List<Address> getAddresses() { return addresses; }\n"
+        + "    public void setAddresses(List<Address> addresses) { this.addresses = addresses; }\n"
+        + "    public Map<String, List<Integer>> getScores() { return scores; }\n"
+        + "    public void setScores(Map<String, List<Integer>> scores) { this.scores = scores; }\n"
+        + "    @DynamoDbUpdateBehavior(UpdateBehavior.WRITE_IF_NOT_EXISTS)\n"
+        + "    public Set<String> getTags() { return tags; }\n"
+        + "    public void setTags(Set<String> tags) { this.tags = tags; }\n"
+        + "    @DynamoDbFlatten\n"
+        + "    public Customer.Audit getAudit() { return audit; }\n"
+        + "    public void setAudit(Customer.Audit audit) { this.audit = audit; }\n"
+        + "    @DynamoDbVersionAttribute\n"
+        + "    public Long getVersion() { return version; }\n"
+        + "    public void setVersion(Long version) { this.version = version; }\n"
+        + "    @DynamoDbIgnore\n"
+        + "    public String getIgnored() { return null; }\n"
+        + "    public void setIgnored(String ignored) { }\n"
+        + "    public String getReadOnly() { return null; }\n"
+        + "    @DynamoDbBean\n"
+        + "    public static class Audit {\n"
+        + "        private String createdBy;\n"
+        + "        public String getCreatedBy() { return createdBy; }\n"
+        + "        public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String ADDRESS =
+        "package com.example;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbImmutable(builder = Address.Builder.class)\n"
+        + "public final class Address {\n"
+        + "    private final String street;\n"
+        + "    private final boolean primary;\n"
+        + "    private Address(Builder b) { this.street = b.street; this.primary = b.primary; }\n"
+        + "    @DynamoDbPartitionKey\n"
+        + "    public String street() { return street; }\n"
+        + "    public boolean isPrimary() { return primary; }\n"
+        + "    public static Builder builder() { return new Builder(); }\n"
+        + "    public static final class Builder {\n"
+        + "        private String street;\n"
+        + "        private boolean primary;\n"
+        + "        public Builder street(String street) { this.street = street; return this; }\n"
+        + "        public Builder setPrimary(boolean primary) { this.primary = primary; return this; }\n"
+        + "        public Address build() { return new Address(this); }\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String GENERIC =
+        "package com.example;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Holder<T> {\n"
+        + "    private String id;\n"
+        + "    @DynamoDbPartitionKey\n"
+        + "    public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "}\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void beanSchema_mapsLikeBeanTableSchema() throws Exception {
+        Compilation compilation = compile(CUSTOMER, ADDRESS);
+        Class<?> customer = compilation.loadClass("com.example.Customer");
+
+        TableSchema<?> generated = TableSchema.fromClass(customer);
+        TableSchema<?> introspected = BeanTableSchema.create(customer);
+
+        assertThat(generated).isInstanceOf(StaticTableSchema.class);
+        assertThat(compilation.loadClass("com.example.Customer_Audit_TableSchema")).isNotNull();
+        assertSameMapping(generated, introspected, customerItem());
+        assertThat(generated.attributeNames()).doesNotContain("ignored", "readOnly");
+    }
+
+    @Test
+    void immutableSchema_mapsLikeImmutableTableSchema() throws Exception {
+        Compilation compilation = compile(ADDRESS);
+        Class<?> address = compilation.loadClass("com.example.Address");
+
+        TableSchema<?> generated = TableSchema.fromClass(address);
+        TableSchema<?> introspected = ImmutableTableSchema.create(address);
+
+        assertThat(generated).isInstanceOf(StaticImmutableTableSchema.class);
+        assertSameMapping(generated, introspected, addressItem("1 Main St", true));
+    }
+
+    @Test
+    void unsupportedClass_isReportedAndIntrospectedAtRuntime() throws Exception {
+        Compilation compilation = compile(GENERIC);
+        Class<?> holder = compilation.loadClass("com.example.Holder");
+
+        assertThat(compilation.diagnostics)
+            .anySatisfy(d -> {
+                assertThat(d.getKind()).isEqualTo(Diagnostic.Kind.NOTE);
+                assertThat(d.getMessage(null)).contains("com.example.Holder");
+            });
+        assertThat(compilation.generatedSources).isEmpty();
+        assertThat(TableSchema.fromClass(holder)).isInstanceOf(BeanTableSchema.class);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void assertSameMapping(TableSchema generated, TableSchema introspected, Map<String, AttributeValue> item) {
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(introspected.attributeNames());
+        assertThat(generated.isAbstract()).isEqualTo(introspected.isAbstract());
+
+        TableMetadata generatedMetadata = generated.tableMetadata();
+        TableMetadata introspectedMetadata = introspected.tableMetadata();
+        assertThat(generatedMetadata.primaryKeys()).containsExactlyElementsOf(introspectedMetadata.primaryKeys());
+        assertThat(generatedMetadata.indices()).hasSameSizeAs(introspectedMetadata.indices());
+        introspectedMetadata.indices().forEach(index -> {
+            String indexName = index.name();
+            assertThat(generatedMetadata.indexKeys(indexName))
+                .containsExactlyElementsOf(introspectedMetadata.indexKeys(indexName));
+        });
+        assertThat(generatedMetadata.customMetadata()).isEqualTo(introspectedMetadata.customMetadata());
+
+        Object introspectedItem = introspected.mapToItem(item);
+        assertThat(generated.itemToMap(introspectedItem, true)).isEqualTo(introspected.itemToMap(introspectedItem, true));
+        assertThat(generated.itemToMap(introspectedItem, false)).isEqualTo(item);
+        assertThat(introspected.itemToMap(generated.mapToItem(item), false)).isEqualTo(item);
+    }
+
+    private static Map<String, AttributeValue> customerItem() {
+        Map<String, AttributeValue> scores = new HashMap<>();
+        scores.put("math", list(number("1"), number("2")));
+
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("customer_id", string("customer-1"));
+        item.put("rank", number("7"));
+        item.put("active", AttributeValue.builder().bool(true).build());
+        item.put("addresses", list(AttributeValue.builder().m(addressItem("1 Main St", true)).build(),
+                                   AttributeValue.builder().m(addressItem("2 Side St", false)).build()));
+        item.put("scores", AttributeValue.builder().m(scores).build());
+        item.put("tags", AttributeValue.builder().ss("vip").build());
+        item.put("createdBy", string("admin"));
+        item.put("version", number("3"));
+        return item;
+    }
+
+    private static Map<String, AttributeValue> addressItem(String street, boolean primary) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("street", string(street));
+        item.put("primary", AttributeValue.builder().bool(primary).build());
+        return item;
+    }
+
+    private static AttributeValue string(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+
+    private static AttributeValue number(String value) {
+        return AttributeValue.builder().n(value).build();
+    }
+
+    private static AttributeValue list(AttributeValue... values) {
+        return AttributeValue.builder().l(values).build();
+    }
+
+    private Compilation compile(String... sources) throws IOException {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Path generatedDir = Files.createDirectories(tempDir.resolve("generated"));
+        Path classesDir = Files.createDirectories(tempDir.resolve("classes"));
+
+        List<File> sourceFiles = new ArrayList<>();
+        for (String source : sources) {
+            Matcher className = CLASS_NAME.matcher(source);
+            assertThat(className.find()).isTrue();
+            Path file = sourceDir.resolve(className.group(1) + ".java");
+            Files.write(file, source.getBytes(UTF_8));
+            sourceFiles.add(file.toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8)) {
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(generatedDir.toFile()));
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classesDir.toFile()));
+            fileManager.setLocation(StandardLocation.CLASS_PATH, classPath());
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, null, null,
+                                                                 fileManager.getJavaFileObjectsFromFiles(sourceFiles));
+            task.setProcessors(Collections.singletonList(new TableSchemaProcessor()));
+            assertThat(task.call()).as("Compilation failed: %s", diagnostics.getDiagnostics()).isTrue();
+        }
+
+        try (Stream<Path> generated = Files.walk(generatedDir)) {
+            List<Path> generatedSources = generated.filter(Files::isRegularFile).collect(Collectors.toList());
+            URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDir.toUri().toURL()},
+                                                            getClass().getClassLoader());
+            return new Compilation(classLoader, diagnostics.getDiagnostics(), generatedSources);
+        }
+    }
+
+    /**
+     * The test runner may not expose the test classpath in {@code java.class.path}, so the compiler is given the locations of
+     * the modules the sources and the generated schemas refer to.
+     */
+    private static List<File> classPath() {
+        return Stream.of(TableSchema.class, AttributeValue.class, SdkBytes.class, Logger.class, SdkPublicApi.class)
+                     .map(c -> {
+                         try {
+                             return new File(c.getProtectionDomain().getCodeSource().getLocation().toURI());
+                         } catch (Exception e) {
+                             throw new IllegalStateException(e);
+                         }
+                     })
+                     .distinct()
+                     .collect(Collectors.toList());
+    }
+
+    private static final class Compilation {
+        private final ClassLoader classLoader;
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+        private final List<Path> generatedSources;
+
+        private Compilation(ClassLoader classLoader, List<Diagnostic<? extends JavaFileObject>> diagnostics,
+                            List<Path> generatedSources) {
+            this.classLoader = classLoader;
+            this.diagnostics = diagnostics;
+            this.generatedSources = generatedSources;
+        }
+
+        private Class<?> loadClass(String name) throws ClassNotFoundException {
+            return Class.forName(name, true, classLoader);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteTableMetrics;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriterConfiguration;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Writes an unbounded number of put and delete actions to one or more tables using the BatchWriteItem operation.
+ * <p>
+ * Actions are coalesced into batches of up to 25 items and 16 MB, and up to
+ * {@link BulkWriterConfiguration#maxConcurrentBatches()} batches are sent concurrently. Items that DynamoDB returns as
+ * unprocessed are sent again after a backoff. Actions on the same item are applied in the order they were submitted.
+ * <p>
+ * Create a writer with {@link DynamoDbEnhancedAsyncClient#bulkWriter(BulkWriterConfiguration)}, and close it when done to
+ * wait for the remaining actions and release its resources.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * try (BulkWriter writer = enhancedClient.bulkWriter(r -> r.maxConcurrentBatches(16))) {
+ *     writer.putItems(customerTable, customerPublisher).join();
+ *     writer.deleteItem(orderTable, Key.builder().partitionValue("order-1").build());
+ * }
+ * }
+ * </pre>
+ *
+ * @see DynamoDbEnhancedAsyncClient#bulkWriter(BulkWriterConfiguration)
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface BulkWriter extends SdkAutoCloseable {
+
+    /**
+     * Put an item into the table. The item is written as part of the next available batch.
+     * <p>
+     * This method does not limit how many items are buffered; use {@link #putItems(MappedTableResource, Publisher)} to
+     * write a stream of items with back-pressure.
+     *
+     * @param mappedTable the table to put the item into
+     * @param item the item to insert or overwrite in the database
+     * @param <T> the type of the table items
+     * @return a future that completes when the item has been written, or completes exceptionally if it could not be written
+     */
+    <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item);
+
+    /**
+     * Delete an item from the table. The key is deleted as part of the next available batch.
+     *
+     * @param mappedTable the table to delete the item from
+     * @param key the primary key of the item to delete
+     * @return a future that completes when the item has been deleted, or completes exceptionally if it could not be deleted
+     */
+    CompletableFuture<Void> deleteItem(MappedTableResource<?> mappedTable, Key key);
+
+    /**
+     * Put every item published by the publisher into the table. No more than
+     * {@link BulkWriterConfiguration#maxPendingItems()} items are requested from the publisher before earlier items have been
+     * written.
+     * <p>
+     * If an item cannot be written, the subscription to the publisher is cancelled and the returned future completes
+     * exceptionally; items that were already submitted are still written.
+     *
+     * @param mappedTable the table to put the items into
+     * @param items the items to insert or overwrite in the database
+     * @param <T> the type of the table items
+     * @return a future that completes when the publisher completed and all of its items have been written
+     */
+    <T> CompletableFuture<Void> putItems(MappedTableResource<T> mappedTable, Publisher<? extends T> items);
+
+    /**
+     * Delete the item of every key published by the publisher from the table, with the same back-pressure as
+     * {@link #putItems(MappedTableResource, Publisher)}.
+     *
+     * @param mappedTable the table to delete the items from
+     * @param keys the primary keys of the items to delete
+     * @return a future that completes when the publisher completed and all of its keys have been deleted
+     */
+    CompletableFuture<Void> deleteItems(MappedTableResource<?> mappedTable, Publisher<Key> keys);
+
+    /**
+     * Returns a future that completes when every action submitted so far has completed. It completes exceptionally if any of
+     * those actions failed.
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * Returns a snapshot of the metrics of every table written to by this writer, by table name.
+     */
+    Map<String, BulkWriteTableMetrics> metrics();
+
+    /**
+     * Stop accepting new actions, wait for the submitted actions to complete, and release the resources of this writer.
+     */
+    @Override
+    void close();
+}
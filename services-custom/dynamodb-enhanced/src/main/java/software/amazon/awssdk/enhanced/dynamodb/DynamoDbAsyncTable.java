@@ -17,16 +17,20 @@ package software.amazon.awssdk.enhanced.dynamodb;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.CreateTableEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -785,6 +789,153 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table by dividing it into {@link ParallelScanEnhancedRequest#totalSegments()} segments that are scanned
+     * concurrently, and retrieves all items.
+     * <p>
+     * The pages of all segments are merged into a single publisher that respects the subscriber's demand. Pages of the same
+     * segment are published in order, but pages of different segments are interleaved. At most
+     * {@link ParallelScanEnhancedRequest#prefetchPagesPerSegment()} pages of each segment are retrieved ahead of the
+     * subscriber's demand. If the scan of a segment fails, it is resumed from the last evaluated key of that segment, up to
+     * {@link ParallelScanEnhancedRequest#maxSegmentRetries()} consecutive times.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                                                     .totalSegments(8)
+     *                                                                                     .build());
+     * publisher.items().subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan each of them.
+     * @return a publisher {@link PagePublisher} with paginated results (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table by dividing it into segments that are scanned concurrently, and retrieves all items.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(8).prefetchPagesPerSegment(2));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest} defining the segments and how to scan
+     * each of them.
+     * @return a publisher {@link PagePublisher} with paginated results (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves the items of any number of keys from the table, splitting the keys into BatchGetItem requests of at most
+     * 100 keys that are sent concurrently.
+     * <p>
+     * A key that appears more than once is only requested once. Keys that DynamoDB returns as unprocessed, for example
+     * because a response reached its size limit or the table was throttled, are requested again after a jittered delay, up
+     * to {@link GetItemsEnhancedRequest#maxUnprocessedKeyRetries()} times. Nothing is published for a key that has no item.
+     * Items are published in the order they are received, or in the order of their keys if
+     * {@link GetItemsEnhancedRequest#resultOrder()} is {@link GetItemsEnhancedRequest.ResultOrder#REQUEST}.
+     * <p>
+     * At most {@link GetItemsEnhancedRequest#maxConcurrentRequests()} requests are in flight at the same time, and no more
+     * than 100 keys per concurrent request are requested ahead of the subscriber's demand.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * SdkPublisher<MyItem> publisher = mappedTable.getItems(GetItemsEnhancedRequest.builder()
+     *                                                                              .keys(keys)
+     *                                                                              .resultOrder(ResultOrder.REQUEST)
+     *                                                                              .build());
+     * publisher.subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #getItems(Consumer)
+     * @see #getItems(Stream)
+     * @param request A {@link GetItemsEnhancedRequest} with the keys of the items to retrieve and how to retrieve them.
+     * @return a publisher of the retrieved items.
+     */
+    default SdkPublisher<T> getItems(GetItemsEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves the items of any number of keys from the table, splitting the keys into BatchGetItem requests of at most
+     * 100 keys that are sent concurrently.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * SdkPublisher<MyItem> publisher = mappedTable.getItems(r -> r.keys(keys).consistentRead(true));
+     * }
+     * </pre>
+     *
+     * @see #getItems(GetItemsEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link GetItemsEnhancedRequest} with the keys of the items to retrieve and
+     * how to retrieve them.
+     * @return a publisher of the retrieved items.
+     */
+    default SdkPublisher<T> getItems(Consumer<GetItemsEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves the items of a stream of keys from the table, using default settings. The stream is read as the requests
+     * are sent, so it can be larger than the memory available, and the returned publisher can only be subscribed to once.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * SdkPublisher<MyItem> publisher = mappedTable.getItems(ids.stream().map(id -> Key.builder().partitionValue(id).build()));
+     * }
+     * </pre>
+     *
+     * @see #getItems(Stream, Consumer)
+     * @param keys The keys of the items to retrieve.
+     * @return a publisher of the retrieved items.
+     */
+    default SdkPublisher<T> getItems(Stream<Key> keys) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves the items of a stream of keys from the table. The stream is read as the requests are sent, so it can be
+     * larger than the memory available, and the returned publisher can only be subscribed to once. The keys must not also be
+     * set on the request.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * SdkPublisher<MyItem> publisher = mappedTable.getItems(keys, r -> r.resultOrder(ResultOrder.REQUEST));
+     * }
+     * </pre>
+     *
+     * @see #getItems(GetItemsEnhancedRequest)
+     * @param keys The keys of the items to retrieve.
+     * @param requestConsumer A {@link Consumer} of {@link GetItemsEnhancedRequest} defining how to retrieve the items.
+     * @return a publisher of the retrieved items.
+     */
+    default SdkPublisher<T> getItems(Stream<Key> keys, Consumer<GetItemsEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
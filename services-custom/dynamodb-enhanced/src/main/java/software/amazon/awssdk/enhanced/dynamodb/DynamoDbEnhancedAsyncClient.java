@@ -29,6 +29,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriterConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
@@ -262,6 +263,44 @@ public interface DynamoDbEnhancedAsyncClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Creates a {@link BulkWriter} that writes an unbounded number of put and delete actions to one or more tables. Unlike
+     * {@link #batchWriteItem(BatchWriteItemEnhancedRequest)}, the writer splits the actions into batches that DynamoDB
+     * accepts, sends several batches concurrently and sends unprocessed items again until they are written.
+     * <p>
+     * The writer should be closed when no longer needed.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * try (BulkWriter writer = enhancedClient.bulkWriter(BulkWriterConfiguration.builder().build())) {
+     *     writer.putItems(customerTable, customerPublisher).join();
+     * }
+     * }
+     * </pre>
+     *
+     * @param configuration the configuration of the writer
+     * @return a new {@link BulkWriter}
+     */
+    default BulkWriter bulkWriter(BulkWriterConfiguration configuration) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link BulkWriter} that writes an unbounded number of put and delete actions to one or more tables.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the configuration builder avoiding the need to
+     * create one manually via {@link BulkWriterConfiguration#builder()}.
+     *
+     * @param configurationConsumer a {@link Consumer} of {@link BulkWriterConfiguration.Builder}
+     * @return a new {@link BulkWriter}
+     * @see #bulkWriter(BulkWriterConfiguration)
+     */
+    default BulkWriter bulkWriter(Consumer<BulkWriterConfiguration.Builder> configurationConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Retrieves multiple items from one or more tables in a single atomic transaction. TransactGetItem is a composite operation
      * where the request contains a set of get requests, each containing a table reference and a
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.LazyItemTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * A read-only view of an item retrieved from a table that converts the value of an attribute only the first time it is read.
+ * <p>
+ * Mapping an item with {@link TableSchema#mapToItem(Map)} converts every attribute of the item, which is wasted work when
+ * only a few attributes of a wide item are read. A lazy item keeps the attribute values it was created from, and each call
+ * to {@link #get(String, Class)} converts a single attribute with the converter the table schema uses for it. The converted
+ * value is kept, so reading the attribute again does not convert it again. The whole item can still be mapped with
+ * {@link #item()}.
+ * <p>
+ * Lazy items are created with {@link TableSchema#mapToLazyItem(Map)}, or returned by the operations of a table created with
+ * a {@link LazyItemTableSchema}.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * DynamoDbTable<LazyItem<Customer>> table = enhancedClient.table("customers",
+ *                                                             LazyItemTableSchema.create(TableSchema.fromBean(Customer.class)));
+ * LazyItem<Customer> customer = table.getItem(Key.builder().partitionValue("id-1").build());
+ * String name = customer.get("name", String.class);
+ * }
+ * </pre>
+ *
+ * @param <T> The type of the item.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface LazyItem<T> {
+
+    /**
+     * Returns the value of an attribute, converting it to the given type the first time it is read.
+     *
+     * @param attributeName the name of the attribute
+     * @param type the class of the value of the attribute
+     * @param <R> the type of the value of the attribute
+     * @return the value of the attribute, or null if the attribute is not present or is null
+     * @throws IllegalArgumentException if the attribute is not modelled by the table schema, or its values are not of the
+     * given type
+     */
+    <R> R get(String attributeName, Class<R> type);
+
+    /**
+     * Returns the value of an attribute, converting it to the given type the first time it is read. Use this method for
+     * values with a parameterized type, such as {@code EnhancedType.listOf(String.class)}.
+     *
+     * @param attributeName the name of the attribute
+     * @param type the type of the value of the attribute
+     * @param <R> the type of the value of the attribute
+     * @return the value of the attribute, or null if the attribute is not present or is null
+     * @throws IllegalArgumentException if the attribute is not modelled by the table schema, or its values are not of the
+     * given type
+     */
+    <R> R get(String attributeName, EnhancedType<R> type);
+
+    /**
+     * Returns whether the item has a value for an attribute, including a null value.
+     *
+     * @param attributeName the name of the attribute
+     * @return true if the item has a value for the attribute
+     */
+    boolean isPresent(String attributeName);
+
+    /**
+     * Returns the attribute values the item was retrieved with, without converting them.
+     *
+     * @return an unmodifiable map of the attribute values of the item
+     */
+    Map<String, AttributeValue> attributeValueMap();
+
+    /**
+     * Maps all the attributes of the item with its table schema, the first time this method is called.
+     *
+     * @return the item, or null if none of its attributes are modelled by the table schema
+     */
+    T item();
+}
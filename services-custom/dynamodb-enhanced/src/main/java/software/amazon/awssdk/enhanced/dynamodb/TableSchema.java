@@ -22,6 +22,8 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.document.DocumentTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.DefaultLazyItem;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemas;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
@@ -148,6 +150,12 @@ public interface TableSchema<T> {
      * {@link DynamoDbBean}, {@link DynamoDbImmutable}.
      *
      * <p>
+     * If the table schema of the class was generated at compile time by the {@code dynamodb-enhanced-processor} annotation
+     * processor, the generated schema is returned instead of scanning the class, which avoids the cost of reflection. The
+     * generated schema maps items the same way, but is a {@link StaticTableSchema} or {@link StaticImmutableTableSchema}
+     * rather than a {@link BeanTableSchema} or {@link ImmutableTableSchema}.
+     *
+     * <p>
      * It's recommended to only invoke this operation once for a single class, usually at application start up,
      * because it's a moderately expensive operation.
      *
@@ -161,11 +169,11 @@ public interface TableSchema<T> {
      */
     static <T> TableSchema<T> fromClass(Class<T> annotatedClass) {
         if (annotatedClass.getAnnotation(DynamoDbImmutable.class) != null) {
-            return fromImmutableClass(annotatedClass);
+            return GeneratedTableSchemas.find(annotatedClass).orElseGet(() -> fromImmutableClass(annotatedClass));
         }
 
         if (annotatedClass.getAnnotation(DynamoDbBean.class) != null) {
-            return fromBean(annotatedClass);
+            return GeneratedTableSchemas.find(annotatedClass).orElseGet(() -> fromBean(annotatedClass));
         }
 
         throw new IllegalArgumentException("Class does not appear to be a valid DynamoDb annotated class. [class = " +
@@ -232,6 +240,22 @@ public interface TableSchema<T> {
         return mapToItem(attributeMap);
     }
 
+    /**
+     * Takes a raw DynamoDb SDK representation of a record in a table and returns a {@link LazyItem} view of it, which
+     * converts the value of each attribute only the first time it is read, instead of mapping all the attributes onto a
+     * new object.
+     * <p>
+     * The default implementation converts each attribute with the converter returned by
+     * {@link #converterForAttribute(Object)}, and maps the whole item with {@link #mapToItem(Map)}.
+     *
+     * @param attributeMap A map of String to {@link AttributeValue} that contains all the raw attributes of the item.
+     * @return A lazy view of the item, or null if the map is null.
+     * @see LazyItem
+     */
+    default LazyItem<T> mapToLazyItem(Map<String, AttributeValue> attributeMap) {
+        return DefaultLazyItem.create(this, attributeMap);
+    }
+
     /**
      * Takes a modelled object and converts it into a raw map of {@link AttributeValue} that the DynamoDb low-level
      * SDK can work with.
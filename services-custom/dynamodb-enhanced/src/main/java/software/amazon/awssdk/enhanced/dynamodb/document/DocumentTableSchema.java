@@ -33,13 +33,17 @@ import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.DefaultAttributeConverterProvider;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.LazyItem;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.converter.ChainConverterProvider;
 import software.amazon.awssdk.enhanced.dynamodb.internal.converter.ConverterProviderResolver;
 import software.amazon.awssdk.enhanced.dynamodb.internal.document.DefaultEnhancedDocument;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.DefaultLazyItem;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableMetadata;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Validate;
 
 
 /**
@@ -72,9 +76,11 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 public final class DocumentTableSchema implements TableSchema<EnhancedDocument> {
     private final TableMetadata tableMetadata;
     private final List<AttributeConverterProvider> attributeConverterProviders;
+    private final ChainConverterProvider attributeConverterChain;
 
     private DocumentTableSchema(Builder builder) {
         this.attributeConverterProviders = builder.attributeConverterProviders;
+        this.attributeConverterChain = ChainConverterProvider.create(attributeConverterProviders);
         this.tableMetadata = builder.staticTableMetaDataBuilder.build();
     }
 
@@ -94,6 +100,23 @@ public final class DocumentTableSchema implements TableSchema<EnhancedDocument>
                       .build();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The attribute map is not copied into a document until {@link LazyItem#item()} is called, and each attribute is
+     * converted to the requested type with the attribute converter providers of this table schema.
+     */
+    @Override
+    public LazyItem<EnhancedDocument> mapToLazyItem(Map<String, AttributeValue> attributeMap) {
+        return DefaultLazyItem.create(attributeMap, this::mapToItem, (attributeName, type) -> {
+            Validate.isTrue(type.rawClassParameters() != null
+                            || !(List.class.equals(type.rawClass()) || Map.class.equals(type.rawClass())),
+                            "Attribute '%s' must be read with the element types of the %s.", attributeName,
+                            type.rawClass().getSimpleName());
+            return DefaultEnhancedDocument.converterForClass(type, attributeConverterChain);
+        });
+    }
+
     /**
      * {@inheritDoc}
      *
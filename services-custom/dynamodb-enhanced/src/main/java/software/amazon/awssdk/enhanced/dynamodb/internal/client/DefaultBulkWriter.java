@@ -0,0 +1,586 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.BulkWriter;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteTableMetrics;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default {@link BulkWriter}.
+ * <p>
+ * Submitted actions wait in a queue until a batch slot is free, so batches fill up while all slots are busy and are sent
+ * immediately when the writer is idle. To keep actions on the same item in order, an item whose key is part of a batch in
+ * flight, or waiting to be retried, stays in the queue until that action completed.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultBulkWriter implements BulkWriter {
+    static final int MAX_BATCH_ITEMS = 25;
+    static final long MAX_BATCH_SIZE_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * The approximate number of bytes the serialized form of a request adds to each attribute name and value.
+     */
+    private static final int ATTRIBUTE_OVERHEAD_BYTES = 16;
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final int maxConcurrentBatches;
+    private final int maxPendingItems;
+    private final int maxUnprocessedItemRetries;
+    private final BackoffStrategy backoffStrategy;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+
+    private final Lock lock = new ReentrantLock();
+    private final LinkedList<PendingWrite> queue = new LinkedList<>();
+    private final Set<ItemKey> keysInProgress = new HashSet<>();
+    private int batchesInFlight;
+    private boolean closed;
+
+    private final Set<CompletableFuture<Void>> outstandingWrites = ConcurrentHashMap.newKeySet();
+    private final Map<String, TableMetrics> tableMetrics = new ConcurrentHashMap<>();
+
+    public DefaultBulkWriter(DynamoDbAsyncClient dynamoDbClient, BulkWriterConfiguration configuration) {
+        this.dynamoDbClient = Validate.paramNotNull(dynamoDbClient, "dynamoDbClient");
+        this.maxConcurrentBatches = configuration.maxConcurrentBatches();
+        this.maxPendingItems = configuration.maxPendingItems();
+        this.maxUnprocessedItemRetries = configuration.maxUnprocessedItemRetries();
+        this.backoffStrategy = configuration.unprocessedItemBackoffStrategy();
+        if (configuration.scheduledExecutorService() != null) {
+            this.scheduler = configuration.scheduledExecutorService();
+            this.ownsScheduler = false;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                            .threadNamePrefix("sdk-dynamodb-bulk-writer")
+                                                                            .daemonThreads(true)
+                                                                            .build());
+            this.ownsScheduler = true;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item) {
+        Validate.paramNotNull(mappedTable, "mappedTable");
+        Validate.paramNotNull(item, "item");
+        WriteRequest writeRequest;
+        try {
+            PutItemEnhancedRequest<T> request = PutItemEnhancedRequest.builder(mappedTable.tableSchema().itemType().rawClass())
+                                                                      .item(item)
+                                                                      .build();
+            writeRequest = PutItemOperation.create(request)
+                                           .generateWriteRequest(mappedTable.tableSchema(),
+                                                                 DefaultOperationContext.create(mappedTable.tableName()),
+                                                                 mappedTable.mapperExtension());
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+        return submit(mappedTable, writeRequest);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteItem(MappedTableResource<?> mappedTable, Key key) {
+        Validate.paramNotNull(mappedTable, "mappedTable");
+        Validate.paramNotNull(key, "key");
+        WriteRequest writeRequest;
+        try {
+            writeRequest = deleteWriteRequest(mappedTable, key);
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+        return submit(mappedTable, writeRequest);
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> putItems(MappedTableResource<T> mappedTable, Publisher<? extends T> items) {
+        Validate.paramNotNull(mappedTable, "mappedTable");
+        Validate.paramNotNull(items, "items");
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        items.subscribe(new WriteSubscriber<T>(item -> putItem(mappedTable, item), result));
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteItems(MappedTableResource<?> mappedTable, Publisher<Key> keys) {
+        Validate.paramNotNull(mappedTable, "mappedTable");
+        Validate.paramNotNull(keys, "keys");
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        keys.subscribe(new WriteSubscriber<Key>(key -> deleteItem(mappedTable, key), result));
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.allOf(outstandingWrites.toArray(new CompletableFuture[0]));
+    }
+
+    @Override
+    public Map<String, BulkWriteTableMetrics> metrics() {
+        Map<String, BulkWriteTableMetrics> snapshot = new HashMap<>();
+        tableMetrics.forEach((tableName, metrics) -> snapshot.put(tableName, metrics.snapshot(tableName)));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            CompletableFutureUtils.joinInterruptiblyIgnoringFailures(flush());
+        } finally {
+            if (ownsScheduler) {
+                scheduler.shutdownNow();
+            }
+        }
+    }
+
+    private static <T> WriteRequest deleteWriteRequest(MappedTableResource<T> mappedTable, Key key) {
+        DeleteItemOperation<T> operation = DeleteItemOperation.create(DeleteItemEnhancedRequest.builder().key(key).build());
+        return operation.generateWriteRequest(mappedTable.tableSchema(),
+                                              DefaultOperationContext.create(mappedTable.tableName()),
+                                              mappedTable.mapperExtension());
+    }
+
+    private CompletableFuture<Void> submit(MappedTableResource<?> mappedTable, WriteRequest writeRequest) {
+        PendingWrite write = new PendingWrite(itemKey(mappedTable, writeRequest), writeRequest);
+        outstandingWrites.add(write.future);
+        write.future.whenComplete((r, t) -> outstandingWrites.remove(write.future));
+
+        lock.lock();
+        try {
+            if (closed) {
+                write.future.completeExceptionally(new IllegalStateException("The bulk writer has been closed."));
+                return write.future;
+            }
+            queue.addLast(write);
+        } finally {
+            lock.unlock();
+        }
+
+        dispatch();
+        return write.future;
+    }
+
+    private void dispatch() {
+        List<List<PendingWrite>> batches = new ArrayList<>();
+        lock.lock();
+        try {
+            while (batchesInFlight < maxConcurrentBatches) {
+                List<PendingWrite> batch = nextBatch();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                batchesInFlight++;
+                batches.add(batch);
+            }
+        } finally {
+            lock.unlock();
+        }
+        batches.forEach(this::send);
+    }
+
+    /**
+     * Take the oldest writes from the queue whose item is not already being written, up to the limits of one request.
+     */
+    private List<PendingWrite> nextBatch() {
+        List<PendingWrite> batch = new ArrayList<>();
+        long batchSize = 0;
+        Iterator<PendingWrite> iterator = queue.iterator();
+        while (iterator.hasNext() && batch.size() < MAX_BATCH_ITEMS) {
+            PendingWrite write = iterator.next();
+            if (keysInProgress.contains(write.key)) {
+                continue;
+            }
+            if (!batch.isEmpty() && batchSize + write.size > MAX_BATCH_SIZE_BYTES) {
+                break;
+            }
+            iterator.remove();
+            keysInProgress.add(write.key);
+            batch.add(write);
+            batchSize += write.size;
+        }
+        return batch;
+    }
+
+    private void send(List<PendingWrite> batch) {
+        Map<String, List<WriteRequest>> requestItems = new LinkedHashMap<>();
+        batch.forEach(write -> requestItems.computeIfAbsent(write.key.tableName, t -> new ArrayList<>()).add(write.writeRequest));
+        requestItems.keySet().forEach(tableName -> metrics(tableName).batchWriteRequests.increment());
+
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder()
+                                                             .requestItems(requestItems)
+                                                             .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                                                             .build();
+        CompletableFuture<BatchWriteItemResponse> response;
+        try {
+            response = dynamoDbClient.batchWriteItem(request);
+        } catch (RuntimeException e) {
+            response = CompletableFutureUtils.failedFuture(e);
+        }
+        response.whenComplete((r, t) -> onBatchComplete(batch, r, t));
+    }
+
+    private void onBatchComplete(List<PendingWrite> batch, BatchWriteItemResponse response, Throwable error) {
+        List<PendingWrite> written = new ArrayList<>();
+        List<PendingWrite> failed = new ArrayList<>();
+        List<PendingWrite> exhausted = new ArrayList<>();
+        List<PendingWrite> retries = new ArrayList<>();
+
+        if (error != null) {
+            failed.addAll(batch);
+        } else {
+            recordConsumedCapacity(response);
+            Map<String, List<WriteRequest>> unprocessedItems = response.unprocessedItems();
+            for (PendingWrite write : batch) {
+                List<WriteRequest> unprocessedForTable = unprocessedItems.get(write.key.tableName);
+                if (unprocessedForTable == null || !unprocessedForTable.contains(write.writeRequest)) {
+                    written.add(write);
+                } else if (write.retries >= maxUnprocessedItemRetries) {
+                    exhausted.add(write);
+                } else {
+                    retries.add(write);
+                }
+            }
+        }
+
+        lock.lock();
+        try {
+            batchesInFlight--;
+            written.forEach(write -> keysInProgress.remove(write.key));
+            failed.forEach(write -> keysInProgress.remove(write.key));
+            exhausted.forEach(write -> keysInProgress.remove(write.key));
+        } finally {
+            lock.unlock();
+        }
+
+        if (!retries.isEmpty()) {
+            scheduleRetry(retries);
+        }
+
+        written.forEach(write -> {
+            metrics(write.key.tableName).itemsWritten.increment();
+            write.future.complete(null);
+        });
+        Throwable cause = unwrap(error);
+        failed.forEach(write -> {
+            metrics(write.key.tableName).itemsFailed.increment();
+            write.future.completeExceptionally(cause);
+        });
+        exhausted.forEach(write -> {
+            metrics(write.key.tableName).itemsFailed.increment();
+            write.future.completeExceptionally(SdkClientException.create(
+                "DynamoDB returned the item as unprocessed after " + (maxUnprocessedItemRetries + 1) + " attempts."));
+        });
+
+        dispatch();
+    }
+
+    /**
+     * Send unprocessed writes again after a backoff. Their keys stay in progress in the meantime, so that later writes to the
+     * same items are not sent before them.
+     */
+    private void scheduleRetry(List<PendingWrite> retries) {
+        int retriesAttempted = 0;
+        for (PendingWrite write : retries) {
+            retriesAttempted = Math.max(retriesAttempted, write.retries);
+            write.retries++;
+            metrics(write.key.tableName).unprocessedItemRetries.increment();
+        }
+
+        Duration delay = backoffStrategy.computeDelayBeforeNextRetry(RetryPolicyContext.builder()
+                                                                                        .retriesAttempted(retriesAttempted)
+                                                                                        .build());
+        try {
+            scheduler.schedule(() -> requeue(retries), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            requeue(retries);
+        }
+    }
+
+    private void requeue(List<PendingWrite> retries) {
+        lock.lock();
+        try {
+            ListIterator<PendingWrite> iterator = retries.listIterator(retries.size());
+            while (iterator.hasPrevious()) {
+                PendingWrite write = iterator.previous();
+                keysInProgress.remove(write.key);
+                queue.addFirst(write);
+            }
+        } finally {
+            lock.unlock();
+        }
+        dispatch();
+    }
+
+    private void recordConsumedCapacity(BatchWriteItemResponse response) {
+        for (ConsumedCapacity consumedCapacity : response.consumedCapacity()) {
+            if (consumedCapacity.tableName() != null && consumedCapacity.capacityUnits() != null) {
+                metrics(consumedCapacity.tableName()).consumedWriteCapacityUnits.add(consumedCapacity.capacityUnits());
+            }
+        }
+    }
+
+    private TableMetrics metrics(String tableName) {
+        return tableMetrics.computeIfAbsent(tableName, t -> new TableMetrics());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private static ItemKey itemKey(MappedTableResource<?> mappedTable, WriteRequest writeRequest) {
+        Map<String, AttributeValue> attributes = writeRequest.putRequest() != null ? writeRequest.putRequest().item()
+                                                                                   : writeRequest.deleteRequest().key();
+        Map<String, AttributeValue> key = new HashMap<>();
+        for (String keyAttribute : mappedTable.tableSchema().tableMetadata().primaryKeys()) {
+            AttributeValue value = attributes.get(keyAttribute);
+            if (value != null) {
+                key.put(keyAttribute, value);
+            }
+        }
+        return new ItemKey(mappedTable.tableName(), key);
+    }
+
+    /**
+     * Estimate the size that the item adds to a serialized request. This does not need to be exact, because a batch of 25
+     * items of the maximum item size stays well below the request size limit.
+     */
+    static long estimateSize(WriteRequest writeRequest) {
+        Map<String, AttributeValue> attributes = writeRequest.putRequest() != null ? writeRequest.putRequest().item()
+                                                                                   : writeRequest.deleteRequest().key();
+        return estimateSize(attributes);
+    }
+
+    private static long estimateSize(Map<String, AttributeValue> attributes) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : attributes.entrySet()) {
+            size += attribute.getKey().length() + estimateSize(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long estimateSize(AttributeValue value) {
+        long size = ATTRIBUTE_OVERHEAD_BYTES;
+        if (value.s() != null) {
+            size += value.s().length();
+        } else if (value.n() != null) {
+            size += value.n().length();
+        } else if (value.b() != null) {
+            size += base64Length(value.b());
+        } else if (value.hasSs()) {
+            size += value.ss().stream().mapToLong(s -> s.length() + ATTRIBUTE_OVERHEAD_BYTES).sum();
+        } else if (value.hasNs()) {
+            size += value.ns().stream().mapToLong(n -> n.length() + ATTRIBUTE_OVERHEAD_BYTES).sum();
+        } else if (value.hasBs()) {
+            size += value.bs().stream().mapToLong(b -> base64Length(b) + ATTRIBUTE_OVERHEAD_BYTES).sum();
+        } else if (value.hasM()) {
+            size += estimateSize(value.m());
+        } else if (value.hasL()) {
+            size += value.l().stream().mapToLong(DefaultBulkWriter::estimateSize).sum();
+        }
+        return size;
+    }
+
+    private static long base64Length(SdkBytes bytes) {
+        return (bytes.asByteBuffer().remaining() + 2L) / 3 * 4;
+    }
+
+    private static final class PendingWrite {
+        private final ItemKey key;
+        private final WriteRequest writeRequest;
+        private final long size;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private int retries;
+
+        private PendingWrite(ItemKey key, WriteRequest writeRequest) {
+            this.key = key;
+            this.writeRequest = writeRequest;
+            this.size = estimateSize(writeRequest);
+        }
+    }
+
+    private static final class ItemKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+
+        private ItemKey(String tableName, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ItemKey that = (ItemKey) o;
+            return tableName.equals(that.tableName) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tableName.hashCode() + key.hashCode();
+        }
+    }
+
+    private static final class TableMetrics {
+        private final LongAdder itemsWritten = new LongAdder();
+        private final LongAdder itemsFailed = new LongAdder();
+        private final LongAdder unprocessedItemRetries = new LongAdder();
+        private final LongAdder batchWriteRequests = new LongAdder();
+        private final DoubleAdder consumedWriteCapacityUnits = new DoubleAdder();
+
+        private BulkWriteTableMetrics snapshot(String tableName) {
+            return BulkWriteTableMetrics.builder()
+                                        .tableName(tableName)
+                                        .itemsWritten(itemsWritten.sum())
+                                        .itemsFailed(itemsFailed.sum())
+                                        .unprocessedItemRetries(unprocessedItemRetries.sum())
+                                        .batchWriteRequests(batchWriteRequests.sum())
+                                        .consumedWriteCapacityUnits(consumedWriteCapacityUnits.sum())
+                                        .build();
+        }
+    }
+
+    /**
+     * Writes the elements of a publisher, requesting a new element each time one has been written so that no more than
+     * {@link #maxPendingItems} elements are pending at any time.
+     */
+    private final class WriteSubscriber<E> implements Subscriber<E> {
+        private final Function<E, CompletableFuture<Void>> writeFunction;
+        private final CompletableFuture<Void> result;
+        private final AtomicInteger pendingWrites = new AtomicInteger();
+        private volatile Subscription subscription;
+        private volatile boolean publisherCompleted;
+
+        private WriteSubscriber(Function<E, CompletableFuture<Void>> writeFunction, CompletableFuture<Void> result) {
+            this.writeFunction = writeFunction;
+            this.result = result;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            s.request(maxPendingItems);
+        }
+
+        @Override
+        public void onNext(E element) {
+            Validate.paramNotNull(element, "element");
+            if (result.isDone()) {
+                return;
+            }
+            pendingWrites.incrementAndGet();
+            writeFunction.apply(element).whenComplete((r, t) -> {
+                if (t != null) {
+                    fail(t);
+                } else if (pendingWrites.decrementAndGet() == 0 && publisherCompleted) {
+                    result.complete(null);
+                } else {
+                    subscription.request(1);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            publisherCompleted = true;
+            if (pendingWrites.get() == 0) {
+                result.complete(null);
+            }
+        }
+
+        private void fail(Throwable t) {
+            if (result.completeExceptionally(unwrap(t))) {
+                subscription.cancel();
+            }
+        }
+    }
+}
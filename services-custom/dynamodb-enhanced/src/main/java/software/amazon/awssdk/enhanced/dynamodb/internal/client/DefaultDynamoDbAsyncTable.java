@@ -19,7 +19,9 @@ import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUt
 
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
@@ -42,7 +44,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse
 import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -53,6 +57,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedResponse
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.utils.Validate;
 
 @SdkInternalApi
 public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T> {
@@ -265,6 +270,47 @@ public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T>
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        return PagePublisher.create(new ParallelScanPublisher<>(request, this::scan));
+    }
+
+    @Override
+    public PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build());
+    }
+
+    @Override
+    public SdkPublisher<T> getItems(GetItemsEnhancedRequest request) {
+        return new GetItemsPublisher<>(dynamoDbClient, tableSchema, tableName, extension, request,
+                                       () -> request.keys().iterator());
+    }
+
+    @Override
+    public SdkPublisher<T> getItems(Consumer<GetItemsEnhancedRequest.Builder> requestConsumer) {
+        GetItemsEnhancedRequest.Builder builder = GetItemsEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return getItems(builder.build());
+    }
+
+    @Override
+    public SdkPublisher<T> getItems(Stream<Key> keys) {
+        return getItems(keys, r -> { });
+    }
+
+    @Override
+    public SdkPublisher<T> getItems(Stream<Key> keys, Consumer<GetItemsEnhancedRequest.Builder> requestConsumer) {
+        Validate.paramNotNull(keys, "keys");
+        GetItemsEnhancedRequest.Builder builder = GetItemsEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        GetItemsEnhancedRequest request = builder.build();
+        Validate.isTrue(request.keys().isEmpty(),
+                        "The keys are passed as a stream, so they must not also be set on the request.");
+        return new GetItemsPublisher<>(dynamoDbClient, tableSchema, tableName, extension, request, keys::iterator);
+    }
+
     @Override
     public CompletableFuture<T> updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
@@ -0,0 +1,501 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.readAndTransformSingleItem;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemsEnhancedRequest.ResultOrder;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Retrieves the items of any number of keys of a table with concurrent BatchGetItem requests, and publishes them as a single
+ * stream of items.
+ * <p>
+ * Keys are read from their source as the requests are sent, and a key that was already read is skipped. Each request
+ * asks for at most 100 keys, and up to {@link GetItemsEnhancedRequest#maxConcurrentRequests()} requests are in flight at the
+ * same time. No more than 100 keys per concurrent request are read ahead of the items delivered to the subscriber, so the
+ * number of keys in flight and items buffered stays bounded whatever the subscriber's demand.
+ * <p>
+ * DynamoDB returns the keys it did not process, for example because the response reached its size limit of 16 MB or the
+ * table was throttled, as unprocessed keys. They are requested again, before any new key, after the delay computed by
+ * {@link GetItemsEnhancedRequest#unprocessedKeyBackoffStrategy()}. A key for which DynamoDB returns neither an item nor an
+ * unprocessed key has no item, and nothing is published for it.
+ */
+@SdkInternalApi
+public final class GetItemsPublisher<T> implements SdkPublisher<T> {
+    private static final Logger log = Logger.loggerFor(GetItemsPublisher.class);
+
+    private static final int MAX_KEYS_PER_REQUEST = 100;
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final TableSchema<T> tableSchema;
+    private final String tableName;
+    private final DynamoDbEnhancedClientExtension extension;
+    private final GetItemsEnhancedRequest request;
+    private final Supplier<Iterator<Key>> keys;
+
+    /**
+     * @param dynamoDbClient The client that sends the BatchGetItem requests.
+     * @param tableSchema The schema of the table the items are retrieved from.
+     * @param tableName The name of the table the items are retrieved from.
+     * @param extension The extension that transforms each retrieved item, or null.
+     * @param request The parameters of the retrieval.
+     * @param keys Supplies the keys of the items to retrieve to each subscriber.
+     */
+    public GetItemsPublisher(DynamoDbAsyncClient dynamoDbClient,
+                             TableSchema<T> tableSchema,
+                             String tableName,
+                             DynamoDbEnhancedClientExtension extension,
+                             GetItemsEnhancedRequest request,
+                             Supplier<Iterator<Key>> keys) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableSchema = tableSchema;
+        this.tableName = tableName;
+        this.extension = extension;
+        this.request = request;
+        this.keys = keys;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        new GetItemsSubscription(subscriber).start();
+    }
+
+    private final class GetItemsSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final OperationContext operationContext = DefaultOperationContext.create(tableName);
+        private final int maxOutstandingKeys = request.maxConcurrentRequests() * MAX_KEYS_PER_REQUEST;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drainInProgress = new AtomicInteger();
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+        private boolean terminated;
+
+        private final Lock lock = new ReentrantLock();
+        private final Set<Map<String, AttributeValue>> keysRead = new HashSet<>();
+        private final Queue<PendingKey> unprocessedKeys = new ArrayDeque<>();
+        private final Queue<PendingKey> keysInOrder = new ArrayDeque<>();
+        private final Queue<T> items = new ArrayDeque<>();
+        private Iterator<Key> keySource;
+        private boolean keySourceExhausted;
+        private boolean requested;
+        private int outstandingKeys;
+        private int requestsInFlight;
+        private ScheduledExecutorService scheduler;
+
+        private GetItemsSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Demand must be positive, but was " + n + "."));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void fail(Throwable t) {
+            lock.lock();
+            try {
+                if (error == null) {
+                    error = t;
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (drainInProgress.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    if (cancelled) {
+                        terminate();
+                    } else {
+                        deliverItems();
+                        sendRequests();
+                        completeIfDone();
+                    }
+                }
+                missed = drainInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliverItems() {
+            while (!cancelled && error == null && demand.get() > 0) {
+                T item = pollItem();
+                if (item == null) {
+                    return;
+                }
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                subscriber.onNext(item);
+            }
+        }
+
+        private T pollItem() {
+            lock.lock();
+            try {
+                T item = items.poll();
+                if (item != null) {
+                    outstandingKeys--;
+                }
+                return item;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void sendRequests() {
+            List<List<PendingKey>> batches = new ArrayList<>();
+            lock.lock();
+            try {
+                if (demand.get() > 0) {
+                    requested = true;
+                }
+                if (!requested || cancelled || error != null) {
+                    return;
+                }
+                if (keySource == null) {
+                    keySource = keys.get();
+                }
+                while (requestsInFlight < request.maxConcurrentRequests()) {
+                    List<PendingKey> batch = nextBatch();
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    requestsInFlight++;
+                    batches.add(batch);
+                }
+            } catch (RuntimeException e) {
+                error = e;
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            batches.forEach(this::send);
+        }
+
+        private List<PendingKey> nextBatch() {
+            List<PendingKey> batch = new ArrayList<>();
+            while (batch.size() < MAX_KEYS_PER_REQUEST && !unprocessedKeys.isEmpty()) {
+                batch.add(unprocessedKeys.poll());
+            }
+            while (batch.size() < MAX_KEYS_PER_REQUEST && outstandingKeys < maxOutstandingKeys && !keySourceExhausted) {
+                if (!keySource.hasNext()) {
+                    keySourceExhausted = true;
+                    break;
+                }
+                Key key = keySource.next();
+                Map<String, AttributeValue> keyMap = key.primaryKeyMap(tableSchema);
+                if (keysRead.add(normalize(keyMap))) {
+                    PendingKey pendingKey = new PendingKey(keyMap);
+                    outstandingKeys++;
+                    if (request.resultOrder() == ResultOrder.REQUEST) {
+                        keysInOrder.add(pendingKey);
+                    }
+                    batch.add(pendingKey);
+                }
+            }
+            return batch;
+        }
+
+        private void send(List<PendingKey> batch) {
+            List<Map<String, AttributeValue>> keyMaps = new ArrayList<>(batch.size());
+            batch.forEach(k -> keyMaps.add(k.keyMap));
+            KeysAndAttributes keysAndAttributes = KeysAndAttributes.builder()
+                                                                   .keys(keyMaps)
+                                                                   .consistentRead(request.consistentRead())
+                                                                   .build();
+            BatchGetItemRequest batchGetItemRequest =
+                BatchGetItemRequest.builder()
+                                   .requestItems(Collections.singletonMap(tableName, keysAndAttributes))
+                                   .build();
+            try {
+                dynamoDbClient.batchGetItem(batchGetItemRequest)
+                              .whenComplete((response, t) -> onResponse(batch, response, t));
+            } catch (RuntimeException e) {
+                onResponse(batch, null, e);
+            }
+        }
+
+        private void onResponse(List<PendingKey> batch, BatchGetItemResponse response, Throwable t) {
+            Map<Map<String, AttributeValue>, PendingKey> keysByValue = new HashMap<>();
+            batch.forEach(k -> keysByValue.put(normalize(k.keyMap), k));
+            Map<PendingKey, T> retrieved = new LinkedHashMap<>();
+            List<PendingKey> unprocessed = new ArrayList<>();
+            Throwable failure = unwrap(t);
+            if (failure == null) {
+                try {
+                    for (Map<String, AttributeValue> itemMap : itemsOf(response)) {
+                        PendingKey key = keysByValue.remove(normalize(primaryKeyOf(itemMap)));
+                        if (key != null) {
+                            retrieved.put(key, readAndTransformSingleItem(itemMap, tableSchema, operationContext, extension));
+                        }
+                    }
+                    for (Map<String, AttributeValue> keyMap : unprocessedKeysOf(response)) {
+                        PendingKey key = keysByValue.remove(normalize(keyMap));
+                        if (key != null) {
+                            unprocessed.add(key);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+
+            lock.lock();
+            try {
+                requestsInFlight--;
+                if (failure != null) {
+                    if (error == null) {
+                        error = failure;
+                    }
+                } else {
+                    retrieved.forEach(this::resolve);
+                    keysByValue.values().forEach(k -> resolve(k, null));
+                    if (!unprocessed.isEmpty()) {
+                        scheduleRetry(unprocessed);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        private void resolve(PendingKey key, T item) {
+            if (request.resultOrder() == ResultOrder.COMPLETION) {
+                publish(item);
+                return;
+            }
+            key.resolved = true;
+            key.item = item;
+            while (!keysInOrder.isEmpty() && keysInOrder.peek().resolved) {
+                publish(keysInOrder.poll().item);
+            }
+        }
+
+        private void publish(T item) {
+            if (item != null) {
+                items.add(item);
+            } else {
+                outstandingKeys--;
+            }
+        }
+
+        private void scheduleRetry(List<PendingKey> retries) {
+            int retriesAttempted = 0;
+            for (PendingKey key : retries) {
+                if (key.retries >= request.maxUnprocessedKeyRetries()) {
+                    error = SdkClientException.create("DynamoDB returned the key as unprocessed after "
+                                                      + (request.maxUnprocessedKeyRetries() + 1) + " attempts.");
+                    return;
+                }
+                retriesAttempted = Math.max(retriesAttempted, key.retries);
+                key.retries++;
+            }
+
+            int attempt = retriesAttempted + 1;
+            log.debug(() -> "Requesting " + retries.size() + " unprocessed keys again (attempt " + attempt + ").");
+            Duration delay = request.unprocessedKeyBackoffStrategy()
+                                    .computeDelayBeforeNextRetry(RetryPolicyContext.builder()
+                                                                                   .retriesAttempted(retriesAttempted)
+                                                                                   .build());
+            // The keys count as a request in flight until they are requested again, so that fewer new keys are requested
+            // while the table is throttled.
+            requestsInFlight++;
+            try {
+                scheduler().schedule(() -> requeue(retries), delay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                requestsInFlight--;
+                unprocessedKeys.addAll(retries);
+            }
+        }
+
+        private void requeue(List<PendingKey> retries) {
+            lock.lock();
+            try {
+                requestsInFlight--;
+                unprocessedKeys.addAll(retries);
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        private ScheduledExecutorService scheduler() {
+            if (request.scheduledExecutorService() != null) {
+                return request.scheduledExecutorService();
+            }
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                           .threadNamePrefix("sdk-dynamodb-get-items")
+                                                                           .daemonThreads(true)
+                                                                           .build());
+            }
+            return scheduler;
+        }
+
+        private void completeIfDone() {
+            Throwable t;
+            boolean done;
+            lock.lock();
+            try {
+                t = error;
+                done = keySourceExhausted && outstandingKeys == 0 && requestsInFlight == 0;
+            } finally {
+                lock.unlock();
+            }
+
+            if (t != null) {
+                terminate();
+                subscriber.onError(t);
+            } else if (done) {
+                terminate();
+                subscriber.onComplete();
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            lock.lock();
+            try {
+                items.clear();
+                unprocessedKeys.clear();
+                keysInOrder.clear();
+                keysRead.clear();
+                if (scheduler != null) {
+                    scheduler.shutdownNow();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Map<String, AttributeValue> primaryKeyOf(Map<String, AttributeValue> itemMap) {
+            Map<String, AttributeValue> keyMap = new HashMap<>();
+            tableSchema.tableMetadata().primaryKeys().forEach(name -> keyMap.put(name, itemMap.get(name)));
+            return keyMap;
+        }
+
+        private Collection<Map<String, AttributeValue>> itemsOf(BatchGetItemResponse response) {
+            List<Map<String, AttributeValue>> itemMaps = response.responses().get(tableName);
+            return itemMaps != null ? itemMaps : Collections.emptyList();
+        }
+
+        private Collection<Map<String, AttributeValue>> unprocessedKeysOf(BatchGetItemResponse response) {
+            KeysAndAttributes keysAndAttributes = response.unprocessedKeys().get(tableName);
+            return keysAndAttributes != null ? keysAndAttributes.keys() : Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns the key with its numbers in a canonical form, because DynamoDB may not return a number in the form it was
+     * requested, for example {@code 1} for {@code 1.0}.
+     */
+    private static Map<String, AttributeValue> normalize(Map<String, AttributeValue> keyMap) {
+        Map<String, AttributeValue> normalized = new HashMap<>(keyMap);
+        normalized.replaceAll((name, value) -> {
+            if (value == null || value.n() == null) {
+                return value;
+            }
+            BigDecimal number = new BigDecimal(value.n());
+            String canonical = number.signum() == 0 ? "0" : number.stripTrailingZeros().toPlainString();
+            return AttributeValue.builder().n(canonical).build();
+        });
+        return normalized;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private final class PendingKey {
+        private final Map<String, AttributeValue> keyMap;
+        private int retries;
+        private boolean resolved;
+        private T item;
+
+        private PendingKey(Map<String, AttributeValue> keyMap) {
+            this.keyMap = keyMap;
+        }
+    }
+}
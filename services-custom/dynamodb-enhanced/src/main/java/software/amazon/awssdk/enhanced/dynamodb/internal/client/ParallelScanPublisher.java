@@ -0,0 +1,374 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Merges the pages of the segments of a parallel scan into a single publisher.
+ * <p>
+ * Up to {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} segments are scanned at the same time, and each of them
+ * requests at most {@link ParallelScanEnhancedRequest#prefetchPagesPerSegment()} pages that were not yet delivered to the
+ * subscriber. A page is requested from a segment again each time one of its pages is delivered, so the number of pages in
+ * flight or buffered stays bounded whatever the subscriber's demand. Pages of the same segment are delivered in order; pages
+ * of different segments are interleaved in the order they are received.
+ * <p>
+ * When the scan of a segment fails with an error that the SDK's default retry condition considers retryable, it is resumed
+ * after a delay computed by {@link ParallelScanEnhancedRequest#segmentRetryBackoffStrategy()}, from the last evaluated key of
+ * the last page received for that segment. Any other error fails the parallel scan.
+ */
+@SdkInternalApi
+public final class ParallelScanPublisher<T> implements SdkPublisher<Page<T>> {
+    private static final Logger log = Logger.loggerFor(ParallelScanPublisher.class);
+    private static final RetryCondition SEGMENT_RETRY_CONDITION = RetryCondition.defaultRetryCondition();
+
+    private final ParallelScanEnhancedRequest request;
+    private final Function<ScanEnhancedRequest, SdkPublisher<Page<T>>> segmentScanner;
+
+    /**
+     * @param request The parallel scan request.
+     * @param segmentScanner Creates the publisher of the pages of one segment for a scan request that sets the segment, the
+     * total number of segments and the key to start from.
+     */
+    public ParallelScanPublisher(ParallelScanEnhancedRequest request,
+                                 Function<ScanEnhancedRequest, SdkPublisher<Page<T>>> segmentScanner) {
+        this.request = request;
+        this.segmentScanner = segmentScanner;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        new MergingSubscription(subscriber).start();
+    }
+
+    private final class MergingSubscription implements Subscription {
+        private final Subscriber<? super Page<T>> subscriber;
+        private final Queue<SegmentPage> pages = new ConcurrentLinkedQueue<>();
+        private final Set<SegmentSubscriber> activeSegments = ConcurrentHashMap.newKeySet();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drainInProgress = new AtomicInteger();
+        private final AtomicInteger nextSegment = new AtomicInteger();
+        private final AtomicInteger completedSegments = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private volatile boolean cancelled;
+        private boolean terminated;
+        private ScheduledExecutorService scheduler;
+        private boolean schedulerShutdown;
+
+        private MergingSubscription(Subscriber<? super Page<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            subscriber.onSubscribe(this);
+            for (int i = 0; i < request.maxConcurrentSegments(); i++) {
+                startNextSegment();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Demand must be positive, but was " + n + "."));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelSegments();
+            shutdownScheduler();
+            drain();
+        }
+
+        private void startNextSegment() {
+            int segment = nextSegment.getAndIncrement();
+            if (segment >= request.totalSegments() || isStopped()) {
+                return;
+            }
+            SegmentSubscriber segmentSubscriber = new SegmentSubscriber(this, segment);
+            activeSegments.add(segmentSubscriber);
+            // cancel() or fail() may have cancelled the active segments between the check above and the add.
+            if (isStopped()) {
+                activeSegments.remove(segmentSubscriber);
+                segmentSubscriber.cancel();
+                return;
+            }
+            segmentSubscriber.scanFrom(null);
+        }
+
+        private boolean isStopped() {
+            return cancelled || error.get() != null;
+        }
+
+        /**
+         * Runs the given task after the given delay, or returns false if the publisher terminated and no longer runs tasks.
+         */
+        private synchronized boolean schedule(Runnable task, Duration delay) {
+            if (schedulerShutdown) {
+                return false;
+            }
+            try {
+                scheduler().schedule(task, delay.toMillis(), TimeUnit.MILLISECONDS);
+                return true;
+            } catch (RejectedExecutionException e) {
+                return false;
+            }
+        }
+
+        private ScheduledExecutorService scheduler() {
+            if (request.scheduledExecutorService() != null) {
+                return request.scheduledExecutorService();
+            }
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                           .threadNamePrefix("sdk-dynamodb-parallel-scan")
+                                                                           .daemonThreads(true)
+                                                                           .build());
+            }
+            return scheduler;
+        }
+
+        private synchronized void shutdownScheduler() {
+            schedulerShutdown = true;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
+        }
+
+        private void segmentCompleted(SegmentSubscriber segment) {
+            activeSegments.remove(segment);
+            completedSegments.incrementAndGet();
+            startNextSegment();
+            drain();
+        }
+
+        private void fail(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                cancelSegments();
+            }
+            drain();
+        }
+
+        private void cancelSegments() {
+            activeSegments.forEach(SegmentSubscriber::cancel);
+        }
+
+        private void drain() {
+            if (drainInProgress.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled || terminated) {
+                    pages.clear();
+                } else {
+                    deliverPages();
+                }
+                missed = drainInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliverPages() {
+            while (!cancelled && error.get() == null && demand.get() > 0) {
+                SegmentPage segmentPage = pages.poll();
+                if (segmentPage == null) {
+                    break;
+                }
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                subscriber.onNext(segmentPage.page);
+                segmentPage.segment.pageDelivered();
+            }
+
+            if (cancelled) {
+                return;
+            }
+            Throwable t = error.get();
+            if (t != null) {
+                terminated = true;
+                shutdownScheduler();
+                subscriber.onError(t);
+            } else if (completedSegments.get() == request.totalSegments() && pages.isEmpty()) {
+                terminated = true;
+                shutdownScheduler();
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    private final class SegmentSubscriber implements Subscriber<Page<T>> {
+        private final MergingSubscription parent;
+        private final int segment;
+        private final AtomicInteger bufferedPages = new AtomicInteger();
+        private volatile Subscription subscription;
+        private volatile boolean cancelled;
+        private boolean pageReceived;
+        private Map<String, AttributeValue> lastEvaluatedKey;
+        private int retries;
+
+        private SegmentSubscriber(MergingSubscription parent, int segment) {
+            this.parent = parent;
+            this.segment = segment;
+        }
+
+        private void scanFrom(Map<String, AttributeValue> exclusiveStartKey) {
+            ScanEnhancedRequest segmentRequest = request.scanRequest()
+                                                        .toBuilder()
+                                                        .segment(segment)
+                                                        .totalSegments(request.totalSegments())
+                                                        .exclusiveStartKey(exclusiveStartKey)
+                                                        .build();
+            segmentScanner.apply(segmentRequest).subscribe(this);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (cancelled) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            // Pages received before a failure may not be delivered yet, so only request the remainder of the prefetch.
+            int pagesToRequest = request.prefetchPagesPerSegment() - bufferedPages.get();
+            if (pagesToRequest > 0) {
+                s.request(pagesToRequest);
+            }
+        }
+
+        @Override
+        public void onNext(Page<T> page) {
+            pageReceived = true;
+            lastEvaluatedKey = page.lastEvaluatedKey();
+            retries = 0;
+            bufferedPages.incrementAndGet();
+            parent.pages.add(new SegmentPage(this, page));
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (cancelled) {
+                return;
+            }
+            if (pageReceived && lastEvaluatedKey == null) {
+                // The last page of the segment was already received.
+                onComplete();
+                return;
+            }
+            if (retries >= request.maxSegmentRetries() || !isRetryable(t)) {
+                parent.fail(t);
+                return;
+            }
+            Duration delay = request.segmentRetryBackoffStrategy()
+                                    .computeDelayBeforeNextRetry(RetryPolicyContext.builder()
+                                                                                   .retriesAttempted(retries)
+                                                                                   .build());
+            retries++;
+            int attempt = retries;
+            log.debug(() -> "Resuming the scan of segment " + segment + " in " + delay.toMillis() + " ms after a failure "
+                            + "(attempt " + attempt + ").", t);
+            Map<String, AttributeValue> exclusiveStartKey = lastEvaluatedKey;
+            Runnable resume = () -> {
+                if (!cancelled) {
+                    scanFrom(exclusiveStartKey);
+                }
+            };
+            if (!parent.schedule(resume, delay) && !cancelled) {
+                parent.fail(t);
+            }
+        }
+
+        private boolean isRetryable(Throwable t) {
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            if (!(cause instanceof SdkException)) {
+                return false;
+            }
+            SdkException exception = (SdkException) cause;
+            Integer statusCode = exception instanceof SdkServiceException ? ((SdkServiceException) exception).statusCode()
+                                                                          : null;
+            return SEGMENT_RETRY_CONDITION.shouldRetry(RetryPolicyContext.builder()
+                                                                         .exception(exception)
+                                                                         .httpStatusCode(statusCode)
+                                                                         .build());
+        }
+
+        @Override
+        public void onComplete() {
+            if (!cancelled) {
+                parent.segmentCompleted(this);
+            }
+        }
+
+        private void pageDelivered() {
+            bufferedPages.decrementAndGet();
+            Subscription s = subscription;
+            if (s != null && !cancelled) {
+                s.request(1);
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+        }
+    }
+
+    private final class SegmentPage {
+        private final SegmentSubscriber segment;
+        private final Page<T> page;
+
+        private SegmentPage(SegmentSubscriber segment, Page<T> page) {
+            this.segment = segment;
+            this.page = page;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static java.util.Collections.unmodifiableMap;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isNullAttributeValue;
+
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.LazyItem;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default {@link LazyItem}. The value of each attribute is converted by the converter that a resolver returns for the
+ * attribute and the requested type, and kept with that type, so it is only converted again if it is read as another type.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultLazyItem<T> implements LazyItem<T> {
+    private final Map<String, AttributeValue> attributeValueMap;
+    private final BiFunction<String, EnhancedType<?>, AttributeConverter<?>> converterResolver;
+    private final Lazy<T> item;
+    private final Map<String, ConvertedValue> convertedValues = new ConcurrentHashMap<>();
+
+    private DefaultLazyItem(Map<String, AttributeValue> attributeValueMap,
+                            Function<Map<String, AttributeValue>, T> itemMapper,
+                            BiFunction<String, EnhancedType<?>, AttributeConverter<?>> converterResolver) {
+        this.attributeValueMap = unmodifiableMap(attributeValueMap);
+        this.converterResolver = converterResolver;
+        this.item = new Lazy<>(() -> itemMapper.apply(attributeValueMap));
+    }
+
+    /**
+     * Creates a lazy item that converts each attribute with the converter returned by
+     * {@link TableSchema#converterForAttribute(Object)}, and maps the whole item with {@link TableSchema#mapToItem(Map)}.
+     */
+    public static <T> LazyItem<T> create(TableSchema<T> tableSchema, Map<String, AttributeValue> attributeValueMap) {
+        return create(attributeValueMap, tableSchema::mapToItem, (attributeName, type) -> {
+            AttributeConverter<?> converter = tableSchema.converterForAttribute(attributeName);
+            Validate.isTrue(converter != null, "Attribute '%s' is not modelled by the table schema of %s.", attributeName,
+                            tableSchema.itemType());
+            Validate.isTrue(isReadableAs(converter.type(), type),
+                            "Attribute '%s' has values of type %s, which cannot be read as %s.", attributeName,
+                            converter.type(), type);
+            return converter;
+        });
+    }
+
+    /**
+     * Creates a lazy item that converts each attribute with the converter returned by a resolver for the attribute and the
+     * requested type, and maps the whole item with a mapper.
+     */
+    public static <T> LazyItem<T> create(Map<String, AttributeValue> attributeValueMap,
+                                         Function<Map<String, AttributeValue>, T> itemMapper,
+                                         BiFunction<String, EnhancedType<?>, AttributeConverter<?>> converterResolver) {
+        if (attributeValueMap == null) {
+            return null;
+        }
+        return new DefaultLazyItem<>(attributeValueMap, itemMapper, converterResolver);
+    }
+
+    @Override
+    public <R> R get(String attributeName, Class<R> type) {
+        return get(attributeName, EnhancedType.of(type));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R get(String attributeName, EnhancedType<R> type) {
+        Validate.paramNotNull(attributeName, "attributeName");
+        Validate.paramNotNull(type, "type");
+        AttributeValue attributeValue = attributeValueMap.get(attributeName);
+        if (attributeValue == null || isNullAttributeValue(attributeValue)) {
+            return null;
+        }
+        if (type.rawClass().equals(AttributeValue.class)) {
+            return (R) attributeValue;
+        }
+
+        ConvertedValue convertedValue = convertedValues.get(attributeName);
+        if (convertedValue == null || !convertedValue.type.equals(type)) {
+            AttributeConverter<?> converter = converterResolver.apply(attributeName, type);
+            convertedValue = new ConvertedValue(type, converter.transformTo(attributeValue));
+            // Concurrent readers may convert the same value, in which case any of the equal results is kept.
+            convertedValues.put(attributeName, convertedValue);
+        }
+        return (R) convertedValue.value;
+    }
+
+    @Override
+    public boolean isPresent(String attributeName) {
+        return attributeValueMap.containsKey(attributeName);
+    }
+
+    @Override
+    public Map<String, AttributeValue> attributeValueMap() {
+        return attributeValueMap;
+    }
+
+    @Override
+    public T item() {
+        return item.getValue();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        DefaultLazyItem<?> that = (DefaultLazyItem<?>) o;
+
+        return attributeValueMap.equals(that.attributeValueMap);
+    }
+
+    @Override
+    public int hashCode() {
+        return attributeValueMap.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("LazyItem")
+                       .add("attributeValueMap", attributeValueMap)
+                       .build();
+    }
+
+    /**
+     * Whether values of the given type can be read as the requested type. The raw class may be widened, as it is in Java,
+     * but the type parameters must be the same, because generic types are invariant.
+     */
+    private static boolean isReadableAs(EnhancedType<?> type, EnhancedType<?> requestedType) {
+        return wrap(requestedType.rawClass()).isAssignableFrom(wrap(type.rawClass()))
+               && haveSameParameters(type, requestedType);
+    }
+
+    private static boolean isSameType(EnhancedType<?> type, EnhancedType<?> otherType) {
+        if (type.isWildcard() || otherType.isWildcard()) {
+            return type.isWildcard() && otherType.isWildcard();
+        }
+        return type.rawClass().equals(otherType.rawClass()) && haveSameParameters(type, otherType);
+    }
+
+    private static boolean haveSameParameters(EnhancedType<?> type, EnhancedType<?> otherType) {
+        List<EnhancedType<?>> parameters = parameters(type);
+        List<EnhancedType<?>> otherParameters = parameters(otherType);
+        if (parameters.size() != otherParameters.size()) {
+            return false;
+        }
+        for (int i = 0; i < parameters.size(); i++) {
+            if (!isSameType(parameters.get(i), otherParameters.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<EnhancedType<?>> parameters(EnhancedType<?> type) {
+        // Document types have no parameters
+        List<EnhancedType<?>> parameters = type.rawClassParameters();
+        return parameters == null ? Collections.emptyList() : parameters;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static final class ConvertedValue {
+        private final EnhancedType<?> type;
+        private final Object value;
+
+        private ConvertedValue(EnhancedType<?> type, Object value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+}
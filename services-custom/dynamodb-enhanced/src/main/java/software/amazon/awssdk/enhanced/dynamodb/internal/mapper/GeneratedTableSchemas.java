@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.DynamoDbEnhancedLogger.BEAN_LOGGER;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * Finds the table schemas generated at compile time by the {@code dynamodb-enhanced-processor} annotation processor. The
+ * generated schema of an annotated class is named after the class, with nested class names separated by underscores and a
+ * {@code _TableSchema} suffix, and is created by its static {@code create()} method.
+ */
+@SdkInternalApi
+public final class GeneratedTableSchemas {
+    private static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+    private static final String CREATE_METHOD = "create";
+
+    /**
+     * A generated schema refers to its annotated class, so it is cached with a {@link ClassValue}, which is stored with the
+     * class itself and so does not keep the class or its class loader reachable.
+     */
+    private static final ClassValue<Optional<TableSchema<?>>> GENERATED_TABLE_SCHEMA_CACHE =
+        new ClassValue<Optional<TableSchema<?>>>() {
+            @Override
+            protected Optional<TableSchema<?>> computeValue(Class<?> annotatedClass) {
+                return create(annotatedClass);
+            }
+        };
+
+    /**
+     * The classes whose generated schema is being created by the current thread. A generated schema refers to the schemas of
+     * the documents it contains by their class, so a class that contains itself falls back to the introspected schema, which
+     * resolves such cycles.
+     */
+    private static final ThreadLocal<Set<Class<?>>> IN_PROGRESS = ThreadLocal.withInitial(HashSet::new);
+
+    private GeneratedTableSchemas() {
+    }
+
+    /**
+     * Returns the table schema generated for an annotated class, or empty if no schema was generated for it.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<TableSchema<T>> find(Class<T> annotatedClass) {
+        Set<Class<?>> inProgress = IN_PROGRESS.get();
+        if (!inProgress.add(annotatedClass)) {
+            return Optional.empty();
+        }
+
+        try {
+            return GENERATED_TABLE_SCHEMA_CACHE.get(annotatedClass).map(tableSchema -> (TableSchema<T>) tableSchema);
+        } finally {
+            inProgress.remove(annotatedClass);
+        }
+    }
+
+    private static Optional<TableSchema<?>> create(Class<?> annotatedClass) {
+        ClassLoader classLoader = annotatedClass.getClassLoader();
+        if (classLoader == null) {
+            return Optional.empty();
+        }
+
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedClassName(annotatedClass), true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+
+        try {
+            TableSchema<?> tableSchema = (TableSchema<?>) generatedClass.getMethod(CREATE_METHOD).invoke(null);
+            BEAN_LOGGER.debug(() -> annotatedClass.getTypeName() + " - Using generated schema " + generatedClass.getName());
+            return Optional.of(tableSchema);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // The generated class is incompatible with the annotated class or this version of the enhanced client, for example
+            // because it is stale. The introspected schema reports any problem with the annotated class itself.
+            BEAN_LOGGER.debug(() -> annotatedClass.getTypeName() + " - Could not use generated schema "
+                                    + generatedClass.getName(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static String generatedClassName(Class<?> annotatedClass) {
+        StringBuilder simpleName = new StringBuilder(annotatedClass.getSimpleName());
+        for (Class<?> c = annotatedClass.getEnclosingClass(); c != null; c = c.getEnclosingClass()) {
+            simpleName.insert(0, '_').insert(0, c.getSimpleName());
+        }
+        Package classPackage = annotatedClass.getPackage();
+        String packageName = classPackage == null ? "" : classPackage.getName();
+        return (packageName.isEmpty() ? "" : packageName + ".") + simpleName + GENERATED_CLASS_SUFFIX;
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.LazyItem;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -49,6 +50,11 @@ public class MetaTableSchema<T> implements TableSchema<T> {
         return concreteTableSchema().mapToItem(attributeMap);
     }
 
+    @Override
+    public LazyItem<T> mapToLazyItem(Map<String, AttributeValue> attributeMap) {
+        return concreteTableSchema().mapToLazyItem(attributeMap);
+    }
+
     @Override
     public Map<String, AttributeValue> itemToMap(T item, boolean ignoreNulls) {
         return concreteTableSchema().itemToMap(item, ignoreNulls);
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import static java.util.Collections.unmodifiableMap;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isNullAttributeValue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.LazyItem;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link TableSchema} that maps the items of a table to {@link LazyItem} views, which convert each attribute only the first
+ * time it is read, using the converters of another table schema. This is an opt-in for read paths that only read a few
+ * attributes of wide items, where mapping every attribute of every item would be wasted work.
+ * <p>
+ * Writing a lazy item writes the attribute values it was retrieved with.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * DynamoDbTable<LazyItem<Customer>> table = enhancedClient.table("customers",
+ *                                                             LazyItemTableSchema.create(TableSchema.fromBean(Customer.class)));
+ * table.scan().items().forEach(customer -> System.out.println(customer.get("name", String.class)));
+ * }
+ * </pre>
+ *
+ * @param <T> The type of the items the lazy items are views of.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class LazyItemTableSchema<T> implements TableSchema<LazyItem<T>> {
+    private final TableSchema<T> itemTableSchema;
+
+    private LazyItemTableSchema(TableSchema<T> itemTableSchema) {
+        this.itemTableSchema = Validate.paramNotNull(itemTableSchema, "itemTableSchema");
+    }
+
+    /**
+     * Creates a table schema that maps items to lazy views using the given table schema.
+     *
+     * @param itemTableSchema the table schema that converts the attributes of the items, and maps whole items
+     * @param <T> the type of the items the lazy items are views of
+     * @return a table schema of lazy items
+     */
+    public static <T> LazyItemTableSchema<T> create(TableSchema<T> itemTableSchema) {
+        return new LazyItemTableSchema<>(itemTableSchema);
+    }
+
+    /**
+     * The table schema that converts the attributes of the items, and maps whole items.
+     */
+    public TableSchema<T> itemTableSchema() {
+        return itemTableSchema;
+    }
+
+    @Override
+    public LazyItem<T> mapToItem(Map<String, AttributeValue> attributeMap) {
+        return itemTableSchema.mapToLazyItem(attributeMap);
+    }
+
+    @Override
+    public Map<String, AttributeValue> itemToMap(LazyItem<T> item, boolean ignoreNulls) {
+        if (!ignoreNulls) {
+            return item.attributeValueMap();
+        }
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        item.attributeValueMap().forEach((name, value) -> {
+            if (!isNullAttributeValue(value)) {
+                attributeValueMap.put(name, value);
+            }
+        });
+        return unmodifiableMap(attributeValueMap);
+    }
+
+    @Override
+    public Map<String, AttributeValue> itemToMap(LazyItem<T> item, Collection<String> attributes) {
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        attributes.forEach(name -> {
+            AttributeValue value = item.attributeValueMap().get(name);
+            if (value != null) {
+                attributeValueMap.put(name, value);
+            }
+        });
+        return unmodifiableMap(attributeValueMap);
+    }
+
+    @Override
+    public AttributeValue attributeValue(LazyItem<T> item, String attributeName) {
+        AttributeValue value = item.attributeValueMap().get(attributeName);
+        return value == null || isNullAttributeValue(value) ? null : value;
+    }
+
+    @Override
+    public TableMetadata tableMetadata() {
+        return itemTableSchema.tableMetadata();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EnhancedType<LazyItem<T>> itemType() {
+        return (EnhancedType<LazyItem<T>>) (EnhancedType<?>) EnhancedType.of(LazyItem.class);
+    }
+
+    @Override
+    public List<String> attributeNames() {
+        return itemTableSchema.attributeNames();
+    }
+
+    @Override
+    public boolean isAbstract() {
+        return itemTableSchema.isAbstract();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public AttributeConverter<LazyItem<T>> converterForAttribute(Object key) {
+        // Like the converters of other table schemas, this is the converter of the attribute rather than of the item.
+        return (AttributeConverter<LazyItem<T>>) (AttributeConverter<?>) itemTableSchema.converterForAttribute(key);
+    }
+}
@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.LazyItem;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -62,6 +63,11 @@ public abstract class WrappedTableSchema<T, R extends TableSchema<T>> implements
         return this.delegateTableSchema.mapToItem(attributeMap, preserveEmptyObject);
     }
 
+    @Override
+    public LazyItem<T> mapToLazyItem(Map<String, AttributeValue> attributeMap) {
+        return this.delegateTableSchema.mapToLazyItem(attributeMap);
+    }
+
     @Override
     public Map<String, AttributeValue> itemToMap(T item, boolean ignoreNulls) {
         return this.delegateTableSchema.itemToMap(item, ignoreNulls);
@@ -0,0 +1,190 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.BulkWriter;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A snapshot of the work done by a {@link BulkWriter} for one table since the writer was created. Comparing two snapshots
+ * taken some time apart gives the throughput of the writer for the table.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteTableMetrics {
+    private final String tableName;
+    private final long itemsWritten;
+    private final long itemsFailed;
+    private final long unprocessedItemRetries;
+    private final long batchWriteRequests;
+    private final double consumedWriteCapacityUnits;
+
+    private BulkWriteTableMetrics(Builder builder) {
+        this.tableName = builder.tableName;
+        this.itemsWritten = builder.itemsWritten;
+        this.itemsFailed = builder.itemsFailed;
+        this.unprocessedItemRetries = builder.unprocessedItemRetries;
+        this.batchWriteRequests = builder.batchWriteRequests;
+        this.consumedWriteCapacityUnits = builder.consumedWriteCapacityUnits;
+    }
+
+    /**
+     * Creates a newly initialized builder for a metrics object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the name of the table these metrics belong to.
+     */
+    public String tableName() {
+        return tableName;
+    }
+
+    /**
+     * Returns the number of items that were put or deleted.
+     */
+    public long itemsWritten() {
+        return itemsWritten;
+    }
+
+    /**
+     * Returns the number of items whose write failed, either because their BatchWriteItem request failed or because they were
+     * still unprocessed after the maximum number of retries.
+     */
+    public long itemsFailed() {
+        return itemsFailed;
+    }
+
+    /**
+     * Returns the number of times an item that DynamoDB returned as unprocessed was sent again.
+     */
+    public long unprocessedItemRetries() {
+        return unprocessedItemRetries;
+    }
+
+    /**
+     * Returns the number of BatchWriteItem requests that contained items of this table.
+     */
+    public long batchWriteRequests() {
+        return batchWriteRequests;
+    }
+
+    /**
+     * Returns the write capacity units that DynamoDB reported as consumed by the writes to this table.
+     */
+    public double consumedWriteCapacityUnits() {
+        return consumedWriteCapacityUnits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteTableMetrics that = (BulkWriteTableMetrics) o;
+
+        if (itemsWritten != that.itemsWritten
+            || itemsFailed != that.itemsFailed
+            || unprocessedItemRetries != that.unprocessedItemRetries
+            || batchWriteRequests != that.batchWriteRequests
+            || Double.compare(that.consumedWriteCapacityUnits, consumedWriteCapacityUnits) != 0) {
+            return false;
+        }
+        return tableName != null ? tableName.equals(that.tableName) : that.tableName == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = tableName != null ? tableName.hashCode() : 0;
+        result = 31 * result + Long.hashCode(itemsWritten);
+        result = 31 * result + Long.hashCode(itemsFailed);
+        result = 31 * result + Long.hashCode(unprocessedItemRetries);
+        result = 31 * result + Long.hashCode(batchWriteRequests);
+        result = 31 * result + Double.hashCode(consumedWriteCapacityUnits);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BulkWriteTableMetrics")
+                       .add("tableName", tableName)
+                       .add("itemsWritten", itemsWritten)
+                       .add("itemsFailed", itemsFailed)
+                       .add("unprocessedItemRetries", unprocessedItemRetries)
+                       .add("batchWriteRequests", batchWriteRequests)
+                       .add("consumedWriteCapacityUnits", consumedWriteCapacityUnits)
+                       .build();
+    }
+
+    /**
+     * A builder that is used to create a metrics object with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private String tableName;
+        private long itemsWritten;
+        private long itemsFailed;
+        private long unprocessedItemRetries;
+        private long batchWriteRequests;
+        private double consumedWriteCapacityUnits;
+
+        private Builder() {
+        }
+
+        public Builder tableName(String tableName) {
+            this.tableName = tableName;
+            return this;
+        }
+
+        public Builder itemsWritten(long itemsWritten) {
+            this.itemsWritten = itemsWritten;
+            return this;
+        }
+
+        public Builder itemsFailed(long itemsFailed) {
+            this.itemsFailed = itemsFailed;
+            return this;
+        }
+
+        public Builder unprocessedItemRetries(long unprocessedItemRetries) {
+            this.unprocessedItemRetries = unprocessedItemRetries;
+            return this;
+        }
+
+        public Builder batchWriteRequests(long batchWriteRequests) {
+            this.batchWriteRequests = batchWriteRequests;
+            return this;
+        }
+
+        public Builder consumedWriteCapacityUnits(double consumedWriteCapacityUnits) {
+            this.consumedWriteCapacityUnits = consumedWriteCapacityUnits;
+            return this;
+        }
+
+        public BulkWriteTableMetrics build() {
+            return new BulkWriteTableMetrics(this);
+        }
+    }
+}
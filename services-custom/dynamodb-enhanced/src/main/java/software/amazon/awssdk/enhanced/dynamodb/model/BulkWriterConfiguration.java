@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.BulkWriter;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of a {@link BulkWriter}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriterConfiguration implements ToCopyableBuilder<BulkWriterConfiguration.Builder,
+    BulkWriterConfiguration> {
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 8;
+    private static final int DEFAULT_MAX_PENDING_ITEMS = 1000;
+    private static final int DEFAULT_MAX_UNPROCESSED_ITEM_RETRIES = 10;
+
+    private final Integer maxConcurrentBatches;
+    private final Integer maxPendingItems;
+    private final Integer maxUnprocessedItemRetries;
+    private final BackoffStrategy unprocessedItemBackoffStrategy;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private BulkWriterConfiguration(Builder builder) {
+        this.maxConcurrentBatches = Validate.isPositiveOrNull(builder.maxConcurrentBatches, "maxConcurrentBatches");
+        this.maxPendingItems = Validate.isPositiveOrNull(builder.maxPendingItems, "maxPendingItems");
+        this.maxUnprocessedItemRetries = builder.maxUnprocessedItemRetries;
+        if (maxUnprocessedItemRetries != null) {
+            Validate.isNotNegative(maxUnprocessedItemRetries, "maxUnprocessedItemRetries");
+        }
+        this.unprocessedItemBackoffStrategy = builder.unprocessedItemBackoffStrategy;
+        this.scheduledExecutorService = builder.scheduledExecutorService;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of BatchWriteItem requests that are sent concurrently.
+     */
+    public int maxConcurrentBatches() {
+        return maxConcurrentBatches != null ? maxConcurrentBatches : DEFAULT_MAX_CONCURRENT_BATCHES;
+    }
+
+    /**
+     * @return the maximum number of items of one stream that are buffered or being written at the same time.
+     */
+    public int maxPendingItems() {
+        return maxPendingItems != null ? maxPendingItems : DEFAULT_MAX_PENDING_ITEMS;
+    }
+
+    /**
+     * @return the maximum number of times an item that DynamoDB returned as unprocessed is sent again.
+     */
+    public int maxUnprocessedItemRetries() {
+        return maxUnprocessedItemRetries != null ? maxUnprocessedItemRetries : DEFAULT_MAX_UNPROCESSED_ITEM_RETRIES;
+    }
+
+    /**
+     * @return the strategy that computes the delay before unprocessed items are sent again.
+     */
+    public BackoffStrategy unprocessedItemBackoffStrategy() {
+        return unprocessedItemBackoffStrategy != null ? unprocessedItemBackoffStrategy
+                                                      : BackoffStrategy.defaultThrottlingStrategy();
+    }
+
+    /**
+     * @return the executor used to schedule the retries of unprocessed items, or null if the writer creates its own.
+     */
+    public ScheduledExecutorService scheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().maxConcurrentBatches(maxConcurrentBatches)
+                        .maxPendingItems(maxPendingItems)
+                        .maxUnprocessedItemRetries(maxUnprocessedItemRetries)
+                        .unprocessedItemBackoffStrategy(unprocessedItemBackoffStrategy)
+                        .scheduledExecutorService(scheduledExecutorService);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriterConfiguration that = (BulkWriterConfiguration) o;
+
+        return Objects.equals(maxConcurrentBatches, that.maxConcurrentBatches)
+               && Objects.equals(maxPendingItems, that.maxPendingItems)
+               && Objects.equals(maxUnprocessedItemRetries, that.maxUnprocessedItemRetries)
+               && Objects.equals(unprocessedItemBackoffStrategy, that.unprocessedItemBackoffStrategy)
+               && Objects.equals(scheduledExecutorService, that.scheduledExecutorService);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(maxConcurrentBatches);
+        result = 31 * result + Objects.hashCode(maxPendingItems);
+        result = 31 * result + Objects.hashCode(maxUnprocessedItemRetries);
+        result = 31 * result + Objects.hashCode(unprocessedItemBackoffStrategy);
+        result = 31 * result + Objects.hashCode(scheduledExecutorService);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BulkWriterConfiguration")
+                       .add("maxConcurrentBatches", maxConcurrentBatches)
+                       .add("maxPendingItems", maxPendingItems)
+                       .add("maxUnprocessedItemRetries", maxUnprocessedItemRetries)
+                       .add("unprocessedItemBackoffStrategy", unprocessedItemBackoffStrategy)
+                       .build();
+    }
+
+    @NotThreadSafe
+    public static final class Builder implements CopyableBuilder<Builder, BulkWriterConfiguration> {
+        private Integer maxConcurrentBatches;
+        private Integer maxPendingItems;
+        private Integer maxUnprocessedItemRetries;
+        private BackoffStrategy unprocessedItemBackoffStrategy;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of BatchWriteItem requests that are sent concurrently. Items are coalesced into batches while
+         * all concurrent requests are in flight, so a higher value lowers latency and a lower value produces fuller batches.
+         * By default, the value is 8.
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * The maximum number of items of one stream passed to the writer that are buffered or being written at the same time.
+         * No more items are requested from the stream until some of them have been written. By default, the value is 1000.
+         */
+        public Builder maxPendingItems(Integer maxPendingItems) {
+            this.maxPendingItems = maxPendingItems;
+            return this;
+        }
+
+        /**
+         * The maximum number of times an item that DynamoDB returned as unprocessed is sent again before its write fails.
+         * By default, the value is 10.
+         */
+        public Builder maxUnprocessedItemRetries(Integer maxUnprocessedItemRetries) {
+            this.maxUnprocessedItemRetries = maxUnprocessedItemRetries;
+            return this;
+        }
+
+        /**
+         * The strategy that computes the delay before unprocessed items are sent again. By default, this is
+         * {@link BackoffStrategy#defaultThrottlingStrategy()}.
+         */
+        public Builder unprocessedItemBackoffStrategy(BackoffStrategy unprocessedItemBackoffStrategy) {
+            this.unprocessedItemBackoffStrategy = unprocessedItemBackoffStrategy;
+            return this;
+        }
+
+        /**
+         * The executor used to schedule the retries of unprocessed items. It is not shut down when the writer is closed. By
+         * default, each writer creates a single thread executor that is shut down when the writer is closed.
+         */
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        @Override
+        public BulkWriterConfiguration build() {
+            return new BulkWriterConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used when retrieving any number of items from a DynamoDb table with
+ * {@link DynamoDbAsyncTable#getItems(GetItemsEnhancedRequest)}.
+ * <p>
+ * The keys are split into BatchGetItem requests of at most 100 keys, so there is no limit to the number of keys.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class GetItemsEnhancedRequest {
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+    private static final int DEFAULT_MAX_UNPROCESSED_KEY_RETRIES = 10;
+
+    private final List<Key> keys;
+    private final Boolean consistentRead;
+    private final ResultOrder resultOrder;
+    private final Integer maxConcurrentRequests;
+    private final Integer maxUnprocessedKeyRetries;
+    private final BackoffStrategy unprocessedKeyBackoffStrategy;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private GetItemsEnhancedRequest(Builder builder) {
+        this.keys = builder.keys != null ? Collections.unmodifiableList(new ArrayList<>(builder.keys)) : null;
+        this.consistentRead = builder.consistentRead;
+        this.resultOrder = builder.resultOrder;
+        this.maxConcurrentRequests = Validate.isPositiveOrNull(builder.maxConcurrentRequests, "maxConcurrentRequests");
+        this.maxUnprocessedKeyRetries = builder.maxUnprocessedKeyRetries;
+        if (maxUnprocessedKeyRetries != null) {
+            Validate.isNotNegative(maxUnprocessedKeyRetries, "maxUnprocessedKeyRetries");
+        }
+        this.unprocessedKeyBackoffStrategy = builder.unprocessedKeyBackoffStrategy;
+        this.scheduledExecutorService = builder.scheduledExecutorService;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().keys(keys)
+                        .consistentRead(consistentRead)
+                        .resultOrder(resultOrder)
+                        .maxConcurrentRequests(maxConcurrentRequests)
+                        .maxUnprocessedKeyRetries(maxUnprocessedKeyRetries)
+                        .unprocessedKeyBackoffStrategy(unprocessedKeyBackoffStrategy)
+                        .scheduledExecutorService(scheduledExecutorService);
+    }
+
+    /**
+     * Returns the keys of the items to retrieve, or an empty list if no keys were set.
+     */
+    public List<Key> keys() {
+        return keys != null ? keys : Collections.emptyList();
+    }
+
+    /**
+     * @return whether or not the BatchGetItem requests use consistent read
+     */
+    public Boolean consistentRead() {
+        return consistentRead;
+    }
+
+    /**
+     * Returns the order in which the items are published.
+     */
+    public ResultOrder resultOrder() {
+        return resultOrder != null ? resultOrder : ResultOrder.COMPLETION;
+    }
+
+    /**
+     * Returns the maximum number of BatchGetItem requests that are in flight at the same time.
+     */
+    public int maxConcurrentRequests() {
+        return maxConcurrentRequests != null ? maxConcurrentRequests : DEFAULT_MAX_CONCURRENT_REQUESTS;
+    }
+
+    /**
+     * Returns the maximum number of times a key that DynamoDB returned as unprocessed is requested again.
+     */
+    public int maxUnprocessedKeyRetries() {
+        return maxUnprocessedKeyRetries != null ? maxUnprocessedKeyRetries : DEFAULT_MAX_UNPROCESSED_KEY_RETRIES;
+    }
+
+    /**
+     * Returns the strategy that computes the delay before unprocessed keys are requested again.
+     */
+    public BackoffStrategy unprocessedKeyBackoffStrategy() {
+        return unprocessedKeyBackoffStrategy != null ? unprocessedKeyBackoffStrategy
+                                                     : BackoffStrategy.defaultThrottlingStrategy();
+    }
+
+    /**
+     * Returns the executor used to schedule the requests of unprocessed keys, or null if none was set.
+     */
+    public ScheduledExecutorService scheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        GetItemsEnhancedRequest that = (GetItemsEnhancedRequest) o;
+
+        return Objects.equals(keys, that.keys)
+               && Objects.equals(consistentRead, that.consistentRead)
+               && resultOrder == that.resultOrder
+               && Objects.equals(maxConcurrentRequests, that.maxConcurrentRequests)
+               && Objects.equals(maxUnprocessedKeyRetries, that.maxUnprocessedKeyRetries)
+               && Objects.equals(unprocessedKeyBackoffStrategy, that.unprocessedKeyBackoffStrategy)
+               && Objects.equals(scheduledExecutorService, that.scheduledExecutorService);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(keys);
+        result = 31 * result + Objects.hashCode(consistentRead);
+        result = 31 * result + Objects.hashCode(resultOrder);
+        result = 31 * result + Objects.hashCode(maxConcurrentRequests);
+        result = 31 * result + Objects.hashCode(maxUnprocessedKeyRetries);
+        result = 31 * result + Objects.hashCode(unprocessedKeyBackoffStrategy);
+        result = 31 * result + Objects.hashCode(scheduledExecutorService);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("GetItemsEnhancedRequest")
+                       .add("keys", keys != null ? keys.size() : null)
+                       .add("consistentRead", consistentRead)
+                       .add("resultOrder", resultOrder)
+                       .add("maxConcurrentRequests", maxConcurrentRequests)
+                       .add("maxUnprocessedKeyRetries", maxUnprocessedKeyRetries)
+                       .add("unprocessedKeyBackoffStrategy", unprocessedKeyBackoffStrategy)
+                       .build();
+    }
+
+    /**
+     * The order in which the retrieved items are published.
+     */
+    public enum ResultOrder {
+        /**
+         * Items are published as soon as they are received, so an item can be published before the item of a key that was
+         * passed earlier.
+         */
+        COMPLETION,
+
+        /**
+         * Items are published in the order of their keys. An item is held back until the items of all keys passed before
+         * it have been received, or found not to exist.
+         */
+        REQUEST
+    }
+
+    @NotThreadSafe
+    public static final class Builder {
+        private List<Key> keys;
+        private Boolean consistentRead;
+        private ResultOrder resultOrder;
+        private Integer maxConcurrentRequests;
+        private Integer maxUnprocessedKeyRetries;
+        private BackoffStrategy unprocessedKeyBackoffStrategy;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the keys of the items to retrieve, replacing any keys that were already added. A key that appears more than
+         * once is only requested once, and its item is only published once.
+         *
+         * @param keys the keys of the items to retrieve
+         * @return a builder of this type
+         */
+        public Builder keys(Collection<Key> keys) {
+            this.keys = keys != null ? new ArrayList<>(keys) : null;
+            return this;
+        }
+
+        /**
+         * Adds the key of an item to retrieve.
+         *
+         * @see #keys(Collection)
+         * @param key the key of an item to retrieve
+         * @return a builder of this type
+         */
+        public Builder addKey(Key key) {
+            if (keys == null) {
+                keys = new ArrayList<>();
+            }
+            keys.add(Validate.paramNotNull(key, "key"));
+            return this;
+        }
+
+        /**
+         * Adds the key of an item to retrieve.
+         *
+         * @see #keys(Collection)
+         * @param key a consumer of the builder of the key of an item to retrieve
+         * @return a builder of this type
+         */
+        public Builder addKey(Consumer<Key.Builder> key) {
+            Key.Builder builder = Key.builder();
+            key.accept(builder);
+            return addKey(builder.build());
+        }
+
+        /**
+         * Determines the read consistency model: If set to true, the operation uses strongly consistent reads; otherwise,
+         * the operation uses eventually consistent reads.
+         * <p>
+         * By default, the value of this property is set to <em>false</em>.
+         *
+         * @param consistentRead sets consistency model of the operation to use strong consistency
+         * @return a builder of this type
+         */
+        public Builder consistentRead(Boolean consistentRead) {
+            this.consistentRead = consistentRead;
+            return this;
+        }
+
+        /**
+         * The order in which the retrieved items are published. By default, this is {@link ResultOrder#COMPLETION}, which
+         * publishes each item as soon as it is received.
+         *
+         * @param resultOrder the order in which the retrieved items are published
+         * @return a builder of this type
+         */
+        public Builder resultOrder(ResultOrder resultOrder) {
+            this.resultOrder = resultOrder;
+            return this;
+        }
+
+        /**
+         * The maximum number of BatchGetItem requests that are in flight at the same time. At most 100 keys are requested
+         * by each of them, and no more than {@code 100 * maxConcurrentRequests} keys are requested or buffered ahead of the
+         * subscriber. By default, the value is 4.
+         *
+         * @param maxConcurrentRequests the maximum number of BatchGetItem requests in flight at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentRequests(Integer maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * The maximum number of times a key that DynamoDB returned as unprocessed is requested again before the publisher
+         * fails. By default, the value is 10.
+         *
+         * @param maxUnprocessedKeyRetries the maximum number of times an unprocessed key is requested again
+         * @return a builder of this type
+         */
+        public Builder maxUnprocessedKeyRetries(Integer maxUnprocessedKeyRetries) {
+            this.maxUnprocessedKeyRetries = maxUnprocessedKeyRetries;
+            return this;
+        }
+
+        /**
+         * The strategy that computes the delay before unprocessed keys are requested again. By default, this is
+         * {@link BackoffStrategy#defaultThrottlingStrategy()}, which adds jitter to an exponential delay.
+         *
+         * @param unprocessedKeyBackoffStrategy the strategy that computes the delay before unprocessed keys are requested again
+         * @return a builder of this type
+         */
+        public Builder unprocessedKeyBackoffStrategy(BackoffStrategy unprocessedKeyBackoffStrategy) {
+            this.unprocessedKeyBackoffStrategy = unprocessedKeyBackoffStrategy;
+            return this;
+        }
+
+        /**
+         * The executor used to schedule the requests of unprocessed keys. It is not shut down by the publisher. By default,
+         * a single thread executor is created the first time unprocessed keys are returned, and shut down when the
+         * publisher terminates.
+         *
+         * @param scheduledExecutorService the executor used to schedule the requests of unprocessed keys
+         * @return a builder of this type
+         */
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public GetItemsEnhancedRequest build() {
+            return new GetItemsEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used when scanning all segments of a DynamoDb table concurrently using
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}.
+ * <p>
+ * Only {@link Builder#totalSegments(Integer) totalSegments} is required.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+    private static final int DEFAULT_PREFETCH_PAGES_PER_SEGMENT = 1;
+    private static final int DEFAULT_MAX_SEGMENT_RETRIES = 3;
+
+    private final ScanEnhancedRequest scanRequest;
+    private final Integer totalSegments;
+    private final Integer maxConcurrentSegments;
+    private final Integer prefetchPagesPerSegment;
+    private final Integer maxSegmentRetries;
+    private final BackoffStrategy segmentRetryBackoffStrategy;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null,
+                        "The segments of a parallel scan are set with totalSegments, not on the scan request.");
+        Validate.isTrue(scanRequest.exclusiveStartKey() == null,
+                        "A parallel scan always starts at the beginning of each segment; exclusiveStartKey must not be set.");
+        this.totalSegments = Validate.isPositive(Validate.paramNotNull(builder.totalSegments, "totalSegments"),
+                                                 "totalSegments");
+        this.maxConcurrentSegments = Validate.isPositiveOrNull(builder.maxConcurrentSegments, "maxConcurrentSegments");
+        this.prefetchPagesPerSegment = Validate.isPositiveOrNull(builder.prefetchPagesPerSegment, "prefetchPagesPerSegment");
+        this.maxSegmentRetries = builder.maxSegmentRetries;
+        if (maxSegmentRetries != null) {
+            Validate.isNotNegative(maxSegmentRetries, "maxSegmentRetries");
+        }
+        this.segmentRetryBackoffStrategy = builder.segmentRetryBackoffStrategy;
+        this.scheduledExecutorService = builder.scheduledExecutorService;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .maxConcurrentSegments(maxConcurrentSegments)
+                        .prefetchPagesPerSegment(prefetchPagesPerSegment)
+                        .maxSegmentRetries(maxSegmentRetries)
+                        .segmentRetryBackoffStrategy(segmentRetryBackoffStrategy)
+                        .scheduledExecutorService(scheduledExecutorService);
+    }
+
+    /**
+     * Returns the scan parameters that are applied to every segment.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the number of segments the table is divided into.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments that are scanned at the same time.
+     */
+    public int maxConcurrentSegments() {
+        return maxConcurrentSegments != null ? Math.min(maxConcurrentSegments, totalSegments) : totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of pages of each segment that are retrieved ahead of the subscriber's demand.
+     */
+    public int prefetchPagesPerSegment() {
+        return prefetchPagesPerSegment != null ? prefetchPagesPerSegment : DEFAULT_PREFETCH_PAGES_PER_SEGMENT;
+    }
+
+    /**
+     * Returns the maximum number of times the scan of a segment is resumed after consecutive failures.
+     */
+    public int maxSegmentRetries() {
+        return maxSegmentRetries != null ? maxSegmentRetries : DEFAULT_MAX_SEGMENT_RETRIES;
+    }
+
+    /**
+     * Returns the strategy that computes the delay before the scan of a segment is resumed after a failure.
+     */
+    public BackoffStrategy segmentRetryBackoffStrategy() {
+        return segmentRetryBackoffStrategy != null ? segmentRetryBackoffStrategy : BackoffStrategy.defaultStrategy();
+    }
+
+    /**
+     * Returns the executor used to schedule the resumed scans of failed segments, or null if none was set.
+     */
+    public ScheduledExecutorService scheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        return Objects.equals(scanRequest, that.scanRequest)
+               && Objects.equals(totalSegments, that.totalSegments)
+               && Objects.equals(maxConcurrentSegments, that.maxConcurrentSegments)
+               && Objects.equals(prefetchPagesPerSegment, that.prefetchPagesPerSegment)
+               && Objects.equals(maxSegmentRetries, that.maxSegmentRetries)
+               && Objects.equals(segmentRetryBackoffStrategy, that.segmentRetryBackoffStrategy)
+               && Objects.equals(scheduledExecutorService, that.scheduledExecutorService);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(scanRequest);
+        result = 31 * result + Objects.hashCode(totalSegments);
+        result = 31 * result + Objects.hashCode(maxConcurrentSegments);
+        result = 31 * result + Objects.hashCode(prefetchPagesPerSegment);
+        result = 31 * result + Objects.hashCode(maxSegmentRetries);
+        result = 31 * result + Objects.hashCode(segmentRetryBackoffStrategy);
+        result = 31 * result + Objects.hashCode(scheduledExecutorService);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ParallelScanEnhancedRequest")
+                       .add("totalSegments", totalSegments)
+                       .add("maxConcurrentSegments", maxConcurrentSegments)
+                       .add("prefetchPagesPerSegment", prefetchPagesPerSegment)
+                       .add("maxSegmentRetries", maxSegmentRetries)
+                       .add("segmentRetryBackoffStrategy", segmentRetryBackoffStrategy)
+                       .build();
+    }
+
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrentSegments;
+        private Integer prefetchPagesPerSegment;
+        private Integer maxSegmentRetries;
+        private BackoffStrategy segmentRetryBackoffStrategy;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        private Builder() {
+        }
+
+        /**
+         * The scan parameters, such as the filter expression, projection or page limit, that are applied to every segment.
+         * The segment, total segments and exclusive start key must not be set on this request.
+         *
+         * @param scanRequest the parameters of the scan of each segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * The scan parameters that are applied to every segment.
+         *
+         * @see #scanRequest(ScanEnhancedRequest)
+         * @param scanRequest a consumer of the builder of the parameters of the scan of each segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequest) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequest.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * The number of segments the table is divided into. Each segment is scanned by a separate sequence of scan calls.
+         * This value is required.
+         *
+         * @param totalSegments the total number of segments to divide the table
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments that are scanned at the same time. Once a segment has been scanned completely,
+         * the scan of the next segment starts. By default, all segments are scanned at the same time.
+         *
+         * @param maxConcurrentSegments the maximum number of segments scanned at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentSegments(Integer maxConcurrentSegments) {
+            this.maxConcurrentSegments = maxConcurrentSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of pages of each segment that are retrieved before the subscriber requests them. At most
+         * {@code maxConcurrentSegments * prefetchPagesPerSegment} pages are retrieved or buffered at any time. By default,
+         * the value is 1.
+         *
+         * @param prefetchPagesPerSegment the maximum number of pages of each segment retrieved ahead of demand
+         * @return a builder of this type
+         */
+        public Builder prefetchPagesPerSegment(Integer prefetchPagesPerSegment) {
+            this.prefetchPagesPerSegment = prefetchPagesPerSegment;
+            return this;
+        }
+
+        /**
+         * The maximum number of times the scan of a segment is resumed after a retryable failure, starting from the last
+         * evaluated key of the last page received for that segment. Only failures that the SDK's default retry condition
+         * considers retryable, such as throttling, 5xx responses and I/O errors, resume the scan; any other failure fails the
+         * parallel scan. The count is reset every time a page is received. Each scan call is also retried by the retry
+         * policy of the client. By default, the value is 3.
+         *
+         * @param maxSegmentRetries the maximum number of consecutive times the scan of a segment is resumed
+         * @return a builder of this type
+         */
+        public Builder maxSegmentRetries(Integer maxSegmentRetries) {
+            this.maxSegmentRetries = maxSegmentRetries;
+            return this;
+        }
+
+        /**
+         * The strategy that computes the delay before the scan of a segment is resumed after a failure. By default, this is
+         * {@link BackoffStrategy#defaultStrategy()}, which adds jitter to an exponential delay.
+         *
+         * @param segmentRetryBackoffStrategy the strategy that computes the delay before the scan of a segment is resumed
+         * @return a builder of this type
+         */
+        public Builder segmentRetryBackoffStrategy(BackoffStrategy segmentRetryBackoffStrategy) {
+            this.segmentRetryBackoffStrategy = segmentRetryBackoffStrategy;
+            return this;
+        }
+
+        /**
+         * The executor used to schedule the resumed scans of failed segments. It is not shut down by the publisher. By
+         * default, a single thread executor is created the first time the scan of a segment is resumed, and shut down when
+         * the publisher terminates.
+         *
+         * @param scheduledExecutorService the executor used to schedule the resumed scans of failed segments
+         * @return a builder of this type
+         */
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.BulkWriter;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteTableMetrics;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriterConfiguration;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultBulkWriterTest {
+    private static final String TABLE_NAME = "table-name";
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private final List<BatchWriteItemRequest> requests = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<BatchWriteItemResponse>> responses = new CopyOnWriteArrayList<>();
+
+    private DynamoDbAsyncTable<FakeItem> table;
+    private BulkWriter bulkWriter;
+
+    @Before
+    public void setup() {
+        lenient().when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            requests.add(invocation.getArgument(0));
+            responses.add(response);
+            return response;
+        });
+
+        DynamoDbEnhancedAsyncClient enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                .dynamoDbClient(mockDynamoDbAsyncClient)
+                                                                                .extensions()
+                                                                                .build();
+        table = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+        bulkWriter = enhancedClient.bulkWriter(c -> c.maxConcurrentBatches(1)
+                                                    .maxPendingItems(10)
+                                                    .maxUnprocessedItemRetries(2)
+                                                    .unprocessedItemBackoffStrategy(
+                                                        FixedDelayBackoffStrategy.create(Duration.ofMillis(1))));
+    }
+
+    @After
+    public void cleanup() {
+        responses.forEach(r -> r.complete(BatchWriteItemResponse.builder().build()));
+        bulkWriter.close();
+    }
+
+    @Test
+    public void putItem_coalescesItemsIntoBatchesWhileRequestIsInFlight() {
+        List<CompletableFuture<Void>> writes = IntStream.range(0, 60)
+                                                        .mapToObj(i -> bulkWriter.putItem(table, item("id-" + i)))
+                                                        .collect(Collectors.toList());
+
+        assertThat(requests).hasSize(1);
+        completeRequest(0);
+        completeRequest(1);
+        completeRequest(2);
+        completeRequest(3);
+
+        assertThat(requests.stream().map(DefaultBulkWriterTest::itemCount)).containsExactly(1, 25, 25, 9);
+        assertThat(writes).allMatch(f -> f.isDone() && !f.isCompletedExceptionally());
+        assertThat(bulkWriter.metrics().get(TABLE_NAME).itemsWritten()).isEqualTo(60);
+        assertThat(bulkWriter.metrics().get(TABLE_NAME).batchWriteRequests()).isEqualTo(4);
+    }
+
+    @Test
+    public void writesToSameItem_areSentInOrderInSeparateBatches() {
+        bulkWriter.putItem(table, item("other"));
+        CompletableFuture<Void> put = bulkWriter.putItem(table, item("same"));
+        CompletableFuture<Void> delete = bulkWriter.deleteItem(table, Key.builder().partitionValue("same").build());
+        bulkWriter.putItem(table, item("another"));
+
+        completeRequest(0);
+        assertThat(itemCount(requests.get(1))).isEqualTo(2);
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME).get(0).putRequest()).isNotNull();
+
+        completeRequest(1);
+        assertThat(put).isCompleted();
+        assertThat(requests.get(2).requestItems().get(TABLE_NAME).get(0).deleteRequest().key())
+            .containsEntry("id", stringValue("same"));
+        completeRequest(2);
+        assertThat(delete).isCompleted();
+    }
+
+    @Test
+    public void unprocessedItems_areSentAgain() {
+        CompletableFuture<Void> first = bulkWriter.putItem(table, item("first"));
+        WriteRequest firstRequest = requests.get(0).requestItems().get(TABLE_NAME).get(0);
+
+        responses.get(0).complete(BatchWriteItemResponse.builder()
+                                                        .unprocessedItems(Collections.singletonMap(
+                                                            TABLE_NAME, Collections.singletonList(firstRequest)))
+                                                        .consumedCapacity(ConsumedCapacity.builder()
+                                                                                          .tableName(TABLE_NAME)
+                                                                                          .capacityUnits(0.0)
+                                                                                          .build())
+                                                        .build());
+        awaitRequests(2);
+        assertThat(first).isNotDone();
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME)).containsExactly(firstRequest);
+
+        responses.get(1).complete(BatchWriteItemResponse.builder()
+                                                        .consumedCapacity(ConsumedCapacity.builder()
+                                                                                          .tableName(TABLE_NAME)
+                                                                                          .capacityUnits(1.0)
+                                                                                          .build())
+                                                        .build());
+        first.join();
+
+        BulkWriteTableMetrics metrics = bulkWriter.metrics().get(TABLE_NAME);
+        assertThat(metrics.itemsWritten()).isEqualTo(1);
+        assertThat(metrics.unprocessedItemRetries()).isEqualTo(1);
+        assertThat(metrics.consumedWriteCapacityUnits()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void unprocessedItems_failAfterMaxRetries() {
+        CompletableFuture<Void> write = bulkWriter.putItem(table, item("first"));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            awaitRequests(attempt + 1);
+            BatchWriteItemRequest request = requests.get(attempt);
+            responses.get(attempt).complete(BatchWriteItemResponse.builder()
+                                                                  .unprocessedItems(request.requestItems())
+                                                                  .build());
+        }
+
+        assertThatThrownBy(write::join).hasCauseInstanceOf(SdkClientException.class);
+        assertThat(requests).hasSize(3);
+        assertThat(bulkWriter.metrics().get(TABLE_NAME).itemsFailed()).isEqualTo(1);
+    }
+
+    @Test
+    public void failedRequest_failsItsItems() {
+        CompletableFuture<Void> write = bulkWriter.putItem(table, item("first"));
+        SdkClientException exception = SdkClientException.create("failed");
+
+        responses.get(0).completeExceptionally(new CompletionException(exception));
+
+        assertThatThrownBy(write::join).hasCause(exception);
+        assertThat(bulkWriter.metrics().get(TABLE_NAME).itemsFailed()).isEqualTo(1);
+    }
+
+    @Test
+    public void putItems_requestsNoMoreThanMaxPendingItems() {
+        AtomicLong requested = new AtomicLong();
+        List<FakeItem> items = IntStream.range(0, 100).mapToObj(i -> item("id-" + i)).collect(Collectors.toList());
+        Publisher<FakeItem> publisher = subscriber -> subscriber.onSubscribe(new Subscription() {
+            private int next;
+            private boolean completed;
+
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+                for (long i = 0; i < n && next < items.size(); i++) {
+                    subscriber.onNext(items.get(next++));
+                }
+                if (next == items.size() && !completed) {
+                    completed = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        CompletableFuture<Void> result = bulkWriter.putItems(table, publisher);
+
+        assertThat(requested.get()).isEqualTo(10);
+        for (int i = 0; !result.isDone(); i++) {
+            completeRequest(i);
+            assertThat(requested.get()).isLessThanOrEqualTo(itemsWritten() + 10);
+        }
+        result.join();
+        assertThat(itemsWritten()).isEqualTo(100);
+    }
+
+    @Test
+    public void closedWriter_rejectsNewWrites() {
+        bulkWriter.close();
+        assertThatThrownBy(() -> bulkWriter.putItem(table, item("first")).join())
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private long itemsWritten() {
+        Map<String, BulkWriteTableMetrics> metrics = bulkWriter.metrics();
+        return metrics.containsKey(TABLE_NAME) ? metrics.get(TABLE_NAME).itemsWritten() : 0;
+    }
+
+    private void completeRequest(int index) {
+        awaitRequests(index + 1);
+        responses.get(index).complete(BatchWriteItemResponse.builder().build());
+    }
+
+    private void awaitRequests(int count) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (requests.size() < count) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.yield();
+        }
+    }
+
+    private static int itemCount(BatchWriteItemRequest request) {
+        return request.requestItems().values().stream().mapToInt(List::size).sum();
+    }
+
+    private static FakeItem item(String id) {
+        return FakeItem.builder().id(id).build();
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemsEnhancedRequest.ResultOrder;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GetItemsPublisherTest {
+    private static final String TABLE_NAME = "table-name";
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private final List<BatchGetItemRequest> requests = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<BatchGetItemResponse>> responses = new CopyOnWriteArrayList<>();
+
+    private DynamoDbAsyncTable<FakeItem> table;
+
+    @Before
+    public void setup() {
+        lenient().when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            CompletableFuture<BatchGetItemResponse> response = new CompletableFuture<>();
+            requests.add(invocation.getArgument(0));
+            responses.add(response);
+            return response;
+        });
+
+        DynamoDbEnhancedAsyncClient enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                .dynamoDbClient(mockDynamoDbAsyncClient)
+                                                                                .extensions()
+                                                                                .build();
+        table = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+    }
+
+    @Test
+    public void splitsKeysIntoConcurrentRequestsOfAtMost100Keys() {
+        TestSubscriber subscriber = getItems(r -> r.keys(keys(0, 250)));
+
+        assertThat(requests.stream().map(GetItemsPublisherTest::requestedIds).map(List::size)).containsExactly(100, 100, 50);
+        for (int i = 0; i < 3; i++) {
+            respondWithAllItems(i);
+        }
+
+        assertThat(subscriber.ids()).hasSize(250).doesNotHaveDuplicates();
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void limitsNumberOfRequestsInFlight() {
+        TestSubscriber subscriber = getItems(r -> r.keys(keys(0, 250)).maxConcurrentRequests(2));
+
+        assertThat(requests).hasSize(2);
+        respondWithAllItems(1);
+        assertThat(requests).hasSize(3);
+        respondWithAllItems(0);
+        respondWithAllItems(2);
+
+        assertThat(subscriber.ids()).hasSize(250);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void requestsEachKeyOnce() {
+        TestSubscriber subscriber = getItems(r -> r.keys(Arrays.asList(key("a"), key("b"), key("a"), key("c"), key("b"))));
+
+        assertThat(requestedIds(requests.get(0))).containsExactly("a", "b", "c");
+        respondWithAllItems(0);
+
+        assertThat(subscriber.ids()).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void appliesConsistentRead() {
+        getItems(r -> r.keys(keys(0, 1)).consistentRead(true));
+
+        assertThat(requests.get(0).requestItems().get(TABLE_NAME).consistentRead()).isTrue();
+    }
+
+    @Test
+    public void keysWithoutItem_publishNothing() {
+        TestSubscriber subscriber = getItems(r -> r.keys(Arrays.asList(key("a"), key("missing"), key("b"))));
+
+        respond(0, Arrays.asList("a", "b"), Collections.emptyList());
+
+        assertThat(subscriber.ids()).containsExactlyInAnyOrder("a", "b");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void unprocessedKeys_areRequestedAgainFirst() {
+        TestSubscriber subscriber = getItems(r -> r.keys(keys(0, 150))
+                                                   .maxConcurrentRequests(1)
+                                                   .unprocessedKeyBackoffStrategy(
+                                                       FixedDelayBackoffStrategy.create(Duration.ofMillis(1))));
+
+        List<String> firstIds = requestedIds(requests.get(0));
+        respond(0, firstIds.subList(0, 90), firstIds.subList(90, 100));
+        awaitRequests(2);
+
+        assertThat(requestedIds(requests.get(1))).hasSize(60).startsWith(firstIds.subList(90, 100).toArray(new String[0]));
+        respondWithAllItems(1);
+        awaitTermination(subscriber);
+
+        assertThat(subscriber.ids()).hasSize(150).doesNotHaveDuplicates();
+        assertThat(subscriber.completed).isTrue();
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    public void unprocessedKeys_failAfterMaxRetries() {
+        TestSubscriber subscriber = getItems(r -> r.keys(keys(0, 1))
+                                                   .maxUnprocessedKeyRetries(1)
+                                                   .unprocessedKeyBackoffStrategy(
+                                                       FixedDelayBackoffStrategy.create(Duration.ofMillis(1))));
+
+        respond(0, Collections.emptyList(), Collections.singletonList("key-0"));
+        awaitRequests(2);
+        respond(1, Collections.emptyList(), Collections.singletonList("key-0"));
+        awaitTermination(subscriber);
+
+        assertThat(subscriber.error).isInstanceOf(SdkClientException.class).hasMessageContaining("after 2 attempts");
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void failedRequest_failsPublisher() {
+        TestSubscriber subscriber = getItems(r -> r.keys(keys(0, 150)));
+        RuntimeException exception = new RuntimeException("boom");
+
+        responses.get(1).completeExceptionally(exception);
+        respondWithAllItems(0);
+
+        assertThat(subscriber.error).isSameAs(exception);
+        assertThat(subscriber.ids()).isEmpty();
+    }
+
+    @Test
+    public void completionOrder_publishesItemsAsTheyAreReceived() {
+        TestSubscriber subscriber = getItems(r -> r.keys(keys(0, 150)));
+
+        respondWithAllItems(1);
+        assertThat(subscriber.ids()).hasSize(50);
+        respondWithAllItems(0);
+
+        assertThat(subscriber.ids()).hasSize(150);
+    }
+
+    @Test
+    public void requestOrder_publishesItemsInOrderOfKeys() {
+        TestSubscriber subscriber = getItems(r -> r.keys(keys(0, 150)).resultOrder(ResultOrder.REQUEST));
+
+        respondWithAllItems(1);
+        assertThat(subscriber.ids()).isEmpty();
+        respondWithAllItems(0);
+
+        assertThat(subscriber.ids()).containsExactlyElementsOf(ids(0, 150));
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void requestOrder_skipsKeysWithoutItem() {
+        TestSubscriber subscriber = getItems(r -> r.keys(Arrays.asList(key("c"), key("missing"), key("a")))
+                                                   .resultOrder(ResultOrder.REQUEST));
+
+        respond(0, Arrays.asList("a", "c"), Collections.emptyList());
+
+        assertThat(subscriber.ids()).containsExactly("c", "a");
+    }
+
+    @Test
+    public void respectsDemand() {
+        TestSubscriber subscriber = new TestSubscriber();
+        table.getItems(r -> r.keys(keys(0, 150))).subscribe(subscriber);
+
+        assertThat(requests).isEmpty();
+        subscriber.subscription.request(10);
+        respondWithAllItems(0);
+        respondWithAllItems(1);
+
+        assertThat(subscriber.ids()).hasSize(10);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.ids()).hasSize(150);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void streamOfKeys_isReadAsRequestsAreSent() {
+        AtomicInteger keysRead = new AtomicInteger();
+        Stream<Key> keys = IntStream.range(0, 1000).peek(i -> keysRead.incrementAndGet()).mapToObj(i -> key("key-" + i));
+        TestSubscriber subscriber = new TestSubscriber();
+        table.getItems(keys, r -> r.maxConcurrentRequests(1)).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(keysRead).hasValue(100);
+        for (int i = 0; i < 10; i++) {
+            respondWithAllItems(i);
+        }
+
+        assertThat(subscriber.ids()).hasSize(1000);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void streamOfKeys_withKeysOnRequest_throwsException() {
+        assertThatThrownBy(() -> table.getItems(Stream.of(key("a")), r -> r.addKey(key("b"))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void noKeys_completesWithoutRequest() {
+        TestSubscriber subscriber = getItems(r -> r.keys(Collections.emptyList()));
+
+        assertThat(subscriber.completed).isTrue();
+        assertThat(requests).isEmpty();
+    }
+
+    private TestSubscriber getItems(Consumer<GetItemsEnhancedRequest.Builder> request) {
+        SdkPublisher<FakeItem> publisher = table.getItems(request);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        return subscriber;
+    }
+
+    private void respondWithAllItems(int index) {
+        awaitRequests(index + 1);
+        respond(index, requestedIds(requests.get(index)), Collections.emptyList());
+    }
+
+    private void respond(int index, List<String> itemIds, List<String> unprocessedIds) {
+        BatchGetItemResponse.Builder response = BatchGetItemResponse.builder()
+                                                                    .responses(Collections.singletonMap(
+                                                                        TABLE_NAME,
+                                                                        itemIds.stream()
+                                                                               .map(GetItemsPublisherTest::keyMap)
+                                                                               .collect(Collectors.toList())));
+        if (!unprocessedIds.isEmpty()) {
+            List<Map<String, AttributeValue>> unprocessedKeys = unprocessedIds.stream()
+                                                                              .map(GetItemsPublisherTest::keyMap)
+                                                                              .collect(Collectors.toList());
+            response.unprocessedKeys(Collections.singletonMap(TABLE_NAME,
+                                                              KeysAndAttributes.builder().keys(unprocessedKeys).build()));
+        }
+        responses.get(index).complete(response.build());
+    }
+
+    private void awaitRequests(int count) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (requests.size() < count) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.yield();
+        }
+    }
+
+    private static void awaitTermination(TestSubscriber subscriber) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!subscriber.completed && subscriber.error == null) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.yield();
+        }
+    }
+
+    private static List<String> requestedIds(BatchGetItemRequest request) {
+        return request.requestItems()
+                      .get(TABLE_NAME)
+                      .keys()
+                      .stream()
+                      .map(k -> k.get("id").s())
+                      .collect(Collectors.toList());
+    }
+
+    private static List<String> ids(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "key-" + i).collect(Collectors.toList());
+    }
+
+    private static List<Key> keys(int from, int to) {
+        return ids(from, to).stream().map(GetItemsPublisherTest::key).collect(Collectors.toList());
+    }
+
+    private static Key key(String id) {
+        return Key.builder().partitionValue(id).build();
+    }
+
+    private static Map<String, AttributeValue> keyMap(String id) {
+        return Collections.singletonMap("id", stringValue(id));
+    }
+
+    private static final class TestSubscriber implements Subscriber<FakeItem> {
+        private final List<FakeItem> items = new CopyOnWriteArrayList<>();
+        private volatile Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(FakeItem item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+
+        private List<String> ids() {
+            return items.stream().map(FakeItem::getId).collect(Collectors.toList());
+        }
+    }
+}
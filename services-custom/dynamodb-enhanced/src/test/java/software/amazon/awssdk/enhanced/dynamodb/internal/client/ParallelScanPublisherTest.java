@@ -0,0 +1,412 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class ParallelScanPublisherTest {
+    private final List<ScanEnhancedRequest> segmentRequests = new CopyOnWriteArrayList<>();
+    private final Map<Integer, AtomicInteger> remainingFailures = new ConcurrentHashMap<>();
+    private final Map<Integer, FakeSegmentSubscription> segmentSubscriptions = new ConcurrentHashMap<>();
+    private final List<Long> retryDelaysMillis = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService inlineScheduler = inlineScheduler();
+    private SdkException failure = RetryableException.create("Scan failed");
+
+    @Test
+    public void publishesAllPagesOfAllSegments() {
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(3), 2);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items()).containsExactlyInAnyOrder("0-0", "0-1", "1-0", "1-1", "2-0", "2-1");
+        assertThat(subscriber.completed).isTrue();
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::segment).containsExactly(0, 1, 2);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::totalSegments).containsOnly(3);
+    }
+
+    @Test
+    public void appliesScanRequestToEverySegment() {
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(2).scanRequest(s -> s.limit(5).consistentRead(true)), 1);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::limit).containsOnly(5);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::consistentRead).containsOnly(true);
+    }
+
+    @Test
+    public void pagesOfOneSegmentArePublishedInOrder() {
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(2).prefetchPagesPerSegment(3), 4);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items().stream().filter(i -> i.startsWith("1-")).collect(Collectors.toList()))
+            .containsExactly("1-0", "1-1", "1-2", "1-3");
+    }
+
+    @Test
+    public void prefetchesPagesUpToLimitWithoutDemand() {
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(4).prefetchPagesPerSegment(2), 5);
+
+        assertThat(subscriber.pages).isEmpty();
+        assertThat(segmentSubscriptions.values()).extracting(s -> s.requested).containsOnly(2L);
+    }
+
+    @Test
+    public void requestsOnePageFromSegmentForEachPublishedPage() {
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(1).prefetchPagesPerSegment(2), 5);
+
+        subscriber.subscription.request(3);
+
+        assertThat(subscriber.pages).hasSize(3);
+        assertThat(segmentSubscriptions.get(0).requested).isEqualTo(5);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void scansAtMostMaxConcurrentSegmentsAtTheSameTime() {
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(3).maxConcurrentSegments(1), 2);
+
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::segment).containsExactly(0);
+
+        subscriber.subscription.request(2);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::segment).containsExactly(0, 1);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.items()).containsExactly("0-0", "0-1", "1-0", "1-1", "2-0", "2-1");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void resumesFailedSegmentFromLastEvaluatedKey() {
+        remainingFailures.put(1, new AtomicInteger(1));
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(2)
+                                                       .segmentRetryBackoffStrategy(
+                                                           FixedDelayBackoffStrategy.create(Duration.ofMillis(25))), 3);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items()).containsExactlyInAnyOrder("0-0", "0-1", "0-2", "1-0", "1-1", "1-2");
+        assertThat(subscriber.completed).isTrue();
+        List<ScanEnhancedRequest> segmentOneRequests = segmentRequests.stream()
+                                                                      .filter(r -> r.segment() == 1)
+                                                                      .collect(Collectors.toList());
+        assertThat(segmentOneRequests).hasSize(2);
+        assertThat(segmentOneRequests.get(0).exclusiveStartKey()).isNull();
+        assertThat(segmentOneRequests.get(1).exclusiveStartKey()).isEqualTo(lastEvaluatedKey(1, 0));
+        assertThat(retryDelaysMillis).containsExactly(25L);
+    }
+
+    @Test
+    public void failsWithoutResumingOnNonRetryableError() {
+        failure = SdkClientException.create("Access denied");
+        remainingFailures.put(0, new AtomicInteger(1));
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(2), 3);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.error).isSameAs(failure);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::segment).containsExactly(0, 1);
+        assertThat(retryDelaysMillis).isEmpty();
+    }
+
+    @Test
+    public void doesNotResumeSegmentAfterCancel() {
+        remainingFailures.put(0, new AtomicInteger(1));
+        List<Runnable> scheduledRetries = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS))).thenAnswer(invocation -> {
+            scheduledRetries.add(invocation.getArgument(0));
+            return null;
+        });
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(1).scheduledExecutorService(scheduler), 3);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(scheduledRetries).hasSize(1);
+
+        subscriber.subscription.cancel();
+        scheduledRetries.get(0).run();
+
+        assertThat(segmentRequests).hasSize(1);
+    }
+
+    @Test
+    public void segmentStartedWhileCancellingIsCancelled() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1_000; i++) {
+                Map<Integer, ManualSegmentSubscription> subscriptions = new ConcurrentHashMap<>();
+                ParallelScanEnhancedRequest request = ParallelScanEnhancedRequest.builder()
+                                                                                 .totalSegments(2)
+                                                                                 .maxConcurrentSegments(1)
+                                                                                 .build();
+                ParallelScanPublisher<String> publisher = new ParallelScanPublisher<>(request, segmentRequest -> s -> {
+                    ManualSegmentSubscription subscription = new ManualSegmentSubscription(s);
+                    subscriptions.put(segmentRequest.segment(), subscription);
+                    s.onSubscribe(subscription);
+                });
+                TestSubscriber subscriber = new TestSubscriber();
+                publisher.subscribe(subscriber);
+
+                // Completing segment 0 starts segment 1, unless the scan was cancelled first.
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> complete = executor.submit(() -> {
+                    barrier.await();
+                    subscriptions.get(0).subscriber.onComplete();
+                    return null;
+                });
+                Future<?> cancel = executor.submit(() -> {
+                    barrier.await();
+                    subscriber.subscription.cancel();
+                    return null;
+                });
+                complete.get(5, TimeUnit.SECONDS);
+                cancel.get(5, TimeUnit.SECONDS);
+
+                ManualSegmentSubscription segmentOne = subscriptions.get(1);
+                if (segmentOne != null) {
+                    assertThat(segmentOne.cancelled).isTrue();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failsWhenSegmentRetriesAreExhausted() {
+        remainingFailures.put(0, new AtomicInteger(3));
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(2).maxSegmentRetries(2), 3);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.error).isInstanceOf(RetryableException.class);
+        assertThat(retryDelaysMillis).hasSize(2);
+        assertThat(subscriber.completed).isFalse();
+        assertThat(segmentSubscriptions.get(1).cancelled).isTrue();
+    }
+
+    @Test
+    public void cancelCancelsAllSegments() {
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(3), 5);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+
+        assertThat(segmentSubscriptions.values()).extracting(s -> s.cancelled).containsOnly(true);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void nonPositiveDemandFails() {
+        TestSubscriber subscriber = parallelScan(r -> r.totalSegments(1), 1);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void segmentsMustNotBeSetOnScanRequest() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(2)
+                                                            .scanRequest(r -> r.segment(0).totalSegments(2))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TestSubscriber parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer,
+                                        int pagesPerSegment) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder()
+                                                                                 .scheduledExecutorService(inlineScheduler);
+        requestConsumer.accept(builder);
+        ParallelScanPublisher<String> publisher = new ParallelScanPublisher<>(builder.build(), segmentRequest -> {
+            segmentRequests.add(segmentRequest);
+            return new FakeSegmentPublisher(segmentRequest, pagesPerSegment);
+        });
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Runs scheduled retries immediately, recording their delays, so that the tests stay synchronous.
+     */
+    private ScheduledExecutorService inlineScheduler() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS))).thenAnswer(invocation -> {
+            retryDelaysMillis.add(invocation.getArgument(1));
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        });
+        return scheduler;
+    }
+
+    private static Map<String, AttributeValue> lastEvaluatedKey(int segment, int page) {
+        return Collections.singletonMap("id", stringValue(segment + "-" + page));
+    }
+
+    private final class FakeSegmentPublisher implements SdkPublisher<Page<String>> {
+        private final ScanEnhancedRequest request;
+        private final int pages;
+
+        private FakeSegmentPublisher(ScanEnhancedRequest request, int pages) {
+            this.request = request;
+            this.pages = pages;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Page<String>> subscriber) {
+            int firstPage = 0;
+            if (request.exclusiveStartKey() != null) {
+                String lastId = request.exclusiveStartKey().get("id").s();
+                firstPage = Integer.parseInt(lastId.substring(lastId.indexOf('-') + 1)) + 1;
+            }
+            FakeSegmentSubscription subscription = new FakeSegmentSubscription(request.segment(), firstPage, pages, subscriber);
+            segmentSubscriptions.put(request.segment(), subscription);
+            subscriber.onSubscribe(subscription);
+        }
+    }
+
+    private final class FakeSegmentSubscription implements Subscription {
+        private final int segment;
+        private final int pages;
+        private final Subscriber<? super Page<String>> subscriber;
+        private int nextPage;
+        private long requested;
+        private boolean cancelled;
+        private boolean done;
+
+        private FakeSegmentSubscription(int segment, int firstPage, int pages, Subscriber<? super Page<String>> subscriber) {
+            this.segment = segment;
+            this.nextPage = firstPage;
+            this.pages = pages;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            requested += n;
+            for (long i = 0; i < n && !cancelled && !done; i++) {
+                // Failures are injected after the first page of a segment.
+                AtomicInteger failures = remainingFailures.get(segment);
+                if (nextPage > 0 && failures != null && failures.getAndDecrement() > 0) {
+                    done = true;
+                    subscriber.onError(failure);
+                    return;
+                }
+                int page = nextPage++;
+                boolean lastPage = nextPage == pages;
+                subscriber.onNext(Page.create(Collections.singletonList(segment + "-" + page),
+                                              lastPage ? null : lastEvaluatedKey(segment, page)));
+                if (lastPage && !cancelled) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class ManualSegmentSubscription implements Subscription {
+        private final Subscriber<? super Page<String>> subscriber;
+        private volatile boolean cancelled;
+
+        private ManualSegmentSubscription(Subscriber<? super Page<String>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class TestSubscriber implements Subscriber<Page<String>> {
+        private final List<Page<String>> pages = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(Page<String> page) {
+            pages.add(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+
+        private List<String> items() {
+            return pages.stream().flatMap(p -> p.items().stream()).collect(Collectors.toList());
+        }
+    }
+}
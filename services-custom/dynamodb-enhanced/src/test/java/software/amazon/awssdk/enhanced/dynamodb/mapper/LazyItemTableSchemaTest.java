@@ -0,0 +1,293 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.nullAttributeValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkNumber;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.LazyItem;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class LazyItemTableSchemaTest {
+    private final CountingConverter nameConverter = new CountingConverter();
+    private final CountingConverter descriptionConverter = new CountingConverter();
+
+    private final TableSchema<Item> itemTableSchema =
+        StaticTableSchema.builder(Item.class)
+                         .newItemSupplier(Item::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Item::getId)
+                                                           .setter(Item::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(String.class, a -> a.name("name")
+                                                           .getter(Item::getName)
+                                                           .setter(Item::setName)
+                                                           .attributeConverter(nameConverter))
+                         .addAttribute(String.class, a -> a.name("description")
+                                                           .getter(Item::getDescription)
+                                                           .setter(Item::setDescription)
+                                                           .attributeConverter(descriptionConverter))
+                         .addAttribute(int.class, a -> a.name("count")
+                                                        .getter(Item::getCount)
+                                                        .setter(Item::setCount))
+                         .build();
+
+    private final LazyItemTableSchema<Item> lazyTableSchema = LazyItemTableSchema.create(itemTableSchema);
+
+    @Test
+    public void get_convertsOnlyTheAttributeThatIsRead() {
+        LazyItem<Item> item = lazyTableSchema.mapToItem(attributeValueMap());
+
+        assertThat(item.get("name", String.class)).isEqualTo("a name");
+
+        assertThat(nameConverter.conversions).hasValue(1);
+        assertThat(descriptionConverter.conversions).hasValue(0);
+    }
+
+    @Test
+    public void get_convertsEachAttributeOnce() {
+        LazyItem<Item> item = lazyTableSchema.mapToItem(attributeValueMap());
+
+        item.get("name", String.class);
+        item.get("name", String.class);
+
+        assertThat(nameConverter.conversions).hasValue(1);
+    }
+
+    @Test
+    public void get_primitiveAttribute_canBeReadAsWrapper() {
+        LazyItem<Item> item = lazyTableSchema.mapToItem(attributeValueMap());
+
+        assertThat(item.get("count", Integer.class)).isEqualTo(3);
+        assertThat(item.get("count", Number.class)).isEqualTo(3);
+    }
+
+    @Test
+    public void get_missingOrNullAttribute_returnsNull() {
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        attributeValueMap.put("id", stringValue("id-1"));
+        attributeValueMap.put("name", nullAttributeValue());
+        LazyItem<Item> item = lazyTableSchema.mapToItem(attributeValueMap);
+
+        assertThat(item.get("name", String.class)).isNull();
+        assertThat(item.get("description", String.class)).isNull();
+        assertThat(item.isPresent("name")).isTrue();
+        assertThat(item.isPresent("description")).isFalse();
+    }
+
+    @Test
+    public void get_unknownAttribute_throwsException() {
+        LazyItem<Item> item = lazyTableSchema.mapToItem(Collections.singletonMap("other", stringValue("value")));
+
+        assertThatThrownBy(() -> item.get("other", String.class)).isInstanceOf(IllegalArgumentException.class)
+                                                                  .hasMessageContaining("other");
+    }
+
+    @Test
+    public void get_otherType_throwsException() {
+        LazyItem<Item> item = lazyTableSchema.mapToItem(attributeValueMap());
+
+        assertThatThrownBy(() -> item.get("name", Integer.class)).isInstanceOf(IllegalArgumentException.class)
+                                                                  .hasMessageContaining("name");
+    }
+
+    @Test
+    public void get_otherTypeParameters_throwsException() {
+        TableSchema<Item> tagsTableSchema =
+            StaticTableSchema.builder(Item.class)
+                             .newItemSupplier(Item::new)
+                             .addAttribute(EnhancedType.listOf(String.class), a -> a.name("tags")
+                                                                                   .getter(Item::getTags)
+                                                                                   .setter(Item::setTags))
+                             .build();
+        LazyItem<Item> item = LazyItemTableSchema.create(tagsTableSchema).mapToItem(
+            Collections.singletonMap("tags", AttributeValue.builder().l(stringValue("a"), stringValue("b")).build()));
+
+        assertThat(item.get("tags", EnhancedType.listOf(String.class))).containsExactly("a", "b");
+        assertThat(item.get("tags", new EnhancedType<Collection<String>>() { })).containsExactly("a", "b");
+        assertThatThrownBy(() -> item.get("tags", EnhancedType.listOf(Integer.class)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("tags");
+        assertThatThrownBy(() -> item.get("tags", List.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void get_asAttributeValue_returnsRawValue() {
+        LazyItem<Item> item = lazyTableSchema.mapToItem(attributeValueMap());
+
+        assertThat(item.get("name", AttributeValue.class)).isEqualTo(stringValue("a name"));
+        assertThat(nameConverter.conversions).hasValue(0);
+    }
+
+    @Test
+    public void item_mapsAllAttributesOnce() {
+        LazyItem<Item> lazyItem = lazyTableSchema.mapToItem(attributeValueMap());
+
+        Item item = lazyItem.item();
+
+        assertThat(item.getId()).isEqualTo("id-1");
+        assertThat(item.getName()).isEqualTo("a name");
+        assertThat(item.getDescription()).isEqualTo("a description");
+        assertThat(item.getCount()).isEqualTo(3);
+        assertThat(lazyItem.item()).isSameAs(item);
+        assertThat(descriptionConverter.conversions).hasValue(1);
+    }
+
+    @Test
+    public void mapToItem_nullMap_returnsNull() {
+        assertThat(lazyTableSchema.mapToItem(null)).isNull();
+    }
+
+    @Test
+    public void itemToMap_returnsRetrievedAttributeValues() {
+        Map<String, AttributeValue> attributeValueMap = attributeValueMap();
+        attributeValueMap.put("description", nullAttributeValue());
+        LazyItem<Item> item = lazyTableSchema.mapToItem(attributeValueMap);
+
+        assertThat(lazyTableSchema.itemToMap(item, false)).isEqualTo(attributeValueMap);
+        assertThat(lazyTableSchema.itemToMap(item, true)).doesNotContainKey("description").hasSize(3);
+        assertThat(lazyTableSchema.itemToMap(item, Arrays.asList("id", "count")))
+            .containsOnlyKeys("id", "count");
+        assertThat(lazyTableSchema.attributeValue(item, "description")).isNull();
+        assertThat(nameConverter.conversions).hasValue(0);
+    }
+
+    @Test
+    public void tableMetadata_isThatOfItemTableSchema() {
+        assertThat(lazyTableSchema.tableMetadata()).isSameAs(itemTableSchema.tableMetadata());
+        assertThat(lazyTableSchema.attributeNames()).isEqualTo(itemTableSchema.attributeNames());
+        assertThat(lazyTableSchema.itemType().rawClass()).isEqualTo(LazyItem.class);
+    }
+
+    @Test
+    public void documentTableSchema_convertsAttributesToRequestedType() {
+        LazyItemTableSchema<EnhancedDocument> documentTableSchema =
+            LazyItemTableSchema.create(TableSchema.documentSchemaBuilder().build());
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        attributeValueMap.put("name", stringValue("a name"));
+        attributeValueMap.put("count", numberValue(3));
+        attributeValueMap.put("tags", AttributeValue.builder().l(stringValue("a"), stringValue("b")).build());
+
+        LazyItem<EnhancedDocument> document = documentTableSchema.mapToItem(attributeValueMap);
+
+        assertThat(document.get("name", String.class)).isEqualTo("a name");
+        assertThat(document.get("count", SdkNumber.class).intValue()).isEqualTo(3);
+        assertThat(document.get("count", Integer.class)).isEqualTo(3);
+        assertThat(document.get("tags", EnhancedType.listOf(String.class))).containsExactly("a", "b");
+        assertThatThrownBy(() -> document.get("tags", List.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(document.item().getString("name")).isEqualTo("a name");
+    }
+
+    private static Map<String, AttributeValue> attributeValueMap() {
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        attributeValueMap.put("id", stringValue("id-1"));
+        attributeValueMap.put("name", stringValue("a name"));
+        attributeValueMap.put("description", stringValue("a description"));
+        attributeValueMap.put("count", numberValue(3));
+        return attributeValueMap;
+    }
+
+    private static final class CountingConverter implements AttributeConverter<String> {
+        private final AtomicInteger conversions = new AtomicInteger();
+
+        @Override
+        public AttributeValue transformFrom(String input) {
+            return stringValue(input);
+        }
+
+        @Override
+        public String transformTo(AttributeValue input) {
+            conversions.incrementAndGet();
+            return input.s();
+        }
+
+        @Override
+        public EnhancedType<String> type() {
+            return EnhancedType.of(String.class);
+        }
+
+        @Override
+        public AttributeValueType attributeValueType() {
+            return AttributeValueType.S;
+        }
+    }
+
+    private static final class Item {
+        private String id;
+        private String name;
+        private String description;
+        private int count;
+        private List<String> tags;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Tracks which parts of an object downloaded by {@link ParallelFileDownloadHelper} have been completely written to the
+ * destination file, so that a paused download can be resumed without downloading those parts again.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class CompletedPartsTracker {
+    private final long totalSizeInBytes;
+    private final long partSizeInBytes;
+    private final Instant s3ObjectLastModified;
+    private final BitSet completedParts;
+
+    CompletedPartsTracker(long totalSizeInBytes, long partSizeInBytes, Instant s3ObjectLastModified, BitSet completedParts) {
+        this.totalSizeInBytes = totalSizeInBytes;
+        this.partSizeInBytes = partSizeInBytes;
+        this.s3ObjectLastModified = s3ObjectLastModified;
+        this.completedParts = (BitSet) completedParts.clone();
+    }
+
+    public long totalSizeInBytes() {
+        return totalSizeInBytes;
+    }
+
+    public long partSizeInBytes() {
+        return partSizeInBytes;
+    }
+
+    public Instant s3ObjectLastModified() {
+        return s3ObjectLastModified;
+    }
+
+    int partCount() {
+        return (int) ((totalSizeInBytes + partSizeInBytes - 1) / partSizeInBytes);
+    }
+
+    long partOffset(int partIndex) {
+        return partIndex * partSizeInBytes;
+    }
+
+    long partSize(int partIndex) {
+        return Math.min(partSizeInBytes, totalSizeInBytes - partOffset(partIndex));
+    }
+
+    synchronized boolean isCompleted(int partIndex) {
+        return completedParts.get(partIndex);
+    }
+
+    synchronized void markCompleted(int partIndex) {
+        completedParts.set(partIndex);
+    }
+
+    public synchronized List<Integer> completedParts() {
+        return toList(completedParts);
+    }
+
+    public synchronized long completedBytes() {
+        long completedBytes = 0;
+        for (int i = completedParts.nextSetBit(0); i >= 0; i = completedParts.nextSetBit(i + 1)) {
+            completedBytes += partSize(i);
+        }
+        return completedBytes;
+    }
+
+    public static BitSet toBitSet(Collection<Integer> parts) {
+        BitSet bitSet = new BitSet();
+        parts.forEach(bitSet::set);
+        return bitSet;
+    }
+
+    public static List<Integer> toList(BitSet parts) {
+        List<Integer> list = new ArrayList<>(parts.cardinality());
+        for (int i = parts.nextSetBit(0); i >= 0; i = parts.nextSetBit(i + 1)) {
+            list.add(i);
+        }
+        return Collections.unmodifiableList(list);
+    }
+}
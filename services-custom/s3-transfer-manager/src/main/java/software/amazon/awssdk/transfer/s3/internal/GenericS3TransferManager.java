@@ -36,6 +36,7 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.multipart.MultipartConfigurationResolver;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.resource.S3AccessPointResource;
 import software.amazon.awssdk.services.s3.internal.resource.S3ArnConverter;
@@ -96,6 +97,7 @@ class GenericS3TransferManager implements S3TransferManager {
     private final UploadDirectoryHelper uploadDirectoryHelper;
     private final DownloadDirectoryHelper downloadDirectoryHelper;
     private final boolean isDefaultS3AsyncClient;
+    private final ParallelFileDownloadHelper parallelFileDownloadHelper;
 
     private final TransferManagerConfiguration transferConfiguration;
 
@@ -110,6 +112,7 @@ class GenericS3TransferManager implements S3TransferManager {
                                                               listObjectsHelper,
                                                               this::downloadFile);
         this.isDefaultS3AsyncClient = isDefaultS3AsyncClient;
+        this.parallelFileDownloadHelper = createParallelFileDownloadHelper(s3AsyncClient);
     }
 
     @SdkTestInternalApi
@@ -122,6 +125,16 @@ class GenericS3TransferManager implements S3TransferManager {
         this.transferConfiguration = configuration;
         this.uploadDirectoryHelper = uploadDirectoryHelper;
         this.downloadDirectoryHelper = downloadDirectoryHelper;
+        this.parallelFileDownloadHelper = createParallelFileDownloadHelper(s3AsyncClient);
+    }
+
+    private static ParallelFileDownloadHelper createParallelFileDownloadHelper(S3AsyncClient s3AsyncClient) {
+        if (!(s3AsyncClient instanceof MultipartS3AsyncClient)) {
+            return null;
+        }
+        MultipartConfigurationResolver resolver = ((MultipartS3AsyncClient) s3AsyncClient).resolvedConfiguration();
+        return new ParallelFileDownloadHelper(s3AsyncClient, resolver.minimalPartSizeInBytes(),
+                                              resolver.maxInFlightDownloadParts());
     }
 
     @Override
@@ -351,6 +364,10 @@ class GenericS3TransferManager implements S3TransferManager {
     public final FileDownload downloadFile(DownloadFileRequest downloadRequest) {
         Validate.paramNotNull(downloadRequest, "downloadFileRequest");
 
+        if (canDownloadInParallel(downloadRequest)) {
+            return parallelFileDownloadHelper.downloadFile(downloadRequest);
+        }
+
         AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer =
             AsyncResponseTransformer.toFile(downloadRequest.destination(),
                                             FileTransformerConfiguration.defaultCreateOrReplaceExisting());
@@ -361,6 +378,21 @@ class GenericS3TransferManager implements S3TransferManager {
         return new DefaultFileDownload(returnFuture, progressUpdater.progress(), () -> downloadRequest, null);
     }
 
+    /**
+     * Parts are ranges of the whole object, so a request for a range or a part of the object is sent as a single request.
+     */
+    private boolean canDownloadInParallel(DownloadFileRequest downloadRequest) {
+        if (parallelFileDownloadHelper == null) {
+            return false;
+        }
+        GetObjectRequest getObjectRequest = downloadRequest.getObjectRequest();
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            log.debug(() -> "Range or part number specified on the request, downloading the file as a single request");
+            return false;
+        }
+        return true;
+    }
+
     private TransferProgressUpdater doDownloadFile(
         DownloadFileRequest downloadRequest,
         AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer,
@@ -391,6 +423,11 @@ class GenericS3TransferManager implements S3TransferManager {
     @Override
     public final FileDownload resumeDownloadFile(ResumableFileDownload resumableFileDownload) {
         Validate.paramNotNull(resumableFileDownload, "resumableFileDownload");
+
+        if (canDownloadInParallel(resumableFileDownload.downloadFileRequest())) {
+            return parallelFileDownloadHelper.resumeDownloadFile(resumableFileDownload);
+        }
+
         CompletableFuture<CompletedFileDownload> returnFuture = new CompletableFuture<>();
         DownloadFileRequest originalDownloadRequest = resumableFileDownload.downloadFileRequest();
         GetObjectRequest getObjectRequest = originalDownloadRequest.getObjectRequest();
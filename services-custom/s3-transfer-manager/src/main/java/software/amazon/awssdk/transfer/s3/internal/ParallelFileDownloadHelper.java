@@ -0,0 +1,333 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static software.amazon.awssdk.transfer.s3.internal.utils.FileUtils.fileNotModified;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.core.async.listener.PublisherListener;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.multipart.FilePartAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.internal.model.DefaultFileDownload;
+import software.amazon.awssdk.transfer.s3.internal.progress.TransferProgressUpdater;
+import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
+import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
+import software.amazon.awssdk.transfer.s3.model.FileDownload;
+import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Downloads an object to a file using ranged GET requests sent in parallel. The destination file is sized to the object up
+ * front, and each part is written at its offset as soon as it arrives. The parts that have been completely written are tracked
+ * in a {@link CompletedPartsTracker}, so a paused download only downloads the missing parts when it is resumed.
+ */
+@SdkInternalApi
+final class ParallelFileDownloadHelper {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final int maxInFlightParts;
+
+    ParallelFileDownloadHelper(S3AsyncClient s3AsyncClient, long partSizeInBytes, int maxInFlightParts) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSizeInBytes = partSizeInBytes;
+        this.maxInFlightParts = maxInFlightParts;
+    }
+
+    FileDownload downloadFile(DownloadFileRequest downloadRequest) {
+        return doDownloadFile(downloadRequest, null);
+    }
+
+    FileDownload resumeDownloadFile(ResumableFileDownload resumableFileDownload) {
+        return doDownloadFile(resumableFileDownload.downloadFileRequest(), resumableFileDownload);
+    }
+
+    private FileDownload doDownloadFile(DownloadFileRequest downloadRequest, ResumableFileDownload resumableFileDownload) {
+        CompletableFuture<CompletedFileDownload> returnFuture = new CompletableFuture<>();
+        TransferProgressUpdater progressUpdater = new TransferProgressUpdater(downloadRequest, null);
+        AtomicReference<CompletedPartsTracker> partsTracker = new AtomicReference<>();
+
+        try {
+            progressUpdater.transferInitiated();
+            progressUpdater.registerCompletion(returnFuture);
+
+            GenericS3TransferManager.assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
+
+            CompletableFuture<HeadObjectResponse> headFuture =
+                s3AsyncClient.headObject(SdkPojoConversionUtils.toHeadObjectRequest(downloadRequest.getObjectRequest()));
+
+            // Ensure cancellations are forwarded to the head future
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, headFuture);
+
+            headFuture.whenComplete((headObjectResponse, throwable) -> {
+                if (throwable != null) {
+                    handleException(returnFuture, throwable);
+                    return;
+                }
+
+                try {
+                    CompletedPartsTracker tracker = createTracker(downloadRequest, headObjectResponse, resumableFileDownload);
+                    new ParallelFileDownload(downloadRequest, headObjectResponse, tracker, progressUpdater, returnFuture)
+                        .start(partsTracker);
+                } catch (Throwable t) {
+                    handleException(returnFuture, t);
+                }
+            });
+        } catch (Throwable throwable) {
+            returnFuture.completeExceptionally(throwable);
+        }
+
+        return new DefaultFileDownload(returnFuture, progressUpdater.progress(), () -> downloadRequest, resumableFileDownload,
+                                       partsTracker::get);
+    }
+
+    private CompletedPartsTracker createTracker(DownloadFileRequest downloadRequest,
+                                                HeadObjectResponse headObjectResponse,
+                                                ResumableFileDownload resumableFileDownload) {
+        long contentLength = headObjectResponse.contentLength();
+
+        if (resumableFileDownload == null || !canResume(downloadRequest, headObjectResponse, resumableFileDownload)) {
+            return new CompletedPartsTracker(contentLength, partSizeInBytes, headObjectResponse.lastModified(), new BitSet());
+        }
+
+        if (resumableFileDownload.completedParts().isPresent() && resumableFileDownload.partSizeInBytes().isPresent()) {
+            return new CompletedPartsTracker(contentLength,
+                                             resumableFileDownload.partSizeInBytes().getAsLong(),
+                                             headObjectResponse.lastModified(),
+                                             CompletedPartsTracker.toBitSet(resumableFileDownload.completedParts().get()));
+        }
+
+        // The download was paused while the object was being written sequentially, so the parts that fit in the bytes already
+        // written to the file are complete.
+        BitSet completedParts = new BitSet();
+        completedParts.set(0, (int) (Math.min(resumableFileDownload.bytesTransferred(), contentLength) / partSizeInBytes));
+        return new CompletedPartsTracker(contentLength, partSizeInBytes, headObjectResponse.lastModified(), completedParts);
+    }
+
+    private static boolean canResume(DownloadFileRequest downloadRequest,
+                                     HeadObjectResponse headObjectResponse,
+                                     ResumableFileDownload resumableFileDownload) {
+        boolean s3ObjectNotModified =
+            headObjectResponse.lastModified().equals(resumableFileDownload.s3ObjectLastModified().orElse(null));
+
+        // A file downloaded in parts was sized to the object before any part was written
+        long expectedFileLength = resumableFileDownload.completedParts().isPresent()
+                                  ? resumableFileDownload.totalSizeInBytes().orElse(0L)
+                                  : resumableFileDownload.bytesTransferred();
+        boolean fileNotModified = fileNotModified(expectedFileLength, resumableFileDownload.fileLastModified(),
+                                                  downloadRequest.destination());
+
+        if (!s3ObjectNotModified || !fileNotModified) {
+            log.debug(() -> String.format("The requested object in bucket (%s) with key (%s) or the file (%s) has been modified "
+                                          + "since the last pause. The SDK will download the object from the beginning.",
+                                          downloadRequest.getObjectRequest().bucket(),
+                                          downloadRequest.getObjectRequest().key(),
+                                          downloadRequest.destination()));
+            return false;
+        }
+        return true;
+    }
+
+    private static void handleException(CompletableFuture<CompletedFileDownload> returnFuture, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+
+        if (cause instanceof SdkException || cause instanceof Error) {
+            returnFuture.completeExceptionally(cause);
+        } else {
+            returnFuture.completeExceptionally(SdkClientException.create("Failed to download the object", cause));
+        }
+    }
+
+    private final class ParallelFileDownload {
+        private final DownloadFileRequest downloadRequest;
+        private final CompletedPartsTracker tracker;
+        private final TransferProgressUpdater progressUpdater;
+        private final CompletableFuture<CompletedFileDownload> returnFuture;
+        private final GetObjectResponse response;
+        private final String ifMatch;
+        private final PublisherListener<Long> progressListener;
+
+        private final int[] partsToDownload;
+        private final AtomicInteger nextPartToRequest = new AtomicInteger();
+        private final AtomicInteger remainingParts;
+        private final Set<CompletableFuture<?>> inFlightParts = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean failed = new AtomicBoolean();
+        private volatile AsynchronousFileChannel fileChannel;
+
+        private ParallelFileDownload(DownloadFileRequest downloadRequest,
+                                     HeadObjectResponse headObjectResponse,
+                                     CompletedPartsTracker tracker,
+                                     TransferProgressUpdater progressUpdater,
+                                     CompletableFuture<CompletedFileDownload> returnFuture) {
+            this.downloadRequest = downloadRequest;
+            this.tracker = tracker;
+            this.progressUpdater = progressUpdater;
+            this.returnFuture = returnFuture;
+            this.response = SdkPojoConversionUtils.toGetObjectResponse(headObjectResponse);
+            this.ifMatch = downloadRequest.getObjectRequest().ifMatch() != null ? downloadRequest.getObjectRequest().ifMatch()
+                                                                                : headObjectResponse.eTag();
+            this.progressListener = progressUpdater.multipartClientProgressListener();
+            this.partsToDownload = IntStream.range(0, tracker.partCount())
+                                            .filter(i -> !tracker.isCompleted(i))
+                                            .toArray();
+            this.remainingParts = new AtomicInteger(partsToDownload.length);
+        }
+
+        void start(AtomicReference<CompletedPartsTracker> partsTracker) throws IOException {
+            Path destination = downloadRequest.destination();
+            boolean resuming = partsToDownload.length < tracker.partCount();
+            try (RandomAccessFile file = new RandomAccessFile(destination.toFile(), "rw")) {
+                if (!resuming) {
+                    file.setLength(0);
+                }
+                file.setLength(tracker.totalSizeInBytes());
+            }
+            fileChannel = AsynchronousFileChannel.open(destination, StandardOpenOption.WRITE);
+
+            partsTracker.set(tracker);
+            progressUpdater.downloadResponseReceived(response);
+            long completedBytes = tracker.completedBytes();
+            if (completedBytes > 0) {
+                progressListener.subscriberOnNext(completedBytes);
+            }
+
+            log.debug(() -> String.format("Starting parallel file download with partCount: %d, partSize: %d, parts to download: "
+                                          + "%d", tracker.partCount(), tracker.partSizeInBytes(), partsToDownload.length));
+
+            returnFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    fail(t);
+                }
+            });
+
+            if (partsToDownload.length == 0) {
+                complete();
+                return;
+            }
+
+            for (int i = 0; i < maxInFlightParts; i++) {
+                requestNextPart();
+            }
+        }
+
+        private void requestNextPart() {
+            int next = nextPartToRequest.getAndIncrement();
+            if (next >= partsToDownload.length || failed.get()) {
+                return;
+            }
+
+            int partIndex = partsToDownload[next];
+            long offset = tracker.partOffset(partIndex);
+            GetObjectRequest partRequest =
+                downloadRequest.getObjectRequest().toBuilder()
+                               .range("bytes=" + offset + "-" + (offset + tracker.partSize(partIndex) - 1))
+                               .ifMatch(ifMatch)
+                               .build();
+
+            AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> partTransformer =
+                AsyncResponseTransformerListener.wrap(new FilePartAsyncResponseTransformer(fileChannel, offset),
+                                                      new PartProgressListener());
+            CompletableFuture<GetObjectResponse> partFuture = s3AsyncClient.getObject(partRequest, partTransformer);
+            inFlightParts.add(partFuture);
+            partFuture.whenComplete((partResponse, throwable) -> {
+                inFlightParts.remove(partFuture);
+                if (throwable != null) {
+                    fail(throwable);
+                    return;
+                }
+
+                tracker.markCompleted(partIndex);
+                if (remainingParts.decrementAndGet() == 0) {
+                    complete();
+                } else {
+                    requestNextPart();
+                }
+            });
+        }
+
+        private void complete() {
+            try {
+                fileChannel.close();
+            } catch (Throwable throwable) {
+                fail(throwable);
+                return;
+            }
+            progressListener.subscriberOnComplete();
+            returnFuture.complete(CompletedFileDownload.builder().response(response).build());
+        }
+
+        private void fail(Throwable throwable) {
+            if (!failed.compareAndSet(false, true)) {
+                return;
+            }
+
+            inFlightParts.forEach(f -> f.cancel(true));
+            invokeSafely(fileChannel::close);
+            handleException(returnFuture, throwable);
+        }
+
+        /**
+         * Reports the bytes of a part as they are received. If the part is retried, the bytes reported by the previous
+         * attempt are subtracted.
+         */
+        private final class PartProgressListener implements AsyncResponseTransformerListener<GetObjectResponse> {
+            private final AtomicLong partBytes = new AtomicLong();
+
+            @Override
+            public void publisherSubscribe(Subscriber<? super ByteBuffer> subscriber) {
+                long previousAttemptBytes = partBytes.getAndSet(0);
+                if (previousAttemptBytes > 0) {
+                    progressListener.subscriberOnNext(-previousAttemptBytes);
+                }
+            }
+
+            @Override
+            public void subscriberOnNext(ByteBuffer byteBuffer) {
+                partBytes.addAndGet(byteBuffer.remaining());
+                progressListener.subscriberOnNext((long) byteBuffer.remaining());
+            }
+        }
+    }
+}
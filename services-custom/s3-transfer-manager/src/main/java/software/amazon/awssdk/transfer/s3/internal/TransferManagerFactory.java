@@ -58,9 +58,8 @@ public final class TransferManagerFactory {
                            + " upload/download feature is not enabled and resumable file upload is not supported. To benefit "
                            + "from maximum throughput, consider using S3AsyncClient.crtBuilder().build() instead.");
         } else if (s3AsyncClient instanceof MultipartS3AsyncClient) {
-            log.warn(() -> "The provided S3AsyncClient is an instance of MultipartS3AsyncClient, and thus multipart"
-                           + " download feature is not enabled. To benefit from all features, "
-                           + "consider using S3AsyncClient.crtBuilder().build() instead.");
+            log.debug(() -> "The provided S3AsyncClient is an instance of MultipartS3AsyncClient, and thus files are"
+                            + " downloaded with parallel ranged GET requests.");
         } else {
             log.debug(() -> "The provided S3AsyncClient is not an instance of S3CrtAsyncClient, and thus multipart"
                             + " upload/download feature may not be enabled and resumable file upload may not be supported.");
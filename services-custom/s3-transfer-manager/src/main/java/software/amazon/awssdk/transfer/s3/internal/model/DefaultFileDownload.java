@@ -21,6 +21,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.transfer.s3.internal.CompletedPartsTracker;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
 import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.model.FileDownload;
@@ -38,16 +39,26 @@ public final class DefaultFileDownload implements FileDownload {
     private final TransferProgress progress;
     private final Supplier<DownloadFileRequest> requestSupplier;
     private final ResumableFileDownload resumedDownload;
+    private final Supplier<CompletedPartsTracker> partsTrackerSupplier;
 
     public DefaultFileDownload(CompletableFuture<CompletedFileDownload> completedFileDownloadFuture,
                                TransferProgress progress,
                                Supplier<DownloadFileRequest> requestSupplier,
                                ResumableFileDownload resumedDownload) {
+        this(completedFileDownloadFuture, progress, requestSupplier, resumedDownload, () -> null);
+    }
+
+    public DefaultFileDownload(CompletableFuture<CompletedFileDownload> completedFileDownloadFuture,
+                               TransferProgress progress,
+                               Supplier<DownloadFileRequest> requestSupplier,
+                               ResumableFileDownload resumedDownload,
+                               Supplier<CompletedPartsTracker> partsTrackerSupplier) {
         this.completionFuture = Validate.paramNotNull(completedFileDownloadFuture, "completedFileDownloadFuture");
         this.progress = Validate.paramNotNull(progress, "progress");
         this.requestSupplier = Validate.paramNotNull(requestSupplier, "requestSupplier");
         this.resumableFileDownload = new Lazy<>(this::doPause);
         this.resumedDownload = resumedDownload;
+        this.partsTrackerSupplier = Validate.paramNotNull(partsTrackerSupplier, "partsTrackerSupplier");
     }
 
     @Override
@@ -63,6 +74,11 @@ public final class DefaultFileDownload implements FileDownload {
     private ResumableFileDownload doPause() {
         completionFuture.cancel(true);
 
+        CompletedPartsTracker partsTracker = partsTrackerSupplier.get();
+        if (partsTracker != null) {
+            return pauseParallelDownload(partsTracker);
+        }
+
         Instant s3objectLastModified = null;
         Long totalSizeInBytes = null;
         TransferProgressSnapshot snapshot = progress.snapshot();
@@ -90,6 +106,25 @@ public final class DefaultFileDownload implements FileDownload {
                                     .build();
     }
 
+    /**
+     * The destination file of a parallel download is sized to the object up front, so the bytes transferred are the bytes of
+     * the completed parts rather than the length of the file.
+     */
+    private ResumableFileDownload pauseParallelDownload(CompletedPartsTracker partsTracker) {
+        DownloadFileRequest request = requestSupplier.get();
+        File destination = request.destination().toFile();
+        Instant fileLastModified = Instant.ofEpochMilli(destination.lastModified());
+        return ResumableFileDownload.builder()
+                                    .downloadFileRequest(request)
+                                    .s3ObjectLastModified(partsTracker.s3ObjectLastModified())
+                                    .fileLastModified(fileLastModified)
+                                    .bytesTransferred(partsTracker.completedBytes())
+                                    .totalSizeInBytes(partsTracker.totalSizeInBytes())
+                                    .partSizeInBytes(partsTracker.partSizeInBytes())
+                                    .completedParts(partsTracker.completedParts())
+                                    .build();
+    }
+
     @Override
     public CompletableFuture<CompletedFileDownload> completionFuture() {
         return completionFuture;
@@ -171,9 +171,7 @@ public class TransferProgressUpdater {
             new AsyncResponseTransformerListener<GetObjectResponse>() {
                 @Override
                 public void transformerOnResponse(GetObjectResponse response) {
-                    if (response.contentLength() != null) {
-                            progress.updateAndGet(b -> b.totalBytes(response.contentLength()).sdkResponse(response));
-                    }
+                    downloadResponseReceived(response);
                 }
 
                 @Override
@@ -203,6 +201,16 @@ public class TransferProgressUpdater {
             });
     }
 
+    /**
+     * Records the total size of a download, for downloads whose response is not delivered through
+     * {@link #wrapResponseTransformer(AsyncResponseTransformer)}.
+     */
+    public void downloadResponseReceived(GetObjectResponse response) {
+        if (response.contentLength() != null) {
+            progress.updateAndGet(b -> b.totalBytes(response.contentLength()).sdkResponse(response));
+        }
+    }
+
     private void resetBytesTransferred() {
         progress.updateAndGet(b -> b.transferredBytes(0L));
     }
@@ -22,6 +22,7 @@ import static software.amazon.awssdk.transfer.s3.internal.serialization.Transfer
 import java.io.InputStream;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.BitSet;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
@@ -31,8 +32,10 @@ import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
 import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.internal.CompletedPartsTracker;
 import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
@@ -62,6 +65,16 @@ public final class ResumableFileDownloadSerializer {
                                        jsonGenerator,
                                        "s3ObjectLastModified");
         }
+        if (download.partSizeInBytes().isPresent()) {
+            TransferManagerJsonMarshaller.LONG.marshall(download.partSizeInBytes().getAsLong(), jsonGenerator,
+                                                        "partSizeInBytes");
+        }
+        if (download.completedParts().isPresent()) {
+            BitSet completedParts = CompletedPartsTracker.toBitSet(download.completedParts().get());
+            TransferManagerJsonMarshaller.STRING.marshall(BinaryUtils.toBase64(completedParts.toByteArray()),
+                                                          jsonGenerator,
+                                                          "completedParts");
+        }
         marshallDownloadFileRequest(download.downloadFileRequest(), jsonGenerator);
         jsonGenerator.writeEndObject();
 
@@ -137,6 +150,13 @@ public final class ResumableFileDownloadSerializer {
         if (downloadNodes.get("s3ObjectLastModified") != null) {
             builder.s3ObjectLastModified(instantUnmarshaller.unmarshall(downloadNodes.get("s3ObjectLastModified")));
         }
+        if (downloadNodes.get("partSizeInBytes") != null) {
+            builder.partSizeInBytes(longUnmarshaller.unmarshall(downloadNodes.get("partSizeInBytes")));
+        }
+        if (downloadNodes.get("completedParts") != null) {
+            String completedParts = downloadNodes.get("completedParts").asString();
+            builder.completedParts(CompletedPartsTracker.toList(BitSet.valueOf(BinaryUtils.fromBase64(completedParts))));
+        }
         builder.downloadFileRequest(parseDownloadFileRequest(downloadNodes.get("downloadFileRequest")));
 
         return builder.build();
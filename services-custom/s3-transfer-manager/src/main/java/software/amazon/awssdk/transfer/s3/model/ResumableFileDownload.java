@@ -23,9 +23,14 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.TreeSet;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
@@ -61,6 +66,8 @@ public final class ResumableFileDownload implements ResumableTransfer,
     private final Instant s3ObjectLastModified;
     private final Long totalSizeInBytes;
     private final Instant fileLastModified;
+    private final Long partSizeInBytes;
+    private final List<Integer> completedParts;
 
     private ResumableFileDownload(DefaultBuilder builder) {
         this.downloadFileRequest = Validate.paramNotNull(builder.downloadFileRequest, "downloadFileRequest");
@@ -69,6 +76,17 @@ public final class ResumableFileDownload implements ResumableTransfer,
         this.s3ObjectLastModified = builder.s3ObjectLastModified;
         this.totalSizeInBytes = Validate.isPositiveOrNull(builder.totalSizeInBytes, "totalSizeInBytes");
         this.fileLastModified = builder.fileLastModified;
+        this.partSizeInBytes = Validate.isPositiveOrNull(builder.partSizeInBytes, "partSizeInBytes");
+        this.completedParts = builder.completedParts == null ? null : sortedParts(builder.completedParts);
+    }
+
+    private static List<Integer> sortedParts(Collection<Integer> completedParts) {
+        TreeSet<Integer> sortedParts = new TreeSet<>();
+        for (Integer part : completedParts) {
+            sortedParts.add(Validate.isNotNegative(Validate.paramNotNull(part, "completedParts element"),
+                                                   "completedParts element"));
+        }
+        return Collections.unmodifiableList(new ArrayList<>(sortedParts));
     }
 
     @Override
@@ -94,6 +112,12 @@ public final class ResumableFileDownload implements ResumableTransfer,
         if (!Objects.equals(fileLastModified, that.fileLastModified)) {
             return false;
         }
+        if (!Objects.equals(partSizeInBytes, that.partSizeInBytes)) {
+            return false;
+        }
+        if (!Objects.equals(completedParts, that.completedParts)) {
+            return false;
+        }
         return Objects.equals(totalSizeInBytes, that.totalSizeInBytes);
     }
 
@@ -104,6 +128,8 @@ public final class ResumableFileDownload implements ResumableTransfer,
         result = 31 * result + (s3ObjectLastModified != null ? s3ObjectLastModified.hashCode() : 0);
         result = 31 * result + (fileLastModified != null ? fileLastModified.hashCode() : 0);
         result = 31 * result + (totalSizeInBytes != null ? totalSizeInBytes.hashCode() : 0);
+        result = 31 * result + (partSizeInBytes != null ? partSizeInBytes.hashCode() : 0);
+        result = 31 * result + (completedParts != null ? completedParts.hashCode() : 0);
         return result;
     }
 
@@ -149,6 +175,27 @@ public final class ResumableFileDownload implements ResumableTransfer,
         return totalSizeInBytes == null ? OptionalLong.empty() : OptionalLong.of(totalSizeInBytes);
     }
 
+    /**
+     * The size of each part in bytes if the object was being downloaded in parts, or {@link OptionalLong#empty()} otherwise
+     *
+     * @return the optional part size.
+     */
+    public OptionalLong partSizeInBytes() {
+        return partSizeInBytes == null ? OptionalLong.empty() : OptionalLong.of(partSizeInBytes);
+    }
+
+    /**
+     * The parts that were completely written to the file when the download was paused, indexed from zero, or
+     * {@link Optional#empty()} if the object was not being downloaded in parts. Part {@code i} covers the bytes from
+     * {@code i * partSizeInBytes} (inclusive) to {@code (i + 1) * partSizeInBytes} (exclusive). When the download is resumed,
+     * only the parts that are not listed are downloaded again.
+     *
+     * @return the optional unmodifiable list of completed part indexes, in ascending order.
+     */
+    public Optional<List<Integer>> completedParts() {
+        return Optional.ofNullable(completedParts);
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ResumableFileDownload")
@@ -156,6 +203,8 @@ public final class ResumableFileDownload implements ResumableTransfer,
                        .add("fileLastModified", fileLastModified)
                        .add("s3ObjectLastModified", s3ObjectLastModified)
                        .add("totalSizeInBytes", totalSizeInBytes)
+                       .add("partSizeInBytes", partSizeInBytes)
+                       .add("completedParts", completedParts)
                        .add("downloadFileRequest", downloadFileRequest)
                        .build();
     }
@@ -318,6 +367,23 @@ public final class ResumableFileDownload implements ResumableTransfer,
          * @return a reference to this object so that method calls can be chained together.
          */
         Builder fileLastModified(Instant lastModified);
+
+        /**
+         * Sets the size of each part in bytes, if the object was being downloaded in parts
+         *
+         * @param partSizeInBytes the part size in bytes
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder partSizeInBytes(Long partSizeInBytes);
+
+        /**
+         * Sets the parts that were completely written to the file, indexed from zero
+         *
+         * @param completedParts the indexes of the completed parts
+         * @return a reference to this object so that method calls can be chained together.
+         * @see ResumableFileDownload#completedParts()
+         */
+        Builder completedParts(Collection<Integer> completedParts);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -327,6 +393,8 @@ public final class ResumableFileDownload implements ResumableTransfer,
         private Instant s3ObjectLastModified;
         private Long totalSizeInBytes;
         private Instant fileLastModified;
+        private Long partSizeInBytes;
+        private List<Integer> completedParts;
 
         private DefaultBuilder() {
         }
@@ -337,6 +405,8 @@ public final class ResumableFileDownload implements ResumableTransfer,
             this.totalSizeInBytes = persistableFileDownload.totalSizeInBytes;
             this.fileLastModified = persistableFileDownload.fileLastModified;
             this.s3ObjectLastModified = persistableFileDownload.s3ObjectLastModified;
+            this.partSizeInBytes = persistableFileDownload.partSizeInBytes;
+            this.completedParts = persistableFileDownload.completedParts;
         }
 
         @Override
@@ -369,6 +439,18 @@ public final class ResumableFileDownload implements ResumableTransfer,
             return this;
         }
 
+        @Override
+        public Builder partSizeInBytes(Long partSizeInBytes) {
+            this.partSizeInBytes = partSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Builder completedParts(Collection<Integer> completedParts) {
+            this.completedParts = completedParts == null ? null : new ArrayList<>(completedParts);
+            return this;
+        }
+
         @Override
         public ResumableFileDownload build() {
             return new ResumableFileDownload(this);
@@ -24,6 +24,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -84,6 +86,33 @@ class DefaultFileDownloadTest {
         assertThat(pause.totalSizeInBytes()).hasValue(sdkResponse.contentLength());
     }
 
+    @Test
+    void pause_parallelDownload_shouldReturnCompletedParts() {
+        CompletableFuture<CompletedFileDownload> future = new CompletableFuture<>();
+        TransferProgress transferProgress = Mockito.mock(TransferProgress.class);
+        Instant s3ObjectLastModified = Instant.now();
+        BitSet completedParts = new BitSet();
+        completedParts.set(0);
+        completedParts.set(2);
+        CompletedPartsTracker partsTracker = new CompletedPartsTracker(2500L, 1000L, s3ObjectLastModified, completedParts);
+        DownloadFileRequest request = getDownloadFileRequest();
+
+        DefaultFileDownload fileDownload = new DefaultFileDownload(future,
+                                                                   transferProgress,
+                                                                   () -> request,
+                                                                   null,
+                                                                   () -> partsTracker);
+
+        ResumableFileDownload pause = fileDownload.pause();
+        assertThat(future).isCancelled();
+        assertThat(pause.downloadFileRequest()).isEqualTo(request);
+        assertThat(pause.bytesTransferred()).isEqualTo(1500L);
+        assertThat(pause.totalSizeInBytes()).hasValue(2500L);
+        assertThat(pause.s3ObjectLastModified()).hasValue(s3ObjectLastModified);
+        assertThat(pause.partSizeInBytes()).hasValue(1000L);
+        assertThat(pause.completedParts()).hasValue(Arrays.asList(0, 2));
+    }
+
     @Test
     void pause_transferAlreadyFinished_shouldReturnNormally() {
         GetObjectResponse getObjectResponse = GetObjectResponse.builder()
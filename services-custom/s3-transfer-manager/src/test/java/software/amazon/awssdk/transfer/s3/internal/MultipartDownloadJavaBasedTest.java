@@ -20,15 +20,20 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import java.nio.file.Paths;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
@@ -52,16 +57,26 @@ class MultipartDownloadJavaBasedTest {
     }
 
     @Test
-    void usingMultipartDownload_shouldNotThrowException() {
-        GetObjectResponse response = GetObjectResponse.builder().build();
+    void usingMultipartDownload_shouldNotThrowException(@TempDir Path tempDir) throws Exception {
+        Instant lastModified = Instant.now();
+        when(mockDelegate.headObject(any(HeadObjectRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(HeadObjectResponse.builder()
+                                                                            .contentLength(10L)
+                                                                            .lastModified(lastModified)
+                                                                            .eTag("etag")
+                                                                            .build()));
         when(mockDelegate.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
-            .thenReturn(CompletableFuture.completedFuture(response));
+            .thenReturn(CompletableFuture.completedFuture(GetObjectResponse.builder().build()));
+        Path destination = tempDir.resolve("key");
 
         CompletedFileDownload completedFileDownload = tm.downloadFile(d -> d.getObjectRequest(g -> g.bucket("bucket")
                                                                                                     .key("key"))
-                                                                            .destination(Paths.get(".")))
+                                                                            .destination(destination))
                                                         .completionFuture()
                                                         .join();
-        assertThat(completedFileDownload.response()).isEqualTo(response);
+        assertThat(completedFileDownload.response().contentLength()).isEqualTo(10L);
+        assertThat(completedFileDownload.response().lastModified()).isEqualTo(lastModified);
+        assertThat(completedFileDownload.response().eTag()).isEqualTo("etag");
+        assertThat(Files.size(destination)).isEqualTo(10L);
     }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.headRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
+import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
+import software.amazon.awssdk.transfer.s3.model.FileDownload;
+import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
+
+@WireMockTest
+@Timeout(10)
+public class ParallelFileDownloadWireMockTest {
+    private static final String BUCKET = "Example-Bucket";
+    private static final String KEY = "Example-Object";
+    private static final String PATH = "/" + BUCKET + "/" + KEY;
+    private static final String LAST_MODIFIED = "Fri, 13 May 2022 21:55:52 GMT";
+    private static final Instant LAST_MODIFIED_INSTANT = Instant.parse("2022-05-13T21:55:52Z");
+    private static final byte[] CONTENT = "abcdefghijklmnopqrstuvwxy".getBytes();
+
+    private S3AsyncClient s3AsyncClient;
+    private S3TransferManager tm;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wiremock) {
+        s3AsyncClient = S3AsyncClient.builder()
+                                     .region(Region.US_EAST_1)
+                                     .endpointOverride(URI.create(wiremock.getHttpBaseUrl()))
+                                     .credentialsProvider(
+                                         StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                                     .multipartEnabled(true)
+                                     .multipartConfiguration(b -> b.minimumPartSizeInBytes(10L)
+                                                                   .maxInFlightDownloadParts(2))
+                                     .build();
+        tm = S3TransferManager.builder().s3Client(s3AsyncClient).build();
+        stubFor(head(urlEqualTo(PATH)).willReturn(aResponse().withStatus(200)
+                                                             .withHeader("Content-Length", String.valueOf(CONTENT.length))
+                                                             .withHeader("Last-Modified", LAST_MODIFIED)
+                                                             .withHeader("ETag", "\"etag\"")));
+        stubPart("bytes=0-9", 0, 10, 300);
+        stubPart("bytes=10-19", 10, 20, 0);
+        stubPart("bytes=20-24", 20, 25, 0);
+    }
+
+    @AfterEach
+    public void teardown() {
+        tm.close();
+        s3AsyncClient.close();
+    }
+
+    @Test
+    void downloadFile_shouldWriteEachPartAtItsOffset(@TempDir Path tempDir) throws Exception {
+        Path destination = tempDir.resolve("object");
+        Files.write(destination, "existing content that is longer than the object".getBytes());
+
+        CompletedFileDownload completed = tm.downloadFile(downloadRequest(destination)).completionFuture().join();
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(completed.response().contentLength()).isEqualTo(CONTENT.length);
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9")));
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=10-19")));
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=20-24")));
+        verify(3, getRequestedFor(urlEqualTo(PATH)).withHeader("If-Match", equalTo("\"etag\"")));
+    }
+
+    @Test
+    void downloadFile_withRange_shouldDownloadRangeAsSingleRequest(@TempDir Path tempDir) throws Exception {
+        stubPart("bytes=5-14", 5, 15, 0);
+        Path destination = tempDir.resolve("object");
+        DownloadFileRequest downloadRequest =
+            DownloadFileRequest.builder()
+                               .getObjectRequest(r -> r.bucket(BUCKET).key(KEY).range("bytes=5-14"))
+                               .destination(destination)
+                               .build();
+
+        tm.downloadFile(downloadRequest).completionFuture().join();
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(Arrays.copyOfRange(CONTENT, 5, 15));
+        verify(0, headRequestedFor(urlEqualTo(PATH)));
+        verify(1, getRequestedFor(urlEqualTo(PATH)));
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=5-14")));
+    }
+
+    @Test
+    void resumeDownloadFile_withCompletedParts_shouldOnlyDownloadMissingParts(@TempDir Path tempDir) throws Exception {
+        Path destination = tempDir.resolve("object");
+        byte[] partialContent = Arrays.copyOf(CONTENT, CONTENT.length);
+        Arrays.fill(partialContent, 10, 20, (byte) 0);
+        Files.write(destination, partialContent);
+
+        ResumableFileDownload resumableFileDownload =
+            ResumableFileDownload.builder()
+                                 .downloadFileRequest(downloadRequest(destination))
+                                 .bytesTransferred(15L)
+                                 .totalSizeInBytes((long) CONTENT.length)
+                                 .s3ObjectLastModified(LAST_MODIFIED_INSTANT)
+                                 .fileLastModified(Instant.ofEpochMilli(destination.toFile().lastModified()))
+                                 .partSizeInBytes(10L)
+                                 .completedParts(Arrays.asList(0, 2))
+                                 .build();
+
+        tm.resumeDownloadFile(resumableFileDownload).completionFuture().join();
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        verify(1, getRequestedFor(urlEqualTo(PATH)));
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=10-19")));
+    }
+
+    @Test
+    void resumeDownloadFile_fileModified_shouldDownloadAllParts(@TempDir Path tempDir) throws Exception {
+        Path destination = tempDir.resolve("object");
+        Files.write(destination, new byte[CONTENT.length]);
+
+        ResumableFileDownload resumableFileDownload =
+            ResumableFileDownload.builder()
+                                 .downloadFileRequest(downloadRequest(destination))
+                                 .bytesTransferred(10L)
+                                 .totalSizeInBytes((long) CONTENT.length)
+                                 .s3ObjectLastModified(LAST_MODIFIED_INSTANT)
+                                 .fileLastModified(Instant.EPOCH)
+                                 .partSizeInBytes(10L)
+                                 .completedParts(Collections.singletonList(0))
+                                 .build();
+
+        tm.resumeDownloadFile(resumableFileDownload).completionFuture().join();
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        verify(3, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void pause_shouldRecordCompletedParts(@TempDir Path tempDir) throws Exception {
+        stubPart("bytes=20-24", 20, 25, 5000);
+        Path destination = tempDir.resolve("object");
+
+        FileDownload download = tm.downloadFile(downloadRequest(destination));
+        // Wait for the second part to complete, the first part is delayed and the last part is held back
+        Thread.sleep(1000);
+        ResumableFileDownload resumableFileDownload = download.pause();
+
+        assertThat(resumableFileDownload.partSizeInBytes()).hasValue(10L);
+        assertThat(resumableFileDownload.completedParts()).hasValue(Arrays.asList(0, 1));
+        assertThat(resumableFileDownload.bytesTransferred()).isEqualTo(20L);
+        assertThat(resumableFileDownload.totalSizeInBytes()).hasValue((long) CONTENT.length);
+        assertThat(resumableFileDownload.s3ObjectLastModified()).hasValue(LAST_MODIFIED_INSTANT);
+        assertThat(download.completionFuture()).isCancelled();
+        assertThat(destination).exists();
+    }
+
+    private static DownloadFileRequest downloadRequest(Path destination) {
+        return DownloadFileRequest.builder()
+                                  .getObjectRequest(r -> r.bucket(BUCKET).key(KEY))
+                                  .destination(destination)
+                                  .build();
+    }
+
+    private static void stubPart(String range, int from, int to, int delayInMillis) {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo(range))
+                                     .willReturn(aResponse().withStatus(206)
+                                                            .withBody(Arrays.copyOfRange(CONTENT, from, to))
+                                                            .withFixedDelay(delayInMillis)));
+    }
+}
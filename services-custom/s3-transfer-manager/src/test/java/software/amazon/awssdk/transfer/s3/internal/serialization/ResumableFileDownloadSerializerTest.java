@@ -94,6 +94,28 @@ class ResumableFileDownloadSerializerTest {
         assertThat(deserializedDownload).isEqualTo(download);
     }
 
+    @Test
+    void serializeDeserialize_withCompletedParts_ShouldPersistParts()  {
+        List<Integer> completedParts = Arrays.asList(0, 1, 2, 70);
+        ResumableFileDownload download =
+            ResumableFileDownload.builder()
+                                 .downloadFileRequest(downloadRequest(PATH, GET_OBJECT_REQUESTS.get("STANDARD")))
+                                 .bytesTransferred(4000L)
+                                 .totalSizeInBytes(80000L)
+                                 .fileLastModified(DATE1)
+                                 .s3ObjectLastModified(DATE2)
+                                 .partSizeInBytes(1000L)
+                                 .completedParts(completedParts)
+                                 .build();
+
+        byte[] serializedDownload = ResumableFileDownloadSerializer.toJson(download);
+        ResumableFileDownload deserializedDownload = ResumableFileDownloadSerializer.fromJson(serializedDownload);
+
+        assertThat(deserializedDownload).isEqualTo(download);
+        assertThat(deserializedDownload.partSizeInBytes()).hasValue(1000L);
+        assertThat(deserializedDownload.completedParts()).hasValue(completedParts);
+    }
+
     @Test
     void serializeDeserialize_DoesNotPersistConfiguration()  {
         ResumableFileDownload download =
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.utils.DateUtils.parseIso8601Date;
 
 import com.google.common.jimfs.Jimfs;
@@ -26,6 +27,9 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -117,6 +121,31 @@ class ResumableFileDownloadTest {
         assertThat(deserializedDownload).isEqualTo(standardDownloadObject);
     }
 
+    @Test
+    void completedParts_shouldBeDefensivelyCopiedAndUnmodifiable() {
+        List<Integer> completedParts = new ArrayList<>(Arrays.asList(3, 1, 3));
+        ResumableFileDownload download = standardDownloadObject.copy(d -> d.partSizeInBytes(100L)
+                                                                           .completedParts(completedParts));
+        completedParts.add(2);
+
+        assertThat(download.completedParts()).hasValue(Arrays.asList(1, 3));
+        assertThat(download.partSizeInBytes()).hasValue(100L);
+        assertThatThrownBy(() -> download.completedParts().get().add(4)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void completedParts_shouldBeIncludedInEqualsHashCodeAndToBuilder() {
+        ResumableFileDownload download = standardDownloadObject.copy(d -> d.partSizeInBytes(100L)
+                                                                           .completedParts(Arrays.asList(0, 2)));
+        ResumableFileDownload copy = download.toBuilder().build();
+        ResumableFileDownload otherParts = download.copy(d -> d.completedParts(Arrays.asList(0, 1)));
+
+        assertThat(copy).isEqualTo(download).hasSameHashCodeAs(download);
+        assertThat(copy.completedParts()).hasValue(Arrays.asList(0, 2));
+        assertThat(otherParts).isNotEqualTo(download);
+        assertThat(otherParts.hashCode()).isNotEqualTo(download.hashCode());
+    }
+
     private static ResumableFileDownload resumableFileDownload() {
         Path path = RandomTempFile.randomUncreatedFile().toPath();
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * An internal helper class that automatically uses ranged GET requests sent in parallel based on the size of the object.
+ */
+@SdkInternalApi
+public final class DownloadObjectHelper {
+    private static final Logger log = Logger.loggerFor(S3AsyncClient.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final long downloadThreshold;
+    private final int maxInFlightParts;
+    private final long apiCallBufferSize;
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, MultipartConfigurationResolver resolver) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSizeInBytes = resolver.minimalPartSizeInBytes();
+        this.downloadThreshold = resolver.thresholdInBytes();
+        this.maxInFlightParts = resolver.maxInFlightDownloadParts();
+        this.apiCallBufferSize = resolver.apiCallBufferSize();
+    }
+
+    public <ReturnT> CompletableFuture<ReturnT> downloadObject(
+        GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer) {
+
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            log.debug(() -> "Range or part number specified on the request, starting the download as a single request");
+            return s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
+        }
+
+        CompletableFuture<ReturnT> returnFuture = new CompletableFuture<>();
+
+        try {
+            CompletableFuture<HeadObjectResponse> headFuture =
+                s3AsyncClient.headObject(SdkPojoConversionUtils.toHeadObjectRequest(getObjectRequest));
+
+            // Ensure cancellations are forwarded to the head future
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, headFuture);
+
+            headFuture.whenComplete((headObjectResponse, throwable) -> {
+                if (throwable != null) {
+                    handleException(returnFuture, () -> "Failed to retrieve metadata from the object", throwable);
+                } else {
+                    doDownloadObject(getObjectRequest, asyncResponseTransformer, returnFuture, headObjectResponse);
+                }
+            });
+        } catch (Throwable throwable) {
+            returnFuture.completeExceptionally(throwable);
+        }
+
+        return returnFuture;
+    }
+
+    private <ReturnT> void doDownloadObject(GetObjectRequest getObjectRequest,
+                                            AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer,
+                                            CompletableFuture<ReturnT> returnFuture,
+                                            HeadObjectResponse headObjectResponse) {
+        Long contentLength = headObjectResponse.contentLength();
+
+        if (contentLength == null || contentLength <= partSizeInBytes || contentLength <= downloadThreshold) {
+            log.debug(() -> "Starting the download as a single request");
+            downloadInOneChunk(getObjectRequest, asyncResponseTransformer, returnFuture);
+            return;
+        }
+
+        int partCount = (int) Math.ceil(contentLength / (double) partSizeInBytes);
+        IntFunction<GetObjectRequest> partRequests = partRequestFactory(getObjectRequest, headObjectResponse, contentLength);
+        GetObjectResponse response = SdkPojoConversionUtils.toGetObjectResponse(headObjectResponse);
+
+        if (asyncResponseTransformer instanceof FileAsyncResponseTransformer) {
+            log.debug(() -> String.format("Starting multipart download to file with partCount: %d, partSize: %d",
+                                          partCount, partSizeInBytes));
+            new FilePartDownload<>(s3AsyncClient, (FileAsyncResponseTransformer<?>) asyncResponseTransformer,
+                                   partRequests, partCount, partSizeInBytes, maxInFlightParts,
+                                   response, returnFuture)
+                .start();
+        } else {
+            int bufferedParts = (int) Math.max(1, Math.min(maxInFlightParts, apiCallBufferSize / partSizeInBytes));
+            log.debug(() -> String.format("Starting multipart download with partCount: %d, partSize: %d, maxInFlightParts: %d",
+                                          partCount, partSizeInBytes, bufferedParts));
+            new OrderedPartDownload<>(s3AsyncClient, asyncResponseTransformer, partRequests, partCount, bufferedParts,
+                                      response, returnFuture)
+                .start();
+        }
+    }
+
+    /**
+     * Every part is sent with an {@code If-Match} on the ETag returned by the HEAD request, so that a part request fails rather
+     * than returning the content of an object that was overwritten during the download.
+     */
+    private IntFunction<GetObjectRequest> partRequestFactory(GetObjectRequest getObjectRequest,
+                                                             HeadObjectResponse headObjectResponse,
+                                                             long contentLength) {
+        String ifMatch = getObjectRequest.ifMatch() != null ? getObjectRequest.ifMatch() : headObjectResponse.eTag();
+        return partIndex -> {
+            long start = partIndex * partSizeInBytes;
+            long end = Math.min(start + partSizeInBytes, contentLength) - 1;
+            return getObjectRequest.toBuilder()
+                                   .range("bytes=" + start + "-" + end)
+                                   .ifMatch(ifMatch)
+                                   .build();
+        };
+    }
+
+    private <ReturnT> void downloadInOneChunk(GetObjectRequest getObjectRequest,
+                                              AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer,
+                                              CompletableFuture<ReturnT> returnFuture) {
+        CompletableFuture<ReturnT> getObjectFuture = s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, getObjectFuture);
+        CompletableFutureUtils.forwardResultTo(getObjectFuture, returnFuture);
+    }
+
+    static void handleException(CompletableFuture<?> returnFuture,
+                                Supplier<String> message,
+                                Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+
+        if (cause instanceof Error || cause instanceof SdkException) {
+            cause.addSuppressed(SdkClientException.create(message.get()));
+            returnFuture.completeExceptionally(cause);
+        } else {
+            SdkClientException exception = SdkClientException.create(message.get(), cause);
+            returnFuture.completeExceptionally(exception);
+        }
+    }
+}
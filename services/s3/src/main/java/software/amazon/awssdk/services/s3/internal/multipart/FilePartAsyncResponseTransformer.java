@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * {@link AsyncResponseTransformer} that writes the content of a single part to a shared file channel, starting at a fixed
+ * position. The channel is owned by the caller and is not closed by this transformer.
+ */
+@SdkInternalApi
+public final class FilePartAsyncResponseTransformer implements AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> {
+    private final AsynchronousFileChannel fileChannel;
+    private final long position;
+    private volatile CompletableFuture<Void> cf;
+    private volatile GetObjectResponse response;
+
+    public FilePartAsyncResponseTransformer(AsynchronousFileChannel fileChannel, long position) {
+        this.fileChannel = fileChannel;
+        this.position = position;
+    }
+
+    @Override
+    public CompletableFuture<GetObjectResponse> prepare() {
+        cf = new CompletableFuture<>();
+        return cf.thenApply(ignored -> response);
+    }
+
+    @Override
+    public void onResponse(GetObjectResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        // onStream may be called multiple times on retry, in which case the part is written again from its start
+        publisher.subscribe(new PartSubscriber(cf, position));
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable throwable) {
+        cf.completeExceptionally(throwable);
+    }
+
+    private final class PartSubscriber implements Subscriber<ByteBuffer> {
+        private final CompletableFuture<Void> future;
+        private volatile long nextPosition;
+        private Subscription subscription;
+        private boolean writeInProgress;
+        private boolean completeOnLastWrite;
+
+        private PartSubscriber(CompletableFuture<Void> future, long startingPosition) {
+            this.future = future;
+            this.nextPosition = startingPosition;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (this.subscription != null) {
+                s.cancel();
+                return;
+            }
+            this.subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            synchronized (this) {
+                writeInProgress = true;
+            }
+            performWrite(byteBuffer);
+        }
+
+        private void performWrite(ByteBuffer byteBuffer) {
+            fileChannel.write(byteBuffer, nextPosition, byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
+                @Override
+                public void completed(Integer result, ByteBuffer attachment) {
+                    nextPosition += result;
+
+                    if (byteBuffer.hasRemaining()) {
+                        performWrite(byteBuffer);
+                        return;
+                    }
+
+                    synchronized (PartSubscriber.this) {
+                        writeInProgress = false;
+                        if (completeOnLastWrite) {
+                            future.complete(null);
+                        } else {
+                            subscription.request(1);
+                        }
+                    }
+                }
+
+                @Override
+                public void failed(Throwable exc, ByteBuffer attachment) {
+                    subscription.cancel();
+                    future.completeExceptionally(exc);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            future.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                if (writeInProgress) {
+                    completeOnLastWrite = true;
+                } else {
+                    future.complete(null);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Downloads the parts of an object with parallel ranged GET requests and writes each part at its offset in the destination file
+ * of a {@link FileAsyncResponseTransformer} as soon as it arrives. Parts are never buffered in memory, so up to
+ * {@code maxInFlightParts} part requests are kept in flight regardless of the order in which they complete.
+ */
+@SdkInternalApi
+final class FilePartDownload<ReturnT> {
+    private static final Logger log = Logger.loggerFor(FilePartDownload.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final FileAsyncResponseTransformer<?> fileTransformer;
+    private final IntFunction<GetObjectRequest> partRequests;
+    private final int partCount;
+    private final long partSizeInBytes;
+    private final int maxInFlightParts;
+    private final GetObjectResponse response;
+    private final CompletableFuture<ReturnT> returnFuture;
+
+    private final Set<CompletableFuture<?>> inFlightParts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextPartToRequest = new AtomicInteger();
+    private final AtomicInteger remainingParts;
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private volatile AsynchronousFileChannel fileChannel;
+
+    FilePartDownload(S3AsyncClient s3AsyncClient,
+                     FileAsyncResponseTransformer<?> fileTransformer,
+                     IntFunction<GetObjectRequest> partRequests,
+                     int partCount,
+                     long partSizeInBytes,
+                     int maxInFlightParts,
+                     GetObjectResponse response,
+                     CompletableFuture<ReturnT> returnFuture) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.fileTransformer = fileTransformer;
+        this.partRequests = partRequests;
+        this.partCount = partCount;
+        this.partSizeInBytes = partSizeInBytes;
+        this.maxInFlightParts = maxInFlightParts;
+        this.response = response;
+        this.returnFuture = returnFuture;
+        this.remainingParts = new AtomicInteger(partCount);
+    }
+
+    void start() {
+        try {
+            fileChannel = fileTransformer.openChannel();
+        } catch (Throwable throwable) {
+            DownloadObjectHelper.handleException(returnFuture, () -> "Failed to open " + fileTransformer.path(), throwable);
+            return;
+        }
+
+        returnFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                fail(t);
+            }
+        });
+
+        for (int i = 0; i < maxInFlightParts; i++) {
+            requestNextPart();
+        }
+    }
+
+    private void requestNextPart() {
+        int partIndex = nextPartToRequest.getAndIncrement();
+        if (partIndex >= partCount || failed.get()) {
+            return;
+        }
+
+        GetObjectRequest partRequest = partRequests.apply(partIndex);
+        log.debug(() -> "Sending getObject request with range: " + partRequest.range());
+
+        long position = fileTransformer.position() + partIndex * partSizeInBytes;
+        CompletableFuture<GetObjectResponse> partFuture =
+            s3AsyncClient.getObject(partRequest, new FilePartAsyncResponseTransformer(fileChannel, position));
+        inFlightParts.add(partFuture);
+        partFuture.whenComplete((partResponse, throwable) -> {
+            inFlightParts.remove(partFuture);
+            if (throwable != null) {
+                fail(throwable);
+            } else if (remainingParts.decrementAndGet() == 0) {
+                complete();
+            } else {
+                requestNextPart();
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete() {
+        try {
+            fileChannel.close();
+        } catch (Throwable throwable) {
+            fail(throwable);
+            return;
+        }
+        // A FileAsyncResponseTransformer always returns the response it was given
+        returnFuture.complete((ReturnT) response);
+    }
+
+    private void fail(Throwable throwable) {
+        if (!failed.compareAndSet(false, true)) {
+            return;
+        }
+
+        inFlightParts.forEach(f -> f.cancel(true));
+        try {
+            invokeSafely(fileChannel::close);
+        } finally {
+            if (fileTransformer.configuration().failureBehavior() == FailureBehavior.DELETE) {
+                invokeSafely(() -> Files.deleteIfExists(fileTransformer.path()));
+            }
+        }
+        DownloadObjectHelper.handleException(returnFuture, () -> "Failed to send multipart download requests", throwable);
+    }
+}
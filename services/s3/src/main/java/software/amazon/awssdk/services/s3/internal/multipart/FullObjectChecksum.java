@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.internal.CrcCombine;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * A CRC32 or CRC32C checksum of the whole object, provided on a {@link PutObjectRequest} that is uploaded in parts.
+ * <p>
+ * S3 validates the checksum of a multipart upload against the checksums of its parts rather than against the checksum of the
+ * whole object. To still validate the provided checksum, the parts are uploaded with the same algorithm and the checksum of the
+ * whole object is combined from the checksums S3 returns for each part, without reading the data again.
+ */
+@SdkInternalApi
+final class FullObjectChecksum {
+    private final ChecksumAlgorithm algorithm;
+    private final String expectedChecksum;
+
+    private FullObjectChecksum(ChecksumAlgorithm algorithm, String expectedChecksum) {
+        this.algorithm = algorithm;
+        this.expectedChecksum = expectedChecksum;
+    }
+
+    /**
+     * Returns the full-object checksum provided on the request, or {@code null} if the request does not have a CRC32 or CRC32C
+     * checksum value, or if it requests the parts to be uploaded with a different algorithm.
+     */
+    static FullObjectChecksum fromRequest(PutObjectRequest putObjectRequest) {
+        ChecksumAlgorithm requestedAlgorithm = putObjectRequest.checksumAlgorithm();
+        if (putObjectRequest.checksumCRC32C() != null && putObjectRequest.checksumCRC32() == null
+            && (requestedAlgorithm == null || requestedAlgorithm == ChecksumAlgorithm.CRC32_C)) {
+            return new FullObjectChecksum(ChecksumAlgorithm.CRC32_C, putObjectRequest.checksumCRC32C());
+        }
+        if (putObjectRequest.checksumCRC32() != null && putObjectRequest.checksumCRC32C() == null
+            && (requestedAlgorithm == null || requestedAlgorithm == ChecksumAlgorithm.CRC32)) {
+            return new FullObjectChecksum(ChecksumAlgorithm.CRC32, putObjectRequest.checksumCRC32());
+        }
+        return null;
+    }
+
+    /**
+     * Creates the multipart upload with the algorithm of the part checksums. S3 rejects part checksums of an algorithm that
+     * the multipart upload was not created with.
+     */
+    PutObjectRequest applyAlgorithmTo(PutObjectRequest putObjectRequest) {
+        if (putObjectRequest.checksumAlgorithm() != null) {
+            return putObjectRequest;
+        }
+        return putObjectRequest.toBuilder().checksumAlgorithm(algorithm).build();
+    }
+
+    /**
+     * Makes S3 return the checksum of the part, so that it can be combined into the checksum of the whole object.
+     */
+    UploadPartRequest applyTo(UploadPartRequest uploadPartRequest) {
+        if (uploadPartRequest.checksumAlgorithm() != null) {
+            return uploadPartRequest;
+        }
+        return uploadPartRequest.toBuilder().checksumAlgorithm(algorithm).build();
+    }
+
+    /**
+     * Removes the full-object checksum from the request, once it has been validated against the checksums of the parts.
+     */
+    PutObjectRequest removeFrom(PutObjectRequest putObjectRequest) {
+        return putObjectRequest.toBuilder().checksumCRC32(null).checksumCRC32C(null).build();
+    }
+
+    /**
+     * Combines the checksums of the parts into the checksum of the whole object. Every part but the last is {@code partSize}
+     * bytes long.
+     *
+     * @return the base64-encoded checksum of the whole object, or {@code null} if a part does not have a checksum of this
+     * algorithm, e.g. because it was uploaded before a pause without one.
+     */
+    String combinePartChecksums(CompletedPart[] parts, long contentLength, long partSize) {
+        long crc = 0;
+        for (int i = 0; i < parts.length; i++) {
+            String partChecksum = algorithm == ChecksumAlgorithm.CRC32_C ? parts[i].checksumCRC32C() : parts[i].checksumCRC32();
+            if (partChecksum == null) {
+                return null;
+            }
+            long partLength = i == parts.length - 1 ? contentLength - partSize * i : partSize;
+            long partCrc = decode(partChecksum);
+            crc = algorithm == ChecksumAlgorithm.CRC32_C ? CrcCombine.combineCrc32C(crc, partCrc, partLength)
+                                                         : CrcCombine.combineCrc32(crc, partCrc, partLength);
+        }
+        return BinaryUtils.toBase64(ByteBuffer.allocate(Integer.BYTES).putInt((int) crc).array());
+    }
+
+    ChecksumAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    String expectedChecksum() {
+        return expectedChecksum;
+    }
+
+    boolean matches(String checksum) {
+        return decode(expectedChecksum) == decode(checksum);
+    }
+
+    private static long decode(String checksum) {
+        return ByteBuffer.wrap(BinaryUtils.fromBase64(checksum)).getInt() & 0xFFFFFFFFL;
+    }
+}
@@ -32,6 +32,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -55,6 +56,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final AtomicInteger partNumber = new AtomicInteger(1);
     private final MultipartUploadHelper multipartUploadHelper;
     private final long partSize;
+    private final long contentLength;
     private final int partCount;
     private final int numExistingParts;
     private final String uploadId;
@@ -64,6 +66,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final AtomicReferenceArray<CompletedPart> completedParts;
     private final Map<Integer, CompletedPart> existingParts;
     private final PublisherListener<Long> progressListener;
+    private final FullObjectChecksum fullObjectChecksum;
     private Subscription subscription;
     private volatile boolean isDone;
     private volatile boolean isPaused;
@@ -77,8 +80,10 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                                                  CompletableFuture<PutObjectResponse> returnFuture,
                                                  MultipartUploadHelper multipartUploadHelper) {
         this.partSize = mpuRequestContext.partSize();
-        this.partCount = determinePartCount(mpuRequestContext.contentLength(), partSize);
+        this.contentLength = mpuRequestContext.contentLength();
+        this.partCount = determinePartCount(contentLength, partSize);
         this.putObjectRequest = mpuRequestContext.request().left();
+        this.fullObjectChecksum = FullObjectChecksum.fromRequest(putObjectRequest);
         this.returnFuture = returnFuture;
         this.uploadId = mpuRequestContext.uploadId();
         this.existingParts = mpuRequestContext.existingParts() == null ? new HashMap<>() : mpuRequestContext.existingParts();
@@ -159,6 +164,9 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
         UploadPartRequest uploadRequest = SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest,
                                                                                      partNumber.getAndIncrement(),
                                                                                      uploadId);
+        if (fullObjectChecksum != null) {
+            uploadRequest = fullObjectChecksum.applyTo(uploadRequest);
+        }
 
         Consumer<CompletedPart> completedPartConsumer = completedPart -> completedParts.set(completedPart.partNumber() - 1,
                                                                                             completedPart);
@@ -210,7 +218,30 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                 // List of CompletedParts needs to be in ascending order
                 parts = mergeCompletedParts();
             }
-            completeMpuFuture = multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest);
+
+            PutObjectRequest completeRequest = putObjectRequest;
+            if (fullObjectChecksum != null) {
+                String combinedChecksum = fullObjectChecksum.combinePartChecksums(parts, contentLength, partSize);
+                if (combinedChecksum != null) {
+                    if (!fullObjectChecksum.matches(combinedChecksum)) {
+                        failOnChecksumMismatch(combinedChecksum);
+                        return;
+                    }
+                    completeRequest = fullObjectChecksum.removeFrom(putObjectRequest);
+                }
+            }
+            completeMpuFuture = multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, completeRequest);
+        }
+    }
+
+    private void failOnChecksumMismatch(String combinedChecksum) {
+        SdkClientException exception =
+            SdkClientException.create(String.format("The %s checksum provided for the object (%s) does not match the checksum "
+                                                    + "computed from the checksums of its parts (%s).",
+                                                    fullObjectChecksum.algorithm(), fullObjectChecksum.expectedChecksum(),
+                                                    combinedChecksum));
+        if (failureActionInitiated.compareAndSet(false, true)) {
+            multipartUploadHelper.failRequestsElegantly(futures, exception, uploadId, returnFuture, putObjectRequest);
         }
     }
 
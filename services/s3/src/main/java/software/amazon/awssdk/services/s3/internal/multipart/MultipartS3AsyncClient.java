@@ -42,9 +42,10 @@ import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.utils.Validate;
 
 /**
- * An {@link S3AsyncClient} that automatically converts PUT, COPY requests to their respective multipart call. CRC32 will be
- * enabled for the PUT and COPY requests, unless the the checksum is specified or checksum validation is disabled.
- * Note: GET is not yet supported.
+ * An {@link S3AsyncClient} that automatically converts PUT, COPY requests to their respective multipart call, and GET requests
+ * to parallel ranged GET requests. CRC32 will be enabled for the PUT and COPY requests, unless the the checksum is specified or
+ * checksum validation is disabled. A CRC32 or CRC32C checksum of the whole object specified on a PUT request of known content
+ * length is validated against the checksums of the uploaded parts before the multipart upload is completed.
  *
  * @see MultipartConfiguration
  */
@@ -55,16 +56,19 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
 
     private final UploadObjectHelper mpuHelper;
     private final CopyObjectHelper copyObjectHelper;
+    private final DownloadObjectHelper downloadObjectHelper;
+    private final MultipartConfigurationResolver resolver;
 
     private MultipartS3AsyncClient(S3AsyncClient delegate, MultipartConfiguration multipartConfiguration) {
         super(delegate);
         MultipartConfiguration validConfiguration = Validate.getOrDefault(multipartConfiguration,
                                                                           MultipartConfiguration.builder()::build);
-        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(validConfiguration);
+        resolver = new MultipartConfigurationResolver(validConfiguration);
         long minPartSizeInBytes = resolver.minimalPartSizeInBytes();
         long threshold = resolver.thresholdInBytes();
         mpuHelper = new UploadObjectHelper(delegate, resolver);
         copyObjectHelper = new CopyObjectHelper(delegate, minPartSizeInBytes, threshold);
+        downloadObjectHelper = new DownloadObjectHelper(delegate, resolver);
     }
 
     @Override
@@ -111,10 +115,14 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
     @Override
     public <ReturnT> CompletableFuture<ReturnT> getObject(
         GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer) {
-        // TODO uncomment once implemented
-        // getObjectRequest = getObjectRequest.toBuilder().checksumMode(ChecksumMode.ENABLED).build();
-        throw new UnsupportedOperationException(
-            "Multipart download is not yet supported. Instead use the CRT based S3 client for multipart download.");
+        return downloadObjectHelper.downloadObject(getObjectRequest, asyncResponseTransformer);
+    }
+
+    /**
+     * The multipart configuration of this client, with defaults applied.
+     */
+    public MultipartConfigurationResolver resolvedConfiguration() {
+        return resolver;
     }
 
     @Override
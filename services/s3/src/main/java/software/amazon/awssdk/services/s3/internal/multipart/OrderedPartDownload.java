@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Downloads the parts of an object with parallel ranged GET requests and delivers their content, in order, to an
+ * {@link AsyncResponseTransformer}.
+ * <p>
+ * Parts that complete ahead of the part currently being delivered are buffered in memory. A new part request is only sent once
+ * the content of a previous part has been consumed by the transformer, so at most {@code maxInFlightParts} parts are being
+ * downloaded or buffered at any time.
+ */
+@SdkInternalApi
+final class OrderedPartDownload<ReturnT> {
+    private static final Logger log = Logger.loggerFor(OrderedPartDownload.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer;
+    private final IntFunction<GetObjectRequest> partRequests;
+    private final int partCount;
+    private final int maxInFlightParts;
+    private final GetObjectResponse response;
+    private final CompletableFuture<ReturnT> returnFuture;
+
+    private final SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+    private final AtomicReferenceArray<ByteBuffer> completedParts;
+    private final Set<CompletableFuture<?>> inFlightParts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextPartToRequest = new AtomicInteger();
+    private final AtomicInteger deliveryWip = new AtomicInteger();
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    /**
+     * Only accessed by the thread that won {@link #deliveryWip}.
+     */
+    private int nextPartToDeliver;
+
+    OrderedPartDownload(S3AsyncClient s3AsyncClient,
+                        AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer,
+                        IntFunction<GetObjectRequest> partRequests,
+                        int partCount,
+                        int maxInFlightParts,
+                        GetObjectResponse response,
+                        CompletableFuture<ReturnT> returnFuture) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.asyncResponseTransformer = asyncResponseTransformer;
+        this.partRequests = partRequests;
+        this.partCount = partCount;
+        this.maxInFlightParts = maxInFlightParts;
+        this.response = response;
+        this.returnFuture = returnFuture;
+        this.completedParts = new AtomicReferenceArray<>(partCount);
+    }
+
+    void start() {
+        CompletableFuture<ReturnT> transformFuture = asyncResponseTransformer.prepare();
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, transformFuture);
+        CompletableFutureUtils.forwardResultTo(transformFuture, returnFuture);
+        returnFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                fail(t);
+            }
+        });
+
+        asyncResponseTransformer.onResponse(response);
+        asyncResponseTransformer.onStream(SdkPublisher.adapt(publisher));
+
+        for (int i = 0; i < maxInFlightParts; i++) {
+            requestNextPart();
+        }
+    }
+
+    private void requestNextPart() {
+        int partIndex = nextPartToRequest.getAndIncrement();
+        if (partIndex >= partCount || failed.get()) {
+            return;
+        }
+
+        GetObjectRequest partRequest = partRequests.apply(partIndex);
+        log.debug(() -> "Sending getObject request with range: " + partRequest.range());
+
+        CompletableFuture<ResponseBytes<GetObjectResponse>> partFuture =
+            s3AsyncClient.getObject(partRequest, AsyncResponseTransformer.toBytes());
+        inFlightParts.add(partFuture);
+        partFuture.whenComplete((partBytes, throwable) -> {
+            inFlightParts.remove(partFuture);
+            if (throwable != null) {
+                fail(throwable);
+            } else {
+                completedParts.set(partIndex, partBytes.asByteBuffer());
+                deliverCompletedParts();
+            }
+        });
+    }
+
+    private void deliverCompletedParts() {
+        if (deliveryWip.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            ByteBuffer part;
+            while (nextPartToDeliver < partCount && (part = completedParts.getAndSet(nextPartToDeliver, null)) != null) {
+                nextPartToDeliver++;
+                publisher.send(part).whenComplete((r, t) -> {
+                    if (t != null) {
+                        fail(t);
+                    } else {
+                        requestNextPart();
+                    }
+                });
+            }
+
+            if (nextPartToDeliver == partCount) {
+                nextPartToDeliver++;
+                publisher.complete();
+            }
+        } while (deliveryWip.decrementAndGet() != 0);
+    }
+
+    private void fail(Throwable throwable) {
+        if (!failed.compareAndSet(false, true)) {
+            return;
+        }
+
+        inFlightParts.forEach(f -> f.cancel(true));
+        publisher.error(throwable);
+        DownloadObjectHelper.handleException(returnFuture, () -> "Failed to send multipart download requests", throwable);
+    }
+}
@@ -33,7 +33,10 @@ import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
 import software.amazon.awssdk.services.s3.model.CopyObjectResult;
 import software.amazon.awssdk.services.s3.model.CopyPartResult;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListPartsRequest;
 import software.amazon.awssdk.services.s3.model.Part;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -96,6 +99,24 @@ public final class SdkPojoConversionUtils {
                                 .build();
     }
 
+    public static HeadObjectRequest toHeadObjectRequest(GetObjectRequest getObjectRequest) {
+        HeadObjectRequest.Builder builder = HeadObjectRequest.builder();
+        setSdkFields(builder, getObjectRequest);
+        getObjectRequest.overrideConfiguration().ifPresent(builder::overrideConfiguration);
+        return builder.build();
+    }
+
+    public static GetObjectResponse toGetObjectResponse(HeadObjectResponse response) {
+        GetObjectResponse.Builder builder = GetObjectResponse.builder();
+
+        setSdkFields(builder, response);
+
+        builder.responseMetadata(response.responseMetadata());
+        builder.sdkHttpResponse(response.sdkHttpResponse());
+
+        return builder.build();
+    }
+
     public static CompletedPart toCompletedPart(CopyPartResult copyPartResult, int partNumber) {
         CompletedPart.Builder builder = CompletedPart.builder();
 
@@ -102,8 +102,11 @@ public final class UploadWithKnownContentLengthHelper {
 
     private void initiateNewUpload(PutObjectRequest putObjectRequest, long contentLength, AsyncRequestBody asyncRequestBody,
                                    CompletableFuture<PutObjectResponse> returnFuture) {
+        FullObjectChecksum fullObjectChecksum = FullObjectChecksum.fromRequest(putObjectRequest);
+        PutObjectRequest createRequest = fullObjectChecksum == null ? putObjectRequest
+                                                                    : fullObjectChecksum.applyAlgorithmTo(putObjectRequest);
         CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
-            multipartUploadHelper.createMultipartUpload(putObjectRequest, returnFuture);
+            multipartUploadHelper.createMultipartUpload(createRequest, returnFuture);
 
         createMultipartUploadFuture.whenComplete((createMultipartUploadResponse, throwable) -> {
             if (throwable != null) {
@@ -32,9 +32,9 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * {@link S3AsyncClient#putObject(Consumer, AsyncRequestBody)}, {@link S3AsyncClient#copyObject(CopyObjectRequest)} to their
  * respective multipart operation.
  * <p>
- * <em>Note</em>: The multipart operation for {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer)} is
- * temporarily disabled and will result in throwing a {@link UnsupportedOperationException} if called when configured for
- * multipart operation.
+ * {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer)} requests for objects larger than the threshold
+ * are downloaded as multiple ranged GET requests sent in parallel. Requests that already specify a {@code Range} or a
+ * {@code PartNumber} are sent as-is.
  */
 @SdkPublicApi
 public final class MultipartConfiguration implements ToCopyableBuilder<MultipartConfiguration.Builder, MultipartConfiguration> {
@@ -42,11 +42,13 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Integer maxInFlightDownloadParts;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.maxInFlightDownloadParts = builder.maxInFlightDownloadParts;
     }
 
     public static Builder builder() {
@@ -58,7 +60,8 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .maxInFlightDownloadParts(maxInFlightDownloadParts);
     }
 
     /**
@@ -87,6 +90,14 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * The maximum number of ranged GET requests that may be in flight at the same time for a single multipart download.
+     * @return the value of the configured maximum number of in-flight download parts.
+     */
+    public Integer maxInFlightDownloadParts() {
+        return this.maxInFlightDownloadParts;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -120,7 +131,7 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
 
         /**
          * Configures the part size, in bytes, to be used in each individual part requests.
-         * Only used for putObject and copyObject operations.
+         * Used for putObject, copyObject and getObject operations.
          * <p>
          * When uploading large payload, the size of the payload of each individual part requests might actually be
          * bigger than
@@ -161,12 +172,35 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures the maximum number of ranged GET requests the SDK will send in parallel when downloading a single object
+         * with multipart. Only used for getObject operations.
+         * <p>
+         * When the response is written to a file using {@link AsyncResponseTransformer#toFile}, each part is written at its
+         * offset in the file as soon as it arrives. For any other {@link AsyncResponseTransformer}, parts are delivered in
+         * order, so parts that arrive early are buffered in memory; the number of parts in flight is then also limited by
+         * {@link #apiCallBufferSizeInBytes(Long)}.
+         * <p>
+         * Default value: 8
+         *
+         * @param maxInFlightDownloadParts the maximum number of in-flight download parts.
+         * @return an instance of this builder.
+         */
+        Builder maxInFlightDownloadParts(Integer maxInFlightDownloadParts);
+
+        /**
+         * Indicates the value of the maximum number of in-flight download parts.
+         * @return the value of the maximum number of in-flight download parts.
+         */
+        Integer maxInFlightDownloadParts();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Integer maxInFlightDownloadParts;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -197,6 +231,17 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder maxInFlightDownloadParts(Integer maxInFlightDownloadParts) {
+            this.maxInFlightDownloadParts = maxInFlightDownloadParts;
+            return this;
+        }
+
+        @Override
+        public Integer maxInFlightDownloadParts() {
+            return maxInFlightDownloadParts;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+class FullObjectChecksumTest {
+    // Checksums of "1234", "56789" and "123456789"
+    private static final String CRC32C_PART_1 = "9jr07g==";
+    private static final String CRC32C_PART_2 = "g7Vl2A==";
+    private static final String CRC32C_OBJECT = "4waSgw==";
+    private static final String CRC32_PART_1 = "m+Pgow==";
+    private static final String CRC32_PART_2 = "Ex2gcA==";
+    private static final String CRC32_OBJECT = "y/Q5Jg==";
+
+    @Test
+    void fromRequest_noCrcValue_shouldReturnNull() {
+        assertThat(FullObjectChecksum.fromRequest(request().build())).isNull();
+        assertThat(FullObjectChecksum.fromRequest(request().checksumSHA256("sha").build())).isNull();
+    }
+
+    @Test
+    void fromRequest_differentAlgorithmRequested_shouldReturnNull() {
+        PutObjectRequest putObjectRequest = request().checksumCRC32C(CRC32C_OBJECT)
+                                                     .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                                                     .build();
+        assertThat(FullObjectChecksum.fromRequest(putObjectRequest)).isNull();
+    }
+
+    @Test
+    void applyTo_shouldSetPartChecksumAlgorithm() {
+        FullObjectChecksum checksum = FullObjectChecksum.fromRequest(request().checksumCRC32C(CRC32C_OBJECT).build());
+
+        UploadPartRequest uploadPartRequest = checksum.applyTo(UploadPartRequest.builder().partNumber(1).build());
+
+        assertThat(uploadPartRequest.checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32_C);
+    }
+
+    @Test
+    void combinePartChecksums_crc32c_shouldMatchChecksumOfObject() {
+        FullObjectChecksum checksum = FullObjectChecksum.fromRequest(request().checksumCRC32C(CRC32C_OBJECT).build());
+        CompletedPart[] parts = {
+            CompletedPart.builder().partNumber(1).checksumCRC32C(CRC32C_PART_1).build(),
+            CompletedPart.builder().partNumber(2).checksumCRC32C(CRC32C_PART_2).build()
+        };
+
+        String combined = checksum.combinePartChecksums(parts, 9, 4);
+
+        assertThat(combined).isEqualTo(CRC32C_OBJECT);
+        assertThat(checksum.matches(combined)).isTrue();
+    }
+
+    @Test
+    void combinePartChecksums_crc32_shouldMatchChecksumOfObject() {
+        FullObjectChecksum checksum = FullObjectChecksum.fromRequest(request().checksumCRC32(CRC32_OBJECT).build());
+        CompletedPart[] parts = {
+            CompletedPart.builder().partNumber(1).checksumCRC32(CRC32_PART_1).build(),
+            CompletedPart.builder().partNumber(2).checksumCRC32(CRC32_PART_2).build()
+        };
+
+        assertThat(checksum.combinePartChecksums(parts, 9, 4)).isEqualTo(CRC32_OBJECT);
+    }
+
+    @Test
+    void combinePartChecksums_partsSwapped_shouldNotMatch() {
+        FullObjectChecksum checksum = FullObjectChecksum.fromRequest(request().checksumCRC32C(CRC32C_OBJECT).build());
+        CompletedPart[] parts = {
+            CompletedPart.builder().partNumber(1).checksumCRC32C(CRC32C_PART_2).build(),
+            CompletedPart.builder().partNumber(2).checksumCRC32C(CRC32C_PART_1).build()
+        };
+
+        assertThat(checksum.matches(checksum.combinePartChecksums(parts, 9, 5))).isFalse();
+    }
+
+    @Test
+    void combinePartChecksums_partWithoutChecksum_shouldReturnNull() {
+        FullObjectChecksum checksum = FullObjectChecksum.fromRequest(request().checksumCRC32C(CRC32C_OBJECT).build());
+        CompletedPart[] parts = {
+            CompletedPart.builder().partNumber(1).checksumCRC32C(CRC32C_PART_1).build(),
+            CompletedPart.builder().partNumber(2).build()
+        };
+
+        assertThat(checksum.combinePartChecksums(parts, 9, 4)).isNull();
+    }
+
+    @Test
+    void removeFrom_shouldRemoveCrcValues() {
+        PutObjectRequest putObjectRequest = request().checksumCRC32C(CRC32C_OBJECT).build();
+        FullObjectChecksum checksum = FullObjectChecksum.fromRequest(putObjectRequest);
+
+        PutObjectRequest completeRequest = checksum.removeFrom(putObjectRequest);
+
+        assertThat(completeRequest.checksumCRC32C()).isNull();
+        assertThat(completeRequest.bucket()).isEqualTo("bucket");
+    }
+
+    private static PutObjectRequest.Builder request() {
+        return PutObjectRequest.builder().bucket("bucket").key("key");
+    }
+}
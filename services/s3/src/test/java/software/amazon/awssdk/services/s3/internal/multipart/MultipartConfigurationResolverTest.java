@@ -65,11 +65,13 @@ public class MultipartConfigurationResolverTest {
                                                                      .minimumPartSizeInBytes(10L)
                                                                      .thresholdInBytes(8L)
                                                                      .apiCallBufferSizeInBytes(3L)
+                                                                     .maxInFlightDownloadParts(2)
                                                                      .build();
         MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
         assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(10L);
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(3L);
+        assertThat(resolver.maxInFlightDownloadParts()).isEqualTo(2);
     }
 
     @Test
@@ -79,5 +81,6 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(8L * 1024 * 1024 * 4);
+        assertThat(resolver.maxInFlightDownloadParts()).isEqualTo(8);
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+@WireMockTest
+@Timeout(10)
+public class S3MultipartClientGetObjectWiremockTest {
+
+    private static final String BUCKET = "Example-Bucket";
+    private static final String KEY = "Example-Object";
+    private static final String PATH = "/" + BUCKET + "/" + KEY;
+    private static final String ETAG = "\"etag\"";
+    private static final byte[] CONTENT = "abcdefghijklmnopqrstuvwxy".getBytes();
+
+    private S3AsyncClient s3AsyncClient;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wiremock) {
+        s3AsyncClient = S3AsyncClient.builder()
+                                     .region(Region.US_EAST_1)
+                                     .endpointOverride(URI.create("http://localhost:" + wiremock.getHttpPort()))
+                                     .credentialsProvider(
+                                         StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                                     .multipartEnabled(true)
+                                     .multipartConfiguration(b -> b.minimumPartSizeInBytes(10L)
+                                                                   .apiCallBufferSizeInBytes(30L)
+                                                                   .maxInFlightDownloadParts(3))
+                                     .httpClientBuilder(AwsCrtAsyncHttpClient.builder())
+                                     .build();
+    }
+
+    @Test
+    void getObject_objectLargerThanPartSize_shouldReassemblePartsInOrder() {
+        stubHeadObject(CONTENT.length);
+        stubPart("bytes=0-9", 0, 10, 500);
+        stubPart("bytes=10-19", 10, 20, 0);
+        stubPart("bytes=20-24", 20, 25, 0);
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asByteArray()).isEqualTo(CONTENT);
+        assertThat(response.response().contentLength()).isEqualTo(CONTENT.length);
+        verify(3, getRequestedFor(urlEqualTo(PATH)).withHeader("If-Match", equalTo(ETAG)));
+    }
+
+    @Test
+    void getObject_toFile_shouldWriteEachPartAtItsOffset(@TempDir Path tempDir) throws Exception {
+        stubHeadObject(CONTENT.length);
+        stubPart("bytes=0-9", 0, 10, 500);
+        stubPart("bytes=10-19", 10, 20, 0);
+        stubPart("bytes=20-24", 20, 25, 0);
+        Path destination = tempDir.resolve("object");
+
+        GetObjectResponse response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toFile(destination)).join();
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(response.contentLength()).isEqualTo(CONTENT.length);
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9")));
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=10-19")));
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=20-24")));
+    }
+
+    @Test
+    void getObject_objectSmallerThanThreshold_shouldSendSingleRequest() {
+        stubHeadObject(5);
+        stubFor(get(urlEqualTo(PATH)).willReturn(aResponse().withStatus(200).withBody("abcde")));
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asUtf8String()).isEqualTo("abcde");
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withoutHeader("Range"));
+    }
+
+    @Test
+    void getObject_rangeSpecified_shouldSendRequestAsIs() {
+        stubFor(get(urlEqualTo(PATH)).willReturn(aResponse().withStatus(206).withBody("abc")));
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY).range("bytes=0-2"),
+                                    AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asUtf8String()).isEqualTo("abc");
+        assertThat(findAll(anyRequestedFor(anyUrl()))).hasSize(1);
+    }
+
+    @Test
+    void getObject_onePartFails_shouldFailAndDeleteFile(@TempDir Path tempDir) {
+        stubHeadObject(CONTENT.length);
+        stubPart("bytes=0-9", 0, 10, 0);
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=10-19"))
+                                     .willReturn(aResponse().withStatus(412)));
+        stubPart("bytes=20-24", 20, 25, 0);
+        Path destination = tempDir.resolve("object");
+
+        assertThatThrownBy(() -> s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY),
+                                                         AsyncResponseTransformer.toFile(destination)).join())
+            .hasRootCauseInstanceOf(S3Exception.class);
+        assertThat(destination).doesNotExist();
+    }
+
+    private static void stubHeadObject(long contentLength) {
+        stubFor(head(urlEqualTo(PATH)).willReturn(aResponse().withStatus(200)
+                                                             .withHeader("Content-Length", String.valueOf(contentLength))
+                                                             .withHeader("ETag", ETAG)));
+    }
+
+    private static void stubPart(String range, int from, int to, int delayInMillis) {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo(range))
+                                     .willReturn(aResponse().withStatus(206)
+                                                            .withBody(Arrays.copyOfRange(CONTENT, from, to))
+                                                            .withFixedDelay(delayInMillis)));
+    }
+}
@@ -44,7 +44,10 @@ import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
 import software.amazon.awssdk.services.s3.model.CopyPartResult;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListPartsRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
@@ -75,6 +78,35 @@ class SdkPojoConversionUtilsTest {
                               HeadObjectRequest.builder().sdkFields());
     }
 
+    @Test
+    void toHeadObject_getObject_shouldCopyProperties() {
+        GetObjectRequest.Builder builder = GetObjectRequest.builder();
+        setFieldsToRandomValues(builder.sdkFields(), builder);
+        GetObjectRequest randomGetObject = builder.build();
+        HeadObjectRequest convertedToHeadObject = SdkPojoConversionUtils.toHeadObjectRequest(randomGetObject);
+        verifyFieldsAreCopied(randomGetObject, convertedToHeadObject, new HashSet<>(),
+                              GetObjectRequest.builder().sdkFields(),
+                              HeadObjectRequest.builder().sdkFields());
+    }
+
+    @Test
+    void toGetObjectResponse_shouldCopyProperties() {
+        HeadObjectResponse.Builder responseBuilder = HeadObjectResponse.builder();
+        setFieldsToRandomValues(responseBuilder.sdkFields(), responseBuilder);
+        S3ResponseMetadata s3ResponseMetadata = S3ResponseMetadata.create(DefaultAwsResponseMetadata.create(new HashMap<>()));
+        SdkHttpFullResponse sdkHttpFullResponse = SdkHttpFullResponse.builder().statusCode(200).build();
+        responseBuilder.responseMetadata(s3ResponseMetadata).sdkHttpResponse(sdkHttpFullResponse);
+        HeadObjectResponse result = responseBuilder.build();
+
+        GetObjectResponse convertedResponse = SdkPojoConversionUtils.toGetObjectResponse(result);
+        verifyFieldsAreCopied(result, convertedResponse, new HashSet<>(),
+                              HeadObjectResponse.builder().sdkFields(),
+                              GetObjectResponse.builder().sdkFields());
+
+        assertThat(convertedResponse.sdkHttpResponse()).isEqualTo(sdkHttpFullResponse);
+        assertThat(convertedResponse.responseMetadata()).isEqualTo(s3ResponseMetadata);
+    }
+
     @Test
     void toCompletedPart_copy_shouldCopyProperties() {
         CopyPartResult.Builder fromObject = CopyPartResult.builder();
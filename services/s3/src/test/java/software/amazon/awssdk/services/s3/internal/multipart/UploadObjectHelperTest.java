@@ -62,6 +62,7 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -254,6 +255,23 @@ public class UploadObjectHelperTest {
         assertThat(createMultipartFuture).isCancelled();
     }
 
+    @Test
+    void upload_knownContentLengthWithFullObjectChecksum_shouldCreateMultipartUploadWithChecksumAlgorithm() {
+        PutObjectRequest putObjectRequest = putObjectRequest(null).toBuilder()
+                                                                  .checksumCRC32C("AAAAAA==")
+                                                                  .build();
+
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(new CompletableFuture<>());
+
+        uploadHelper.uploadObject(putObjectRequest, AsyncRequestBody.fromFile(testFile));
+
+        ArgumentCaptor<CreateMultipartUploadRequest> createMpuArgumentCaptor =
+            ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(s3AsyncClient).createMultipartUpload(createMpuArgumentCaptor.capture());
+        assertThat(createMpuArgumentCaptor.getValue().checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32_C);
+    }
+
     @Test
     void upload_knownContentLengthCancelResponseFuture_shouldCancelUploadPart() {
         PutObjectRequest putObjectRequest = putObjectRequest(null);
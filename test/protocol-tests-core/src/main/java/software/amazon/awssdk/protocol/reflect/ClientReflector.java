@@ -24,6 +24,7 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.Metadata;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.protocol.model.TestCase;
 import software.amazon.awssdk.protocol.wiremock.WireMockUtils;
@@ -39,11 +40,17 @@ public class ClientReflector implements SdkAutoCloseable {
     private final Metadata metadata;
     private final Object client;
     private final Class<?> interfaceClass;
+    private final ClientOverrideConfiguration overrideConfiguration;
 
     public ClientReflector(IntermediateModel model) {
+        this(model, null);
+    }
+
+    public ClientReflector(IntermediateModel model, ClientOverrideConfiguration overrideConfiguration) {
         this.model = model;
         this.metadata = model.getMetadata();
         this.interfaceClass = getInterfaceClass();
+        this.overrideConfiguration = overrideConfiguration;
         this.client = createClient();
     }
 
@@ -98,6 +105,9 @@ public class ClientReflector implements SdkAutoCloseable {
             // Reflectively create a builder, configure it, and then create the client.
             Object untypedBuilder = interfaceClass.getMethod("builder").invoke(null);
             AwsClientBuilder<?, ?> builder = (AwsClientBuilder<?, ?>) untypedBuilder;
+            if (overrideConfiguration != null) {
+                builder.overrideConfiguration(overrideConfiguration);
+            }
             return builder.credentialsProvider(getMockCredentials())
                           .region(Region.US_EAST_1)
                           .endpointOverride(URI.create(getEndpoint()))
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocol.tests;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.protocol.ProtocolTestSuiteLoader;
+import software.amazon.awssdk.protocol.runners.ProtocolTestRunner;
+
+/**
+ * Runs the ec2 protocol suite with {@link SdkAdvancedClientOption#ENABLE_STREAMING_UNMARSHALLING} enabled, to verify that
+ * streaming unmarshalling produces the same results as the default tree-based unmarshalling.
+ */
+public class Ec2StreamingUnmarshallingProtocolTest extends ProtocolTestBase {
+
+    private static final ProtocolTestSuiteLoader testSuiteLoader = new ProtocolTestSuiteLoader();
+    private static ProtocolTestRunner testRunner;
+
+    @BeforeClass
+    public static void setupFixture() {
+        testRunner = new ProtocolTestRunner("/models/ec2-2016-03-11-intermediate.json",
+                                            ClientOverrideConfiguration.builder()
+                                                                       .putAdvancedOption(
+                                                                           SdkAdvancedClientOption.ENABLE_STREAMING_UNMARSHALLING,
+                                                                           true)
+                                                                       .build());
+    }
+
+    @Test
+    public void run() throws Exception {
+        testRunner.runTests(testSuiteLoader.load("ec2-suite.json"));
+    }
+}
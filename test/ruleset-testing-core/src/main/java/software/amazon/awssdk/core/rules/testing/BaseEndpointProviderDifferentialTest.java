@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.rules.testing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import software.amazon.awssdk.awscore.endpoints.AwsEndpointAttribute;
+import software.amazon.awssdk.endpoints.Endpoint;
+
+/**
+ * Verifies that the compiled endpoint provider of a service resolves the same endpoint, or fails with the same error, as the
+ * provider that interprets the service's ruleset.
+ */
+public class BaseEndpointProviderDifferentialTest {
+    protected final void verify(EndpointProviderDifferentialTestCase tc) {
+        Result interpreted = Result.of(tc.getInterpreted());
+        Result compiled = Result.of(tc.getCompiled());
+
+        if (interpreted.error != null) {
+            assertThat(compiled.error)
+                .as("Compiled provider resolved %s where the interpreting provider failed with: %s",
+                    compiled.endpoint == null ? null : compiled.endpoint.url(), interpreted.error.getMessage())
+                .isNotNull();
+            assertThat(compiled.error).hasMessage(interpreted.error.getMessage());
+            return;
+        }
+
+        assertThat(compiled.error)
+            .as("Compiled provider failed where the interpreting provider resolved %s", interpreted.endpoint.url())
+            .isNull();
+        assertThat(compiled.endpoint.url()).isEqualTo(interpreted.endpoint.url());
+        assertThat(compiled.endpoint.headers()).isEqualTo(interpreted.endpoint.headers());
+        AwsEndpointAttribute.values().forEach(attr -> {
+            assertThat(compiled.endpoint.attribute(attr)).isEqualTo(interpreted.endpoint.attribute(attr));
+        });
+    }
+
+    private static final class Result {
+        private final Endpoint endpoint;
+        private final Throwable error;
+
+        private Result(Endpoint endpoint, Throwable error) {
+            this.endpoint = endpoint;
+            this.error = error;
+        }
+
+        private static Result of(Supplier<Endpoint> resolve) {
+            try {
+                return new Result(resolve.get(), null);
+            } catch (CompletionException e) {
+                return new Result(null, e.getCause());
+            } catch (RuntimeException e) {
+                return new Result(null, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.rules.testing;
+
+import java.util.function.Supplier;
+import software.amazon.awssdk.endpoints.Endpoint;
+
+/**
+ * A test case that resolves the same endpoint parameters with the compiled and the interpreting endpoint providers of a
+ * service.
+ */
+public final class EndpointProviderDifferentialTestCase {
+    private final String documentation;
+    private final Supplier<Endpoint> compiled;
+    private final Supplier<Endpoint> interpreted;
+
+    public EndpointProviderDifferentialTestCase(String documentation,
+                                                Supplier<Endpoint> compiled,
+                                                Supplier<Endpoint> interpreted) {
+        this.documentation = documentation;
+        this.compiled = compiled;
+        this.interpreted = interpreted;
+    }
+
+    public Supplier<Endpoint> getCompiled() {
+        return compiled;
+    }
+
+    public Supplier<Endpoint> getInterpreted() {
+        return interpreted;
+    }
+
+    @Override
+    public String toString() {
+        return documentation;
+    }
+}
@@ -53,10 +53,12 @@ import software.amazon.awssdk.benchmark.coldstart.V2OptimizedClientCreationBench
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientDeleteV1MapperComparisonBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientGetOverheadBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientGetV1MapperComparisonBenchmark;
+import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientLazyItemBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientPutOverheadBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientPutV1MapperComparisonBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientQueryV1MapperComparisonBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientScanV1MapperComparisonBenchmark;
+import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientTableSchemaColdStartBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientUpdateV1MapperComparisonBenchmark;
 import software.amazon.awssdk.benchmark.stats.SdkBenchmarkResult;
 import software.amazon.awssdk.benchmark.utils.BenchmarkProcessorOutput;
@@ -91,7 +93,9 @@ public class BenchmarkRunner {
             EnhancedClientUpdateV1MapperComparisonBenchmark.class.getSimpleName(),
             EnhancedClientDeleteV1MapperComparisonBenchmark.class.getSimpleName(),
             EnhancedClientScanV1MapperComparisonBenchmark.class.getSimpleName(),
-            EnhancedClientQueryV1MapperComparisonBenchmark.class.getSimpleName()
+            EnhancedClientQueryV1MapperComparisonBenchmark.class.getSimpleName(),
+            EnhancedClientTableSchemaColdStartBenchmark.class.getSimpleName(),
+            EnhancedClientLazyItemBenchmark.class.getSimpleName()
     );
 
     private static final List<String> METRIC_BENCHMARKS = Arrays.asList(MetricsEnabledBenchmark.class.getSimpleName());
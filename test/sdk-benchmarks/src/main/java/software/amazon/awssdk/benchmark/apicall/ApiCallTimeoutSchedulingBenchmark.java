@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+import software.amazon.awssdk.core.internal.http.timers.SyncTimeoutTask;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+
+/**
+ * Benchmark comparing the cost of scheduling and cancelling an API call timeout on the client's
+ * {@link ScheduledExecutorService} versus the shared {@link HashedWheelTimer}, as done for every API call and API call attempt.
+ * Run with several threads to see the effect of lock contention on the executor's queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiCallTimeoutSchedulingBenchmark {
+
+    @Param({"EXECUTOR", "HASHED_WHEEL"})
+    private SchedulerType schedulerType;
+
+    private ScheduledExecutorService timeoutExecutor;
+    private TimeoutScheduler timeoutScheduler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Same configuration as the SDK's default scheduled executor service
+        timeoutExecutor = Executors.newScheduledThreadPool(5);
+        timeoutScheduler = schedulerType == SchedulerType.EXECUTOR
+                           ? TimeoutScheduler.forExecutor(timeoutExecutor)
+                           : TimeoutScheduler.forHashedWheelTimer(HashedWheelTimer.shared(), timeoutExecutor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        timeoutExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        return scheduleAndCancelTimeout();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean scheduleAndCancelContended() {
+        return scheduleAndCancelTimeout();
+    }
+
+    private boolean scheduleAndCancelTimeout() {
+        TimeoutTracker timeoutTracker = timeoutScheduler.schedule(new SyncTimeoutTask(Thread.currentThread()), 30_000);
+        timeoutTracker.cancel();
+        return timeoutTracker.hasExecuted();
+    }
+
+    public enum SchedulerType {
+        EXECUTOR,
+        HASHED_WHEEL
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ApiCallTimeoutSchedulingBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -22,6 +22,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -33,6 +34,9 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
 /**
@@ -46,13 +50,25 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncCli
 public class NettyClientH1NonTlsBenchmark extends BaseNettyBenchmark {
 
     private MockServer mockServer;
+    private SdkAsyncHttpClient sdkHttpClient;
+
+    /**
+     * The transport of the event loop group. io_uring falls back to NIO if it is not supported on the host.
+     */
+    @Param({"nio", "io_uring"})
+    private String transport;
 
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockServer();
         mockServer.start();
+        SdkEventLoopGroup.Builder eventLoopGroup = SdkEventLoopGroup.builder().preferIoUring("io_uring".equals(transport));
+        sdkHttpClient = NettyNioAsyncHttpClient.builder()
+                                               .eventLoopGroupBuilder(eventLoopGroup)
+                                               .build();
         client = ProtocolRestJsonAsyncClient.builder()
                                             .endpointOverride(mockServer.getHttpUri())
+                                            .httpClient(sdkHttpClient)
                                             .build();
         // Making sure the request actually succeeds
         client.allTypes().join();
@@ -61,6 +77,7 @@ public class NettyClientH1NonTlsBenchmark extends BaseNettyBenchmark {
     @TearDown(Level.Trial)
     public void tearDown() throws Exception {
         mockServer.stop();
+        sdkHttpClient.close();
         client.close();
     }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.protocol;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.ERROR_JSON_BODY;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_ALL_TYPES_REQUEST;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+
+/**
+ * Compares unmarshalling a large JSON response through the intermediate JsonNode tree with streaming unmarshalling, enabled
+ * with {@link SdkAdvancedClientOption#ENABLE_STREAMING_UNMARSHALLING}. Run with the GC profiler to compare allocation.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class JsonUnmarshallingBenchmark {
+
+    @Param({"false", "true"})
+    private boolean streamingUnmarshalling;
+
+    @Param({"10", "1000"})
+    private int itemCount;
+
+    private ProtocolRestJsonClient client;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = ProtocolRestJsonClient.builder()
+                                       .httpClient(new MockHttpClient(largeJsonBody(itemCount), ERROR_JSON_BODY))
+                                       .overrideConfiguration(o -> o.putAdvancedOption(
+                                           SdkAdvancedClientOption.ENABLE_STREAMING_UNMARSHALLING, streamingUnmarshalling))
+                                       .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public void successfulResponse(Blackhole blackhole) {
+        blackhole.consume(client.allTypes(JSON_ALL_TYPES_REQUEST));
+    }
+
+    private static String largeJsonBody(int itemCount) {
+        StringBuilder body = new StringBuilder("{\"StringMember\":\"foo\",\"IntegerMember\":123,\"BooleanMember\":true,"
+                                               + "\"TimestampMember\":1540982918.887,\"SimpleList\":[");
+        for (int i = 0; i < itemCount; i++) {
+            body.append(i == 0 ? "" : ",").append("\"item-").append(i).append('"');
+        }
+        body.append("],\"ListOfStructs\":[");
+        for (int i = 0; i < itemCount; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"StringMember\":\"listOfStructs").append(i).append("\"}");
+        }
+        body.append("],\"MapOfStringToString\":{");
+        for (int i = 0; i < itemCount; i++) {
+            body.append(i == 0 ? "" : ",").append("\"key-").append(i).append("\":\"value-").append(i).append('"');
+        }
+        return body.append("}}").toString();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(JsonUnmarshallingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
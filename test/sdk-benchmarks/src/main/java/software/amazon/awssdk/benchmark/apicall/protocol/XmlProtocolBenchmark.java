@@ -26,6 +26,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -36,6 +37,7 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
 
 /**
@@ -48,12 +50,17 @@ import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
 @BenchmarkMode(Mode.Throughput)
 public class XmlProtocolBenchmark implements SdkProtocolBenchmark {
 
+    @Param({"false", "true"})
+    private boolean streamingUnmarshalling;
+
     private ProtocolRestXmlClient client;
 
     @Setup(Level.Trial)
     public void setup() {
         client = ProtocolRestXmlClient.builder()
                                       .httpClient(new MockHttpClient(XML_BODY, ERROR_XML_BODY))
+                                      .overrideConfiguration(o -> o.putAdvancedOption(
+                                          SdkAdvancedClientOption.ENABLE_STREAMING_UNMARSHALLING, streamingUnmarshalling))
                                       .build();
     }
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.utils.cache.lru.ConcurrentLruCache;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * Benchmark comparing {@link LruCache} and {@link ConcurrentLruCache} when many threads read the cache concurrently, like the
+ * S3 Express identity cache does on every request. The key space is larger than the cache when {@code keySpace} is
+ * {@code MISSES}, to also exercise eviction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LruCacheContentionBenchmark {
+    private static final int CACHE_SIZE = 25;
+
+    @Param({"LRU_CACHE", "CONCURRENT_LRU_CACHE"})
+    private CacheType cacheType;
+
+    @Param({"HITS", "MISSES"})
+    private KeySpace keySpace;
+
+    private Function<Integer, String> cache;
+    private int numKeys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Function<Integer, String> valueSupplier = key -> Integer.toString(key);
+        if (cacheType == CacheType.LRU_CACHE) {
+            cache = LruCache.builder(valueSupplier).maxSize(CACHE_SIZE).build()::get;
+        } else {
+            cache = ConcurrentLruCache.builder(valueSupplier).maxSize(CACHE_SIZE).build()::get;
+        }
+        numKeys = keySpace == KeySpace.HITS ? CACHE_SIZE : CACHE_SIZE * 2;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String get() {
+        return cache.apply(ThreadLocalRandom.current().nextInt(numKeys));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String getContended() {
+        return cache.apply(ThreadLocalRandom.current().nextInt(numKeys));
+    }
+
+    public enum CacheType {
+        LRU_CACHE,
+        CONCURRENT_LRU_CACHE
+    }
+
+    public enum KeySpace {
+        HITS,
+        MISSES
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(LruCacheContentionBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
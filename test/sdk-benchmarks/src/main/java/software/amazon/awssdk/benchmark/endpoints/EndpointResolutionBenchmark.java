@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.endpoints;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.endpoint.EndpointResolutionCache;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointParams;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+import software.amazon.awssdk.services.sts.endpoints.StsEndpointParams;
+import software.amazon.awssdk.services.sts.endpoints.StsEndpointProvider;
+
+/**
+ * Benchmark of the latency of resolving an endpoint with the default endpoint providers of S3, DynamoDB and STS, which are
+ * generated from their compiled endpoint rulesets. {@code s3VirtualHostedBucketCached} resolves the same parameters through
+ * an {@link EndpointResolutionCache}, for comparison with rule evaluation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EndpointResolutionBenchmark {
+    private final S3EndpointProvider s3Provider = S3EndpointProvider.defaultProvider();
+    private final DynamoDbEndpointProvider dynamoDbProvider = DynamoDbEndpointProvider.defaultProvider();
+    private final StsEndpointProvider stsProvider = StsEndpointProvider.defaultProvider();
+    private final EndpointResolutionCache cache = EndpointResolutionCache.create(100);
+
+    private S3EndpointParams s3VirtualHostedBucketParams;
+    private S3EndpointParams s3PathStyleParams;
+    private S3EndpointParams s3AccessPointArnParams;
+    private DynamoDbEndpointParams dynamoDbParams;
+    private StsEndpointParams stsRegionalParams;
+    private StsEndpointParams stsGlobalParams;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        s3VirtualHostedBucketParams = S3EndpointParams.builder()
+                                                      .region(Region.US_WEST_2)
+                                                      .bucket("my-bucket")
+                                                      .build();
+        s3PathStyleParams = S3EndpointParams.builder()
+                                            .region(Region.US_WEST_2)
+                                            .bucket("my.bucket")
+                                            .forcePathStyle(true)
+                                            .build();
+        s3AccessPointArnParams = S3EndpointParams.builder()
+                                                 .region(Region.US_WEST_2)
+                                                 .bucket("arn:aws:s3:us-west-2:123456789012:accesspoint:my-access-point")
+                                                 .build();
+        dynamoDbParams = DynamoDbEndpointParams.builder()
+                                               .region(Region.US_EAST_1)
+                                               .build();
+        stsRegionalParams = StsEndpointParams.builder()
+                                             .region(Region.US_WEST_2)
+                                             .build();
+        stsGlobalParams = StsEndpointParams.builder()
+                                           .region(Region.US_EAST_1)
+                                           .useGlobalEndpoint(true)
+                                           .build();
+    }
+
+    @Benchmark
+    public Endpoint s3VirtualHostedBucket() {
+        return s3Provider.resolveEndpoint(s3VirtualHostedBucketParams).join();
+    }
+
+    @Benchmark
+    public Endpoint s3VirtualHostedBucketCached() {
+        return cache.resolveEndpoint(s3Provider, s3VirtualHostedBucketParams, s3Provider::resolveEndpoint, null);
+    }
+
+    @Benchmark
+    public Endpoint s3PathStyle() {
+        return s3Provider.resolveEndpoint(s3PathStyleParams).join();
+    }
+
+    @Benchmark
+    public Endpoint s3AccessPointArn() {
+        return s3Provider.resolveEndpoint(s3AccessPointArnParams).join();
+    }
+
+    @Benchmark
+    public Endpoint dynamoDb() {
+        return dynamoDbProvider.resolveEndpoint(dynamoDbParams).join();
+    }
+
+    @Benchmark
+    public Endpoint stsRegional() {
+        return stsProvider.resolveEndpoint(stsRegionalParams).join();
+    }
+
+    @Benchmark
+    public Endpoint stsGlobal() {
+        return stsProvider.resolveEndpoint(stsGlobalParams).join();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(EndpointResolutionBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
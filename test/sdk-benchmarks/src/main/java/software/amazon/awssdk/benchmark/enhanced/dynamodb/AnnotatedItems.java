@@ -0,0 +1,415 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+/**
+ * Annotated items whose table schemas are generated at compile time by the enhanced client annotation processor, and can also
+ * be introspected at runtime.
+ */
+public final class AnnotatedItems {
+    private AnnotatedItems() {
+    }
+
+    static WideBean wideBean() {
+        WideBean bean = new WideBean();
+        bean.setId("id");
+        bean.setSort(1);
+        bean.setName("name");
+        bean.setDescription("description");
+        bean.setCategory("category");
+        bean.setPrice(9.99);
+        bean.setQuantity(10L);
+        bean.setActive(true);
+        bean.setCreated(Instant.EPOCH);
+        bean.setData(SdkBytes.fromUtf8String("data"));
+        bean.setTags(Arrays.asList("a", "b", "c"));
+        bean.setLabels(new HashSet<>(Arrays.asList("x", "y")));
+        bean.setAttributes(Collections.singletonMap("key", "value"));
+        bean.setAddresses(Arrays.asList(address("1 Main St"), address("2 Side St")));
+        return bean;
+    }
+
+    static WideImmutable wideImmutable() {
+        return WideImmutable.builder()
+                            .id("id")
+                            .sort(1)
+                            .name("name")
+                            .description("description")
+                            .category("category")
+                            .price(9.99)
+                            .quantity(10L)
+                            .active(true)
+                            .created(Instant.EPOCH)
+                            .data(SdkBytes.fromUtf8String("data"))
+                            .tags(Arrays.asList("a", "b", "c"))
+                            .addresses(Arrays.asList(address("1 Main St"), address("2 Side St")))
+                            .build();
+    }
+
+    private static Address address(String street) {
+        Address address = new Address();
+        address.setStreet(street);
+        address.setCity("Seattle");
+        address.setZipCode("98101");
+        return address;
+    }
+
+    @DynamoDbBean
+    public static class WideBean {
+        private String id;
+        private int sort;
+        private String name;
+        private String description;
+        private String category;
+        private double price;
+        private Long quantity;
+        private boolean active;
+        private Instant created;
+        private SdkBytes data;
+        private List<String> tags;
+        private Set<String> labels;
+        private Map<String, String> attributes;
+        private List<Address> addresses;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @DynamoDbSortKey
+        public int getSort() {
+            return sort;
+        }
+
+        public void setSort(int sort) {
+            this.sort = sort;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        @DynamoDbSecondaryPartitionKey(indexNames = "category_index")
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public Long getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Long quantity) {
+            this.quantity = quantity;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        @DynamoDbAttribute("created_at")
+        public Instant getCreated() {
+            return created;
+        }
+
+        public void setCreated(Instant created) {
+            this.created = created;
+        }
+
+        public SdkBytes getData() {
+            return data;
+        }
+
+        public void setData(SdkBytes data) {
+            this.data = data;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Set<String> getLabels() {
+            return labels;
+        }
+
+        public void setLabels(Set<String> labels) {
+            this.labels = labels;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, String> attributes) {
+            this.attributes = attributes;
+        }
+
+        public List<Address> getAddresses() {
+            return addresses;
+        }
+
+        public void setAddresses(List<Address> addresses) {
+            this.addresses = addresses;
+        }
+    }
+
+    @DynamoDbImmutable(builder = WideImmutable.Builder.class)
+    public static final class WideImmutable {
+        private final String id;
+        private final int sort;
+        private final String name;
+        private final String description;
+        private final String category;
+        private final double price;
+        private final Long quantity;
+        private final boolean active;
+        private final Instant created;
+        private final SdkBytes data;
+        private final List<String> tags;
+        private final List<Address> addresses;
+
+        private WideImmutable(Builder builder) {
+            this.id = builder.id;
+            this.sort = builder.sort;
+            this.name = builder.name;
+            this.description = builder.description;
+            this.category = builder.category;
+            this.price = builder.price;
+            this.quantity = builder.quantity;
+            this.active = builder.active;
+            this.created = builder.created;
+            this.data = builder.data;
+            this.tags = builder.tags;
+            this.addresses = builder.addresses;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @DynamoDbPartitionKey
+        public String id() {
+            return id;
+        }
+
+        @DynamoDbSortKey
+        public int sort() {
+            return sort;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public String description() {
+            return description;
+        }
+
+        @DynamoDbSecondaryPartitionKey(indexNames = "category_index")
+        public String category() {
+            return category;
+        }
+
+        public double price() {
+            return price;
+        }
+
+        public Long quantity() {
+            return quantity;
+        }
+
+        public boolean active() {
+            return active;
+        }
+
+        @DynamoDbAttribute("created_at")
+        public Instant created() {
+            return created;
+        }
+
+        public SdkBytes data() {
+            return data;
+        }
+
+        public List<String> tags() {
+            return tags;
+        }
+
+        public List<Address> addresses() {
+            return addresses;
+        }
+
+        public static final class Builder {
+            private String id;
+            private int sort;
+            private String name;
+            private String description;
+            private String category;
+            private double price;
+            private Long quantity;
+            private boolean active;
+            private Instant created;
+            private SdkBytes data;
+            private List<String> tags;
+            private List<Address> addresses;
+
+            public Builder id(String id) {
+                this.id = id;
+                return this;
+            }
+
+            public Builder sort(int sort) {
+                this.sort = sort;
+                return this;
+            }
+
+            public Builder name(String name) {
+                this.name = name;
+                return this;
+            }
+
+            public Builder description(String description) {
+                this.description = description;
+                return this;
+            }
+
+            public Builder category(String category) {
+                this.category = category;
+                return this;
+            }
+
+            public Builder price(double price) {
+                this.price = price;
+                return this;
+            }
+
+            public Builder quantity(Long quantity) {
+                this.quantity = quantity;
+                return this;
+            }
+
+            public Builder active(boolean active) {
+                this.active = active;
+                return this;
+            }
+
+            public Builder created(Instant created) {
+                this.created = created;
+                return this;
+            }
+
+            public Builder data(SdkBytes data) {
+                this.data = data;
+                return this;
+            }
+
+            public Builder tags(List<String> tags) {
+                this.tags = tags;
+                return this;
+            }
+
+            public Builder addresses(List<Address> addresses) {
+                this.addresses = addresses;
+                return this;
+            }
+
+            public WideImmutable build() {
+                return new WideImmutable(this);
+            }
+        }
+    }
+
+    @DynamoDbBean
+    public static class Address {
+        private String street;
+        private String city;
+        private String zipCode;
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getZipCode() {
+            return zipCode;
+        }
+
+        public void setZipCode(String zipCode) {
+            this.zipCode = zipCode;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.enhanced.dynamodb.LazyItem;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.LazyItemTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Compares mapping a wide item retrieved from a table and reading some of its attributes, eagerly with
+ * {@link TableSchema#mapToItem(Map)} and lazily with a {@link LazyItemTableSchema}, for a mapped class and for documents.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EnhancedClientLazyItemBenchmark {
+    private static final int ATTRIBUTE_COUNT = 300;
+    private static final String[] ATTRIBUTE_NAMES = new String[ATTRIBUTE_COUNT];
+
+    static {
+        for (int i = 0; i < ATTRIBUTE_COUNT; i++) {
+            ATTRIBUTE_NAMES[i] = "attribute" + i;
+        }
+    }
+
+    @Param({"2", "30", "300"})
+    private int attributesRead;
+
+    private Map<String, AttributeValue> attributeValueMap;
+    private TableSchema<WideItem> itemTableSchema;
+    private TableSchema<LazyItem<WideItem>> lazyItemTableSchema;
+    private TableSchema<EnhancedDocument> documentTableSchema;
+    private TableSchema<LazyItem<EnhancedDocument>> lazyDocumentTableSchema;
+
+    @Setup
+    public void setup() {
+        StaticTableSchema.Builder<WideItem> builder = StaticTableSchema.builder(WideItem.class)
+                                                                       .newItemSupplier(WideItem::new);
+        for (int i = 0; i < ATTRIBUTE_COUNT; i++) {
+            int index = i;
+            builder.addAttribute(String.class, a -> a.name(ATTRIBUTE_NAMES[index])
+                                                     .getter(item -> item.get(index))
+                                                     .setter((item, value) -> item.set(index, value)));
+        }
+        builder.addAttribute(String.class, a -> a.name("id")
+                                                 .getter(WideItem::getId)
+                                                 .setter(WideItem::setId)
+                                                 .tags(StaticAttributeTags.primaryPartitionKey()));
+        itemTableSchema = builder.build();
+        lazyItemTableSchema = LazyItemTableSchema.create(itemTableSchema);
+        documentTableSchema = TableSchema.documentSchemaBuilder().build();
+        lazyDocumentTableSchema = LazyItemTableSchema.create(documentTableSchema);
+
+        attributeValueMap = new HashMap<>();
+        attributeValueMap.put("id", AttributeValue.builder().s("id").build());
+        for (int i = 0; i < ATTRIBUTE_COUNT; i++) {
+            attributeValueMap.put(ATTRIBUTE_NAMES[i], AttributeValue.builder().s("value of attribute " + i).build());
+        }
+    }
+
+    @Benchmark
+    public void eagerItem(Blackhole blackhole) {
+        WideItem item = itemTableSchema.mapToItem(attributeValueMap);
+        for (int i = 0; i < attributesRead; i++) {
+            blackhole.consume(item.get(i));
+        }
+    }
+
+    @Benchmark
+    public void lazyItem(Blackhole blackhole) {
+        LazyItem<WideItem> item = lazyItemTableSchema.mapToItem(attributeValueMap);
+        for (int i = 0; i < attributesRead; i++) {
+            blackhole.consume(item.get(ATTRIBUTE_NAMES[i], String.class));
+        }
+    }
+
+    @Benchmark
+    public void eagerDocument(Blackhole blackhole) {
+        EnhancedDocument document = documentTableSchema.mapToItem(attributeValueMap);
+        for (int i = 0; i < attributesRead; i++) {
+            blackhole.consume(document.getString(ATTRIBUTE_NAMES[i]));
+        }
+    }
+
+    @Benchmark
+    public void lazyDocument(Blackhole blackhole) {
+        LazyItem<EnhancedDocument> document = lazyDocumentTableSchema.mapToItem(attributeValueMap);
+        for (int i = 0; i < attributesRead; i++) {
+            blackhole.consume(document.get(ATTRIBUTE_NAMES[i], String.class));
+        }
+    }
+
+    public static final class WideItem {
+        private final String[] values = new String[ATTRIBUTE_COUNT];
+        private String id;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String get(int index) {
+            return values[index];
+        }
+
+        public void set(int index, String value) {
+            values[index] = value;
+        }
+    }
+}
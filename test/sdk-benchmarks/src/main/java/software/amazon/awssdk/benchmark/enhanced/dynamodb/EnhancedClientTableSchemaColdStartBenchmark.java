@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.benchmark.enhanced.dynamodb.AnnotatedItems.WideBean;
+import software.amazon.awssdk.benchmark.enhanced.dynamodb.AnnotatedItems.WideImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Measures the time to create the table schema of an annotated class and map the first item with it, in a fresh JVM, which is
+ * what an application pays on its first request. The introspected schemas are created with reflection at runtime, and the
+ * generated schemas are created by the code the enhanced client annotation processor generated at compile time.
+ * <p>
+ * {@link TableSchema#fromClass(Class)} silently falls back to an introspected schema when the generated one is missing or
+ * cannot be used, so the generated benchmarks fail unless it returns a {@link StaticTableSchema} or
+ * {@link StaticImmutableTableSchema}. The schema is cached once created, so this is checked on the measured call rather than
+ * by creating it in {@link #setup()}, which only checks that the generated classes are on the classpath without loading them.
+ * <p>
+ * The annotation processor runs over every annotated class in this module, so any benchmark that calls
+ * {@link TableSchema#fromClass(Class)}, directly or through a flattened member of an introspected schema, measures the
+ * generated schemas rather than introspection. Benchmarks that mean to measure introspection must use
+ * {@link TableSchema#fromBean(Class)} or {@link TableSchema#fromImmutableClass(Class)}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class EnhancedClientTableSchemaColdStartBenchmark {
+    private WideBean bean;
+    private WideImmutable immutable;
+
+    @Setup
+    public void setup() {
+        requireGeneratedSchemaClass(WideBean.class);
+        requireGeneratedSchemaClass(WideImmutable.class);
+        bean = AnnotatedItems.wideBean();
+        immutable = AnnotatedItems.wideImmutable();
+    }
+
+    @Benchmark
+    public Object introspectedBeanSchema() {
+        return TableSchema.fromBean(WideBean.class).itemToMap(bean, true);
+    }
+
+    @Benchmark
+    public Object generatedBeanSchema() {
+        return requireGenerated(TableSchema.fromClass(WideBean.class), StaticTableSchema.class).itemToMap(bean, true);
+    }
+
+    @Benchmark
+    public Object introspectedImmutableSchema() {
+        return TableSchema.fromImmutableClass(WideImmutable.class).itemToMap(immutable, true);
+    }
+
+    @Benchmark
+    public Object generatedImmutableSchema() {
+        return requireGenerated(TableSchema.fromClass(WideImmutable.class), StaticImmutableTableSchema.class)
+            .itemToMap(immutable, true);
+    }
+
+    private static <T> TableSchema<T> requireGenerated(TableSchema<T> tableSchema, Class<?> generatedSchemaType) {
+        if (!generatedSchemaType.isInstance(tableSchema)) {
+            throw new IllegalStateException("Expected a generated " + generatedSchemaType.getSimpleName() + " for "
+                                            + tableSchema.itemType() + " but got " + tableSchema.getClass().getName()
+                                            + ". Is the generated schema stale?");
+        }
+        return tableSchema;
+    }
+
+    private static void requireGeneratedSchemaClass(Class<?> annotatedClass) {
+        StringBuilder simpleName = new StringBuilder(annotatedClass.getSimpleName());
+        for (Class<?> c = annotatedClass.getEnclosingClass(); c != null; c = c.getEnclosingClass()) {
+            simpleName.insert(0, '_').insert(0, c.getSimpleName());
+        }
+        String resource = annotatedClass.getPackage().getName().replace('.', '/') + "/" + simpleName + "_TableSchema.class";
+        if (annotatedClass.getClassLoader().getResource(resource) == null) {
+            throw new IllegalStateException("No generated schema " + resource + " for " + annotatedClass.getName()
+                                            + ". Was the module compiled with the enhanced client annotation processor?");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.hashCanonicalRequest;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.V4CanonicalRequest;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
+import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Benchmark for SigV4 signing of a small DynamoDB-like request. {@code canonicalRequestString} hashes the canonical request
+ * string as the signer used to, {@code canonicalRequestHash} streams the canonical request into a reused per-thread buffer,
+ * and {@code sign} measures the signer end to end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class V4SignerBenchmark {
+
+    private static final byte[] PAYLOAD = "{\"TableName\":\"foo\",\"Key\":{\"id\":{\"S\":\"bar\"}}}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final AwsV4HttpSigner signer = AwsV4HttpSigner.create();
+    private SdkHttpRequest request;
+    private SignRequest<AwsCredentialsIdentity> signRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        request = SdkHttpRequest.builder()
+                                .method(SdkHttpMethod.POST)
+                                .uri(URI.create("https://dynamodb.us-east-1.amazonaws.com/"))
+                                .putHeader("Host", "dynamodb.us-east-1.amazonaws.com")
+                                .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                .putHeader("Content-Length", String.valueOf(PAYLOAD.length))
+                                .putHeader("amz-sdk-invocation-id", "8e8a5f2d-7c8b-4c3e-9a0f-1d2e3f4a5b6c")
+                                .putHeader("amz-sdk-request", "attempt=1; max=3")
+                                .putHeader("User-Agent", "aws-sdk-java/2.x benchmark")
+                                .build();
+        signRequest = SignRequest.builder(AwsCredentialsIdentity.create("AKIDEXAMPLE",
+                                                                        "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"))
+                                 .request(request)
+                                 .payload(() -> new ByteArrayInputStream(PAYLOAD))
+                                 .putProperty(AwsV4HttpSigner.REGION_NAME, "us-east-1")
+                                 .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "dynamodb")
+                                 .build();
+    }
+
+    @Benchmark
+    public String canonicalRequestString() {
+        return hashCanonicalRequest(canonicalRequest().getCanonicalRequestString());
+    }
+
+    @Benchmark
+    public String canonicalRequestHash() {
+        return canonicalRequest().getCanonicalRequestHash();
+    }
+
+    @Benchmark
+    public SignedRequest sign() {
+        return signer.sign(signRequest);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public SignedRequest signContended() {
+        return signer.sign(signRequest);
+    }
+
+    private V4CanonicalRequest canonicalRequest() {
+        return new V4CanonicalRequest(request, "UNSIGNED-PAYLOAD", new V4CanonicalRequest.Options(true, true));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(V4SignerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
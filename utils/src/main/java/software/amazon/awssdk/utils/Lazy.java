@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.utils;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
@@ -26,6 +28,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 @SdkPublicApi
 public class Lazy<T> implements SdkAutoCloseable {
     private final Supplier<T> initializer;
+    private final Lock initializationLock = new ReentrantLock();
 
     private volatile T value;
 
@@ -44,12 +47,15 @@ public class Lazy<T> implements SdkAutoCloseable {
     public T getValue() {
         T result = value;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = value;
                 if (result == null) {
                     result = initializer.get();
                     value = result;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
 
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Utilities for creating virtual threads when the SDK is running on Java 21 or newer. The SDK is compiled against Java 8, so the
+ * virtual thread APIs are looked up reflectively once and every method degrades to an empty result on older runtimes.
+ */
+@SdkProtectedApi
+public final class VirtualThreadUtils {
+    private static final Logger log = Logger.loggerFor(VirtualThreadUtils.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            log.debug(() -> "Virtual threads are not supported by this Java runtime.", e);
+        }
+        OF_VIRTUAL = newThreadPerTaskExecutor == null ? null : ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreadUtils() {
+    }
+
+    /**
+     * Whether the current Java runtime supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Create a factory for virtual threads named with the provided prefix followed by an increasing counter, or an empty
+     * optional if the current Java runtime does not support virtual threads.
+     */
+    public static Optional<ThreadFactory> virtualThreadFactory(String threadNamePrefix) {
+        Validate.paramNotNull(threadNamePrefix, "threadNamePrefix");
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        Object builder = invoke(OF_VIRTUAL, null);
+        builder = invoke(BUILDER_NAME, builder, threadNamePrefix + "-", 0L);
+        return Optional.of((ThreadFactory) invoke(BUILDER_FACTORY, builder));
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task, or an empty optional if the current Java runtime does
+     * not support virtual threads. The threads are named with the provided prefix followed by an increasing counter.
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor(String threadNamePrefix) {
+        return virtualThreadFactory(threadNamePrefix).map(f -> (ExecutorService) invoke(NEW_THREAD_PER_TASK_EXECUTOR, null, f));
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to access " + method, e);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to invoke " + method, cause);
+        }
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static java.time.temporal.ChronoUnit.MINUTES;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ComparableUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.CachedSupplier.StaleValueBehavior;
+
+/**
+ * The asynchronous counterpart of {@link CachedSupplier}: caches the value of a supplier that returns a
+ * {@link CompletableFuture}, without blocking the threads that retrieve the value.
+ * <p>
+ * A call to {@link #get()} returns an already completed future while the cached value is not stale. When the
+ * {@link RefreshResult#prefetchTime()} of the cached value has passed, a refresh is started in the background and the cached
+ * value is returned. When the cached value is stale, the returned future completes once the refresh completes. Only one
+ * refresh is running at a time: all the callers that need a refreshed value wait for the same refresh.
+ * <p>
+ * A refresh that takes longer than the configured {@link Builder#refreshTimeout(Duration)} fails with a
+ * {@link TimeoutException}. The prefetch time of each refreshed value is jittered, and failures to refresh a stale value are
+ * handled according to the configured {@link StaleValueBehavior}, in the same way as {@link CachedSupplier}: with
+ * {@link StaleValueBehavior#ALLOW}, the stale value is returned when the refresh fails or times out.
+ * <p>
+ * The supplier must not block the calling thread. This should be created using {@link #builder(Supplier)}.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class AsyncCachedSupplier<T> implements Supplier<CompletableFuture<T>> {
+    private static final Logger log = Logger.loggerFor(AsyncCachedSupplier.class);
+
+    /**
+     * By default, wait as long for a refresh as {@link CachedSupplier} waits for another thread's refresh.
+     */
+    private static final Duration DEFAULT_REFRESH_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * The refresh that is currently running, or null if there is none.
+     */
+    private final AtomicReference<CompletableFuture<RefreshResult<T>>> refreshInProgress = new AtomicReference<>();
+
+    /**
+     * How the supplier should behave when the cached value is stale on retrieval or fails to be retrieved.
+     */
+    private final StaleValueBehavior staleValueBehavior;
+
+    /**
+     * The clock used by this supplier. Adjustable for testing.
+     */
+    private final Clock clock;
+
+    /**
+     * The number of consecutive failures encountered when updating a stale value.
+     */
+    private final AtomicInteger consecutiveStaleRetrievalFailures = new AtomicInteger(0);
+
+    /**
+     * The number of consecutive failures encountered when pre-fetching a value that is not stale yet.
+     */
+    private final AtomicInteger consecutivePrefetchFailures = new AtomicInteger(0);
+
+    /**
+     * The name to include with each log message, to differentiate caches.
+     */
+    private final String cachedValueName;
+
+    /**
+     * The maximum amount of time to wait for the value supplier to complete a refresh.
+     */
+    private final Duration refreshTimeout;
+
+    /**
+     * Whether the prefetch time of refreshed values is jittered.
+     */
+    private final boolean jitterEnabled;
+
+    /**
+     * The asynchronous supplier that is used to refresh the {@link #cachedValue}.
+     */
+    private final Supplier<CompletableFuture<RefreshResult<T>>> valueSupplier;
+
+    /**
+     * Random instance used for jittering refresh results.
+     */
+    private final Random jitterRandom = new Random();
+
+    /**
+     * The value currently stored in this cache.
+     */
+    private volatile RefreshResult<T> cachedValue;
+
+    private AsyncCachedSupplier(Builder<T> builder) {
+        this.valueSupplier = Validate.notNull(builder.supplier, "builder.supplier");
+        this.jitterEnabled = Validate.notNull(builder.jitterEnabled, "builder.jitterEnabled");
+        this.staleValueBehavior = Validate.notNull(builder.staleValueBehavior, "builder.staleValueBehavior");
+        this.clock = Validate.notNull(builder.clock, "builder.clock");
+        this.cachedValueName = Validate.notNull(builder.cachedValueName, "builder.cachedValueName");
+        this.refreshTimeout = Validate.isPositive(builder.refreshTimeout, "builder.refreshTimeout");
+    }
+
+    /**
+     * Retrieve a builder that can be used for creating an {@link AsyncCachedSupplier}.
+     *
+     * @param valueSupplier The asynchronous value supplier that should have its value cached.
+     */
+    public static <T> AsyncCachedSupplier.Builder<T> builder(Supplier<CompletableFuture<RefreshResult<T>>> valueSupplier) {
+        return new AsyncCachedSupplier.Builder<>(valueSupplier);
+    }
+
+    @Override
+    public CompletableFuture<T> get() {
+        RefreshResult<T> currentCachedValue = cachedValue;
+        if (isStale(currentCachedValue)) {
+            log.debug(() -> "(" + cachedValueName + ") Cached value is stale and will be refreshed.");
+            return refresh().thenApply(RefreshResult::value);
+        }
+
+        if (shouldInitiatePrefetch(currentCachedValue)) {
+            log.debug(() -> "(" + cachedValueName + ") Cached value has reached prefetch time and will be refreshed.");
+            refresh();
+        }
+
+        return CompletableFuture.completedFuture(currentCachedValue.value());
+    }
+
+    private boolean isStale(RefreshResult<T> value) {
+        if (value == null) {
+            return true;
+        }
+
+        if (value.staleTime() == null) {
+            return false;
+        }
+
+        return !clock.instant().isBefore(value.staleTime());
+    }
+
+    private boolean shouldInitiatePrefetch(RefreshResult<T> value) {
+        if (value == null || value.prefetchTime() == null) {
+            return false;
+        }
+
+        return !clock.instant().isBefore(value.prefetchTime());
+    }
+
+    /**
+     * Returns the refresh that is in progress, or starts a new one if there is none.
+     */
+    private CompletableFuture<RefreshResult<T>> refresh() {
+        while (true) {
+            CompletableFuture<RefreshResult<T>> inProgress = refreshInProgress.get();
+            if (inProgress != null) {
+                return inProgress;
+            }
+
+            CompletableFuture<RefreshResult<T>> refreshFuture = new CompletableFuture<>();
+            if (refreshInProgress.compareAndSet(null, refreshFuture)) {
+                startRefresh(refreshFuture);
+                return refreshFuture;
+            }
+        }
+    }
+
+    private void startRefresh(CompletableFuture<RefreshResult<T>> refreshFuture) {
+        RefreshResult<T> currentCachedValue = cachedValue;
+
+        // Make sure the value was not refreshed by another caller since it was read.
+        if (!isStale(currentCachedValue) && !shouldInitiatePrefetch(currentCachedValue)) {
+            completeRefresh(refreshFuture, currentCachedValue, null);
+            return;
+        }
+
+        log.debug(() -> "(" + cachedValueName + ") Refreshing cached value.");
+
+        CompletableFuture<RefreshResult<T>> fetchFuture;
+        try {
+            fetchFuture = Validate.notNull(valueSupplier.get(), "The value supplier returned a null future.");
+        } catch (RuntimeException e) {
+            fetchFuture = CompletableFutureUtils.failedFuture(e);
+        }
+
+        withRefreshTimeout(fetchFuture).whenComplete((result, error) -> {
+            try {
+                RefreshResult<T> newCachedValue = error == null ? handleFetchedSuccess(jitterPrefetchTime(result))
+                                                                : handleFetchFailure(unwrap(error));
+                cachedValue = newCachedValue;
+                if (error == null) {
+                    log.debug(() -> "(" + cachedValueName + ") Successfully refreshed cached value. "
+                                    + "Next Prefetch Time: " + newCachedValue.prefetchTime() + ". "
+                                    + "Next Stale Time: " + newCachedValue.staleTime());
+                }
+                completeRefresh(refreshFuture, newCachedValue, null);
+            } catch (RuntimeException e) {
+                completeRefresh(refreshFuture, null, e);
+            }
+        });
+    }
+
+    /**
+     * Returns a future that completes like the provided fetch, or fails with a {@link TimeoutException} if the fetch does not
+     * complete within the {@link #refreshTimeout}. The fetch is cancelled when it times out.
+     * <p>
+     * The timeout is scheduled on the scheduler shared with {@link NonBlocking}, which only kicks off work, so the refresh is
+     * failed on the executor of {@link NonBlocking} instead.
+     */
+    private CompletableFuture<RefreshResult<T>> withRefreshTimeout(CompletableFuture<RefreshResult<T>> fetchFuture) {
+        if (fetchFuture.isDone()) {
+            return fetchFuture;
+        }
+
+        CompletableFuture<RefreshResult<T>> timedFetchFuture = new CompletableFuture<>();
+        AtomicBoolean timedOut = new AtomicBoolean(false);
+        ScheduledFuture<?> timeout = NonBlocking.scheduler().schedule(() -> NonBlocking.executor().execute(() -> {
+            if (fetchFuture.isDone() || !timedOut.compareAndSet(false, true)) {
+                return;
+            }
+            // Cancel the fetch before failing the refresh, so that the fetch is no longer running when callers see the failure.
+            fetchFuture.cancel(false);
+            timedFetchFuture.completeExceptionally(
+                new TimeoutException("(" + cachedValueName + ") Refreshing the cached value took longer than "
+                                     + refreshTimeout + "."));
+        }), refreshTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        fetchFuture.whenComplete((result, error) -> {
+            timeout.cancel(false);
+            if (timedOut.get()) {
+                return;
+            }
+            if (error != null) {
+                timedFetchFuture.completeExceptionally(error);
+            } else {
+                timedFetchFuture.complete(result);
+            }
+        });
+        return timedFetchFuture;
+    }
+
+    /**
+     * Completes the refresh after clearing it, so that callers that act on its completion do not wait for it again.
+     */
+    private void completeRefresh(CompletableFuture<RefreshResult<T>> refreshFuture, RefreshResult<T> value, Throwable error) {
+        refreshInProgress.compareAndSet(refreshFuture, null);
+        if (error != null) {
+            refreshFuture.completeExceptionally(error);
+        } else {
+            refreshFuture.complete(value);
+        }
+    }
+
+    /**
+     * Perform necessary transformations of the successfully-fetched value based on the stale value behavior of this supplier.
+     */
+    private RefreshResult<T> handleFetchedSuccess(RefreshResult<T> fetch) {
+        Validate.notNull(fetch, "The value supplier completed with a null refresh result.");
+        consecutiveStaleRetrievalFailures.set(0);
+        consecutivePrefetchFailures.set(0);
+
+        Instant now = clock.instant();
+
+        if (fetch.staleTime() == null || now.isBefore(fetch.staleTime())) {
+            return fetch;
+        }
+
+        switch (staleValueBehavior) {
+            case STRICT:
+                Instant newStale = now.plusSeconds(1);
+                log.warn(() -> "(" + cachedValueName + ") Retrieved value expiration is in the past (" + fetch.staleTime() +
+                               "). Using expiration of " + newStale);
+                return fetch.toBuilder().staleTime(newStale).build(); // Refresh again in 1 second
+            case ALLOW:
+                Instant newStaleTime = jitterTime(now, Duration.ofMinutes(1), Duration.ofMinutes(10));
+                log.warn(() -> "(" + cachedValueName + ") Cached value expiration has been extended to " + newStaleTime +
+                               " because the downstream service returned a time in the past: " + fetch.staleTime());
+
+                return fetch.toBuilder()
+                            .staleTime(newStaleTime)
+                            .build();
+            default:
+                throw new IllegalStateException("Unknown stale-value-behavior: " + staleValueBehavior);
+        }
+    }
+
+    /**
+     * Perform necessary transformations of the currently-cached value based on the stale value behavior of this supplier.
+     */
+    private RefreshResult<T> handleFetchFailure(Throwable e) {
+        log.debug(() -> "(" + cachedValueName + ") Failed to refresh cached value.", e);
+
+        RefreshResult<T> currentCachedValue = cachedValue;
+        if (currentCachedValue == null) {
+            throw CompletableFutureUtils.errorAsCompletionException(e);
+        }
+
+        Instant now = clock.instant();
+        if (currentCachedValue.staleTime() != null && !now.isBefore(currentCachedValue.staleTime())) {
+            int numFailures = consecutiveStaleRetrievalFailures.incrementAndGet();
+
+            switch (staleValueBehavior) {
+                case STRICT:
+                    throw CompletableFutureUtils.errorAsCompletionException(e);
+                case ALLOW:
+                    Instant newStaleTime = jitterTime(now, Duration.ofMillis(1), maxStaleFailureJitter(numFailures));
+                    log.warn(() -> "(" + cachedValueName + ") Cached value expiration has been extended to " +
+                                   newStaleTime + " because calling the downstream service failed (consecutive failures: " +
+                                   numFailures + ").", e);
+
+                    // The refresh is retried when the extended value becomes stale, rather than by every prefetch.
+                    return currentCachedValue.toBuilder()
+                                             .staleTime(newStaleTime)
+                                             .prefetchTime(null)
+                                             .build();
+                default:
+                    throw new IllegalStateException("Unknown stale-value-behavior: " + staleValueBehavior);
+            }
+        }
+
+        if (shouldInitiatePrefetch(currentCachedValue)) {
+            // Back off before the next prefetch, so that a failing downstream service is not called on every retrieval.
+            int numFailures = consecutivePrefetchFailures.incrementAndGet();
+            return currentCachedValue.toBuilder()
+                                     .prefetchTime(jitterTime(now, Duration.ofMillis(1), maxStaleFailureJitter(numFailures)))
+                                     .build();
+        }
+
+        return currentCachedValue;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private RefreshResult<T> jitterPrefetchTime(RefreshResult<T> result) {
+        if (!jitterEnabled || result == null || result.prefetchTime() == null) {
+            return result;
+        }
+
+        Duration maxJitter = maxPrefetchJitter(result);
+        if (maxJitter.isZero()) {
+            return result;
+        }
+
+        Instant newPrefetchTime = jitterTime(result.prefetchTime(), Duration.ZERO, maxJitter);
+        return result.toBuilder()
+                     .prefetchTime(newPrefetchTime)
+                     .build();
+    }
+
+    private Duration maxPrefetchJitter(RefreshResult<T> result) {
+        Instant staleTime = result.staleTime() != null ? result.staleTime() : Instant.MAX;
+        Instant oneMinuteBeforeStale = staleTime.minus(1, MINUTES);
+        if (!result.prefetchTime().isBefore(oneMinuteBeforeStale)) {
+            return Duration.ZERO;
+        }
+
+        Duration timeBetweenPrefetchAndStale = Duration.between(result.prefetchTime(), oneMinuteBeforeStale);
+        if (timeBetweenPrefetchAndStale.toDays() > 365) {
+            // The value will essentially never become stale. Use a 5-minute jitter range to respect the requested prefetch
+            // time.
+            return Duration.ofMinutes(5);
+        }
+
+        return timeBetweenPrefetchAndStale;
+    }
+
+    private Duration maxStaleFailureJitter(int numFailures) {
+        long exponentialBackoffMillis = (1L << Math.min(numFailures - 1, 20)) * 100;
+        return ComparableUtils.minimum(Duration.ofMillis(exponentialBackoffMillis), Duration.ofSeconds(10));
+    }
+
+    private Instant jitterTime(Instant time, Duration jitterStart, Duration jitterEnd) {
+        long jitterRange = jitterEnd.minus(jitterStart).toMillis();
+        long jitterAmount = Math.abs(jitterRandom.nextLong() % jitterRange);
+        return time.plus(jitterStart).plusMillis(jitterAmount);
+    }
+
+    /**
+     * A Builder for {@link AsyncCachedSupplier}, created by {@link #builder(Supplier)}.
+     */
+    public static final class Builder<T> {
+        private final Supplier<CompletableFuture<RefreshResult<T>>> supplier;
+        private Boolean jitterEnabled = true;
+        private StaleValueBehavior staleValueBehavior = StaleValueBehavior.STRICT;
+        private Clock clock = Clock.systemUTC();
+        private String cachedValueName = "unknown";
+        private Duration refreshTimeout = DEFAULT_REFRESH_TIMEOUT;
+
+        private Builder(Supplier<CompletableFuture<RefreshResult<T>>> supplier) {
+            this.supplier = supplier;
+        }
+
+        /**
+         * Configure the way the cache should behave when a stale value is retrieved or when retrieving a value fails while the
+         * cache is stale.
+         *
+         * By default, this uses {@link StaleValueBehavior#STRICT}.
+         */
+        public Builder<T> staleValueBehavior(StaleValueBehavior staleValueBehavior) {
+            this.staleValueBehavior = staleValueBehavior;
+            return this;
+        }
+
+        /**
+         * Configures a name for the cached value. This name will be included with logs emitted by this supplier, to aid
+         * in debugging.
+         *
+         * By default, this uses "unknown".
+         */
+        public Builder<T> cachedValueName(String cachedValueName) {
+            this.cachedValueName = cachedValueName;
+            return this;
+        }
+
+        /**
+         * Configure the maximum amount of time to wait for the value supplier to complete a refresh. A refresh that takes
+         * longer fails with a {@link TimeoutException}, which is handled like any other failure to refresh the value.
+         *
+         * By default, this is 5 seconds.
+         */
+        public Builder<T> refreshTimeout(Duration refreshTimeout) {
+            this.refreshTimeout = refreshTimeout;
+            return this;
+        }
+
+        /**
+         * Configure the clock used for this cached supplier. Configurable for testing.
+         */
+        @SdkTestInternalApi
+        public Builder<T> clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Whether jitter is enabled on the prefetch time. Can be disabled for testing.
+         */
+        @SdkTestInternalApi
+        Builder<T> jitterEnabled(Boolean jitterEnabled) {
+            this.jitterEnabled = jitterEnabled;
+            return this;
+        }
+
+        /**
+         * Create an {@link AsyncCachedSupplier} using the current configuration of this builder.
+         */
+        public AsyncCachedSupplier<T> build() {
+            return new AsyncCachedSupplier<>(this);
+        }
+    }
+}
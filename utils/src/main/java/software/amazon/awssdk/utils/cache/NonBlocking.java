@@ -118,7 +118,14 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         this.asyncThreadName = asyncThreadName + "-" + INSTANCE_NUMBER.getAndIncrement();
     }
 
-    @SdkTestInternalApi
+    /**
+     * The scheduler that is also used by {@link AsyncCachedSupplier} to time out refreshes. Scheduled tasks must hand any
+     * work to the {@link #executor()}.
+     */
+    static ScheduledThreadPoolExecutor scheduler() {
+        return SCHEDULER;
+    }
+
     static ThreadPoolExecutor executor() {
         return EXECUTOR;
     }
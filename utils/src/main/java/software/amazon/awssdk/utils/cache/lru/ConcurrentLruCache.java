@@ -0,0 +1,325 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache.lru;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A thread-safe, bounded cache that returns the value for a specified key, retrieving it by either getting the stored value
+ * from the cache or using a supplied function to calculate that value and add it to the cache. It can be used in place of
+ * {@link LruCache} when the cache is read concurrently by many threads.
+ * <p>
+ * Unlike {@link LruCache}, a cache hit does not take a lock: it reads the value from a {@link ConcurrentHashMap} and records the
+ * time of the access on the entry. Only a cache miss that makes the cache exceed its maximum size takes a lock, to evict an
+ * entry. The evicted entry is the least recently used of a sample of the entries that have been in the cache the longest, so
+ * eviction approximates LRU with a bounded cost. Caches no larger than the sample size evict the least recently used entry.
+ * <p>
+ * When a value that is evicted is {@link AutoCloseable}, it is closed. As with {@link LruCache}, {@link #get(Object)} never
+ * returns a value once it is being closed: entries whose value is being returned at that moment are not evicted, and a hit
+ * that races with the eviction of its entry looks the key up again. The cache can therefore briefly exceed its maximum size by
+ * the number of values being returned concurrently; the next call to {@link #get(Object)} evicts the extra entries.
+ * <p>
+ * The user can configure the maximum size of the cache, which is set to a default of 100.
+ * <p>
+ * Null values are accepted.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class ConcurrentLruCache<K, V> {
+
+    private static final Logger log = Logger.loggerFor(ConcurrentLruCache.class);
+
+    private static final int DEFAULT_SIZE = 100;
+
+    /**
+     * The number of the oldest entries that are compared to find the least recently used one when evicting.
+     */
+    private static final int EVICTION_SAMPLE_SIZE = 32;
+
+    private final ConcurrentHashMap<K, CacheEntry<K, V>> cache;
+    private final Queue<CacheEntry<K, V>> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final Function<K, V> valueSupplier;
+    private final Lock evictionLock = new ReentrantLock();
+    private final int maxCacheSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    private ConcurrentLruCache(Builder<K, V> b) {
+        this.valueSupplier = b.supplier;
+        Integer customSize = Validate.isPositiveOrNull(b.maxSize, "size");
+        this.maxCacheSize = customSize != null ? customSize : DEFAULT_SIZE;
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get a value based on the key. If the value exists in the cache, it's returned, and its last access time is updated.
+     * Otherwise, the value is calculated based on the supplied function {@link Builder#builder(Function)}.
+     */
+    public V get(K key) {
+        while (true) {
+            CacheEntry<K, V> cachedEntry = cache.get(key);
+            boolean[] calculated = new boolean[1];
+            if (cachedEntry == null) {
+                cachedEntry = cache.computeIfAbsent(key, k -> {
+                    calculated[0] = true;
+                    return newEntry(k);
+                });
+            }
+
+            if (calculated[0]) {
+                // A new entry is pinned by the call that calculated it, so it is not evicted before its value is returned
+                try {
+                    missCount.increment();
+                    if (cache.size() > maxCacheSize) {
+                        evictUntilWithinMaxSize();
+                    }
+                    return cachedEntry.value();
+                } finally {
+                    cachedEntry.unpin();
+                }
+            }
+
+            if (cachedEntry.tryPin()) {
+                try {
+                    hitCount.increment();
+                    cachedEntry.recordAccess();
+                    if (cache.size() > maxCacheSize) {
+                        // An earlier eviction found only entries whose values were being returned
+                        evictUntilWithinMaxSize();
+                    }
+                    return cachedEntry.value();
+                } finally {
+                    cachedEntry.unpin();
+                }
+            }
+            // The entry was evicted after it was looked up, and its value may already be closed
+        }
+    }
+
+    private CacheEntry<K, V> newEntry(K key) {
+        CacheEntry<K, V> entry = new CacheEntry<>(key, valueSupplier.apply(key));
+        evictionQueue.add(entry);
+        return entry;
+    }
+
+    private void evictUntilWithinMaxSize() {
+        evictionLock.lock();
+        try {
+            while (cache.size() > maxCacheSize) {
+                if (!evictOne()) {
+                    return;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Takes up to {@link #EVICTION_SAMPLE_SIZE} entries from the head of the eviction queue, evicts the least recently used one
+     * whose value is not being returned at that moment, and adds the others back to the tail of the queue.
+     *
+     * @return false if there was no entry that could be evicted.
+     */
+    private boolean evictOne() {
+        List<CacheEntry<K, V>> sample = new ArrayList<>(Math.min(EVICTION_SAMPLE_SIZE, maxCacheSize + 1));
+        CacheEntry<K, V> candidate;
+        while (sample.size() < EVICTION_SAMPLE_SIZE && (candidate = evictionQueue.poll()) != null) {
+            sample.add(candidate);
+        }
+
+        CacheEntry<K, V> evicted = null;
+        List<CacheEntry<K, V>> candidates = new ArrayList<>(sample);
+        while (evicted == null && !candidates.isEmpty()) {
+            CacheEntry<K, V> leastRecentlyUsed = candidates.get(0);
+            for (CacheEntry<K, V> entry : candidates) {
+                if (entry.lastAccess() < leastRecentlyUsed.lastAccess()) {
+                    leastRecentlyUsed = entry;
+                }
+            }
+            candidates.remove(leastRecentlyUsed);
+            if (leastRecentlyUsed.tryEvict()) {
+                evicted = leastRecentlyUsed;
+            }
+        }
+
+        for (CacheEntry<K, V> entry : sample) {
+            if (entry != evicted) {
+                evictionQueue.add(entry);
+            }
+        }
+        if (evicted == null) {
+            return false;
+        }
+        cache.remove(evicted.key(), evicted);
+        evictionCount.increment();
+        closeEvictedResourcesIfPossible(evicted.value());
+        return true;
+    }
+
+    private void closeEvictedResourcesIfPossible(V value) {
+        if (value instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) value).close();
+            } catch (Exception e) {
+                log.warn(() -> "Attempted to close instance that was evicted by cache, but got exception: " + e.getMessage());
+            }
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * The number of calls to {@link #get(Object)} that returned a value that was already cached.
+     */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * The number of calls to {@link #get(Object)} that calculated the value with the supplied function.
+     */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * The number of entries that were evicted because the cache was full.
+     */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    public static <K, V> ConcurrentLruCache.Builder<K, V> builder(Function<K, V> supplier) {
+        return new Builder<>(supplier);
+    }
+
+    public static <K, V> ConcurrentLruCache.Builder<K, V> builder() {
+        return new Builder<>(null);
+    }
+
+    public static final class Builder<K, V> {
+
+        private final Function<K, V> supplier;
+        private Integer maxSize;
+
+        private Builder(Function<K, V> supplier) {
+            this.supplier = supplier;
+        }
+
+        public Builder<K, V> maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public ConcurrentLruCache<K, V> build() {
+            return new ConcurrentLruCache<>(this);
+        }
+    }
+
+    private static final class CacheEntry<K, V> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<CacheEntry> LAST_ACCESS_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(CacheEntry.class, "lastAccess");
+
+        /**
+         * The {@link #state} of an evicted entry. Otherwise, the state counts the calls that are returning the value.
+         */
+        private static final int EVICTED = Integer.MIN_VALUE;
+
+        private final K key;
+        private final V value;
+
+        /**
+         * Starts at one, because a new entry is pinned by the call that calculated it.
+         */
+        private final AtomicInteger state = new AtomicInteger(1);
+
+        private volatile long lastAccess;
+
+        private CacheEntry(K key, V value) {
+            this.key = key;
+            this.value = value;
+            this.lastAccess = System.nanoTime();
+        }
+
+        K key() {
+            return key;
+        }
+
+        V value() {
+            return value;
+        }
+
+        long lastAccess() {
+            return lastAccess;
+        }
+
+        /**
+         * Records the access without a full memory barrier, because the eviction only needs an approximate order of accesses.
+         */
+        void recordAccess() {
+            LAST_ACCESS_UPDATER.lazySet(this, System.nanoTime());
+        }
+
+        /**
+         * Keep the value from being closed by an eviction until {@link #unpin()} is called.
+         *
+         * @return false if the entry was already evicted, in which case its value must not be returned.
+         */
+        boolean tryPin() {
+            int current;
+            do {
+                current = state.get();
+                if (current < 0) {
+                    return false;
+                }
+            } while (!state.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void unpin() {
+            state.decrementAndGet();
+        }
+
+        /**
+         * Mark the entry as evicted, so that its value is no longer returned, unless its value is being returned at the moment.
+         *
+         * @return false if the entry is pinned, in which case it was not evicted.
+         */
+        boolean tryEvict() {
+            return state.compareAndSet(0, EVICTED);
+        }
+    }
+}
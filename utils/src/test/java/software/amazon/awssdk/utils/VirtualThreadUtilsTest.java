@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadUtilsTest {
+    private static final boolean JAVA_21_OR_NEWER = javaFeatureVersion() >= 21;
+
+    @Test
+    public void isSupported_matchesJavaVersion() {
+        assertThat(VirtualThreadUtils.isSupported()).isEqualTo(JAVA_21_OR_NEWER);
+    }
+
+    @Test
+    public void unsupportedRuntime_returnsEmpty() {
+        assumeFalse(JAVA_21_OR_NEWER);
+        assertThat(VirtualThreadUtils.virtualThreadFactory("test")).isEmpty();
+        assertThat(VirtualThreadUtils.newVirtualThreadPerTaskExecutor("test")).isEmpty();
+    }
+
+    @Test
+    public void virtualThreadFactory_createsNamedVirtualThreads() throws Exception {
+        assumeTrue(JAVA_21_OR_NEWER);
+        ThreadFactory factory = VirtualThreadUtils.virtualThreadFactory("test").get();
+
+        Thread first = factory.newThread(() -> { });
+        Thread second = factory.newThread(() -> { });
+
+        assertThat(isVirtual(first)).isTrue();
+        assertThat(first.getName()).isEqualTo("test-0");
+        assertThat(second.getName()).isEqualTo("test-1");
+    }
+
+    @Test
+    public void newVirtualThreadPerTaskExecutor_runsTasksOnVirtualThreads() throws Exception {
+        assumeTrue(JAVA_21_OR_NEWER);
+        Optional<ExecutorService> executor = VirtualThreadUtils.newVirtualThreadPerTaskExecutor("test");
+        try {
+            Future<Thread> thread = executor.get().submit(Thread::currentThread);
+            assertThat(isVirtual(thread.get())).isTrue();
+            assertThat(thread.get().getName()).startsWith("test-");
+        } finally {
+            executor.get().shutdown();
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) throws Exception {
+        return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+
+    private static int javaFeatureVersion() {
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+        return Integer.parseInt(version);
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.utils.cache.CachedSupplier.StaleValueBehavior.ALLOW;
+import static software.amazon.awssdk.utils.cache.CachedSupplier.StaleValueBehavior.STRICT;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.cache.CachedSupplier.StaleValueBehavior;
+
+/**
+ * Validate the functionality of {@link AsyncCachedSupplier}.
+ */
+public class AsyncCachedSupplierTest {
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private AdjustableClock clock;
+    private ControllableSupplier supplier;
+
+    @BeforeEach
+    public void setup() {
+        clock = new AdjustableClock(START);
+        supplier = new ControllableSupplier();
+    }
+
+    @Test
+    public void get_noCachedValue_completesWhenRefreshCompletes() {
+        AsyncCachedSupplier<String> cache = cache(STRICT);
+
+        CompletableFuture<String> first = cache.get();
+        CompletableFuture<String> second = cache.get();
+
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+        assertThat(supplier.calls()).isEqualTo(1);
+
+        supplier.complete(0, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+
+        assertThat(first.join()).isEqualTo("v1");
+        assertThat(second.join()).isEqualTo("v1");
+        assertThat(cache.get().join()).isEqualTo("v1");
+        assertThat(supplier.calls()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_prefetchTimePassed_returnsCachedValueAndRefreshesInBackground() {
+        AsyncCachedSupplier<String> cache = cache(STRICT);
+        cache.get();
+        supplier.complete(0, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+
+        clock.set(START.plusSeconds(400));
+        assertThat(cache.get().join()).isEqualTo("v1");
+        assertThat(cache.get().join()).isEqualTo("v1");
+        assertThat(supplier.calls()).isEqualTo(2);
+
+        supplier.complete(1, result("v2", START.plusSeconds(1200), START.plusSeconds(900)));
+        assertThat(cache.get().join()).isEqualTo("v2");
+        assertThat(supplier.calls()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_prefetchFails_keepsCachedValueAndBacksOff() {
+        AsyncCachedSupplier<String> cache = cache(STRICT);
+        cache.get();
+        supplier.complete(0, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+
+        clock.set(START.plusSeconds(400));
+        cache.get();
+        supplier.fail(1, new IllegalStateException("brownout"));
+
+        assertThat(cache.get().join()).isEqualTo("v1");
+        assertThat(supplier.calls()).isEqualTo(2);
+
+        clock.set(START.plusSeconds(401));
+        assertThat(cache.get().join()).isEqualTo("v1");
+        assertThat(supplier.calls()).isEqualTo(3);
+    }
+
+    @Test
+    public void get_staleRefreshFails_allowServesStaleValue() {
+        AsyncCachedSupplier<String> cache = cache(ALLOW);
+        cache.get();
+        supplier.complete(0, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+
+        clock.set(START.plusSeconds(700));
+        CompletableFuture<String> value = cache.get();
+        supplier.fail(1, new IllegalStateException("brownout"));
+
+        assertThat(value.join()).isEqualTo("v1");
+        assertThat(cache.get().join()).isEqualTo("v1");
+        assertThat(supplier.calls()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_staleValue_allowWaitsForRefresh() {
+        AsyncCachedSupplier<String> cache = cache(ALLOW);
+        cache.get();
+        supplier.complete(0, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+
+        clock.set(START.plusSeconds(700));
+        CompletableFuture<String> first = cache.get();
+        CompletableFuture<String> second = cache.get();
+
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+        assertThat(supplier.calls()).isEqualTo(2);
+
+        supplier.complete(1, result("v2", START.plusSeconds(1200), START.plusSeconds(900)));
+        assertThat(first).isCompletedWithValue("v2");
+        assertThat(second).isCompletedWithValue("v2");
+        assertThat(supplier.calls()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_staleValue_strictWaitsForRefresh() {
+        AsyncCachedSupplier<String> cache = cache(STRICT);
+        cache.get();
+        supplier.complete(0, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+
+        clock.set(START.plusSeconds(700));
+        CompletableFuture<String> value = cache.get();
+        assertThat(value).isNotDone();
+
+        supplier.complete(1, result("v2", START.plusSeconds(1200), START.plusSeconds(900)));
+        assertThat(value).isCompletedWithValue("v2");
+    }
+
+    @Test
+    public void get_refreshTimesOut_failsAndNextGetRetries() {
+        AsyncCachedSupplier<String> cache = AsyncCachedSupplier.builder(supplier)
+                                                               .clock(clock)
+                                                               .refreshTimeout(Duration.ofMillis(50))
+                                                               .build();
+
+        CompletableFuture<String> first = cache.get();
+        assertThatThrownBy(first::join).hasRootCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(() -> supplier.future(0).join()).isInstanceOf(CancellationException.class);
+
+        CompletableFuture<String> second = cache.get();
+        assertThat(supplier.calls()).isEqualTo(2);
+        supplier.complete(1, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+        assertThat(second.join()).isEqualTo("v1");
+    }
+
+    @Test
+    public void get_staleRefreshTimesOut_allowKeepsStaleValue() throws Exception {
+        AsyncCachedSupplier<String> cache = AsyncCachedSupplier.builder(supplier)
+                                                               .staleValueBehavior(ALLOW)
+                                                               .clock(clock)
+                                                               .jitterEnabled(false)
+                                                               .refreshTimeout(Duration.ofMillis(50))
+                                                               .build();
+        cache.get();
+        supplier.complete(0, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+
+        clock.set(START.plusSeconds(700));
+        CompletableFuture<String> value = cache.get();
+        assertThat(value.join()).isEqualTo("v1");
+        assertThatThrownBy(() -> supplier.future(1).join()).isInstanceOf(CancellationException.class);
+
+        // The stale value is extended after the timeout, so it is returned without starting another refresh.
+        assertThat(cache.get()).isCompletedWithValue("v1");
+        assertThat(supplier.calls()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_staleRefreshFails_strictFails() {
+        AsyncCachedSupplier<String> cache = cache(STRICT);
+        cache.get();
+        supplier.complete(0, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+
+        clock.set(START.plusSeconds(700));
+        CompletableFuture<String> value = cache.get();
+        supplier.fail(1, new IllegalStateException("brownout"));
+
+        assertThatThrownBy(value::join).isInstanceOf(CompletionException.class)
+                                       .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void get_firstRefreshFails_nextGetRetries() {
+        AsyncCachedSupplier<String> cache = cache(ALLOW);
+        CompletableFuture<String> first = cache.get();
+        supplier.fail(0, new IllegalStateException("brownout"));
+        assertThatThrownBy(first::join).hasRootCauseInstanceOf(IllegalStateException.class);
+
+        CompletableFuture<String> second = cache.get();
+        supplier.complete(1, result("v1", START.plusSeconds(600), START.plusSeconds(300)));
+        assertThat(second.join()).isEqualTo("v1");
+    }
+
+    @Test
+    public void get_supplierThrows_failsFuture() {
+        AsyncCachedSupplier<String> cache = AsyncCachedSupplier.<String>builder(() -> {
+            throw new IllegalStateException("boom");
+        }).clock(clock).build();
+
+        assertThatThrownBy(() -> cache.get().join()).hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void get_prefetchTime_isJitteredBeforeStaleTime() {
+        AtomicInteger calls = new AtomicInteger();
+        AsyncCachedSupplier<String> cache = AsyncCachedSupplier.builder(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(result("v", START.plus(Duration.ofHours(1)),
+                                                            START.plus(Duration.ofMinutes(10))));
+        }).clock(clock).build();
+        cache.get().join();
+
+        clock.set(START.plus(Duration.ofMinutes(9)));
+        cache.get().join();
+        assertThat(calls.get()).isEqualTo(1);
+
+        clock.set(START.plus(Duration.ofMinutes(59)));
+        cache.get().join();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private AsyncCachedSupplier<String> cache(StaleValueBehavior staleValueBehavior) {
+        return AsyncCachedSupplier.builder(supplier)
+                                  .staleValueBehavior(staleValueBehavior)
+                                  .clock(clock)
+                                  .jitterEnabled(false)
+                                  .build();
+    }
+
+    private static RefreshResult<String> result(String value, Instant staleTime, Instant prefetchTime) {
+        return RefreshResult.builder(value).staleTime(staleTime).prefetchTime(prefetchTime).build();
+    }
+
+    private static class ControllableSupplier implements Supplier<CompletableFuture<RefreshResult<String>>> {
+        private final List<CompletableFuture<RefreshResult<String>>> futures = new ArrayList<>();
+
+        @Override
+        public synchronized CompletableFuture<RefreshResult<String>> get() {
+            CompletableFuture<RefreshResult<String>> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        }
+
+        synchronized int calls() {
+            return futures.size();
+        }
+
+        void complete(int call, RefreshResult<String> result) {
+            future(call).complete(result);
+        }
+
+        void fail(int call, Throwable error) {
+            future(call).completeExceptionally(error);
+        }
+
+        private synchronized CompletableFuture<RefreshResult<String>> future(int call) {
+            return futures.get(call);
+        }
+    }
+
+    private static class AdjustableClock extends Clock {
+        private volatile Instant time;
+
+        private AdjustableClock(Instant time) {
+            this.time = time;
+        }
+
+        void set(Instant time) {
+            this.time = time;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return time;
+        }
+    }
+}
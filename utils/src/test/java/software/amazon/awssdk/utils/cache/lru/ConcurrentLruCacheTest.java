@@ -0,0 +1,310 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache.lru;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrentLruCacheTest {
+
+    private static final int MAX_SIMPLE_CACHE_SIZE = 3;
+
+    @Spy
+    private Function<Integer, String> identitySupplier = new IdentitySupplier();
+
+    @Test
+    void when_cacheHasMiss_ValueIsCalculatedAndCached() {
+        ConcurrentLruCache<Integer, String> cache = simpleCache();
+
+        assertThat(cache.get(1)).isEqualTo("1");
+        assertThat(cache.get(1)).isEqualTo("1");
+
+        assertThat(cache.size()).isEqualTo(1);
+        verify(identitySupplier, times(1)).apply(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.evictionCount()).isZero();
+    }
+
+    @Test
+    void when_cacheFillsUp_LeastRecentlyUsedValuesAreEvicted() {
+        ConcurrentLruCache<Integer, String> cache = simpleCache();
+
+        //fill cache [2, 1, 0]
+        cache.get(0);
+        cache.get(1);
+        cache.get(2);
+
+        //new item requested, evict 0 -> [3, 2, 1]
+        cache.get(3);
+        assertThat(cache.size()).isEqualTo(MAX_SIMPLE_CACHE_SIZE);
+
+        //move 2 up -> [2, 3, 1]
+        cache.get(2);
+
+        //evict 1 -> [4, 2, 3]
+        cache.get(4);
+
+        //move 2 up -> [2, 4, 3]
+        cache.get(2);
+
+        //get 1 back, evict 3 -> [1, 2, 4]
+        assertThat(cache.get(1)).isEqualTo("1");
+        assertThat(cache.size()).isEqualTo(MAX_SIMPLE_CACHE_SIZE);
+
+        verify(identitySupplier, times(1)).apply(0);
+        verify(identitySupplier, times(2)).apply(1);
+        verify(identitySupplier, times(1)).apply(2);
+        verify(identitySupplier, times(1)).apply(3);
+        verify(identitySupplier, times(1)).apply(4);
+        assertThat(cache.missCount()).isEqualTo(6);
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void when_closeableValuesAreEvicted_CloseMethodIsCalled() {
+        int cacheSize = 3;
+        int evictNum = 2;
+        ConcurrentLruCache<Integer, CloseableClass> cache = ConcurrentLruCache.builder(CloseableClass::new)
+                                                                              .maxSize(cacheSize)
+                                                                              .build();
+        CloseableClass.reset();
+        for (int i = 0; i < cacheSize + evictNum; i++) {
+            cache.get(i);
+        }
+        assertThat(CloseableClass.evictedItems()).containsExactly(0, 1);
+    }
+
+    @Test
+    void when_closeableValuesAreEvicted_NoExceptionsAreThrownIfCloseFails() {
+        int cacheSize = 3;
+        int evictNum = 2;
+        ConcurrentLruCache<Integer, FaultyCloseableClass> cache = ConcurrentLruCache.builder(FaultyCloseableClass::new)
+                                                                                    .maxSize(cacheSize)
+                                                                                    .build();
+        CloseableClass.reset();
+        for (int i = 0; i < cacheSize + evictNum; i++) {
+            cache.get(i);
+        }
+        assertThat(CloseableClass.evictedItems()).isEmpty();
+        assertThat(cache.evictionCount()).isEqualTo(evictNum);
+    }
+
+    @Test
+    void when_hitRacesWithEviction_ClosedValueIsNotReturned() throws Exception {
+        ConcurrentLruCache<BlockingKey, CloseableValue> cache =
+            ConcurrentLruCache.builder((BlockingKey key) -> new CloseableValue())
+                              .maxSize(1)
+                              .build();
+        CloseableValue evictedValue = cache.get(new BlockingKey(1, null, null));
+
+        CountDownLatch lookingUp = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The lookup finds the entry, then waits in equals() while another key evicts it
+            Future<CloseableValue> hit = executor.submit(() -> cache.get(new BlockingKey(1, lookingUp, evicted)));
+            assertThat(lookingUp.await(5, TimeUnit.SECONDS)).isTrue();
+            cache.get(new BlockingKey(2, null, null));
+            assertThat(evictedValue.closed).isTrue();
+            evicted.countDown();
+
+            CloseableValue value = hit.get(5, TimeUnit.SECONDS);
+            assertThat(value).isNotSameAs(evictedValue);
+            assertThat(value.closed).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void when_cacheHasMiss_AndNoValueIsFound_ReturnsNull() {
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.<Integer, String>builder(key -> null).build();
+
+        assertThat(cache.get(200)).isNull();
+        assertThat(cache.get(200)).isNull();
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void when_cacheIsLargerThanEvictionSample_SizeStaysBounded() {
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(identitySupplier)
+                                                                      .maxSize(100)
+                                                                      .build();
+        for (int i = 0; i < 1000; i++) {
+            cache.get(i);
+            // Keep 0 recently used, so that it is never evicted
+            cache.get(0);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.evictionCount()).isEqualTo(900);
+        verify(identitySupplier, times(1)).apply(0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("concurrencyTestValues")
+    void when_multipleThreadsAreCallingCache_WorksAsExpected(Integer numThreads,
+                                                             Integer numGetsPerThread,
+                                                             boolean sleep,
+                                                             Integer cacheSize) throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Function<Integer, String> sleepySupplier = num -> {
+                if (sleep) {
+                    invokeSafely(() -> Thread.sleep(ThreadLocalRandom.current().nextInt(0, 5)));
+                }
+                return Integer.toString(num);
+            };
+            ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(sleepySupplier)
+                                                                          .maxSize(cacheSize)
+                                                                          .build();
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < numGetsPerThread; j++) {
+                        int key = ThreadLocalRandom.current().nextInt(cacheSize * 2);
+                        String value = cache.get(key);
+                        assertThat(value).isEqualTo(Integer.toString(key));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(20, TimeUnit.SECONDS);
+            }
+            assertThat(cache.size()).isLessThanOrEqualTo(cacheSize);
+            assertThat(cache.hitCount() + cache.missCount()).isEqualTo((long) numThreads * numGetsPerThread);
+            assertThat(cache.missCount() - cache.evictionCount()).isEqualTo(cache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Stream<Arguments> concurrencyTestValues() {
+        // numThreads, numGetsPerThreads, sleepDurationMillis, cacheSize
+        return Stream.of(Arguments.of(1000, 5000, false, 5),
+                         Arguments.of(1000, 5000, false, 50),
+                         Arguments.of(100, 1000, true, 5)
+        );
+    }
+
+    private ConcurrentLruCache<Integer, String> simpleCache() {
+        return ConcurrentLruCache.builder(identitySupplier)
+                                 .maxSize(MAX_SIMPLE_CACHE_SIZE)
+                                 .build();
+    }
+
+    private static class IdentitySupplier implements Function<Integer, String> {
+        @Override
+        public String apply(Integer key) {
+            return Integer.toString(key);
+        }
+    }
+
+    private static class CloseableClass implements AutoCloseable {
+
+        private static List<Integer> evictedList = Collections.synchronizedList(new ArrayList<>());
+
+        private final Integer key;
+
+        CloseableClass(Integer key) {
+            this.key = key;
+        }
+
+        public static void reset() {
+            evictedList.clear();
+        }
+
+        public static List<Integer> evictedItems() {
+            return Collections.unmodifiableList(evictedList);
+        }
+
+        @Override
+        public void close() {
+            evictedList.add(key);
+        }
+    }
+
+    private static class FaultyCloseableClass extends CloseableClass {
+
+        FaultyCloseableClass(Integer key) {
+            super(key);
+        }
+
+        @Override
+        public void close() {
+            throw new RuntimeException("Could not close resources!");
+        }
+    }
+
+    private static final class CloseableValue implements AutoCloseable {
+        private volatile boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static final class BlockingKey {
+        private final int id;
+        private final CountDownLatch lookingUp;
+        private final CountDownLatch evicted;
+
+        private BlockingKey(int id, CountDownLatch lookingUp, CountDownLatch evicted) {
+            this.id = id;
+            this.lookingUp = lookingUp;
+            this.evicted = evicted;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (lookingUp != null && lookingUp.getCount() > 0) {
+                lookingUp.countDown();
+                invokeSafely(() -> evicted.await(5, TimeUnit.SECONDS));
+            }
+            return o instanceof BlockingKey && ((BlockingKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+}